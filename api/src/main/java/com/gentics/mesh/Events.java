@@ -50,6 +50,22 @@ public final class Events {
 	 */
 	public static final String EVENT_CLEAR_PERMISSION_STORE = "mesh.clear-permission-store";
 
+	/**
+	 * Event which is send to clear the cache of authenticated users.
+	 */
+	public static final String EVENT_CLEAR_AUTH_USER_CACHE = "mesh.clear-auth-user-cache";
+
+	/**
+	 * Event which is send to invalidate the cached navigation structures. The body contains the uuid of the affected project or null if all navigations
+	 * are affected.
+	 */
+	public static final String EVENT_CLEAR_NAVIGATION_CACHE = "mesh.clear-navigation-cache";
+
+	/**
+	 * Event which is send to invalidate the cached migration state of a release. The body contains the uuid of the affected release.
+	 */
+	public static final String EVENT_CLEAR_RELEASE_STATE_CACHE = "mesh.clear-release-state-cache";
+
 	/* User */
 
 	public static final String EVENT_USER_CREATED = "mesh.user.created";
@@ -22,11 +22,20 @@ public class AuthenticationOptions implements Option {
 
 	public static final String DEFAULT_KEYSTORE_PATH = CONFIG_FOLDERNAME + "/keystore.jceks";
 
+	public static final int DEFAULT_PASSWORD_WORKER_COUNT = 4;
+
+	public static final int DEFAULT_PASSWORD_QUEUE_SIZE = 200;
+
+	public static final int DEFAULT_PASSWORD_CACHE_TIME = 0;
+
 	public static final String MESH_AUTH_TOKEN_EXP_ENV = "MESH_AUTH_TOKEN_EXP";
 	public static final String MESH_AUTH_KEYSTORE_PASS_ENV = "MESH_AUTH_KEYSTORE_PASS";
 	public static final String MESH_AUTH_KEYSTORE_PATH_ENV = "MESH_AUTH_KEYSTORE_PATH";
 	public static final String MESH_AUTH_JWT_ALGO_ENV = "MESH_AUTH_JWT_ALGO";
 	public static final String MESH_AUTH_ANONYMOUS_ENABLED_ENV = "MESH_AUTH_ANONYMOUS_ENABLED";
+	public static final String MESH_AUTH_PASSWORD_WORKER_COUNT_ENV = "MESH_AUTH_PASSWORD_WORKER_COUNT";
+	public static final String MESH_AUTH_PASSWORD_QUEUE_SIZE_ENV = "MESH_AUTH_PASSWORD_QUEUE_SIZE";
+	public static final String MESH_AUTH_PASSWORD_CACHE_TIME_ENV = "MESH_AUTH_PASSWORD_CACHE_TIME";
 
 	@JsonProperty(required = true)
 	@JsonPropertyDescription("Time in minutes which an issued token stays valid.")
@@ -53,6 +62,23 @@ public class AuthenticationOptions implements Option {
 	@EnvironmentVariable(name = MESH_AUTH_ANONYMOUS_ENABLED_ENV, description = "Override the configured anonymous enabled flag.")
 	private boolean enableAnonymousAccess = true;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which verify passwords. Default: " + DEFAULT_PASSWORD_WORKER_COUNT)
+	@EnvironmentVariable(name = MESH_AUTH_PASSWORD_WORKER_COUNT_ENV, description = "Override the amount of password verification threads.")
+	private int passwordWorkerCount = DEFAULT_PASSWORD_WORKER_COUNT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of password verifications which may wait for a free worker. Further logins will be rejected. Default: "
+		+ DEFAULT_PASSWORD_QUEUE_SIZE)
+	@EnvironmentVariable(name = MESH_AUTH_PASSWORD_QUEUE_SIZE_ENV, description = "Override the password verification queue size.")
+	private int passwordQueueSize = DEFAULT_PASSWORD_QUEUE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Time in seconds for which successful password verifications will be cached. The cache is disabled when set to 0. Default: "
+		+ DEFAULT_PASSWORD_CACHE_TIME)
+	@EnvironmentVariable(name = MESH_AUTH_PASSWORD_CACHE_TIME_ENV, description = "Override the password verification cache time.")
+	private int passwordCacheTime = DEFAULT_PASSWORD_CACHE_TIME;
+
 	/**
 	 * Gets the time after which an authentication token should expire.
 	 * 
@@ -145,10 +171,79 @@ public class AuthenticationOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the amount of threads which verify passwords.
+	 * 
+	 * @return
+	 */
+	public int getPasswordWorkerCount() {
+		return passwordWorkerCount;
+	}
+
+	/**
+	 * Set the amount of threads which verify passwords.
+	 * 
+	 * @param passwordWorkerCount
+	 * @return Fluent API
+	 */
+	public AuthenticationOptions setPasswordWorkerCount(int passwordWorkerCount) {
+		this.passwordWorkerCount = passwordWorkerCount;
+		return this;
+	}
+
+	/**
+	 * Return the amount of password verifications which may wait for a free worker.
+	 * 
+	 * @return
+	 */
+	public int getPasswordQueueSize() {
+		return passwordQueueSize;
+	}
+
+	/**
+	 * Set the amount of password verifications which may wait for a free worker.
+	 * 
+	 * @param passwordQueueSize
+	 * @return Fluent API
+	 */
+	public AuthenticationOptions setPasswordQueueSize(int passwordQueueSize) {
+		this.passwordQueueSize = passwordQueueSize;
+		return this;
+	}
+
+	/**
+	 * Return the time in seconds for which successful password verifications will be cached.
+	 * 
+	 * @return
+	 */
+	public int getPasswordCacheTime() {
+		return passwordCacheTime;
+	}
+
+	/**
+	 * Set the time in seconds for which successful password verifications will be cached. A value of 0 disables the cache.
+	 * 
+	 * @param passwordCacheTime
+	 * @return Fluent API
+	 */
+	public AuthenticationOptions setPasswordCacheTime(int passwordCacheTime) {
+		this.passwordCacheTime = passwordCacheTime;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
 		Objects.requireNonNull(keystorePath, "The keystore path cannot be null.");
 		if (keystorePath.trim().isEmpty()) {
 			throw new IllegalArgumentException("The keystore path cannot be empty");
 		}
+		if (passwordWorkerCount < 1) {
+			throw new IllegalArgumentException("The password worker count must be at least 1.");
+		}
+		if (passwordQueueSize < 0) {
+			throw new IllegalArgumentException("The password queue size must not be negative.");
+		}
+		if (passwordCacheTime < 0) {
+			throw new IllegalArgumentException("The password cache time must not be negative.");
+		}
 	}
 }
@@ -19,11 +19,19 @@ public class GraphStorageOptions implements Option {
 	public static final String DEFAULT_DIRECTORY = "data" + File.separator + "graphdb";
 	public static final String DEFAULT_BACKUP_DIRECTORY = "data" + File.separator + "backup";
 	public static final String DEFAULT_EXPORT_DIRECTORY = "data" + File.separator + "export";
+	public static final int DEFAULT_TX_WORKER_POOL_SIZE = 20;
+	public static final boolean DEFAULT_TX_DIAGNOSTICS = false;
+	public static final int DEFAULT_LIST_TRANSFORM_PARALLELISM = 4;
+	public static final int DEFAULT_LIST_TRANSFORM_WORKER_POOL_SIZE = 20;
 
 	public static final String MESH_GRAPH_DB_DIRECTORY_ENV = "MESH_GRAPH_DB_DIRECTORY";
 	public static final String MESH_GRAPH_BACKUP_DIRECTORY_ENV = "MESH_GRAPH_BACKUP_DIRECTORY";
 	public static final String MESH_GRAPH_EXPORT_DIRECTORY_ENV = "MESH_GRAPH_EXPORT_DIRECTORY";
 	public static final String MESH_GRAPH_STARTSERVER_ENV = "MESH_GRAPH_STARTSERVER";
+	public static final String MESH_GRAPH_TX_WORKER_POOL_SIZE_ENV = "MESH_GRAPH_TX_WORKER_POOL_SIZE";
+	public static final String MESH_GRAPH_TX_DIAGNOSTICS_ENV = "MESH_GRAPH_TX_DIAGNOSTICS";
+	public static final String MESH_GRAPH_LIST_TRANSFORM_PARALLELISM_ENV = "MESH_GRAPH_LIST_TRANSFORM_PARALLELISM";
+	public static final String MESH_GRAPH_LIST_TRANSFORM_WORKER_POOL_SIZE_ENV = "MESH_GRAPH_LIST_TRANSFORM_WORKER_POOL_SIZE";
 
 	@JsonProperty(required = true)
 	@JsonPropertyDescription("Path to the graph database data directory.")
@@ -45,6 +53,29 @@ public class GraphStorageOptions implements Option {
 	@EnvironmentVariable(name = MESH_GRAPH_STARTSERVER_ENV, description = "Override the graph database server flag.")
 	private Boolean startServer = false;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which execute asynchronous transactions. Default: " + DEFAULT_TX_WORKER_POOL_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPH_TX_WORKER_POOL_SIZE_ENV, description = "Override the amount of transaction worker threads.")
+	private int txWorkerPoolSize = DEFAULT_TX_WORKER_POOL_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which enables the capturing of the calling stacktrace for asynchronous transactions. "
+		+ "The stacktrace will be logged when a transaction times out. Default: " + DEFAULT_TX_DIAGNOSTICS)
+	@EnvironmentVariable(name = MESH_GRAPH_TX_DIAGNOSTICS_ENV, description = "Override the transaction diagnostics flag.")
+	private boolean txDiagnostics = DEFAULT_TX_DIAGNOSTICS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of chunks of a list response which are transformed in parallel. "
+		+ "Each chunk of the page is transformed within its own transaction. Default: " + DEFAULT_LIST_TRANSFORM_PARALLELISM)
+	@EnvironmentVariable(name = MESH_GRAPH_LIST_TRANSFORM_PARALLELISM_ENV, description = "Override the list transformation parallelism.")
+	private int listTransformParallelism = DEFAULT_LIST_TRANSFORM_PARALLELISM;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which transform the chunks of list responses. The pool is shared by all requests and limits "
+		+ "the total amount of chunks which are transformed at the same time. Default: " + DEFAULT_LIST_TRANSFORM_WORKER_POOL_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPH_LIST_TRANSFORM_WORKER_POOL_SIZE_ENV, description = "Override the amount of list transformation worker threads.")
+	private int listTransformWorkerPoolSize = DEFAULT_LIST_TRANSFORM_WORKER_POOL_SIZE;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Additional set of graph database parameters.")
 	private Map<String, String> parameters = new HashMap<>();
@@ -153,7 +184,96 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the amount of threads which execute asynchronous transactions.
+	 * 
+	 * @return
+	 */
+	public int getTxWorkerPoolSize() {
+		return txWorkerPoolSize;
+	}
+
+	/**
+	 * Set the amount of threads which execute asynchronous transactions.
+	 * 
+	 * @param txWorkerPoolSize
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setTxWorkerPoolSize(int txWorkerPoolSize) {
+		this.txWorkerPoolSize = txWorkerPoolSize;
+		return this;
+	}
+
+	/**
+	 * Check whether the calling stacktrace of asynchronous transactions should be captured.
+	 * 
+	 * @return
+	 */
+	public boolean isTxDiagnostics() {
+		return txDiagnostics;
+	}
+
+	/**
+	 * Set the transaction diagnostics flag.
+	 * 
+	 * @param txDiagnostics
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setTxDiagnostics(boolean txDiagnostics) {
+		this.txDiagnostics = txDiagnostics;
+		return this;
+	}
+
+	/**
+	 * Return the amount of chunks of a list response which are transformed in parallel.
+	 * 
+	 * @return
+	 */
+	public int getListTransformParallelism() {
+		return listTransformParallelism;
+	}
+
+	/**
+	 * Set the amount of chunks of a list response which are transformed in parallel.
+	 * 
+	 * @param listTransformParallelism
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setListTransformParallelism(int listTransformParallelism) {
+		this.listTransformParallelism = listTransformParallelism;
+		return this;
+	}
+
+	/**
+	 * Return the amount of threads which transform the chunks of list responses.
+	 * 
+	 * @return
+	 */
+	public int getListTransformWorkerPoolSize() {
+		return listTransformWorkerPoolSize;
+	}
+
+	/**
+	 * Set the amount of threads which transform the chunks of list responses.
+	 * 
+	 * @param listTransformWorkerPoolSize
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setListTransformWorkerPoolSize(int listTransformWorkerPoolSize) {
+		this.listTransformWorkerPoolSize = listTransformWorkerPoolSize;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
+		if (getTxWorkerPoolSize() < 1) {
+			throw new IllegalArgumentException("The transaction worker pool size must be at least 1.");
+		}
+		if (getListTransformParallelism() < 1) {
+			throw new IllegalArgumentException("The list transformation parallelism must be at least 1.");
+		}
+		if (getListTransformWorkerPoolSize() < 1) {
+			throw new IllegalArgumentException("The list transformation worker pool size must be at least 1.");
+		}
 		if (getStartServer() && getDirectory() == null) {
 			throw new NullPointerException(
 				"You have not specified a data directory and enabled the graph server. It is not possible to run Gentics Mesh in memory mode and start the graph server.");
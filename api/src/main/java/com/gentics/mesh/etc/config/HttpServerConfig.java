@@ -23,11 +23,29 @@ public class HttpServerConfig implements Option {
 
 	public static final int DEFAULT_HTTP_PORT = 8080;
 
+	public static final boolean DEFAULT_HTTP2 = true;
+
+	public static final long DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS = 100;
+
+	public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+
+	public static final int DEFAULT_IDLE_TIMEOUT = 0;
+
+	public static final boolean DEFAULT_TCP_KEEP_ALIVE = true;
+
+	public static final int DEFAULT_ACCEPT_BACKLOG = -1;
+
 	public static final String MESH_HTTP_PORT_ENV = "MESH_HTTP_PORT";
 	public static final String MESH_HTTP_HOST_ENV = "MESH_HTTP_HOST";
 	public static final String MESH_HTTP_CORS_ORIGIN_PATTERN_ENV = "MESH_HTTP_CORS_ORIGIN_PATTERN";
 	public static final String MESH_HTTP_CORS_ENABLE_ENV = "MESH_HTTP_CORS_ENABLE";
 	public static final String MESH_HTTP_CORS_ALLOW_CREDENTIALS_ENV ="MESH_HTTP_CORS_ALLOW_CREDENTIALS";
+	public static final String MESH_HTTP_HTTP2_ENV = "MESH_HTTP_HTTP2";
+	public static final String MESH_HTTP_HTTP2_MAX_CONCURRENT_STREAMS_ENV = "MESH_HTTP_HTTP2_MAX_CONCURRENT_STREAMS";
+	public static final String MESH_HTTP_COMPRESSION_LEVEL_ENV = "MESH_HTTP_COMPRESSION_LEVEL";
+	public static final String MESH_HTTP_IDLE_TIMEOUT_ENV = "MESH_HTTP_IDLE_TIMEOUT";
+	public static final String MESH_HTTP_TCP_KEEP_ALIVE_ENV = "MESH_HTTP_TCP_KEEP_ALIVE";
+	public static final String MESH_HTTP_ACCEPT_BACKLOG_ENV = "MESH_HTTP_ACCEPT_BACKLOG";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure the Gentics Mesh HTTP server port. Default is: " + DEFAULT_HTTP_PORT)
@@ -54,6 +72,41 @@ public class HttpServerConfig implements Option {
 	@EnvironmentVariable(name = MESH_HTTP_CORS_ENABLE_ENV, description = "Override the configured CORS enable flag.")
 	private Boolean enableCors = false;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether HTTP/2 should be supported. Clients can upgrade cleartext connections to HTTP/2 (h2c) "
+		+ "or use HTTP/2 directly via prior knowledge. Default: " + DEFAULT_HTTP2)
+	@EnvironmentVariable(name = MESH_HTTP_HTTP2_ENV, description = "Override the configured HTTP/2 flag.")
+	private boolean http2 = DEFAULT_HTTP2;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of concurrent streams which a client may open on a single HTTP/2 connection. Default: "
+		+ DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS)
+	@EnvironmentVariable(name = MESH_HTTP_HTTP2_MAX_CONCURRENT_STREAMS_ENV, description = "Override the configured HTTP/2 max concurrent streams.")
+	private long http2MaxConcurrentStreams = DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("GZip compression level (1-9) which will be used for compressed responses. Lower levels need less CPU time. Default: "
+		+ DEFAULT_COMPRESSION_LEVEL)
+	@EnvironmentVariable(name = MESH_HTTP_COMPRESSION_LEVEL_ENV, description = "Override the configured http compression level.")
+	private int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Time in seconds after which idle connections will be closed. Connections are never closed when set to 0. Default: "
+		+ DEFAULT_IDLE_TIMEOUT)
+	@EnvironmentVariable(name = MESH_HTTP_IDLE_TIMEOUT_ENV, description = "Override the configured http connection idle timeout.")
+	private int idleTimeout = DEFAULT_IDLE_TIMEOUT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether TCP keep alive should be enabled for client connections. Default: " + DEFAULT_TCP_KEEP_ALIVE)
+	@EnvironmentVariable(name = MESH_HTTP_TCP_KEEP_ALIVE_ENV, description = "Override the configured TCP keep alive flag.")
+	private boolean tcpKeepAlive = DEFAULT_TCP_KEEP_ALIVE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Size of the queue for connections which have not yet been accepted. The operating system default will be used when set to "
+		+ DEFAULT_ACCEPT_BACKLOG + ". Default: " + DEFAULT_ACCEPT_BACKLOG)
+	@EnvironmentVariable(name = MESH_HTTP_ACCEPT_BACKLOG_ENV, description = "Override the configured accept backlog.")
+	private int acceptBacklog = DEFAULT_ACCEPT_BACKLOG;
+
 	public HttpServerConfig() {
 	}
 
@@ -170,9 +223,136 @@ public class HttpServerConfig implements Option {
 		return this;
 	}
 
-	public void validate(MeshOptions meshOptions) {
-		// TODO Auto-generated method stub
+	/**
+	 * Check whether HTTP/2 is supported.
+	 * 
+	 * @return
+	 */
+	public boolean isHttp2() {
+		return http2;
+	}
 
+	/**
+	 * Set the flag which enables HTTP/2 support.
+	 * 
+	 * @param http2
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setHttp2(boolean http2) {
+		this.http2 = http2;
+		return this;
+	}
+
+	/**
+	 * Return the maximum amount of concurrent streams per HTTP/2 connection.
+	 * 
+	 * @return
+	 */
+	public long getHttp2MaxConcurrentStreams() {
+		return http2MaxConcurrentStreams;
+	}
+
+	/**
+	 * Set the maximum amount of concurrent streams per HTTP/2 connection.
+	 * 
+	 * @param http2MaxConcurrentStreams
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setHttp2MaxConcurrentStreams(long http2MaxConcurrentStreams) {
+		this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+		return this;
+	}
+
+	/**
+	 * Return the compression level for compressed responses.
+	 * 
+	 * @return
+	 */
+	public int getCompressionLevel() {
+		return compressionLevel;
+	}
+
+	/**
+	 * Set the compression level for compressed responses.
+	 * 
+	 * @param compressionLevel
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setCompressionLevel(int compressionLevel) {
+		this.compressionLevel = compressionLevel;
+		return this;
+	}
+
+	/**
+	 * Return the idle timeout for connections in seconds.
+	 * 
+	 * @return
+	 */
+	public int getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	/**
+	 * Set the idle timeout for connections in seconds.
+	 * 
+	 * @param idleTimeout
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setIdleTimeout(int idleTimeout) {
+		this.idleTimeout = idleTimeout;
+		return this;
+	}
+
+	/**
+	 * Check whether TCP keep alive is enabled.
+	 * 
+	 * @return
+	 */
+	public boolean isTcpKeepAlive() {
+		return tcpKeepAlive;
+	}
+
+	/**
+	 * Set the TCP keep alive flag.
+	 * 
+	 * @param tcpKeepAlive
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setTcpKeepAlive(boolean tcpKeepAlive) {
+		this.tcpKeepAlive = tcpKeepAlive;
+		return this;
+	}
+
+	/**
+	 * Return the accept backlog size.
+	 * 
+	 * @return
+	 */
+	public int getAcceptBacklog() {
+		return acceptBacklog;
+	}
+
+	/**
+	 * Set the accept backlog size.
+	 * 
+	 * @param acceptBacklog
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setAcceptBacklog(int acceptBacklog) {
+		this.acceptBacklog = acceptBacklog;
+		return this;
+	}
+
+	public void validate(MeshOptions meshOptions) {
+		if (getCompressionLevel() < 1 || getCompressionLevel() > 9) {
+			throw new IllegalArgumentException("The http compression level must be between 1 and 9.");
+		}
+		if (getIdleTimeout() < 0) {
+			throw new IllegalArgumentException("The http idle timeout must not be negative.");
+		}
+		if (getHttp2MaxConcurrentStreams() < 1) {
+			throw new IllegalArgumentException("The HTTP/2 max concurrent streams must be at least 1.");
+		}
 	}
 
 }
@@ -71,6 +71,14 @@ public class MeshOptions implements Option {
 	@JsonPropertyDescription("Image handling options.")
 	private ImageManipulatorOptions imageOptions = new ImageManipulatorOptions();
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Migration options.")
+	private MigrationOptions migrationOptions = new MigrationOptions();
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Version retention options.")
+	private VersionRetentionOptions versionRetentionOptions = new VersionRetentionOptions();
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Path to the central tmp directory.")
 	@EnvironmentVariable(name = MESH_TEMP_DIR_ENV, description = "Override the configured temp directory.")
@@ -268,6 +276,50 @@ public class MeshOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the migration options.
+	 * 
+	 * @return Migration options
+	 */
+	@JsonProperty("migration")
+	public MigrationOptions getMigrationOptions() {
+		return migrationOptions;
+	}
+
+	/**
+	 * Set the migration options.
+	 * 
+	 * @param migrationOptions
+	 *            Migration options
+	 * @return Fluent API
+	 */
+	public MeshOptions setMigrationOptions(MigrationOptions migrationOptions) {
+		this.migrationOptions = migrationOptions;
+		return this;
+	}
+
+	/**
+	 * Return the version retention options.
+	 * 
+	 * @return Version retention options
+	 */
+	@JsonProperty("versionRetention")
+	public VersionRetentionOptions getVersionRetentionOptions() {
+		return versionRetentionOptions;
+	}
+
+	/**
+	 * Set the version retention options.
+	 * 
+	 * @param versionRetentionOptions
+	 *            Version retention options
+	 * @return Fluent API
+	 */
+	public MeshOptions setVersionRetentionOptions(VersionRetentionOptions versionRetentionOptions) {
+		this.versionRetentionOptions = versionRetentionOptions;
+		return this;
+	}
+
 	/**
 	 * Return update checker flag.
 	 * 
@@ -350,6 +402,12 @@ public class MeshOptions implements Option {
 		if (getImageOptions() != null) {
 			getImageOptions().validate(this);
 		}
+		if (getMigrationOptions() != null) {
+			getMigrationOptions().validate(this);
+		}
+		if (getVersionRetentionOptions() != null) {
+			getVersionRetentionOptions().validate(this);
+		}
 
 		// TODO check for other invalid characters in node name
 	}
@@ -373,6 +431,8 @@ public class MeshOptions implements Option {
 		getHttpServerOptions().overrideWithEnv();
 		getAuthenticationOptions().overrideWithEnv();
 		getImageOptions().overrideWithEnv();
+		getMigrationOptions().overrideWithEnv();
+		getVersionRetentionOptions().overrideWithEnv();
 	}
 
 }
@@ -0,0 +1,140 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+/**
+ * Migration options are used to tune the node, micronode and release migrations.
+ */
+@GenerateDocumentation
+public class MigrationOptions implements Option {
+
+	public static final int DEFAULT_WORKER_COUNT = 1;
+	public static final int DEFAULT_TX_BATCH_SIZE = 10;
+	public static final boolean DEFAULT_LAZY_RELEASE_MIGRATION = false;
+	public static final int DEFAULT_JOB_WORKER_COUNT = 1;
+
+	public static final String MESH_MIGRATION_WORKER_COUNT_ENV = "MESH_MIGRATION_WORKER_COUNT";
+	public static final String MESH_MIGRATION_TX_BATCH_SIZE_ENV = "MESH_MIGRATION_TX_BATCH_SIZE";
+	public static final String MESH_MIGRATION_LAZY_RELEASE_ENV = "MESH_MIGRATION_LAZY_RELEASE";
+	public static final String MESH_MIGRATION_JOB_WORKER_COUNT_ENV = "MESH_MIGRATION_JOB_WORKER_COUNT";
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of workers which migrate containers in parallel. Default: " + DEFAULT_WORKER_COUNT)
+	@EnvironmentVariable(name = MESH_MIGRATION_WORKER_COUNT_ENV, description = "Override the amount of migration workers.")
+	private int workerCount = DEFAULT_WORKER_COUNT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of containers which will be migrated within a single transaction. Default: " + DEFAULT_TX_BATCH_SIZE)
+	@EnvironmentVariable(name = MESH_MIGRATION_TX_BATCH_SIZE_ENV, description = "Override the amount of containers which are migrated per transaction.")
+	private int txBatchSize = DEFAULT_TX_BATCH_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which controls whether new releases share the containers of their previous release until a node gets modified. "
+		+ "The release migration job will finalize the release in the background. Default: " + DEFAULT_LAZY_RELEASE_MIGRATION)
+	@EnvironmentVariable(name = MESH_MIGRATION_LAZY_RELEASE_ENV, description = "Override the lazy release migration flag.")
+	private boolean lazyReleaseMigration = DEFAULT_LAZY_RELEASE_MIGRATION;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of jobs which may be executed in parallel. "
+		+ "Jobs which affect the same project, release and schema will never run in parallel. Default: " + DEFAULT_JOB_WORKER_COUNT)
+	@EnvironmentVariable(name = MESH_MIGRATION_JOB_WORKER_COUNT_ENV, description = "Override the amount of parallel job workers.")
+	private int jobWorkerCount = DEFAULT_JOB_WORKER_COUNT;
+
+	/**
+	 * Return the amount of migration workers.
+	 *
+	 * @return
+	 */
+	public int getWorkerCount() {
+		return workerCount;
+	}
+
+	/**
+	 * Set the amount of migration workers.
+	 *
+	 * @param workerCount
+	 * @return Fluent API
+	 */
+	public MigrationOptions setWorkerCount(int workerCount) {
+		this.workerCount = workerCount;
+		return this;
+	}
+
+	/**
+	 * Return the amount of containers which will be migrated within a single transaction.
+	 *
+	 * @return
+	 */
+	public int getTxBatchSize() {
+		return txBatchSize;
+	}
+
+	/**
+	 * Set the amount of containers which will be migrated within a single transaction.
+	 *
+	 * @param txBatchSize
+	 * @return Fluent API
+	 */
+	public MigrationOptions setTxBatchSize(int txBatchSize) {
+		this.txBatchSize = txBatchSize;
+		return this;
+	}
+
+	/**
+	 * Check whether nodes are lazily migrated to new releases.
+	 *
+	 * @return
+	 */
+	public boolean isLazyReleaseMigration() {
+		return lazyReleaseMigration;
+	}
+
+	/**
+	 * Set the lazy release migration flag.
+	 *
+	 * @param lazyReleaseMigration
+	 * @return Fluent API
+	 */
+	public MigrationOptions setLazyReleaseMigration(boolean lazyReleaseMigration) {
+		this.lazyReleaseMigration = lazyReleaseMigration;
+		return this;
+	}
+
+	/**
+	 * Return the amount of jobs which may be executed in parallel.
+	 *
+	 * @return
+	 */
+	public int getJobWorkerCount() {
+		return jobWorkerCount;
+	}
+
+	/**
+	 * Set the amount of jobs which may be executed in parallel.
+	 *
+	 * @param jobWorkerCount
+	 * @return Fluent API
+	 */
+	public MigrationOptions setJobWorkerCount(int jobWorkerCount) {
+		this.jobWorkerCount = jobWorkerCount;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions options) {
+		if (getJobWorkerCount() < 1) {
+			throw new IllegalArgumentException("The job worker count must be at least 1.");
+		}
+		if (getWorkerCount() < 1) {
+			throw new IllegalArgumentException("The migration worker count must be at least 1.");
+		}
+		if (getTxBatchSize() < 1) {
+			throw new IllegalArgumentException("The migration transaction batch size must be at least 1.");
+		}
+	}
+
+}
@@ -0,0 +1,111 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+/**
+ * Version retention options control which old versions of node contents will be removed by the version prune job. Versions which are still used by a
+ * release (initial, draft or published version) are never removed.
+ */
+@GenerateDocumentation
+public class VersionRetentionOptions implements Option {
+
+	public static final int DEFAULT_KEEP_VERSIONS = -1;
+	public static final boolean DEFAULT_KEEP_PUBLISHED = true;
+	public static final int DEFAULT_KEEP_DAYS = 0;
+
+	public static final String MESH_VERSION_RETENTION_KEEP_VERSIONS_ENV = "MESH_VERSION_RETENTION_KEEP_VERSIONS";
+	public static final String MESH_VERSION_RETENTION_KEEP_PUBLISHED_ENV = "MESH_VERSION_RETENTION_KEEP_PUBLISHED";
+	public static final String MESH_VERSION_RETENTION_KEEP_DAYS_ENV = "MESH_VERSION_RETENTION_KEEP_DAYS";
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of most recent versions (including the current draft) which will be kept for each language of a node. "
+		+ "Older versions may be removed by the version prune job. A value of -1 keeps all versions. Default: " + DEFAULT_KEEP_VERSIONS)
+	@EnvironmentVariable(name = MESH_VERSION_RETENTION_KEEP_VERSIONS_ENV, description = "Override the amount of kept versions.")
+	private int keepVersions = DEFAULT_KEEP_VERSIONS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which controls whether all versions which have been published will be kept. Default: " + DEFAULT_KEEP_PUBLISHED)
+	@EnvironmentVariable(name = MESH_VERSION_RETENTION_KEEP_PUBLISHED_ENV, description = "Override the keep published versions flag.")
+	private boolean keepPublished = DEFAULT_KEEP_PUBLISHED;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Versions which have been edited within the given amount of days will be kept. Default: " + DEFAULT_KEEP_DAYS)
+	@EnvironmentVariable(name = MESH_VERSION_RETENTION_KEEP_DAYS_ENV, description = "Override the amount of days for which versions are kept.")
+	private int keepDays = DEFAULT_KEEP_DAYS;
+
+	/**
+	 * Return the amount of most recent versions which will be kept.
+	 *
+	 * @return Amount of versions or -1 if all versions will be kept
+	 */
+	public int getKeepVersions() {
+		return keepVersions;
+	}
+
+	/**
+	 * Set the amount of most recent versions which will be kept.
+	 *
+	 * @param keepVersions
+	 *            Amount of versions or -1 to keep all versions
+	 * @return Fluent API
+	 */
+	public VersionRetentionOptions setKeepVersions(int keepVersions) {
+		this.keepVersions = keepVersions;
+		return this;
+	}
+
+	/**
+	 * Check whether published versions will be kept.
+	 *
+	 * @return
+	 */
+	public boolean isKeepPublished() {
+		return keepPublished;
+	}
+
+	/**
+	 * Set the flag which controls whether published versions will be kept.
+	 *
+	 * @param keepPublished
+	 * @return Fluent API
+	 */
+	public VersionRetentionOptions setKeepPublished(boolean keepPublished) {
+		this.keepPublished = keepPublished;
+		return this;
+	}
+
+	/**
+	 * Return the amount of days for which versions will be kept.
+	 *
+	 * @return
+	 */
+	public int getKeepDays() {
+		return keepDays;
+	}
+
+	/**
+	 * Set the amount of days for which versions will be kept.
+	 *
+	 * @param keepDays
+	 * @return Fluent API
+	 */
+	public VersionRetentionOptions setKeepDays(int keepDays) {
+		this.keepDays = keepDays;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions options) {
+		if (getKeepVersions() == 0 || getKeepVersions() < -1) {
+			throw new IllegalArgumentException("The amount of kept versions must be at least 1 or -1 to keep all versions.");
+		}
+		if (getKeepDays() < 0) {
+			throw new IllegalArgumentException("The amount of days for which versions are kept must not be negative.");
+		}
+	}
+
+}
@@ -81,6 +81,24 @@ public class VersionNumber implements Comparable<VersionNumber> {
 		return new VersionNumber(major + 1, 0);
 	}
 
+	/**
+	 * Return the major version number.
+	 * 
+	 * @return
+	 */
+	public int getMajor() {
+		return major;
+	}
+
+	/**
+	 * Return the minor version number. Published versions have the minor version number 0.
+	 * 
+	 * @return
+	 */
+	public int getMinor() {
+		return minor;
+	}
+
 	/**
 	 * Return the full version string.
 	 */
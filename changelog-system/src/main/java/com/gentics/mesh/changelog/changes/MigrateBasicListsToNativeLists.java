@@ -0,0 +1,64 @@
+package com.gentics.mesh.changelog.changes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import com.gentics.mesh.changelog.AbstractChange;
+import com.syncleus.ferma.typeresolvers.PolymorphicTypeResolver;
+import com.tinkerpop.blueprints.Vertex;
+
+public class MigrateBasicListsToNativeLists extends AbstractChange {
+
+	private static final String ITEM_PREFIX = "item-";
+
+	private static final String ITEMS_PROPERTY_KEY = "items";
+
+	@Override
+	public String getName() {
+		return "Migrate basic lists to native lists";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Moves the item properties of string, number, boolean, date and html lists into a single native list property";
+	}
+
+	@Override
+	public void apply() {
+		migrate("StringGraphFieldListImpl", "string", Function.identity());
+		migrate("HtmlGraphFieldListImpl", "html", Function.identity());
+		migrate("NumberGraphFieldListImpl", "number", Function.identity());
+		migrate("BooleanGraphFieldListImpl", "boolean", value -> Boolean.valueOf(value.toString()));
+		migrate("DateGraphFieldListImpl", "date", value -> Long.valueOf(value.toString()));
+	}
+
+	private void migrate(String type, String itemType, Function<Object, Object> converter) {
+		String suffix = "-" + itemType;
+		Iterable<Vertex> vertices = getGraph().getVertices(PolymorphicTypeResolver.TYPE_RESOLUTION_KEY, type);
+		for (Vertex list : vertices) {
+			TreeMap<Integer, Object> items = new TreeMap<>();
+			for (String key : new ArrayList<>(list.getPropertyKeys())) {
+				if (!key.startsWith(ITEM_PREFIX)) {
+					continue;
+				}
+				Object value = list.removeProperty(key);
+				if (key.endsWith(suffix) && value != null) {
+					int index = Integer.parseInt(key.substring(ITEM_PREFIX.length(), key.length() - suffix.length()));
+					items.put(index, converter.apply(value));
+				}
+			}
+			if (!items.isEmpty()) {
+				List<Object> values = new ArrayList<>(items.values());
+				list.setProperty(ITEMS_PROPERTY_KEY, values);
+			}
+		}
+	}
+
+	@Override
+	public String getUuid() {
+		return "FD3E676C8ABA479194A1D338EE5655D5";
+	}
+
+}
@@ -10,6 +10,8 @@ import javax.inject.Singleton;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.cache.AuthUserCache;
+import com.gentics.mesh.core.cache.AuthUserCache.CachedAuthUser;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.http.MeshHeaders;
@@ -155,12 +157,18 @@ public class MeshAuthHandler extends AuthHandlerImpl implements JWTAuthHandler {
 				if (log.isDebugEnabled()) {
 					log.debug("Using anonymous user.");
 				}
-				MeshAuthUser anonymousUser = database.tx(() -> boot.userRoot().findMeshAuthUserByUsername(ANONYMOUS_USERNAME));
-				if (anonymousUser == null) {
+				CachedAuthUser cachedAnonymousUser = AuthUserCache.getByUsername(ANONYMOUS_USERNAME, username -> {
+					return database.tx(() -> {
+						MeshAuthUser user = boot.userRoot().findMeshAuthUserByUsername(username);
+						return user == null ? null : new CachedAuthUser(user);
+					});
+				});
+				if (cachedAnonymousUser == null) {
 					if (log.isDebugEnabled()) {
 						log.debug("No anonymous user and authorization header was found. Can't authenticate request.");
 					}
 				} else {
+					MeshAuthUser anonymousUser = cachedAnonymousUser.getUser();
 					context.setUser(anonymousUser);
 					authorizeUser(anonymousUser, context);
 					return;
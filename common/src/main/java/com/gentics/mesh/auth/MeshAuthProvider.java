@@ -2,20 +2,25 @@ package com.gentics.mesh.auth;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 import static io.netty.handler.codec.http.HttpResponseStatus.UNAUTHORIZED;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import org.apache.commons.lang.NotImplementedException;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.AuthUserCache;
+import com.gentics.mesh.core.cache.AuthUserCache.CachedAuthUser;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.rest.auth.TokenResponse;
+import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.etc.config.AuthenticationOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.syncleus.ferma.tx.Tx;
@@ -50,13 +55,13 @@ public class MeshAuthProvider implements AuthProvider, JWTAuth {
 
 	protected Database db;
 
-	private BCryptPasswordEncoder passwordEncoder;
+	private PasswordVerifier passwordVerifier;
 
 	private BootstrapInitializer boot;
 
 	@Inject
-	public MeshAuthProvider(BCryptPasswordEncoder passwordEncoder, Database database, BootstrapInitializer boot) {
-		this.passwordEncoder = passwordEncoder;
+	public MeshAuthProvider(PasswordVerifier passwordVerifier, Database database, BootstrapInitializer boot) {
+		this.passwordVerifier = passwordVerifier;
 		this.db = database;
 		this.boot = boot;
 
@@ -155,7 +160,7 @@ public class MeshAuthProvider implements AuthProvider, JWTAuth {
 	}
 
 	/**
-	 * Load the user with the given username and use the bcrypt encoder to compare the user password with the provided password.
+	 * Load the user with the given username and use the {@link PasswordVerifier} to compare the user password with the provided password.
 	 *
 	 * @param username
 	 *            Username
@@ -165,37 +170,45 @@ public class MeshAuthProvider implements AuthProvider, JWTAuth {
 	 *            Handler which will be invoked which will return the authenticated user or fail if the credentials do not match or the user could not be found
 	 */
 	private void authenticate(String username, String password, Handler<AsyncResult<AuthenticationResult>> resultHandler) {
+		MeshAuthUser user;
+		String accountPasswordHash;
 		try (Tx tx = db.tx()) {
-			MeshAuthUser user = boot.userRoot().findMeshAuthUserByUsername(username);
-			if (user != null) {
-				String accountPasswordHash = user.getPasswordHash();
-				// TODO check if user is enabled
-				boolean hashMatches = false;
-				if (StringUtils.isEmpty(accountPasswordHash) && password != null) {
-					if (log.isDebugEnabled()) {
-						log.debug("The account password hash or token password string are invalid.");
-					}
-					resultHandler.handle(Future.failedFuture("Invalid credentials!"));
-				} else {
-					if (log.isDebugEnabled()) {
-						log.debug("Validating password using the bcrypt password encoder");
-					}
-					hashMatches = passwordEncoder.matches(password, accountPasswordHash);
-				}
-				if (hashMatches) {
-					resultHandler.handle(Future.succeededFuture(new AuthenticationResult(user)));
-				} else {
-					resultHandler.handle(Future.failedFuture("Invalid credentials!"));
-				}
-			} else {
+			user = boot.userRoot().findMeshAuthUserByUsername(username);
+			if (user == null) {
 				if (log.isDebugEnabled()) {
 					log.debug("Could not load user with username {" + username + "}.");
 				}
 				// TODO Don't let the user know that we know that he did not exist?
 				resultHandler.handle(Future.failedFuture("Invalid credentials!"));
+				return;
 			}
+			accountPasswordHash = user.getPasswordHash();
+			// Load the uuid to cache it since the verification result will be handled outside of the transaction
+			user.getUuid();
 		}
 
+		// TODO check if user is enabled
+		if (StringUtils.isEmpty(accountPasswordHash) || password == null) {
+			if (log.isDebugEnabled()) {
+				log.debug("The account password hash or token password string are invalid.");
+			}
+			resultHandler.handle(Future.failedFuture("Invalid credentials!"));
+			return;
+		}
+
+		passwordVerifier.verify(username, password, accountPasswordHash, rh -> {
+			if (rh.failed()) {
+				if (rh.cause() instanceof RejectedExecutionException) {
+					resultHandler.handle(Future.failedFuture(error(SERVICE_UNAVAILABLE, "auth_login_rejected")));
+				} else {
+					resultHandler.handle(Future.failedFuture(rh.cause()));
+				}
+			} else if (rh.result()) {
+				resultHandler.handle(Future.succeededFuture(new AuthenticationResult(user)));
+			} else {
+				resultHandler.handle(Future.failedFuture("Invalid credentials!"));
+			}
+		});
 	}
 
 	/**
@@ -233,7 +246,7 @@ public class MeshAuthProvider implements AuthProvider, JWTAuth {
 	}
 
 	/**
-	 * Gets the corresponding {@link MeshAuthUser} by the Vert.x User.
+	 * Gets the corresponding {@link MeshAuthUser} by the Vert.x User. The user will be loaded from the {@link AuthUserCache} if possible.
 	 *
 	 * @param jwt
 	 *            Decoded JWT
@@ -241,34 +254,34 @@ public class MeshAuthProvider implements AuthProvider, JWTAuth {
 	 * @throws Exception
 	 */
 	private User loadUserByJWT(JsonObject jwt) throws Exception {
-		try (Tx tx = db.tx()) {
-			String userUuid = jwt.getString(USERID_FIELD_NAME);
-			MeshAuthUser user = boot.userRoot().findMeshAuthUserByUuid(userUuid);
-			if (user == null) {
-				if (log.isDebugEnabled()) {
-					log.debug("Could not load user with UUID {" + userUuid + "}.");
-				}
-				// TODO use NoStackTraceThrowable?
-				throw new Exception("Invalid credentials!");
-			}
-			if (!user.isEnabled()) {
-				throw new Exception("User is disabled");
+		String userUuid = jwt.getString(USERID_FIELD_NAME);
+		CachedAuthUser user = AuthUserCache.getByUuid(userUuid, uuid -> {
+			return db.tx(() -> {
+				MeshAuthUser loadedUser = boot.userRoot().findMeshAuthUserByUuid(uuid);
+				return loadedUser == null ? null : new CachedAuthUser(loadedUser);
+			});
+		});
+		if (user == null) {
+			if (log.isDebugEnabled()) {
+				log.debug("Could not load user with UUID {" + userUuid + "}.");
 			}
+			// TODO use NoStackTraceThrowable?
+			throw new Exception("Invalid credentials!");
+		}
+		if (!user.isEnabled()) {
+			throw new Exception("User is disabled");
+		}
 
-			// Check whether the token might be an API key token
-			if (!jwt.containsKey("exp")) {
-				String apiKeyToken = jwt.getString(API_KEY_TOKEN_CODE_FIELD_NAME);
-				String storedApiKey = user.getAPIKeyTokenCode();
-				// Verify that the API token is invalid.
-				if (apiKeyToken != null && !apiKeyToken.equals(storedApiKey)) {
-					throw new Exception("API key token is invalid.");
-				}
+		// Check whether the token might be an API key token
+		if (!jwt.containsKey("exp")) {
+			String apiKeyToken = jwt.getString(API_KEY_TOKEN_CODE_FIELD_NAME);
+			String storedApiKey = user.getAPIKeyTokenCode();
+			// Verify that the API token is invalid.
+			if (apiKeyToken != null && !apiKeyToken.equals(storedApiKey)) {
+				throw new Exception("API key token is invalid.");
 			}
-
-			// Load the uuid to cache it
-			user.getUuid();
-			return user;
 		}
+		return user.getUser();
 	}
 
 	/**
@@ -284,7 +297,12 @@ public class MeshAuthProvider implements AuthProvider, JWTAuth {
 	public void login(InternalActionContext ac, String username, String password) {
 		generateToken(username, password, rh -> {
 			if (rh.failed()) {
-				throw error(UNAUTHORIZED, "auth_login_failed", rh.cause());
+				// The result may be handled asynchronously and thus the error must be passed to the context
+				if (rh.cause() instanceof GenericRestException) {
+					ac.fail(rh.cause());
+				} else {
+					ac.fail(error(UNAUTHORIZED, "auth_login_failed", rh.cause()));
+				}
 			} else {
 				ac.addCookie(Cookie.cookie(MeshAuthProvider.TOKEN_COOKIE_KEY, rh.result())
 					.setMaxAge(Mesh.mesh().getOptions().getAuthenticationOptions().getTokenExpirationTime()).setPath("/"));
@@ -0,0 +1,128 @@
+package com.gentics.mesh.auth;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.etc.config.AuthenticationOptions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Verifies passwords against the stored bcrypt hashes. The verification is CPU intensive and thus executed in a bounded dedicated pool. Logins will be
+ * rejected when the queue of the pool is full.
+ * 
+ * Successful verifications can optionally be cached for a short time. The cache key contains the stored password hash and thus a password change will
+ * automatically invalidate cached verifications.
+ */
+@Singleton
+public class PasswordVerifier {
+
+	private static final Logger log = LoggerFactory.getLogger(PasswordVerifier.class);
+
+	private final BCryptPasswordEncoder passwordEncoder;
+
+	private final ThreadPoolExecutor executor;
+
+	private final Cache<String, Boolean> verifiedCache;
+
+	@Inject
+	public PasswordVerifier(BCryptPasswordEncoder passwordEncoder) {
+		this.passwordEncoder = passwordEncoder;
+		AuthenticationOptions options = Mesh.mesh().getOptions().getAuthenticationOptions();
+
+		int workerCount = options.getPasswordWorkerCount();
+		int queueSize = options.getPasswordQueueSize();
+		BlockingQueue<Runnable> queue = queueSize == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueSize);
+		AtomicInteger workerIds = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(workerCount, workerCount, 60, TimeUnit.SECONDS, queue, r -> {
+			Thread thread = new Thread(r, "mesh-password-worker-" + workerIds.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.executor.allowCoreThreadTimeOut(true);
+
+		int cacheTime = options.getPasswordCacheTime();
+		if (cacheTime > 0) {
+			this.verifiedCache = Caffeine.newBuilder().maximumSize(1000).expireAfterWrite(cacheTime, TimeUnit.SECONDS).build();
+		} else {
+			this.verifiedCache = null;
+		}
+	}
+
+	/**
+	 * Verify the password against the stored hash. The handler will be invoked on the Vert.x context of the caller (if any).
+	 * 
+	 * @param username
+	 *            Name of the user which is used to scope the cached verification
+	 * @param password
+	 *            Plain password
+	 * @param passwordHash
+	 *            Stored bcrypt hash of the user password
+	 * @param resultHandler
+	 *            Handler which will be invoked with the result of the verification. The handler will fail if the verification was rejected.
+	 */
+	public void verify(String username, String password, String passwordHash, Handler<AsyncResult<Boolean>> resultHandler) {
+		String cacheKey = null;
+		if (verifiedCache != null) {
+			cacheKey = Hashing.sha256().newHasher().putString(username, UTF_8).putByte((byte) 0).putString(passwordHash, UTF_8).putByte((byte) 0)
+				.putString(password, UTF_8).hash().toString();
+			if (verifiedCache.getIfPresent(cacheKey) != null) {
+				resultHandler.handle(Future.succeededFuture(true));
+				return;
+			}
+		}
+
+		Context context = Vertx.currentContext();
+		String key = cacheKey;
+		try {
+			executor.execute(() -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Validating password using the bcrypt password encoder");
+				}
+				try {
+					boolean matches = passwordEncoder.matches(password, passwordHash);
+					if (matches && key != null) {
+						verifiedCache.put(key, true);
+					}
+					complete(context, Future.succeededFuture(matches), resultHandler);
+				} catch (Exception e) {
+					complete(context, Future.failedFuture(e), resultHandler);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			log.warn("Password verification was rejected since too many verifications are pending.");
+			resultHandler.handle(Future.failedFuture(e));
+		}
+	}
+
+	private void complete(Context context, AsyncResult<Boolean> result, Handler<AsyncResult<Boolean>> resultHandler) {
+		if (context == null) {
+			resultHandler.handle(result);
+		} else {
+			context.runOnContext(v -> resultHandler.handle(result));
+		}
+	}
+
+}
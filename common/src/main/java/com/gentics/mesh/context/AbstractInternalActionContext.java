@@ -1,6 +1,7 @@
 package com.gentics.mesh.context;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
@@ -11,6 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Release;
 import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.json.JsonUtil;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
@@ -23,7 +25,8 @@ public abstract class AbstractInternalActionContext extends AbstractActionContex
 
 	@Override
 	public void send(RestModel restModel, HttpResponseStatus status) {
-		send(restModel.toJson(), status);
+		boolean pretty = getGenericParameters().isPretty();
+		send(JsonUtil.toJsonBuffer(restModel, pretty), status, APPLICATION_JSON_UTF8);
 	}
 
 	@Override
@@ -0,0 +1,41 @@
+package com.gentics.mesh.context.impl;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Action context which is used to execute a single operation of a bulk request. The context shares the request information (e.g. user, project and
+ * parameters) with the bulk request but provides the body of the operation.
+ */
+public class BulkItemActionContextImpl extends InternalRoutingActionContextImpl {
+
+	private final String body;
+
+	/**
+	 * Create a new context for a bulk operation.
+	 * 
+	 * @param rc
+	 *            Routing context of the bulk request
+	 * @param body
+	 *            JSON body of the operation
+	 */
+	public BulkItemActionContextImpl(RoutingContext rc, String body) {
+		super(rc);
+		this.body = body;
+	}
+
+	@Override
+	public String getBodyAsString() {
+		return body;
+	}
+
+	@Override
+	public void setLocation(String basePath) {
+		// The bulk response does not contain a location header for the created elements
+	}
+
+	@Override
+	public void setEtag(String entityTag, boolean isWeak) {
+		// The bulk response does not contain etags for the processed elements
+	}
+
+}
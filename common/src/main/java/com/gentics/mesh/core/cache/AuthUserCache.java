@@ -0,0 +1,146 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.Events.EVENT_CLEAR_AUTH_USER_CACHE;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.graphdb.spi.TxCommitActions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for authenticated users. The cache is used to authenticate requests without the need to load the user from the graph for each request.
+ */
+public final class AuthUserCache {
+
+	private static final Logger log = LoggerFactory.getLogger(AuthUserCache.class);
+
+	/**
+	 * Cache which contains the users by uuid.
+	 */
+	private static final Cache<String, CachedAuthUser> UUID_CACHE = Caffeine.newBuilder().maximumSize(10_000).expireAfterWrite(30, TimeUnit.MINUTES)
+		.build();
+
+	/**
+	 * Cache which contains the users by username. This cache is mainly used to lookup the anonymous user.
+	 */
+	private static final Cache<String, CachedAuthUser> USERNAME_CACHE = Caffeine.newBuilder().maximumSize(100).expireAfterWrite(30, TimeUnit.MINUTES)
+		.build();
+
+	/**
+	 * Return the cached user with the given uuid. The loader will be invoked if the user has not yet been cached.
+	 * 
+	 * @param uuid
+	 *            Uuid of the user
+	 * @param loader
+	 *            Loader which loads the user from the graph. The loader may return null if the user could not be found.
+	 * @return Found user or null if the user could not be found
+	 */
+	public static CachedAuthUser getByUuid(String uuid, Function<String, CachedAuthUser> loader) {
+		return UUID_CACHE.get(uuid, loader);
+	}
+
+	/**
+	 * Return the cached user with the given username. The loader will be invoked if the user has not yet been cached.
+	 * 
+	 * @param username
+	 *            Name of the user
+	 * @param loader
+	 *            Loader which loads the user from the graph. The loader may return null if the user could not be found.
+	 * @return Found user or null if the user could not be found
+	 */
+	public static CachedAuthUser getByUsername(String username, Function<String, CachedAuthUser> loader) {
+		return USERNAME_CACHE.get(username, loader);
+	}
+
+	/**
+	 * Register the event handler which can be used to invalidate the cache.
+	 */
+	public static void registerEventHandler() {
+		Mesh.vertx().eventBus().consumer(EVENT_CLEAR_AUTH_USER_CACHE, e -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing auth user cache due to received event from {" + e.address() + "}");
+			}
+			invalidate(false);
+		});
+	}
+
+	/**
+	 * Invalidate the cache and optionally notify other instances in the cluster.
+	 * 
+	 * @param notify
+	 */
+	public static void invalidate(boolean notify) {
+		UUID_CACHE.invalidateAll();
+		USERNAME_CACHE.invalidateAll();
+		if (notify) {
+			Mesh.vertx().eventBus().publish(EVENT_CLEAR_AUTH_USER_CACHE, null);
+		}
+	}
+
+	/**
+	 * Invalidate the cache once the current transaction has been committed. Invalidating the cache earlier would allow concurrent requests to cache the
+	 * old state of the user again.
+	 */
+	public static void invalidate() {
+		TxCommitActions.afterCommit(AuthUserCache.class.getName(), () -> invalidate(true));
+	}
+
+	/**
+	 * Authentication relevant information of a user which was loaded from the graph.
+	 */
+	public static class CachedAuthUser {
+
+		private final MeshAuthUser user;
+
+		private final boolean enabled;
+
+		private final String apiKeyTokenCode;
+
+		/**
+		 * Create a new entry. An active transaction is required since the information will be loaded from the user.
+		 * 
+		 * @param user
+		 */
+		public CachedAuthUser(MeshAuthUser user) {
+			this.user = user;
+			this.enabled = user.isEnabled();
+			this.apiKeyTokenCode = user.getAPIKeyTokenCode();
+			// Load the uuid to cache it
+			user.getUuid();
+		}
+
+		/**
+		 * Return the user. The user element will be resolved using the active transaction when accessing its properties.
+		 * 
+		 * @return
+		 */
+		public MeshAuthUser getUser() {
+			return user;
+		}
+
+		/**
+		 * Check whether the user was enabled.
+		 * 
+		 * @return
+		 */
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * Return the API key token code of the user.
+		 * 
+		 * @return
+		 */
+		public String getAPIKeyTokenCode() {
+			return apiKeyTokenCode;
+		}
+	}
+}
@@ -0,0 +1,207 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.Events.EVENT_CLEAR_NAVIGATION_CACHE;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.graphdb.spi.TxCommitActions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for navigation structures. The cache contains the unfiltered node tree of a navigation so that the tree does not need to be traversed
+ * for each request. Each cached structure is stamped with the version of its project. Changes to the nodes of a project increment the version and thus
+ * invalidate all navigation structures of the project.
+ */
+public final class NavigationCache {
+
+	private static final Logger log = LoggerFactory.getLogger(NavigationCache.class);
+
+	private static final Cache<String, NavigationEntry> CACHE = Caffeine.newBuilder().maximumSize(1_000).expireAfterWrite(10, TimeUnit.MINUTES).build();
+
+	/**
+	 * Versions of the projects.
+	 */
+	private static final Map<String, AtomicLong> PROJECT_VERSIONS = new ConcurrentHashMap<>();
+
+	/**
+	 * Version which is incremented for changes which affect all projects (e.g. permission or schema changes).
+	 */
+	private static final AtomicLong GLOBAL_VERSION = new AtomicLong();
+
+	/**
+	 * Return the cached navigation structure for the given key. The loader will be invoked if the structure has not yet been cached or if the project has
+	 * been changed since the structure was loaded.
+	 *
+	 * @param key
+	 *            Key which identifies the navigation (root node, release, type, depth)
+	 * @param projectUuid
+	 *            Uuid of the project of the navigation
+	 * @param loader
+	 *            Loader which loads the structure from the graph. The loader will be invoked with the version stamp which must be passed to the root
+	 *            entry.
+	 * @return
+	 */
+	public static NavigationEntry get(String key, String projectUuid, Function<String, NavigationEntry> loader) {
+		// Determine the stamp before loading. Changes which occur while loading will thus invalidate the loaded structure.
+		String stamp = getVersionStamp(projectUuid);
+		NavigationEntry root = CACHE.getIfPresent(key);
+		if (root == null || !stamp.equals(root.getStamp())) {
+			root = loader.apply(stamp);
+			CACHE.put(key, root);
+		}
+		return root;
+	}
+
+	/**
+	 * Return the current version stamp of the given project.
+	 *
+	 * @param projectUuid
+	 * @return
+	 */
+	public static String getVersionStamp(String projectUuid) {
+		return GLOBAL_VERSION.get() + "-" + PROJECT_VERSIONS.computeIfAbsent(projectUuid, uuid -> new AtomicLong()).get();
+	}
+
+	/**
+	 * Register the event handler which can be used to invalidate the cache.
+	 */
+	public static void registerEventHandler() {
+		Mesh.vertx().eventBus().<String>consumer(EVENT_CLEAR_NAVIGATION_CACHE, e -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing navigation cache due to received event from {" + e.address() + "}");
+			}
+			invalidateLocally(e.body());
+		});
+	}
+
+	/**
+	 * Invalidate the navigation structures of the given project once the current transaction has been committed. Invalidating the structures earlier
+	 * would allow concurrent requests to cache the old state with the new version stamp. Multiple invalidations of the same project within one transaction
+	 * will only be executed once. Other instances will only be notified when clustering is enabled.
+	 *
+	 * @param projectUuid
+	 *            Uuid of the project or null to invalidate all navigation structures
+	 */
+	public static void invalidate(String projectUuid) {
+		TxCommitActions.afterCommit(NavigationCache.class.getName() + "-" + projectUuid, () -> invalidate(projectUuid, true));
+	}
+
+	/**
+	 * Invalidate the navigation structures of the given project and optionally notify other instances in the cluster.
+	 *
+	 * @param projectUuid
+	 *            Uuid of the project or null to invalidate all navigation structures
+	 * @param notify
+	 */
+	public static void invalidate(String projectUuid, boolean notify) {
+		invalidateLocally(projectUuid);
+		if (notify && Mesh.mesh().getOptions().getClusterOptions().isEnabled()) {
+			Mesh.vertx().eventBus().publish(EVENT_CLEAR_NAVIGATION_CACHE, projectUuid);
+		}
+	}
+
+	/**
+	 * Invalidate all navigation structures.
+	 */
+	public static void invalidate() {
+		invalidate(null);
+	}
+
+	private static void invalidateLocally(String projectUuid) {
+		if (projectUuid == null) {
+			GLOBAL_VERSION.incrementAndGet();
+		} else {
+			PROJECT_VERSIONS.computeIfAbsent(projectUuid, uuid -> new AtomicLong()).incrementAndGet();
+		}
+	}
+
+	/**
+	 * Node of a cached navigation structure.
+	 */
+	public static class NavigationEntry {
+
+		private final Object id;
+
+		private final String uuid;
+
+		private final String stamp;
+
+		private List<NavigationEntry> children = Collections.emptyList();
+
+		/**
+		 * Create a new entry.
+		 *
+		 * @param id
+		 *            Vertex id of the node
+		 * @param uuid
+		 *            Uuid of the node
+		 * @param stamp
+		 *            Version stamp of the structure. Only set for the root entry.
+		 */
+		public NavigationEntry(Object id, String uuid, String stamp) {
+			this.id = id;
+			this.uuid = uuid;
+			this.stamp = stamp;
+		}
+
+		/**
+		 * Return the vertex id of the node. The id can be used to check permissions without loading the node.
+		 *
+		 * @return
+		 */
+		public Object getId() {
+			return id;
+		}
+
+		/**
+		 * Return the uuid of the node.
+		 *
+		 * @return
+		 */
+		public String getUuid() {
+			return uuid;
+		}
+
+		/**
+		 * Return the version stamp of the structure.
+		 *
+		 * @return
+		 */
+		public String getStamp() {
+			return stamp;
+		}
+
+		/**
+		 * Return the unfiltered child entries.
+		 *
+		 * @return
+		 */
+		public List<NavigationEntry> getChildren() {
+			return children;
+		}
+
+		/**
+		 * Add a child entry.
+		 *
+		 * @param child
+		 */
+		public void addChild(NavigationEntry child) {
+			if (children.isEmpty()) {
+				children = new ArrayList<>();
+			}
+			children.add(child);
+		}
+	}
+}
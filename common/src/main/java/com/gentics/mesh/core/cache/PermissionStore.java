@@ -70,6 +70,8 @@ public final class PermissionStore {
 	public static void invalidate(boolean notify) {
 		// Invalidate locally
 		PERM_CACHE.invalidateAll();
+		// The etags of the navigations contain the permissions of the requesting user
+		NavigationCache.invalidate(null, notify);
 		if (notify) {
 			// Send the event to inform other to purge the stored permissions
 			Mesh.vertx().eventBus().publish(EVENT_CLEAR_PERMISSION_STORE, null);
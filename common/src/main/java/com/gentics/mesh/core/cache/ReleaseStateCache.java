@@ -0,0 +1,72 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.Events.EVENT_CLEAR_RELEASE_STATE_CACHE;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.graphdb.spi.TxCommitActions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Cache for the migration state of releases which is used by the lazy release migration. The cache maps the uuid of a release to the uuid of the release
+ * from which unmigrated nodes read their contents. Releases which have been fully migrated map to an empty value. The entry of a release is invalidated
+ * once its migration state changes.
+ */
+public final class ReleaseStateCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ReleaseStateCache.class);
+
+	private static final Cache<String, Optional<String>> CACHE = Caffeine.newBuilder().maximumSize(1_000).build();
+
+	private ReleaseStateCache() {
+	}
+
+	/**
+	 * Return the uuid of the release from which nodes which were not yet migrated to the given release read their contents.
+	 *
+	 * @param releaseUuid
+	 *            Uuid of the release
+	 * @param loader
+	 *            Loader which determines the fallback release uuid from the graph. The loader may return null if no fallback should be used.
+	 * @return Uuid of the fallback release or null
+	 */
+	public static String getFallbackReleaseUuid(String releaseUuid, Function<String, String> loader) {
+		return CACHE.get(releaseUuid, uuid -> Optional.ofNullable(loader.apply(uuid))).orElse(null);
+	}
+
+	/**
+	 * Register the event handler which can be used to invalidate the cache.
+	 */
+	public static void registerEventHandler() {
+		Mesh.vertx().eventBus().<String>consumer(EVENT_CLEAR_RELEASE_STATE_CACHE, e -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing release state cache due to received event from {" + e.address() + "}");
+			}
+			CACHE.invalidate(e.body());
+		});
+	}
+
+	/**
+	 * Invalidate the cached state of the given release once the current transaction has been committed. Other instances will only be notified when
+	 * clustering is enabled.
+	 *
+	 * @param releaseUuid
+	 */
+	public static void invalidate(String releaseUuid) {
+		// Also drop the entry right away so that the current transaction sees the new state
+		CACHE.invalidate(releaseUuid);
+		TxCommitActions.afterCommit(ReleaseStateCache.class.getName() + "-" + releaseUuid, () -> {
+			CACHE.invalidate(releaseUuid);
+			if (Mesh.mesh().getOptions().getClusterOptions().isEnabled()) {
+				Mesh.vertx().eventBus().publish(EVENT_CLEAR_RELEASE_STATE_CACHE, releaseUuid);
+			}
+		});
+	}
+
+}
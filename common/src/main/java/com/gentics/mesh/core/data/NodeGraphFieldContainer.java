@@ -2,6 +2,7 @@ package com.gentics.mesh.core.data;
 
 import static com.gentics.mesh.search.SearchProvider.INDEX_PREFIX;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -148,6 +149,13 @@ public interface NodeGraphFieldContainer extends GraphFieldContainer, EditorTrac
 	 */
 	void deleteFromRelease(Release release, SearchQueueBatch batch);
 
+	/**
+	 * Remove the container from the version chain and delete it. The previous and the next version will be linked with each other. Lists, micronodes and
+	 * binaries will only be deleted if they are not used by other containers. The container must not be an initial, draft or published container of any
+	 * release.
+	 */
+	void purge();
+
 	/**
 	 * Return the display field value for this container.
 	 * 
@@ -274,6 +282,16 @@ public interface NodeGraphFieldContainer extends GraphFieldContainer, EditorTrac
 	 */
 	List<FieldContainerChange> compareTo(FieldMap fieldMap);
 
+	/**
+	 * Store the digests of the given fields of the fieldmap. The values of the fields must be equal to the values of this container. The digests are used
+	 * to detect unchanged fields without loading the field values.
+	 * 
+	 * @param fieldMap
+	 * @param fieldKeys
+	 *            Keys of the fields for which the digests should be stored
+	 */
+	void updateFieldDigests(FieldMap fieldMap, Collection<String> fieldKeys);
+
 	@Override
 	SchemaContainerVersion getSchemaContainerVersion();
 
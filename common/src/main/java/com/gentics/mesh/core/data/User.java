@@ -11,6 +11,7 @@ import java.util.Set;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.TypeInfo;
+import com.gentics.mesh.core.cache.AuthUserCache;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -436,6 +437,7 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	 */
 	default User setAPITokenId(String code) {
 		setProperty(API_TOKEN_ID, code);
+		AuthUserCache.invalidate();
 		return this;
 	}
 
@@ -488,6 +490,7 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	default void resetAPIToken() {
 		setProperty(API_TOKEN_ID, null);
 		setProperty(API_TOKEN_ISSUE_TIMESTAMP, null);
+		AuthUserCache.invalidate();
 	}
 
 }
@@ -1,5 +1,11 @@
 package com.gentics.mesh.core.data.job;
 
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.FAILED;
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.UNKNOWN;
+
+import java.util.Set;
+
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.CreatorTrackingVertex;
 import com.gentics.mesh.core.data.MeshCoreVertex;
@@ -32,6 +38,25 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 
 	String NODE_NAME_PROPERTY_KEY = "nodeName";
 
+	String CHECKPOINT_PROPERTY_KEY = "checkpoint";
+
+	String PRIORITY_PROPERTY_KEY = "priority";
+
+	/**
+	 * Prefix for the names of the locks which are acquired while a job is being executed.
+	 */
+	String LOCK_NAME_PREFIX = "mesh.internal.joblock.";
+
+	/**
+	 * Default priority of jobs.
+	 */
+	int DEFAULT_PRIORITY = 0;
+
+	/**
+	 * Priority of release migrations. Release migrations are preferred since other jobs of the project may depend on the migrated release.
+	 */
+	int RELEASE_MIGRATION_PRIORITY = 10;
+
 	/**
 	 * The max length before detail error messages will be truncated
 	 */
@@ -262,6 +287,52 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 	 */
 	void setCompletionCount(long count);
 
+	/**
+	 * Return the checkpoint which was persisted by the last processing run. The checkpoint is used to resume an interrupted job.
+	 * 
+	 * @return Checkpoint or null if no checkpoint has been stored
+	 */
+	String getCheckpoint();
+
+	/**
+	 * Set the checkpoint which marks the last element which has been processed.
+	 * 
+	 * @param checkpoint
+	 */
+	void setCheckpoint(String checkpoint);
+
+	/**
+	 * Return the priority of the job. Jobs with a higher priority will be processed first.
+	 * 
+	 * @return
+	 */
+	int getPriority();
+
+	/**
+	 * Set the priority of the job.
+	 * 
+	 * @param priority
+	 */
+	void setPriority(int priority);
+
+	/**
+	 * Return the names of the locks which need to be acquired before the job can be executed. Jobs which share a lock name will not be executed in
+	 * parallel.
+	 * 
+	 * @return
+	 */
+	Set<String> getLockNames();
+
+	/**
+	 * Check whether the job still needs to be processed.
+	 * 
+	 * @return
+	 */
+	default boolean isPending() {
+		MigrationStatus status = getStatus();
+		return !hasFailed() && status != COMPLETED && status != FAILED && status != UNKNOWN;
+	}
+
 	/**
 	 * Get migration status.
 	 * 
@@ -1,7 +1,10 @@
 package com.gentics.mesh.core.data.job;
 
+import java.util.List;
+
 import com.gentics.mesh.core.data.Release;
 import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
@@ -53,11 +56,48 @@ public interface JobRoot extends RootVertex<Job> {
 	 */
 	Job enqueueReleaseMigration(User creator, Release release);
 
+	/**
+	 * Enqueue a job which removes the old versions of the node contents of the release according to the configured version retention options.
+	 * 
+	 * @param creator
+	 * @param release
+	 * @return
+	 */
+	Job enqueueVersionPrune(User creator, Release release);
+
+	/**
+	 * Enqueue a job which publishes or takes offline the node and all its descendants in the release.
+	 * 
+	 * @param creator
+	 *            User which will be set as editor of the published versions
+	 * @param release
+	 * @param node
+	 *            Root node of the subtree
+	 * @param publish
+	 *            true to publish the subtree, false to take it offline
+	 * @return
+	 */
+	Job enqueueSubtreePublish(User creator, Release release, Node node, boolean publish);
+
 	/**
 	 * Process all remaining jobs.
 	 */
 	void process();
 
+	/**
+	 * Process the given job.
+	 * 
+	 * @param job
+	 */
+	void process(Job job);
+
+	/**
+	 * Return the jobs which still need to be processed. The jobs are ordered by priority and creation date.
+	 * 
+	 * @return
+	 */
+	List<? extends Job> findPendingJobs();
+
 	/**
 	 * Purge all failed jobs from the job root.
 	 */
@@ -296,6 +296,18 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	void setParentNode(String releaseUuid, Node parentNode);
 
+	/**
+	 * Migrate the node from the previous release of the given release. This will link the draft and published containers, the parent node and the tags of
+	 * the previous release to the given release. Nodes which have already been migrated to the release will not be modified.
+	 * 
+	 * @param release
+	 *            Release to which the node should be migrated
+	 * @param batch
+	 *            Batch which will be used to update the search index
+	 * @return true if the node was migrated, otherwise false
+	 */
+	boolean migrateToRelease(Release release, SearchQueueBatch batch);
+
 	/**
 	 * Create a child node in this node in the latest release of the project.
 	 * 
@@ -453,6 +465,26 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	void takeOffline(InternalActionContext ac, SearchQueueBatch batch, Release release, PublishParameters parameters);
 
+	/**
+	 * Publish all draft contents of the node which have not yet been published in the given release. Child nodes will not be published and the publish
+	 * consistency will not be asserted. The caller needs to ensure that the parent node is published.
+	 * 
+	 * @param release
+	 * @param user
+	 *            User which will be set as editor of the published versions
+	 * @param batch
+	 */
+	void publishDrafts(Release release, User user, SearchQueueBatch batch);
+
+	/**
+	 * Take all published contents of the node offline in the given release. Child nodes will not be handled and the publish consistency will not be
+	 * asserted. The caller needs to ensure that the child nodes have already been taken offline.
+	 * 
+	 * @param release
+	 * @param batch
+	 */
+	void takeOffline(Release release, SearchQueueBatch batch);
+
 	/**
 	 * Transform the node language into a publish status response rest model.
 	 *
@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data.node.field.list;
 
+import java.util.List;
+
 import com.gentics.mesh.core.data.node.field.DateGraphField;
 import com.gentics.mesh.core.rest.node.field.list.impl.DateFieldListImpl;
 
@@ -23,4 +25,11 @@ public interface DateGraphFieldList extends ListGraphField<DateGraphField, DateF
 	 * @return
 	 */
 	DateGraphField getDate(int index);
+
+	/**
+	 * Replace the items of the list with the given dates. All values are stored at once.
+	 * 
+	 * @param dates
+	 */
+	void setItems(List<Long> dates);
 }
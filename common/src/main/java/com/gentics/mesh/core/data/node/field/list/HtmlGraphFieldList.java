@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data.node.field.list;
 
+import java.util.List;
+
 import com.gentics.mesh.core.data.node.field.HtmlGraphField;
 import com.gentics.mesh.core.rest.node.field.list.impl.HtmlFieldListImpl;
 
@@ -23,4 +25,11 @@ public interface HtmlGraphFieldList extends ListGraphField<HtmlGraphField, HtmlF
 	 */
 	HtmlGraphField getHTML(int index);
 
+	/**
+	 * Replace the items of the list with the given html values. All values are stored at once.
+	 * 
+	 * @param htmls
+	 */
+	void setItems(List<String> htmls);
+
 }
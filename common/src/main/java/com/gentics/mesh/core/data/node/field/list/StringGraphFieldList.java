@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data.node.field.list;
 
+import java.util.List;
+
 import com.gentics.mesh.core.data.node.field.StringGraphField;
 import com.gentics.mesh.core.rest.node.field.list.impl.StringFieldListImpl;
 
@@ -23,4 +25,11 @@ public interface StringGraphFieldList extends ListGraphField<StringGraphField, S
 	 */
 	StringGraphField getString(int index);
 
+	/**
+	 * Replace the items of the list with the given strings. All values are stored at once.
+	 * 
+	 * @param strings
+	 */
+	void setItems(List<String> strings);
+
 }
@@ -7,7 +7,9 @@ import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.TransformableElement;
 import com.gentics.mesh.core.rest.common.ListResponse;
 import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.util.ETag;
+import com.google.common.collect.Lists;
 
 import io.reactivex.Observable;
 import io.reactivex.Single;
@@ -46,6 +48,45 @@ public interface TransformablePage<T extends TransformableElement<? extends Rest
 		});
 	}
 
+	/**
+	 * Transform the page into a list response. The elements of the page will be split into chunks which are transformed in parallel by the list transform
+	 * workers of the database. Each chunk is transformed within a dedicated transaction. The order of the elements is retained. The method should be
+	 * invoked after the transaction which loaded the page has been closed since the chunks will not read from the snapshot of that transaction.
+	 * 
+	 * @param ac
+	 * @param level
+	 *            Level of transformation
+	 * @param db
+	 *            Database which provides the list transform workers
+	 * @param parallelism
+	 *            Maximum amount of chunks of this page which will be transformed in parallel
+	 * @return
+	 */
+	default Single<? extends ListResponse<RestModel>> transformToRest(InternalActionContext ac, int level, Database db, int parallelism) {
+		List<? extends T> elements = getWrappedList();
+		ListResponse<RestModel> listResponse = new ListResponse<>();
+		if (elements.isEmpty()) {
+			setPaging(listResponse);
+			return Single.just(listResponse);
+		}
+
+		int maxChunks = Math.max(1, parallelism);
+		int chunkSize = (elements.size() + maxChunks - 1) / maxChunks;
+		return Observable.fromIterable(Lists.partition(elements, chunkSize)).concatMapEager(chunk -> db.asyncTx(db.getListTransformExecutor(), () -> {
+			List<RestModel> models = new ArrayList<>(chunk.size());
+			for (T element : chunk) {
+				models.add(element.transformToRestSync(ac, level));
+			}
+			return Single.just(models);
+		}).toObservable(), maxChunks, 1).toList().map(chunks -> {
+			setPaging(listResponse);
+			for (List<RestModel> models : chunks) {
+				listResponse.getData().addAll(models);
+			}
+			return listResponse;
+		});
+	}
+
 	/**
 	 * Return the eTag of the page. The etag is calculated using the following information:
 	 * <ul>
@@ -16,6 +16,7 @@ import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.syncleus.ferma.FramedGraph;
+import com.syncleus.ferma.VertexFrame;
 import com.syncleus.ferma.traversals.VertexTraversal;
 import com.syncleus.ferma.tx.Tx;
 import com.tinkerpop.blueprints.Direction;
@@ -122,6 +123,29 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 		init(clazz, traversal, perm);
 	}
 
+	/**
+	 * Create a new dynamic page.
+	 * 
+	 * @param requestUser
+	 *            User to check permissions against
+	 * @param items
+	 *            Elements which can be paged
+	 * @param clazz
+	 *            Element class used to reframe the found elements
+	 * @param pagingInfo
+	 *            Paging settings
+	 * @param perm
+	 *            Permission to check against
+	 * @param extraFilter
+	 *            Additional filter to be applied
+	 */
+	public DynamicTransformablePageImpl(User requestUser, Iterable<? extends VertexFrame> items, Class<T> clazz, PagingParameters pagingInfo,
+			GraphPermission perm, Predicate<Vertex> extraFilter) {
+		this(requestUser, pagingInfo, extraFilter, true);
+		Stream<Vertex> stream = StreamSupport.stream(items.spliterator(), false).map(item -> item.getElement());
+		applyPagingAndPermChecks(stream, clazz, perm);
+	}
+
 	private void init(Class<? extends T> clazz, VertexTraversal<?, ?, ?> traversal, GraphPermission perm) {
 		// Iterate over all vertices that are managed by this root vertex
 		Stream<Vertex> stream = StreamSupport.stream(traversal.spliterator(), false).map(item -> {
@@ -14,6 +14,8 @@ public interface MeshRoot extends MeshVertex {
 
 	public static final String MESH_DB_REV = "meshDatabaseRevision";
 
+	public static final String MESH_CONSISTENCY_CHECK_TIMESTAMP = "meshConsistencyCheckTimestamp";
+
 	/**
 	 * Returns the mesh version which was last used to access the graph. This version is usually updated by the {@link BootstrapInitializer} during startup of
 	 * mesh.
@@ -43,6 +45,20 @@ public interface MeshRoot extends MeshVertex {
 	 */
 	void setDatabaseRevision(String databaseRevision);
 
+	/**
+	 * Return the start timestamp of the last complete consistency check.
+	 * 
+	 * @return Timestamp or null if no complete consistency check has been run yet
+	 */
+	Long getConsistencyCheckTimestamp();
+
+	/**
+	 * Update the start timestamp of the last complete consistency check.
+	 * 
+	 * @param timestamp
+	 */
+	void setConsistencyCheckTimestamp(Long timestamp);
+
 	/**
 	 * Returns the user aggregation vertex.
 	 * 
@@ -10,6 +10,7 @@ import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.schema.handler.FieldSchemaContainerComparator;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.rest.common.NameUuidReference;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.rest.schema.FieldSchemaContainer;
 import com.gentics.mesh.core.rest.schema.change.impl.SchemaChangesListModel;
 import com.gentics.mesh.util.VersionUtil;
@@ -49,12 +50,28 @@ public interface GraphFieldSchemaContainerVersion<R extends FieldSchemaContainer
 	void setVersion(String version);
 
 	/**
-	 * Return the schema model that is stored within the container.
+	 * Return a copy of the schema model that is stored within the container. The copy may be modified.
 	 * 
 	 * @return
 	 */
 	RM getSchema();
 
+	/**
+	 * Return the compiled schema model of the version. The model is shared between all threads and must not be modified. Use {@link #getSchema()} to
+	 * obtain a modifiable copy.
+	 * 
+	 * @return
+	 */
+	RM getSchemaReadOnly();
+
+	/**
+	 * Return the field schema with the given name. The field will be located via the compiled schema of the version without iterating over the fields.
+	 * 
+	 * @param fieldName
+	 * @return Field schema or null if the schema contains no such field
+	 */
+	FieldSchema getFieldSchema(String fieldName);
+
 	/**
 	 * Set the schema model for the container.
 	 * 
@@ -54,7 +54,7 @@ public interface SearchQueueBatch {
 	 * @return Fluent API
 	 */
 	default SearchQueueBatch addNodeIndex(Project project, Release release, SchemaContainerVersion version, ContainerType type) {
-		return createNodeIndex(project.getUuid(), release.getUuid(), version.getUuid(), type, version.getSchema());
+		return createNodeIndex(project.getUuid(), release.getUuid(), version.getUuid(), type, version.getSchemaReadOnly());
 	}
 
 	/**
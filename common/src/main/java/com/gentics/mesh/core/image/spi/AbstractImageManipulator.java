@@ -5,6 +5,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.InputStream;
 
 import javax.imageio.ImageIO;
 
@@ -73,6 +74,20 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 		});
 	}
 
+	@Override
+	public Single<ImageInfo> readImageInfo(InputStream ins) {
+		return Single.fromCallable(() -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Reading image information from stream");
+			}
+			BufferedImage image = ImageIO.read(ins);
+			if (image == null) {
+				throw error(BAD_REQUEST, "image_error_reading_failed");
+			}
+			return toImageInfo(image);
+		});
+	}
+
 	/**
 	 * Extract the image information from the given buffered image.
 	 * 
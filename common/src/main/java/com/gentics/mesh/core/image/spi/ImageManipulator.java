@@ -46,6 +46,14 @@ public interface ImageManipulator {
 	 */
 	Single<ImageInfo> readImageInfo(String file);
 
+	/**
+	 * Read the image information from the given data stream. The stream will be consumed on the subscribing thread and will not be closed.
+	 * 
+	 * @param ins
+	 * @return
+	 */
+	Single<ImageInfo> readImageInfo(InputStream ins);
+
 	/**
 	 * Return the dominant color in the image.
 	 * 
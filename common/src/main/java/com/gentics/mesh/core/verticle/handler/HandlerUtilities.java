@@ -20,6 +20,7 @@ import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.IndexableElement;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.NamedElement;
+import com.gentics.mesh.core.data.TransformableElement;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
@@ -216,27 +217,60 @@ public class HandlerUtilities {
 	}
 
 	/**
-	 * Read a list of elements of the given root vertex and respond with a list response.
+	 * Read a list of elements of the given root vertex and respond with a list response. The elements will be transformed in parallel using the configured
+	 * {@link com.gentics.mesh.etc.config.GraphStorageOptions#getListTransformParallelism()}.
 	 * 
 	 * @param ac
 	 * @param handler
 	 *            Handler which provides the root vertex which should be used when loading the element
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElementList(InternalActionContext ac, TxAction1<RootVertex<T>> handler) {
-		asyncTx(ac, (tx) -> {
-			RootVertex<T> root = handler.handle();
+		readElementList(ac, handler, Mesh.mesh().getOptions().getStorageOptions().getListTransformParallelism());
+	}
 
+	/**
+	 * Read a list of elements of the given root vertex and respond with a list response.
+	 * 
+	 * @param ac
+	 * @param handler
+	 *            Handler which provides the root vertex which should be used when loading the element
+	 * @param parallelism
+	 *            Maximum amount of chunks of the page which are transformed in parallel
+	 */
+	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElementList(InternalActionContext ac, TxAction1<RootVertex<T>> handler,
+		int parallelism) {
+		readPage(ac, () -> {
+			RootVertex<T> root = handler.handle();
 			PagingParameters pagingInfo = ac.getPagingParameters();
-			TransformablePage<? extends T> page = root.findAll(ac, pagingInfo);
+			return root.findAll(ac, pagingInfo);
+		}, parallelism);
+	}
 
-			// Handle etag
-			String etag = page.getETag(ac);
-			ac.setEtag(etag, true);
-			if (ac.matches(etag, true)) {
-				throw new NotModifiedException();
-			} else {
-				return page.transformToRest(ac, 0).blockingGet();
-			}
+	/**
+	 * Load the page and respond with a list response. The page will be loaded within a transaction which is closed before the chunks of the page are
+	 * transformed in parallel by the list transform workers.
+	 * 
+	 * @param ac
+	 * @param pageLoader
+	 *            Loader which will be invoked within the transaction
+	 * @param parallelism
+	 *            Maximum amount of chunks of the page which are transformed in parallel
+	 */
+	public <T extends TransformableElement<? extends RestModel>> void readPage(InternalActionContext ac, TxAction1<TransformablePage<? extends T>> pageLoader,
+		int parallelism) {
+		async(ac, () -> {
+			TransformablePage<? extends T> page = database.tx(() -> {
+				TransformablePage<? extends T> loadedPage = pageLoader.handle();
+
+				// Handle etag
+				String etag = loadedPage.getETag(ac);
+				ac.setEtag(etag, true);
+				if (ac.matches(etag, true)) {
+					throw new NotModifiedException();
+				}
+				return loadedPage;
+			});
+			return page.transformToRest(ac, 0, database, parallelism).blockingGet();
 		}, (e) -> ac.send(e, OK));
 	}
 
@@ -33,6 +33,11 @@ import com.gentics.mesh.core.rest.navigation.NavigationElement;
 import com.gentics.mesh.core.rest.navigation.NavigationResponse;
 import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.rest.node.NodeChildrenInfo;
+import com.gentics.mesh.core.rest.node.NodeBulkAction;
+import com.gentics.mesh.core.rest.node.NodeBulkOperation;
+import com.gentics.mesh.core.rest.node.NodeBulkRequest;
+import com.gentics.mesh.core.rest.node.NodeBulkResponse;
+import com.gentics.mesh.core.rest.node.NodeBulkResult;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
@@ -271,6 +276,26 @@ public class NodeExamples extends AbstractExamples {
 		return nodeUpdate;
 	}
 
+	public NodeBulkRequest getNodeBulkRequest() {
+		String uuid = randomUUID();
+		NodeBulkRequest request = new NodeBulkRequest();
+		request.add(NodeBulkOperation.create(getNodeCreateRequest()).setUuid(uuid));
+		request.add(NodeBulkOperation.update(randomUUID(), getNodeUpdateRequest2()));
+		request.add(NodeBulkOperation.publish(uuid));
+		return request;
+	}
+
+	public NodeBulkResponse getNodeBulkResponse() {
+		NodeBulkResponse response = new NodeBulkResponse();
+		String uuid = randomUUID();
+		String missingUuid = randomUUID();
+		response.getResults().add(new NodeBulkResult().setAction(NodeBulkAction.CREATE).setUuid(uuid).setStatus(201));
+		response.getResults().add(new NodeBulkResult().setAction(NodeBulkAction.UPDATE).setUuid(missingUuid).setStatus(404).setMessage(
+				"Object with uuid \"" + missingUuid + "\" could not be found."));
+		response.getResults().add(new NodeBulkResult().setAction(NodeBulkAction.PUBLISH).setUuid(uuid).setStatus(200));
+		return response;
+	}
+
 	public NodeListResponse getNodeListResponse() {
 		NodeListResponse list = new NodeListResponse();
 		list.getData().add(getNodeResponseWithAllFields());
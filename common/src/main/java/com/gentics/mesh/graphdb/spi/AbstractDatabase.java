@@ -23,6 +23,10 @@ public abstract class AbstractDatabase implements Database {
 	protected String meshVersion;
 	protected String[] basePaths;
 
+	private volatile TxExecutor txExecutor;
+
+	private volatile TxExecutor listTransformExecutor;
+
 	@Override
 	public void clear() {
 		if (log.isDebugEnabled()) {
@@ -43,6 +47,7 @@ public abstract class AbstractDatabase implements Database {
 		this.options = options;
 		this.meshVersion = meshVersion;
 		this.basePaths = basePaths;
+		startTxExecutor();
 	}
 
 	/**
@@ -54,6 +59,41 @@ public abstract class AbstractDatabase implements Database {
 		return options.getStorageOptions();
 	}
 
+	@Override
+	public TxExecutor getTxExecutor() {
+		return txExecutor;
+	}
+
+	@Override
+	public TxExecutor getListTransformExecutor() {
+		return listTransformExecutor;
+	}
+
+	/**
+	 * Create the executors for asynchronous transactions and list transformations unless running executors already exist.
+	 */
+	protected synchronized void startTxExecutor() {
+		GraphStorageOptions storageOptions = storageOptions();
+		if (txExecutor == null || txExecutor.isShutdown()) {
+			txExecutor = new TxExecutor(storageOptions);
+		}
+		if (listTransformExecutor == null || listTransformExecutor.isShutdown()) {
+			listTransformExecutor = new TxExecutor("transform", storageOptions.getListTransformWorkerPoolSize(), storageOptions.isTxDiagnostics());
+		}
+	}
+
+	/**
+	 * Shut down the executors for asynchronous transactions and list transformations.
+	 */
+	protected synchronized void stopTxExecutor() {
+		if (txExecutor != null) {
+			txExecutor.shutdown();
+		}
+		if (listTransformExecutor != null) {
+			listTransformExecutor.shutdown();
+		}
+	}
+
 	@Override
 	public void reset() throws Exception {
 		if (log.isDebugEnabled()) {
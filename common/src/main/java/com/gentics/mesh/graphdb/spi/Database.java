@@ -3,11 +3,7 @@ package com.gentics.mesh.graphdb.spi;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicReference;
 
-import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterStatusResponse;
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -70,26 +66,18 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default Completable asyncTx(TxAction0 txHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
-
 		return Completable.create(sub -> {
-			Mesh.vertx().executeBlocking(bc -> {
+			getTxExecutor().execute(() -> {
 				try (Tx tx = tx()) {
 					txHandler.handle();
-					bc.complete();
+					return null;
 				} catch (Exception e) {
 					if (log.isTraceEnabled()) {
 						log.trace("Error while handling no-transaction.", e);
 					}
-					bc.fail(e);
+					throw e;
 				}
-			}, false, done -> {
+			}, done -> {
 				if (done.failed()) {
 					sub.onError(done.cause());
 				} else {
@@ -106,41 +94,32 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default <T> Single<T> asyncTx(TxAction1<Single<T>> trxHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
+		return asyncTx(getTxExecutor(), trxHandler);
+	}
+
+	/**
+	 * Executes the given action using a worker of the given executor and returns a single which can be subscribed to get the result.
+	 * 
+	 * @param executor
+	 *            Executor which provides the worker
+	 * @param trxHandler
+	 * @return
+	 */
+	default <T> Single<T> asyncTx(TxExecutor executor, TxAction1<Single<T>> trxHandler) {
+		// Capture the calling stack to enhance error information in case of timeouts. This is only done when diagnostics are enabled.
+		Exception callerStack = executor.captureCallerStack();
 
 		return Single.create(sub -> {
-			Mesh.vertx().executeBlocking(bc -> {
+			executor.execute(() -> {
 				try (Tx tx = tx()) {
-					Single<T> result = trxHandler.handle();
-					if (result == null) {
-						bc.complete();
-					} else {
-						try {
-							T ele = result.timeout(40, TimeUnit.SECONDS).blockingGet();
-							bc.complete(ele);
-						} catch (Exception e2) {
-							if (e2 instanceof TimeoutException) {
-								log.error("Timeout while processing result of transaction handler.", e2);
-								log.error("Calling transaction stacktrace.", reference.get());
-								bc.fail(reference.get());
-							} else {
-								throw e2;
-							}
-						}
-					}
+					return TxExecutor.await(trxHandler.handle(), callerStack);
 				} catch (Exception e) {
 					if (log.isTraceEnabled()) {
 						log.trace("Error while handling no-transaction.", e);
 					}
-					bc.fail(e);
+					throw e;
 				}
-			}, false, (AsyncResult<T> done) -> {
+			}, (AsyncResult<T> done) -> {
 				if (done.failed()) {
 					sub.onError(done.cause());
 				} else {
@@ -157,39 +136,19 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default <T> Single<T> asyncTx(TxAction<Single<T>> trxHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
+		// Capture the calling stack to enhance error information in case of timeouts. This is only done when diagnostics are enabled.
+		TxExecutor executor = getTxExecutor();
+		Exception callerStack = executor.captureCallerStack();
 
 		return Single.create(sub -> {
-			Mesh.vertx().executeBlocking(bc -> {
+			executor.execute(() -> {
 				try (Tx tx = tx()) {
-					Single<T> result = trxHandler.handle(tx);
-					if (result == null) {
-						bc.complete();
-					} else {
-						try {
-							T ele = result.timeout(40, TimeUnit.SECONDS).blockingGet();
-							bc.complete(ele);
-						} catch (Exception e2) {
-							if (e2 instanceof TimeoutException) {
-								log.error("Timeout while processing result of transaction handler.", e2);
-								log.error("Calling transaction stacktrace.", reference.get());
-								bc.fail(reference.get());
-							} else {
-								throw e2;
-							}
-						}
-					}
+					return TxExecutor.await(trxHandler.handle(tx), callerStack);
 				} catch (Exception e) {
 					log.error("Error while handling no-transaction.", e);
-					bc.fail(e);
+					throw e;
 				}
-			}, false, (AsyncResult<T> done) -> {
+			}, (AsyncResult<T> done) -> {
 				if (done.failed()) {
 					sub.onError(done.cause());
 				} else {
@@ -199,6 +158,21 @@ public interface Database extends TxFactory {
 		});
 	}
 
+	/**
+	 * Return the executor which is used to run asynchronous transactions.
+	 * 
+	 * @return
+	 */
+	TxExecutor getTxExecutor();
+
+	/**
+	 * Return the executor which is used to transform the chunks of list responses. The executor is shared by all requests and thus limits the total
+	 * amount of chunks which are transformed at the same time.
+	 * 
+	 * @return
+	 */
+	TxExecutor getListTransformExecutor();
+
 	/**
 	 * Initialise the database and store the settings.
 	 * 
@@ -298,6 +272,15 @@ public interface Database extends TxFactory {
 	 */
 	Object createComposedIndexKey(Object... keys);
 
+	/**
+	 * Check whether the given element has already been persisted. Elements which were created within a transaction that has not yet been committed only
+	 * have a temporary id which must not be used to cache data.
+	 * 
+	 * @param element
+	 * @return
+	 */
+	boolean isPersisted(Element element);
+
 	/**
 	 * Add a vertex index for the given type of vertex and fields.
 	 * 
@@ -321,6 +304,18 @@ public interface Database extends TxFactory {
 	 */
 	void addVertexIndex(String indexName, Class<?> clazzOfVertices, boolean unique, String fieldKey, FieldType fieldType);
 
+	/**
+	 * Add a named unique vertex index for the given type of vertex and field. The entries of the index are sorted by the field value so that the index can be
+	 * iterated in order using {@link #orderedVertexLookup(String, Class, Object, int)}.
+	 * 
+	 * @param indexName
+	 *            index name
+	 * @param clazzOfVertices
+	 * @param fieldKey
+	 * @param fieldType
+	 */
+	void addOrderedVertexIndex(String indexName, Class<?> clazzOfVertices, String fieldKey, FieldType fieldType);
+
 	/**
 	 * Check whether the values can be put into the given index for the given element.
 	 * 
@@ -461,6 +456,22 @@ public interface Database extends TxFactory {
 	 */
 	List<Object> edgeLookup(String edgeLabel, String indexPostfix, Object key);
 
+	/**
+	 * Perform a range lookup on an ordered vertex index. The ids of the vertices will be returned in the order of the indexed values. Only vertices with a
+	 * value greater than the given key will be returned.
+	 * 
+	 * @param indexName
+	 *            Name of the index which has been created via {@link #addOrderedVertexIndex(String, Class, String, FieldType)}
+	 * @param clazzOfVertices
+	 *            Type of the vertices which contain the index
+	 * @param fromKey
+	 *            Value after which the lookup starts or null to start with the first value
+	 * @param limit
+	 *            Maximum amount of returned ids
+	 * @return List of found vertex ids
+	 */
+	List<Object> orderedVertexLookup(String indexName, Class<?> clazzOfVertices, Object fromKey, int limit);
+
 	/**
 	 * Join the cluster and block until the graph database has been received.
 	 * 
@@ -0,0 +1,85 @@
+package com.gentics.mesh.graphdb.spi;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Registry for actions which must only be executed once the current transaction has been committed (e.g. cache invalidations). Invalidating a cache
+ * before the commit would allow other threads to load and cache the old state again.
+ * 
+ * The scopes are managed by the database when executing a transaction handler via {@link Database#tx(com.syncleus.ferma.tx.TxAction)}. Actions which
+ * are registered outside of such a scope will be executed immediately.
+ */
+public final class TxCommitActions {
+
+	private static final Logger log = LoggerFactory.getLogger(TxCommitActions.class);
+
+	private static final ThreadLocal<Deque<Map<String, Runnable>>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+	private TxCommitActions() {
+	}
+
+	/**
+	 * Register an action which will be executed once the current transaction has been committed. The action will be discarded if the transaction
+	 * fails.
+	 * 
+	 * @param action
+	 */
+	public static void afterCommit(Runnable action) {
+		afterCommit(UUID.randomUUID().toString(), action);
+	}
+
+	/**
+	 * Register an action which will be executed once the current transaction has been committed. Only the first action which was registered for the
+	 * given key will be executed. This can be used to coalesce multiple invalidations within a single transaction.
+	 * 
+	 * @param key
+	 * @param action
+	 */
+	public static void afterCommit(String key, Runnable action) {
+		Map<String, Runnable> scope = SCOPES.get().peek();
+		if (scope == null) {
+			run(action);
+		} else {
+			scope.putIfAbsent(key, action);
+		}
+	}
+
+	/**
+	 * Open a new scope for the transaction which is about to start.
+	 */
+	public static void begin() {
+		SCOPES.get().push(new LinkedHashMap<>());
+	}
+
+	/**
+	 * Close the current scope and execute the registered actions if the transaction was committed.
+	 * 
+	 * @param committed
+	 */
+	public static void end(boolean committed) {
+		Deque<Map<String, Runnable>> scopes = SCOPES.get();
+		Map<String, Runnable> scope = scopes.pop();
+		if (scopes.isEmpty()) {
+			SCOPES.remove();
+		}
+		if (committed) {
+			scope.values().forEach(TxCommitActions::run);
+		}
+	}
+
+	private static void run(Runnable action) {
+		try {
+			action.run();
+		} catch (Exception e) {
+			log.error("Error while executing action after the transaction commit", e);
+		}
+	}
+
+}
@@ -0,0 +1,256 @@
+package com.gentics.mesh.graphdb.spi;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.gentics.mesh.etc.config.GraphStorageOptions;
+
+import com.syncleus.ferma.tx.Tx;
+
+import io.reactivex.Single;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Dedicated executor for asynchronous transactions. Using a separate pool prevents other blocking operations (e.g. image manipulation) which run in the
+ * Vert.x worker pool from starving the transactions. The executor tracks the queue depth and the time which transactions have to wait for a free worker.
+ */
+public class TxExecutor implements TxExecutorMBean {
+
+	private static final Logger log = LoggerFactory.getLogger(TxExecutor.class);
+
+	private static final String JMX_MBEAN_NAME = "com.gentics.mesh:type=TxExecutor,name=";
+
+	/**
+	 * Timeout in seconds for the result of a transaction handler.
+	 */
+	private static final long TX_RESULT_TIMEOUT = 40;
+
+	private final ThreadPoolExecutor executor;
+
+	private final boolean diagnostics;
+
+	private final AtomicLong totalWaitTime = new AtomicLong();
+
+	private final AtomicLong maxWaitTime = new AtomicLong();
+
+	/**
+	 * Executor which owns the current thread. Used to detect nested asynchronous transactions.
+	 */
+	private static final ThreadLocal<TxExecutor> CURRENT_EXECUTOR = new ThreadLocal<>();
+
+	public TxExecutor(GraphStorageOptions options) {
+		this("tx", options.getTxWorkerPoolSize(), options.isTxDiagnostics());
+	}
+
+	/**
+	 * Create a new executor.
+	 * 
+	 * @param name
+	 *            Name which is used for the worker threads and the JMX metrics
+	 * @param poolSize
+	 *            Maximum amount of worker threads
+	 * @param diagnostics
+	 *            Whether the calling stacktrace should be captured
+	 */
+	public TxExecutor(String name, int poolSize, boolean diagnostics) {
+		AtomicInteger workerIds = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread thread = new Thread(() -> {
+				CURRENT_EXECUTOR.set(this);
+				r.run();
+			}, "mesh-" + name + "-worker-" + workerIds.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.executor.allowCoreThreadTimeOut(true);
+		this.diagnostics = diagnostics;
+		registerJMX(name);
+	}
+
+	private void registerJMX(String name) {
+		MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+		try {
+			ObjectName objectName = new ObjectName(JMX_MBEAN_NAME + name);
+			if (mbs.isRegistered(objectName)) {
+				mbs.unregisterMBean(objectName);
+			}
+			mbs.registerMBean(this, objectName);
+		} catch (Exception e) {
+			log.warn("Could not register transaction executor metrics", e);
+		}
+	}
+
+	/**
+	 * Capture the stacktrace of the caller. The stacktrace will only be captured if transaction diagnostics are enabled since filling in the stacktrace is
+	 * expensive.
+	 * 
+	 * @return Exception which contains the stacktrace or null if diagnostics are disabled
+	 */
+	public Exception captureCallerStack() {
+		if (diagnostics) {
+			return new Exception("Transaction timeout exception");
+		}
+		return null;
+	}
+
+	/**
+	 * Check whether the current thread is one of the workers of this executor.
+	 * 
+	 * @return
+	 */
+	public boolean isWorkerThread() {
+		return CURRENT_EXECUTOR.get() == this;
+	}
+
+	/**
+	 * Execute the action using a transaction worker. The handler will be invoked on the Vert.x context of the caller (if any) once the action has
+	 * completed. Nested calls from within a transaction worker are executed inline since waiting for another worker could otherwise deadlock the
+	 * pool.
+	 * 
+	 * @param action
+	 * @param resultHandler
+	 */
+	public <T> void execute(Callable<T> action, Handler<AsyncResult<T>> resultHandler) {
+		if (isWorkerThread()) {
+			executeInline(action, resultHandler);
+			return;
+		}
+		Context context = Vertx.currentContext();
+		long queued = System.nanoTime();
+		try {
+			executor.execute(() -> {
+				recordWaitTime(System.nanoTime() - queued);
+				Future<T> result;
+				try {
+					result = Future.succeededFuture(action.call());
+				} catch (Throwable e) {
+					result = Future.failedFuture(e);
+				}
+				complete(context, result, resultHandler);
+			});
+		} catch (RejectedExecutionException e) {
+			complete(context, Future.failedFuture(e), resultHandler);
+		}
+	}
+
+	private <T> void executeInline(Callable<T> action, Handler<AsyncResult<T>> resultHandler) {
+		// The nested transaction replaces the active transaction of the worker
+		Tx outerTx = Tx.getActive();
+		Future<T> result;
+		try {
+			result = Future.succeededFuture(action.call());
+		} catch (Throwable e) {
+			result = Future.failedFuture(e);
+		} finally {
+			Tx.setActive(outerTx);
+		}
+		resultHandler.handle(result);
+	}
+
+	/**
+	 * Wait for the result of the given single. The calling stack will be used as the failure cause when the result could not be obtained in time.
+	 * 
+	 * @param result
+	 *            Single to wait for or null
+	 * @param callerStack
+	 *            Captured calling stack or null
+	 * @return Result of the single or null
+	 * @throws Exception
+	 */
+	public static <T> T await(Single<T> result, Exception callerStack) throws Exception {
+		return await(result, callerStack, TX_RESULT_TIMEOUT, TimeUnit.SECONDS);
+	}
+
+	static <T> T await(Single<T> result, Exception callerStack, long timeout, TimeUnit unit) throws Exception {
+		if (result == null) {
+			return null;
+		}
+		try {
+			return result.timeout(timeout, unit).blockingGet();
+		} catch (Exception e) {
+			if (e instanceof TimeoutException || e.getCause() instanceof TimeoutException) {
+				log.error("Timeout while processing result of transaction handler.", e);
+				if (callerStack != null) {
+					log.error("Calling transaction stacktrace.", callerStack);
+					throw callerStack;
+				}
+			}
+			throw e;
+		}
+	}
+
+	private <T> void complete(Context context, AsyncResult<T> result, Handler<AsyncResult<T>> resultHandler) {
+		if (context == null) {
+			resultHandler.handle(result);
+		} else {
+			context.runOnContext(v -> resultHandler.handle(result));
+		}
+	}
+
+	private void recordWaitTime(long waitTime) {
+		totalWaitTime.addAndGet(waitTime);
+		maxWaitTime.accumulateAndGet(waitTime, Math::max);
+	}
+
+	@Override
+	public int getQueueSize() {
+		return executor.getQueue().size();
+	}
+
+	@Override
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	@Override
+	public long getCompletedCount() {
+		return executor.getCompletedTaskCount();
+	}
+
+	@Override
+	public double getAverageWaitTime() {
+		long count = executor.getCompletedTaskCount();
+		if (count == 0) {
+			return 0;
+		}
+		return totalWaitTime.get() / (double) count / 1_000_000;
+	}
+
+	@Override
+	public double getMaxWaitTime() {
+		return maxWaitTime.get() / 1_000_000d;
+	}
+
+	/**
+	 * Stop the executor. Queued transactions will still be executed.
+	 */
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * Check whether the executor has been shut down.
+	 * 
+	 * @return
+	 */
+	public boolean isShutdown() {
+		return executor.isShutdown();
+	}
+
+}
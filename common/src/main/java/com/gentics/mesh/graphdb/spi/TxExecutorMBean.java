@@ -0,0 +1,43 @@
+package com.gentics.mesh.graphdb.spi;
+
+/**
+ * JMX interface which exposes the metrics of the {@link TxExecutor}.
+ */
+public interface TxExecutorMBean {
+
+	/**
+	 * Return the amount of transactions which are waiting for a free worker.
+	 * 
+	 * @return
+	 */
+	int getQueueSize();
+
+	/**
+	 * Return the amount of workers which are currently executing transactions.
+	 * 
+	 * @return
+	 */
+	int getActiveCount();
+
+	/**
+	 * Return the amount of executed transactions.
+	 * 
+	 * @return
+	 */
+	long getCompletedCount();
+
+	/**
+	 * Return the average time in milliseconds which transactions had to wait for a free worker.
+	 * 
+	 * @return
+	 */
+	double getAverageWaitTime();
+
+	/**
+	 * Return the maximum time in milliseconds which a transaction had to wait for a free worker.
+	 * 
+	 * @return
+	 */
+	double getMaxWaitTime();
+
+}
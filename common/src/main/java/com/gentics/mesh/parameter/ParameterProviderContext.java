@@ -1,7 +1,11 @@
 package com.gentics.mesh.parameter;
 
 import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.impl.BulkParametersImpl;
+import com.gentics.mesh.parameter.impl.ConsistencyCheckParametersImpl;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
+import com.gentics.mesh.parameter.impl.ExportParametersImpl;
+import com.gentics.mesh.parameter.impl.GenericParametersImpl;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
@@ -52,4 +56,20 @@ public interface ParameterProviderContext extends ActionContext {
 		return new SchemaUpdateParametersImpl(this);
 	}
 
+	default GenericParameters getGenericParameters() {
+		return new GenericParametersImpl(this);
+	}
+
+	default BulkParameters getBulkParameters() {
+		return new BulkParametersImpl(this);
+	}
+
+	default ExportParameters getExportParameters() {
+		return new ExportParametersImpl(this);
+	}
+
+	default ConsistencyCheckParameters getConsistencyCheckParameters() {
+		return new ConsistencyCheckParametersImpl(this);
+	}
+
 }
@@ -0,0 +1,53 @@
+package com.gentics.mesh.parameter.impl;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.raml.model.ParamType;
+import org.raml.model.parameter.QueryParameter;
+
+import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.AbstractParameters;
+import com.gentics.mesh.parameter.BulkParameters;
+
+public class BulkParametersImpl extends AbstractParameters implements BulkParameters {
+
+	public BulkParametersImpl(ActionContext ac) {
+		super(ac);
+	}
+
+	public BulkParametersImpl() {
+	}
+
+	@Override
+	public void validate() {
+		if (getChunkSize() < 1) {
+			throw error(BAD_REQUEST, "error_bulk_chunk_size_parameter", String.valueOf(getChunkSize()));
+		}
+	}
+
+	@Override
+	public String getName() {
+		return "Bulk parameters";
+	}
+
+	@Override
+	public Map<? extends String, ? extends QueryParameter> getRAMLParameters() {
+		Map<String, QueryParameter> parameters = new HashMap<>();
+
+		// chunkSize
+		QueryParameter chunkSizeParameter = new QueryParameter();
+		chunkSizeParameter.setDefaultValue(String.valueOf(DEFAULT_CHUNK_SIZE));
+		chunkSizeParameter.setDescription("Amount of operations which will be executed within a single transaction.");
+		chunkSizeParameter.setExample("500");
+		chunkSizeParameter.setRequired(false);
+		chunkSizeParameter.setType(ParamType.INTEGER);
+		parameters.put(CHUNK_SIZE_PARAMETER_KEY, chunkSizeParameter);
+
+		return parameters;
+	}
+
+}
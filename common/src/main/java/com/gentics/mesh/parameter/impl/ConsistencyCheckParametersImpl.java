@@ -0,0 +1,66 @@
+package com.gentics.mesh.parameter.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.raml.model.ParamType;
+import org.raml.model.parameter.QueryParameter;
+
+import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.AbstractParameters;
+import com.gentics.mesh.parameter.ConsistencyCheckParameters;
+
+public class ConsistencyCheckParametersImpl extends AbstractParameters implements ConsistencyCheckParameters {
+
+	public ConsistencyCheckParametersImpl(ActionContext ac) {
+		super(ac);
+	}
+
+	public ConsistencyCheckParametersImpl() {
+	}
+
+	@Override
+	public void validate() {
+		// The types and the project will be validated by the consistency check handler
+	}
+
+	@Override
+	public String getName() {
+		return "Consistency check parameters";
+	}
+
+	@Override
+	public Map<? extends String, ? extends QueryParameter> getRAMLParameters() {
+		Map<String, QueryParameter> parameters = new HashMap<>();
+
+		// type
+		QueryParameter typeParameter = new QueryParameter();
+		typeParameter.setDescription("Comma separated list of element types which should be checked. All types will be checked by default.");
+		typeParameter.setExample("nodes,users");
+		typeParameter.setRequired(false);
+		typeParameter.setType(ParamType.STRING);
+		parameters.put(TYPE_QUERY_PARAM_KEY, typeParameter);
+
+		// project
+		QueryParameter projectParameter = new QueryParameter();
+		projectParameter.setDescription(
+				"Name of the project to which the check should be limited. Only project specific elements will be checked if a project has been specified.");
+		projectParameter.setExample("dummy");
+		projectParameter.setRequired(false);
+		projectParameter.setType(ParamType.STRING);
+		parameters.put(PROJECT_QUERY_PARAM_KEY, projectParameter);
+
+		// incremental
+		QueryParameter incrementalParameter = new QueryParameter();
+		incrementalParameter.setDefaultValue("false");
+		incrementalParameter.setDescription(
+				"Only check elements which have been created or edited since the start of the last complete check. All elements will be checked if no complete check has been run yet.");
+		incrementalParameter.setExample("true");
+		incrementalParameter.setRequired(false);
+		incrementalParameter.setType(ParamType.BOOLEAN);
+		parameters.put(INCREMENTAL_QUERY_PARAM_KEY, incrementalParameter);
+
+		return parameters;
+	}
+
+}
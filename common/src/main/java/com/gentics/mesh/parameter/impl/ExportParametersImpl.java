@@ -0,0 +1,56 @@
+package com.gentics.mesh.parameter.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.raml.model.ParamType;
+import org.raml.model.parameter.QueryParameter;
+
+import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.AbstractParameters;
+import com.gentics.mesh.parameter.ExportParameters;
+
+public class ExportParametersImpl extends AbstractParameters implements ExportParameters {
+
+	public ExportParametersImpl(ActionContext ac) {
+		super(ac);
+	}
+
+	public ExportParametersImpl() {
+	}
+
+	@Override
+	public void validate() {
+	}
+
+	@Override
+	public String getName() {
+		return "Export parameters";
+	}
+
+	@Override
+	public Map<? extends String, ? extends QueryParameter> getRAMLParameters() {
+		Map<String, QueryParameter> parameters = new HashMap<>();
+
+		// schema
+		QueryParameter schemaParameter = new QueryParameter();
+		schemaParameter.setDescription(
+				"Comma separated list of schema names. Only nodes which use one of the listed schemas will be exported. All nodes will be exported by default.");
+		schemaParameter.setExample("content,folder");
+		schemaParameter.setRequired(false);
+		schemaParameter.setType(ParamType.STRING);
+		parameters.put(SCHEMA_QUERY_PARAM_KEY, schemaParameter);
+
+		// language
+		QueryParameter languageParameter = new QueryParameter();
+		languageParameter.setDescription(
+				"Comma separated list of language tags. Only contents of the listed languages will be exported. All languages will be exported by default.");
+		languageParameter.setExample("en,de");
+		languageParameter.setRequired(false);
+		languageParameter.setType(ParamType.STRING);
+		parameters.put(LANGUAGE_QUERY_PARAM_KEY, languageParameter);
+
+		return parameters;
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.gentics.mesh.parameter.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.raml.model.ParamType;
+import org.raml.model.parameter.QueryParameter;
+
+import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.AbstractParameters;
+import com.gentics.mesh.parameter.GenericParameters;
+
+public class GenericParametersImpl extends AbstractParameters implements GenericParameters {
+
+	public GenericParametersImpl(ActionContext ac) {
+		super(ac);
+	}
+
+	public GenericParametersImpl() {
+	}
+
+	@Override
+	public void validate() {
+		// TODO validate query parameter value
+	}
+
+	@Override
+	public String getName() {
+		return "Generic parameters";
+	}
+
+	@Override
+	public Map<? extends String, ? extends QueryParameter> getRAMLParameters() {
+		Map<String, QueryParameter> parameters = new HashMap<>();
+
+		// pretty
+		QueryParameter prettyParameter = new QueryParameter();
+		prettyParameter.setDefaultValue("false");
+		prettyParameter.setDescription("Specify whether the JSON response should be pretty printed. By default the response will be compact.");
+		prettyParameter.setExample("true");
+		prettyParameter.setRequired(false);
+		prettyParameter.setType(ParamType.BOOLEAN);
+		parameters.put(PRETTY_PARAMETER_KEY, prettyParameter);
+
+		return parameters;
+	}
+
+}
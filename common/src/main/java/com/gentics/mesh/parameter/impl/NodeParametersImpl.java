@@ -34,6 +34,11 @@ public class NodeParametersImpl extends AbstractParameters implements NodeParame
 				throw error(BAD_REQUEST, "error_language_not_found", languageTag);
 			}
 		}
+		for (String section : getProjection()) {
+			if (!PROJECTION_SECTIONS.contains(section)) {
+				throw error(BAD_REQUEST, "error_node_projection_unknown", section, String.join(", ", PROJECTION_SECTIONS));
+			}
+		}
 	}
 
 	@Override
@@ -63,6 +68,15 @@ public class NodeParametersImpl extends AbstractParameters implements NodeParame
 		resolveLinksParameter.setType(ParamType.STRING);
 		parameters.put(RESOLVE_LINKS_QUERY_PARAM_KEY, resolveLinksParameter);
 
+		// fields
+		QueryParameter projectionParameter = new QueryParameter();
+		projectionParameter.setDescription("Comma-separated list of response sections which should be included. Sections which were not listed will neither be computed nor returned. Possible sections are: "
+				+ String.join(", ", PROJECTION_SECTIONS) + ". The basic properties like _uuid_, _schema_, _language_ and _version_ will always be returned. All sections will be returned if omitted.");
+		projectionParameter.setExample("fields,path");
+		projectionParameter.setRequired(false);
+		projectionParameter.setType(ParamType.STRING);
+		parameters.put(PROJECTION_QUERY_PARAM_KEY, projectionParameter);
+
 		return parameters;
 	}
 
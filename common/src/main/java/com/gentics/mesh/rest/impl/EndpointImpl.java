@@ -24,6 +24,7 @@ import org.raml.model.parameter.UriParameter;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.ParameterProvider;
+import com.gentics.mesh.parameter.impl.GenericParametersImpl;
 import com.gentics.mesh.rest.EndpointRoute;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -286,10 +287,12 @@ public class EndpointImpl implements EndpointRoute {
 
 		MimeType mimeType = new MimeType();
 		if (model instanceof RestModel) {
-			String json = ((RestModel) model).toJson();
+			String json = JsonUtil.toJson(model, true);
 			mimeType.setExample(json);
 			mimeType.setSchema(JsonUtil.getJsonSchema(model.getClass()));
 			map.put("application/json", mimeType);
+			// JSON responses can be pretty printed
+			addQueryParameters(GenericParametersImpl.class);
 		} else {
 			mimeType.setExample(model.toString());
 			map.put("text/plain", mimeType);
@@ -329,7 +332,7 @@ public class EndpointImpl implements EndpointRoute {
 	public EndpointRoute exampleRequest(RestModel model) {
 		HashMap<String, MimeType> bodyMap = new HashMap<>();
 		MimeType mimeType = new MimeType();
-		String json = model.toJson();
+		String json = JsonUtil.toJson(model, true);
 		mimeType.setExample(json);
 		mimeType.setSchema(JsonUtil.getJsonSchema(model.getClass()));
 		bodyMap.put("application/json", mimeType);
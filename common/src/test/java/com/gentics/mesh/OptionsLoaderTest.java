@@ -45,6 +45,9 @@ public class OptionsLoaderTest {
 		envMap.put(MeshOptions.MESH_CLUSTER_INIT_ENV, "true");
 		envMap.put(HttpServerConfig.MESH_HTTP_CORS_ORIGIN_PATTERN_ENV, "*");
 		envMap.put(HttpServerConfig.MESH_HTTP_CORS_ENABLE_ENV, "true");
+		envMap.put(HttpServerConfig.MESH_HTTP_HTTP2_ENV, "false");
+		envMap.put(HttpServerConfig.MESH_HTTP_COMPRESSION_LEVEL_ENV, "3");
+		envMap.put(HttpServerConfig.MESH_HTTP_HTTP2_MAX_CONCURRENT_STREAMS_ENV, "50");
 		set(envMap);
 		MeshOptions options = OptionsLoader.createOrloadOptions();
 		assertEquals(8100, options.getHttpServerOptions().getPort());
@@ -54,6 +57,9 @@ public class OptionsLoaderTest {
 		assertTrue(options.isInitClusterMode());
 		assertTrue(options.getHttpServerOptions().getEnableCors());
 		assertEquals("*", options.getHttpServerOptions().getCorsAllowedOriginPattern());
+		assertFalse(options.getHttpServerOptions().isHttp2());
+		assertEquals(3, options.getHttpServerOptions().getCompressionLevel());
+		assertEquals(50, options.getHttpServerOptions().getHttp2MaxConcurrentStreams());
 	}
 
 	@Test
@@ -0,0 +1,159 @@
+package com.gentics.mesh.graphdb.spi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.etc.config.GraphStorageOptions;
+
+import io.reactivex.Single;
+import io.vertx.core.AsyncResult;
+
+public class TxExecutorTest {
+
+	private TxExecutor executor;
+
+	@Before
+	public void setup() {
+		executor = new TxExecutor(new GraphStorageOptions().setTxWorkerPoolSize(1));
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void testExecute() throws Exception {
+		CompletableFuture<AsyncResult<String>> result = new CompletableFuture<>();
+		executor.execute(() -> Thread.currentThread().getName(), result::complete);
+		AsyncResult<String> done = result.get(10, TimeUnit.SECONDS);
+		assertTrue(done.succeeded());
+		assertTrue("The action should run on a transaction worker", done.result().startsWith("mesh-tx-worker-"));
+		assertFalse(executor.isWorkerThread());
+	}
+
+	@Test
+	public void testNamedExecutor() throws Exception {
+		TxExecutor transformExecutor = new TxExecutor("transform", 2, false);
+		try {
+			CompletableFuture<AsyncResult<String>> result = new CompletableFuture<>();
+			transformExecutor.execute(() -> Thread.currentThread().getName(), result::complete);
+			AsyncResult<String> done = result.get(10, TimeUnit.SECONDS);
+			assertTrue(done.succeeded());
+			assertTrue(done.result().startsWith("mesh-transform-worker-"));
+			assertFalse("The executors must not share their workers", executor.isWorkerThread());
+		} finally {
+			transformExecutor.shutdown();
+		}
+	}
+
+	@Test
+	public void testExecuteFailure() throws Exception {
+		CompletableFuture<AsyncResult<String>> result = new CompletableFuture<>();
+		executor.execute(() -> {
+			throw new IllegalStateException("failure");
+		}, result::complete);
+		AsyncResult<String> done = result.get(10, TimeUnit.SECONDS);
+		assertTrue(done.failed());
+		assertEquals("failure", done.cause().getMessage());
+	}
+
+	@Test
+	public void testNestedExecutionDoesNotDeadlock() throws Exception {
+		// The pool only contains a single worker. The nested action must run inline.
+		CompletableFuture<AsyncResult<String>> result = new CompletableFuture<>();
+		executor.execute(() -> {
+			CompletableFuture<AsyncResult<String>> nested = new CompletableFuture<>();
+			executor.execute(() -> Thread.currentThread().getName(), nested::complete);
+			return nested.get(10, TimeUnit.SECONDS).result();
+		}, result::complete);
+		AsyncResult<String> done = result.get(10, TimeUnit.SECONDS);
+		assertTrue(done.succeeded());
+		assertTrue(done.result().startsWith("mesh-tx-worker-"));
+	}
+
+	@Test
+	public void testMetrics() throws Exception {
+		CountDownLatch blocker = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(1);
+		CompletableFuture<AsyncResult<Object>> first = new CompletableFuture<>();
+		CompletableFuture<AsyncResult<Object>> second = new CompletableFuture<>();
+		executor.execute(() -> {
+			started.countDown();
+			blocker.await();
+			return null;
+		}, first::complete);
+		started.await(10, TimeUnit.SECONDS);
+		executor.execute(() -> null, second::complete);
+
+		assertEquals("The second action should wait for the only worker", 1, executor.getQueueSize());
+		assertEquals(1, executor.getActiveCount());
+		Thread.sleep(50);
+		blocker.countDown();
+		first.get(10, TimeUnit.SECONDS);
+		second.get(10, TimeUnit.SECONDS);
+
+		// The completed count is updated after the handler has been invoked
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (executor.getCompletedCount() < 2 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(2, executor.getCompletedCount());
+		assertEquals(0, executor.getQueueSize());
+		assertTrue("The wait time of the queued action should have been recorded", executor.getMaxWaitTime() >= 50);
+		assertTrue(executor.getAverageWaitTime() > 0);
+	}
+
+	@Test
+	public void testRejectedAfterShutdown() throws Exception {
+		executor.shutdown();
+		assertTrue(executor.isShutdown());
+		CompletableFuture<AsyncResult<Object>> result = new CompletableFuture<>();
+		executor.execute(() -> null, result::complete);
+		assertTrue(result.get(10, TimeUnit.SECONDS).failed());
+	}
+
+	@Test
+	public void testAwaitTimeout() throws Exception {
+		Exception callerStack = new Exception("caller");
+		try {
+			TxExecutor.await(Single.never(), callerStack, 100, TimeUnit.MILLISECONDS);
+			fail("The await should have timed out");
+		} catch (Exception e) {
+			assertSame("The captured caller stack should be thrown", callerStack, e);
+		}
+
+		try {
+			TxExecutor.await(Single.never(), null, 100, TimeUnit.MILLISECONDS);
+			fail("The await should have timed out");
+		} catch (Exception e) {
+			assertTrue(e instanceof TimeoutException || e.getCause() instanceof TimeoutException);
+		}
+	}
+
+	@Test
+	public void testCaptureCallerStack() {
+		TxExecutor diagnosticsExecutor = new TxExecutor(new GraphStorageOptions().setTxDiagnostics(true));
+		try {
+			assertNotNull(diagnosticsExecutor.captureCallerStack());
+		} finally {
+			diagnosticsExecutor.shutdown();
+		}
+		assertNull(executor.captureCallerStack());
+	}
+
+}
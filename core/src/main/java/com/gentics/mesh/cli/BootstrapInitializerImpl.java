@@ -35,6 +35,9 @@ import com.gentics.mesh.MeshStatus;
 import com.gentics.mesh.MeshVersion;
 import com.gentics.mesh.changelog.ChangelogSystem;
 import com.gentics.mesh.changelog.ReindexAction;
+import com.gentics.mesh.core.cache.AuthUserCache;
+import com.gentics.mesh.core.cache.NavigationCache;
+import com.gentics.mesh.core.cache.ReleaseStateCache;
 import com.gentics.mesh.core.cache.PermissionStore;
 import com.gentics.mesh.core.console.ConsoleProvider;
 import com.gentics.mesh.core.data.Group;
@@ -427,6 +430,10 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	public void registerEventHandlers() {
 		RouterStorage.registerEventbus();
 		PermissionStore.registerEventHandler();
+		AuthUserCache.registerEventHandler();
+		NavigationCache.registerEventHandler();
+		ReleaseStateCache.registerEventHandler();
+		schemaStorage.registerEventHandler();
 	}
 
 	@Override
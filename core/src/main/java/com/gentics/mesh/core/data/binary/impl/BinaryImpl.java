@@ -6,9 +6,11 @@ import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.core.data.node.field.impl.BinaryGraphFieldImpl;
+import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.dagger.MeshInternal;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.graphdb.spi.FieldType;
+import com.gentics.mesh.graphdb.spi.TxCommitActions;
 import com.gentics.mesh.storage.BinaryStorage;
 
 import io.reactivex.Flowable;
@@ -37,9 +39,18 @@ public class BinaryImpl extends MeshVertexImpl implements Binary {
 	
 	@Override
 	public void remove() {
-		BinaryStorage storage = MeshInternal.get().binaryStorage();
-		storage.delete(getUuid()).blockingAwait();
+		delete(null);
+	}
+
+	@Override
+	public void delete(SearchQueueBatch batch) {
+		String uuid = getUuid();
 		super.remove();
+		// Only delete the data once the removal of the vertex has been committed. Otherwise a rollback would leave a binary without data.
+		TxCommitActions.afterCommit(() -> {
+			BinaryStorage storage = MeshInternal.get().binaryStorage();
+			storage.delete(uuid).blockingAwait();
+		});
 	}
 
 }
\ No newline at end of file
@@ -344,7 +344,7 @@ public abstract class AbstractGraphFieldContainerImpl extends AbstractBasicGraph
 
 	@Override
 	public void updateFieldsFromRest(InternalActionContext ac, FieldMap fieldMap) {
-		FieldSchemaContainer schema = getSchemaContainerVersion().getSchema();
+		FieldSchemaContainer schema = getSchemaContainerVersion().getSchemaReadOnly();
 		schema.assertForUnhandledFields(fieldMap);
 
 		// TODO: This should return an observable
@@ -367,7 +367,7 @@ public abstract class AbstractGraphFieldContainerImpl extends AbstractBasicGraph
 
 	@Override
 	public List<GraphField> getFields() {
-		FieldSchemaContainer schema = getSchemaContainerVersion().getSchema();
+		FieldSchemaContainer schema = getSchemaContainerVersion().getSchemaReadOnly();
 		List<GraphField> fields = new ArrayList<>();
 		for (FieldSchema fieldSchema : schema.getFields()) {
 			GraphField field = getField(fieldSchema);
@@ -389,7 +389,7 @@ public abstract class AbstractGraphFieldContainerImpl extends AbstractBasicGraph
 	@Override
 	public Iterable<? extends Node> getReferencedNodes() {
 		// Get all fields and group them by type
-		Map<String, List<FieldSchema>> affectedFields = getSchemaContainerVersion().getSchema().getFields().stream()
+		Map<String, List<FieldSchema>> affectedFields = getSchemaContainerVersion().getSchemaReadOnly().getFields().stream()
 			.filter(this::isNodeReferenceType)
 			.collect(Collectors.groupingBy(FieldSchema::getType));
 
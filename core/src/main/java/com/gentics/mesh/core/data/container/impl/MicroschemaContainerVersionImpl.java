@@ -9,6 +9,7 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_MIC
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_MICROSCHEMA_VERSION;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TO_VERSION;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -80,7 +81,12 @@ public class MicroschemaContainerVersionImpl extends
 	}
 
 	@Override
-	public MicroschemaModel getSchema() {
+	protected Class<? extends MicroschemaModel> getSchemaModelClass() {
+		return MicroschemaModelImpl.class;
+	}
+
+	@Override
+	protected MicroschemaModel loadSchema() {
 		MicroschemaModel microschema = MeshInternal.get().serverSchemaStorage().getMicroschema(getName(), getVersion());
 		if (microschema == null) {
 			microschema = JsonUtil.readValue(getJson(), MicroschemaModelImpl.class);
@@ -100,8 +106,15 @@ public class MicroschemaContainerVersionImpl extends
 
 	@Override
 	public MicroschemaResponse transformToRestSync(InternalActionContext ac, int level, String... languageTags) {
-		// Load the microschema and add/overwrite some properties
-		MicroschemaResponse microschema = JsonUtil.readValue(getJson(), MicroschemaResponse.class);
+		// Build the response from the compiled microschema to avoid loading and parsing the stored JSON. The field schemas are shared with the compiled
+		// microschema.
+		MicroschemaModel model = getSchemaReadOnly();
+		MicroschemaResponse microschema = new MicroschemaResponse();
+		microschema.setName(model.getName());
+		microschema.setVersion(model.getVersion());
+		microschema.setDescription(model.getDescription());
+		microschema.setElasticsearch(model.getElasticsearch() == null ? null : model.getElasticsearch().copy());
+		microschema.setFields(new ArrayList<>(model.getFields()));
 		// Role permissions
 		MicroschemaContainer container = getSchemaContainer();
 		container.setRolePermissions(ac, microschema);
@@ -167,6 +180,7 @@ public class MicroschemaContainerVersionImpl extends
 			job.remove();
 		}
 		// Delete version
+		MeshInternal.get().serverSchemaStorage().removeCompiledVersion(getId());
 		remove();
 
 	}
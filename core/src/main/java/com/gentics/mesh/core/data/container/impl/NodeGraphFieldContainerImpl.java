@@ -29,14 +29,17 @@ import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.data.schema.impl.SchemaContainerVersionImpl;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
+import com.gentics.mesh.core.rest.common.FieldTypes;
 import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.rest.node.field.Field;
 import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.core.rest.schema.ListFieldSchema;
 import com.gentics.mesh.core.rest.schema.Schema;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.dagger.MeshInternal;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.graphdb.spi.FieldType;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.path.Path;
 import com.gentics.mesh.path.PathSegment;
 import com.gentics.mesh.util.ETag;
@@ -45,16 +48,20 @@ import com.gentics.mesh.util.VersionNumber;
 import com.google.common.base.Equivalence;
 import com.google.common.collect.MapDifference;
 import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
 import com.syncleus.ferma.traversals.EdgeTraversal;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.collections.CollectionUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -87,6 +94,19 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	public static final String VERSION_PROPERTY_KEY = "version";
 
+	/**
+	 * Suffix of the property which stores the digest of a field value. The digest is computed from the JSON of the rest field which was used to set the
+	 * value.
+	 */
+	public static final String FIELD_DIGEST_PROPERTY_SUFFIX = "-digest";
+
+	/**
+	 * Field types for which digests will be stored. The values of these fields are fully defined by their JSON. Node references, micronodes and binaries
+	 * may change without an update of the container and are thus always compared by value.
+	 */
+	private static final Set<String> DIGEST_FIELD_TYPES = new HashSet<>(Arrays.asList(FieldTypes.STRING.toString(), FieldTypes.HTML.toString(),
+			FieldTypes.NUMBER.toString(), FieldTypes.BOOLEAN.toString(), FieldTypes.DATE.toString()));
+
 	public static void init(Database database) {
 		database.addVertexType(NodeGraphFieldContainerImpl.class, MeshVertexImpl.class);
 		// Webroot index:
@@ -123,10 +143,9 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	@Override
 	public void updateDisplayFieldValue() {
-		// TODO use schema storage instead
-		Schema schema = getSchemaContainerVersion().getSchema();
-		String displayFieldName = schema.getDisplayField();
-		FieldSchema fieldSchema = schema.getField(displayFieldName);
+		SchemaContainerVersion version = getSchemaContainerVersion();
+		String displayFieldName = version.getSchemaReadOnly().getDisplayField();
+		FieldSchema fieldSchema = version.getFieldSchema(displayFieldName);
 		// Only update the display field value if the field can be located
 		if (fieldSchema != null) {
 			GraphField field = getField(fieldSchema);
@@ -205,9 +224,26 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 		setProperty(WEBROOT_PROPERTY_KEY, null);
 	}
 
+	@Override
+	public void purge() {
+		// Link the previous and the next version so that the version chain stays intact
+		NodeGraphFieldContainer previous = getPreviousVersion();
+		NodeGraphFieldContainer next = getNextVersion();
+		if (previous != null && next != null) {
+			previous.setNextVersion(next);
+		}
+
+		// Fields which are shared with other versions will only be detached
+		for (GraphField field : getFields()) {
+			field.removeField(this);
+		}
+		getElement().remove();
+	}
+
 	@Override
 	public void updateFieldsFromRest(InternalActionContext ac, FieldMap restFields) {
 		super.updateFieldsFromRest(ac, restFields);
+		updateFieldDigests(restFields, restFields.keySet());
 		String releaseUuid = ac.getRelease().getUuid();
 
 		updateWebrootPathInfo(releaseUuid, "node_conflicting_segmentfield_update");
@@ -216,12 +252,13 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	@Override
 	public Set<String> getUrlFieldValues() {
-		SchemaModel schema = getSchemaContainerVersion().getSchema();
+		SchemaContainerVersion version = getSchemaContainerVersion();
+		SchemaModel schema = version.getSchemaReadOnly();
 
 		Set<String> urlFieldValues = new HashSet<>();
 		if (schema.getUrlFields() != null) {
 			for (String urlField : schema.getUrlFields()) {
-				FieldSchema fieldSchema = schema.getField(urlField);
+				FieldSchema fieldSchema = version.getFieldSchema(urlField);
 				GraphField field = getField(fieldSchema);
 				if (field instanceof StringGraphFieldImpl) {
 					StringGraphFieldImpl stringField = (StringGraphFieldImpl) field;
@@ -323,7 +360,7 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 	 */
 	protected void updateWebrootPathInfo(String releaseUuid, String conflictI18n, ContainerType type, String propertyName, String indexName) {
 		Node node = getParentNode();
-		String segmentFieldName = getSchemaContainerVersion().getSchema().getSegmentField();
+		String segmentFieldName = getSchemaContainerVersion().getSchemaReadOnly().getSegmentField();
 		// Determine the webroot path of the container parent node
 		String segment = node.getPathSegment(releaseUuid, type, getLanguage().getLanguageTag());
 
@@ -442,6 +479,14 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 		for (GraphField graphField : otherFields) {
 			graphField.cloneTo(this);
 		}
+
+		// The digests stay valid since the values have been copied. Digests of other schema versions will never match.
+		for (FieldSchema fieldSchema : container.getSchemaContainerVersion().getSchemaReadOnly().getFields()) {
+			if (isDigestable(fieldSchema)) {
+				String key = fieldSchema.getName() + FIELD_DIGEST_PROPERTY_SUFFIX;
+				setProperty(key, container.getProperty(key));
+			}
+		}
 	}
 
 	@Override
@@ -476,7 +521,7 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	@Override
 	public void validate() {
-		Schema schema = getSchemaContainerVersion().getSchema();
+		Schema schema = getSchemaContainerVersion().getSchemaReadOnly();
 		Map<String, GraphField> fieldsMap = getFields().stream().collect(Collectors.toMap(GraphField::getFieldKey, Function.identity()));
 
 		schema.getFields().stream().forEach(fieldSchema -> {
@@ -494,15 +539,23 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 	public List<FieldContainerChange> compareTo(FieldMap fieldMap) {
 		List<FieldContainerChange> changes = new ArrayList<>();
 
-		Schema schemaA = getSchemaContainerVersion().getSchema();
+		SchemaContainerVersion version = getSchemaContainerVersion();
+		Schema schemaA = version.getSchemaReadOnly();
 		Map<String, FieldSchema> fieldSchemaMap = schemaA.getFieldsAsMap();
 
 		// Handle all fields
 		for (String fieldName : fieldSchemaMap.keySet()) {
 			FieldSchema fieldSchema = fieldSchemaMap.get(fieldName);
+			Field fieldB = fieldMap.getField(fieldName, fieldSchema);
+			// The field is unchanged if the digest matches. No need to load the value.
+			if (fieldB != null && isDigestable(fieldSchema)) {
+				String digest = getProperty(fieldName + FIELD_DIGEST_PROPERTY_SUFFIX);
+				if (digest != null && digest.equals(computeFieldDigest(version, fieldB))) {
+					continue;
+				}
+			}
 			// Check content
 			GraphField fieldA = getField(fieldSchema);
-			Field fieldB = fieldMap.getField(fieldName, fieldSchema);
 			// Handle null cases. The field may not have been created yet.
 			if (fieldA != null && fieldB == null && fieldMap.hasField(fieldName)) {
 				// Field only exists in A
@@ -526,9 +579,9 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 	public List<FieldContainerChange> compareTo(NodeGraphFieldContainer container) {
 		List<FieldContainerChange> changes = new ArrayList<>();
 
-		Schema schemaA = getSchemaContainerVersion().getSchema();
+		Schema schemaA = getSchemaContainerVersion().getSchemaReadOnly();
 		Map<String, FieldSchema> fieldMapA = schemaA.getFieldsAsMap();
-		Schema schemaB = container.getSchemaContainerVersion().getSchema();
+		Schema schemaB = container.getSchemaContainerVersion().getSchemaReadOnly();
 		Map<String, FieldSchema> fieldMapB = schemaB.getFieldsAsMap();
 		// Generate a structural diff first. This way it is easy to determine
 		// which fields have been added or removed.
@@ -563,6 +616,13 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 			FieldSchema fieldSchemaB = fieldMapB.get(fieldName);
 			// Check whether the field type is different in between both schemas
 			if (fieldSchemaA.getType().equals(fieldSchemaB.getType())) {
+				// Equal digests include the same schema version and the same value. No need to load the values.
+				if (isDigestable(fieldSchemaA)) {
+					String digestA = getProperty(fieldName + FIELD_DIGEST_PROPERTY_SUFFIX);
+					if (digestA != null && digestA.equals(container.getProperty(fieldName + FIELD_DIGEST_PROPERTY_SUFFIX))) {
+						continue;
+					}
+				}
 				// Check content
 				GraphField fieldA = getField(fieldSchemaA);
 				GraphField fieldB = container.getField(fieldSchemaB);
@@ -587,6 +647,49 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 		return changes;
 	}
 
+	@Override
+	public void updateFieldDigests(FieldMap fieldMap, Collection<String> fieldKeys) {
+		SchemaContainerVersion version = getSchemaContainerVersion();
+		for (String fieldKey : fieldKeys) {
+			FieldSchema fieldSchema = version.getFieldSchema(fieldKey);
+			if (fieldSchema != null && isDigestable(fieldSchema)) {
+				Field field = fieldMap.getField(fieldKey, fieldSchema);
+				String digest = field == null ? null : computeFieldDigest(version, field);
+				String key = fieldKey + FIELD_DIGEST_PROPERTY_SUFFIX;
+				// Avoid writes for updates which did not change anything
+				if (!Objects.equals(digest, getProperty(key))) {
+					setProperty(key, digest);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compute the digest of the rest field for the given schema version.
+	 * 
+	 * @param version
+	 * @param field
+	 * @return
+	 */
+	private String computeFieldDigest(SchemaContainerVersion version, Field field) {
+		String json = version.getUuid() + "-" + JsonUtil.toJson(field, false);
+		return Hashing.sha256().hashString(json, StandardCharsets.UTF_8).toString();
+	}
+
+	/**
+	 * Check whether digests will be stored for the field.
+	 * 
+	 * @param fieldSchema
+	 * @return
+	 */
+	private static boolean isDigestable(FieldSchema fieldSchema) {
+		String type = fieldSchema.getType();
+		if (fieldSchema instanceof ListFieldSchema) {
+			type = ((ListFieldSchema) fieldSchema).getListType();
+		}
+		return DIGEST_FIELD_TYPES.contains(type);
+	}
+
 	@Override
 	public List<? extends MicronodeGraphField> getMicronodeFields(MicroschemaContainerVersion version) {
 		return outE(HAS_FIELD).mark().inV().has(MicronodeImpl.class).out(HAS_MICROSCHEMA_CONTAINER).has(MicroschemaContainerVersionImpl.class).has(
@@ -619,7 +722,7 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	@Override
 	public String getSegmentFieldValue() {
-		String segmentFieldKey = getSchemaContainerVersion().getSchema().getSegmentField();
+		String segmentFieldKey = getSchemaContainerVersion().getSchemaReadOnly().getSegmentField();
 		// 1. The container may reference a schema which has no segment field set thus no path segment can be determined
 		if (segmentFieldKey == null) {
 			return null;
@@ -11,6 +11,8 @@ import com.gentics.mesh.core.data.job.impl.JobRootImpl;
 import com.gentics.mesh.core.data.job.impl.MicronodeMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.NodeMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.ReleaseMigrationJobImpl;
+import com.gentics.mesh.core.data.job.impl.SubtreePublishJobImpl;
+import com.gentics.mesh.core.data.job.impl.VersionPruneJobImpl;
 import com.gentics.mesh.core.data.node.field.impl.BinaryGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.impl.MicronodeGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.list.impl.BooleanGraphFieldListImpl;
@@ -135,6 +137,8 @@ public final class DatabaseHelper {
 		NodeMigrationJobImpl.init(database);
 		MicronodeMigrationJobImpl.init(database);
 		ReleaseMigrationJobImpl.init(database);
+		VersionPruneJobImpl.init(database);
+		SubtreePublishJobImpl.init(database);
 
 		// Field changes
 		FieldTypeChangeImpl.init(database);
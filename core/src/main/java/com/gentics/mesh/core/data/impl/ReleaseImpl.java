@@ -15,6 +15,7 @@ import static com.gentics.mesh.graphdb.spi.FieldType.STRING;
 import static com.gentics.mesh.util.URIUtils.encodeFragment;
 
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.ReleaseStateCache;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Release;
 import com.gentics.mesh.core.data.User;
@@ -182,6 +183,7 @@ public class ReleaseImpl extends AbstractMeshCoreVertex<ReleaseResponse, Release
 	@Override
 	public Release setMigrated(boolean migrated) {
 		setProperty(MIGRATED_PROPERTY_KEY, migrated);
+		ReleaseStateCache.invalidate(getUuid());
 		return this;
 	}
 
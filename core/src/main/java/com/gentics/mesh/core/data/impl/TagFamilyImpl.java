@@ -18,6 +18,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.NavigationCache;
 import com.gentics.mesh.core.data.HandleElementAction;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Project;
@@ -194,6 +195,8 @@ public class TagFamilyImpl extends AbstractMeshCoreVertex<TagFamilyResponse, Tag
 		}
 		if(!getName().equals(newName)) {
 			this.setName(newName);
+			// The tag references of the nodes contain the name of the tag family
+			NavigationCache.invalidate(project.getUuid());
 			batch.store(this, true);
 			return true;
 		} else {
@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.NavigationCache;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.HandleElementAction;
 import com.gentics.mesh.core.data.MeshAuthUser;
@@ -130,6 +131,7 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 		if (log.isDebugEnabled()) {
 			log.debug("Deleting tag {" + getName() + "}");
 		}
+		NavigationCache.invalidate(getProject().getUuid());
 		batch.delete(this, true);
 
 		// Nodes which used this tag must be updated in the search index for all releases
@@ -197,6 +199,8 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 				setEditor(ac.getUser());
 				setLastEditedTimestamp();
 				setName(newTagName);
+				// The tag references of the nodes contain the name of the tag
+				NavigationCache.invalidate(getProject().getUuid());
 				batch.store(getTagFamily(), false);
 				batch.store(this, true);
 				return true;
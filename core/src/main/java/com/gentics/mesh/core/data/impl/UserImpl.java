@@ -27,6 +27,7 @@ import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.AuthUserCache;
 import com.gentics.mesh.core.cache.PermissionStore;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.Group;
@@ -100,6 +101,7 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 	@Override
 	public User disable() {
 		setProperty(ENABLED_FLAG_PROPERTY_KEY, false);
+		AuthUserCache.invalidate();
 		return this;
 	}
 
@@ -136,6 +138,7 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 	@Override
 	public User enable() {
 		setProperty(ENABLED_FLAG_PROPERTY_KEY, true);
+		AuthUserCache.invalidate();
 		return this;
 	}
 
@@ -462,6 +465,7 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		batch.delete(this, false);
 		getElement().remove();
 		PermissionStore.invalidate();
+		AuthUserCache.invalidate();
 	}
 
 	/**
@@ -487,6 +491,7 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 				throw conflict(conflictingUser.getUuid(), requestModel.getUsername(), "user_conflicting_username");
 			}
 			setUsername(requestModel.getUsername());
+			AuthUserCache.invalidate();
 			modified = true;
 		}
 
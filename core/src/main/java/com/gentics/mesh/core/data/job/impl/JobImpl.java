@@ -4,10 +4,13 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_CRE
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FROM_VERSION;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_RELEASE;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TO_VERSION;
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.RUNNING;
 import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.STARTING;
 import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.UNKNOWN;
 
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang.NotImplementedException;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -85,6 +88,7 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		response.setNodeName(getNodeName());
 
 		Map<String, String> props = response.getProperties();
+		props.put("priority", String.valueOf(getPriority()));
 		props.put("releaseName", getRelease().getName());
 		props.put("releaseUuid", getRelease().getUuid());
 
@@ -156,6 +160,97 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		setProperty(COMPLETION_COUNT_PROPERTY_KEY, count);
 	}
 
+	@Override
+	public int getPriority() {
+		Integer value = getProperty(PRIORITY_PROPERTY_KEY);
+		return value == null ? DEFAULT_PRIORITY : value;
+	}
+
+	@Override
+	public void setPriority(int priority) {
+		setProperty(PRIORITY_PROPERTY_KEY, priority);
+	}
+
+	@Override
+	public Set<String> getLockNames() {
+		Set<String> names = new HashSet<>();
+		Release release = getRelease();
+		MigrationType type = getType();
+		if (release == null || type == null) {
+			// The job will fail anyway. Just make sure that it is not executed twice.
+			names.add(LOCK_NAME_PREFIX + getUuid());
+			return names;
+		}
+		String projectUuid = release.getProject().getUuid();
+		switch (type) {
+		case schema:
+			SchemaContainerVersion toSchemaVersion = getToSchemaVersion();
+			if (toSchemaVersion != null) {
+				names.add(lockName(projectUuid, release.getUuid(), toSchemaVersion.getSchemaContainer().getUuid()));
+			}
+			break;
+		case microschema:
+			// Micronode migrations create new versions of node containers and thus conflict with all node migrations of the release
+			MicroschemaContainerVersion toMicroschemaVersion = getToMicroschemaVersion();
+			if (toMicroschemaVersion != null) {
+				names.add(lockName(projectUuid, release.getUuid(), toMicroschemaVersion.getSchemaContainer().getUuid()));
+			}
+			addSchemaLockNames(names, projectUuid, release);
+			break;
+		case release:
+			// The release migration reads the containers of the previous release and writes the containers of the new release
+			names.add(lockName(projectUuid, release.getUuid()));
+			addSchemaLockNames(names, projectUuid, release);
+			Release previousRelease = release.getPreviousRelease();
+			if (previousRelease != null) {
+				names.add(lockName(projectUuid, previousRelease.getUuid()));
+				addSchemaLockNames(names, projectUuid, previousRelease);
+			}
+			break;
+		case versionprune:
+		case publish:
+		case unpublish:
+			// Pruning and publishing modify the version chains which are extended by node and micronode migrations of the release
+			names.add(lockName(projectUuid, release.getUuid()));
+			addSchemaLockNames(names, projectUuid, release);
+			break;
+		}
+		if (names.isEmpty()) {
+			names.add(LOCK_NAME_PREFIX + getUuid());
+		}
+		return names;
+	}
+
+	/**
+	 * Add the lock names for all schemas and microschemas which are used in the release.
+	 * 
+	 * @param names
+	 * @param projectUuid
+	 * @param release
+	 */
+	private void addSchemaLockNames(Set<String> names, String projectUuid, Release release) {
+		for (SchemaContainerVersion version : release.findActiveSchemaVersions()) {
+			names.add(lockName(projectUuid, release.getUuid(), version.getSchemaContainer().getUuid()));
+		}
+		for (MicroschemaContainerVersion version : release.findAllMicroschemaVersions()) {
+			names.add(lockName(projectUuid, release.getUuid(), version.getSchemaContainer().getUuid()));
+		}
+	}
+
+	private static String lockName(String... scope) {
+		return LOCK_NAME_PREFIX + String.join(".", scope);
+	}
+
+	@Override
+	public String getCheckpoint() {
+		return getProperty(CHECKPOINT_PROPERTY_KEY);
+	}
+
+	@Override
+	public void setCheckpoint(String checkpoint) {
+		setProperty(CHECKPOINT_PROPERTY_KEY, checkpoint);
+	}
+
 	@Override
 	public Release getRelease() {
 		return out(HAS_RELEASE).nextOrDefaultExplicit(ReleaseImpl.class, null);
@@ -283,7 +378,15 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 	public void process() {
 		log.info("Processing job {" + getUuid() + "}");
 		DB.get().tx(() -> {
-			setStartTimestamp();
+			MigrationStatus previousStatus = getStatus();
+			// The job was interrupted (e.g. by a restart) and will resume from the last persisted checkpoint
+			if (previousStatus == STARTING || previousStatus == RUNNING) {
+				log.info("Resuming job {" + getUuid() + "} from checkpoint {" + getCheckpoint() + "} with {" + getCompletionCount()
+						+ "} completed elements");
+			}
+			if (getStartTimestamp() == null) {
+				setStartTimestamp();
+			}
 			setStatus(STARTING);
 			setNodeName();
 		});
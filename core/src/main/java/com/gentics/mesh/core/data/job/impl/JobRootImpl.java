@@ -2,14 +2,13 @@ package com.gentics.mesh.core.data.job.impl;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_JOB;
-import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.COMPLETED;
-import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.FAILED;
 import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.QUEUED;
-import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.UNKNOWN;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Stack;
@@ -23,13 +22,13 @@ import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.job.JobRoot;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.core.data.root.impl.AbstractRootVertex;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
-import com.gentics.mesh.core.rest.admin.migration.MigrationStatus;
 import com.gentics.mesh.core.rest.admin.migration.MigrationType;
 import com.gentics.mesh.dagger.DB;
 import com.gentics.mesh.graphdb.spi.Database;
@@ -104,6 +103,7 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		job.setStatus(QUEUED);
 		job.setFromSchemaVersion(fromVersion);
 		job.setToSchemaVersion(toVersion);
+		job.setPriority(Job.DEFAULT_PRIORITY);
 		job.prepare();
 		addItem(job);
 		if (log.isDebugEnabled()) {
@@ -122,6 +122,7 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		job.setStatus(QUEUED);
 		job.setFromMicroschemaVersion(fromVersion);
 		job.setToMicroschemaVersion(toVersion);
+		job.setPriority(Job.DEFAULT_PRIORITY);
 		job.prepare();
 		addItem(job);
 		if (log.isDebugEnabled()) {
@@ -140,6 +141,7 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		job.setStatus(QUEUED);
 		job.setFromSchemaVersion(fromVersion);
 		job.setToSchemaVersion(toVersion);
+		job.setPriority(Job.RELEASE_MIGRATION_PRIORITY);
 		job.prepare();
 		addItem(job);
 		if (log.isDebugEnabled()) {
@@ -155,6 +157,7 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		job.setType(MigrationType.release);
 		job.setStatus(QUEUED);
 		job.setRelease(release);
+		job.setPriority(Job.RELEASE_MIGRATION_PRIORITY);
 		job.prepare();
 		addItem(job);
 		if (log.isDebugEnabled()) {
@@ -163,6 +166,40 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return job;
 	}
 
+	@Override
+	public Job enqueueVersionPrune(User creator, Release release) {
+		Job job = getGraph().addFramedVertex(VersionPruneJobImpl.class);
+		job.setCreated(creator);
+		job.setType(MigrationType.versionprune);
+		job.setStatus(QUEUED);
+		job.setRelease(release);
+		job.setPriority(Job.DEFAULT_PRIORITY);
+		job.prepare();
+		addItem(job);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued version prune job {" + job.getUuid() + "} for release {" + release.getUuid() + "}");
+		}
+		return job;
+	}
+
+	@Override
+	public Job enqueueSubtreePublish(User creator, Release release, Node node, boolean publish) {
+		SubtreePublishJobImpl job = getGraph().addFramedVertex(SubtreePublishJobImpl.class);
+		job.setCreated(creator);
+		job.setType(publish ? MigrationType.publish : MigrationType.unpublish);
+		job.setStatus(QUEUED);
+		job.setRelease(release);
+		job.setNodeUuid(node.getUuid());
+		job.setPriority(Job.DEFAULT_PRIORITY);
+		job.prepare();
+		addItem(job);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued subtree " + job.getType() + " job {" + job.getUuid() + "} for node {" + node.getUuid() + "} in release {" + release
+					.getUuid() + "}");
+		}
+		return job;
+	}
+
 	@Override
 	public MeshVertex resolveToElement(Stack<String> stack) {
 		throw error(BAD_REQUEST, "Jobs are not accessible");
@@ -203,23 +240,39 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 
 	@Override
 	public void process() {
-		Iterable<? extends Job> it = findAllIt();
-		for (Job job : it) {
-			try {
-				// Don't execute failed or completed jobs again
-				MigrationStatus jobStatus = job.getStatus();
-				if (job.hasFailed() || (jobStatus == COMPLETED || jobStatus == FAILED || jobStatus == UNKNOWN)) {
-					continue;
-				}
-				try (Tx tx = DB.get().tx()) {
-					job.process();
-					tx.success();
-				}
-			} catch (Exception e) {
-				job.markAsFailed(e);
-				log.error("Error while processing job {" + job.getUuid() + "}");
+		for (Job job : findPendingJobs()) {
+			process(job);
+		}
+	}
+
+	@Override
+	public void process(Job job) {
+		try {
+			// Don't execute failed or completed jobs again
+			if (!job.isPending()) {
+				return;
+			}
+			try (Tx tx = DB.get().tx()) {
+				job.process();
+				tx.success();
+			}
+		} catch (Exception e) {
+			job.markAsFailed(e);
+			log.error("Error while processing job {" + job.getUuid() + "}");
+		}
+	}
+
+	@Override
+	public List<? extends Job> findPendingJobs() {
+		List<Job> jobs = new ArrayList<>();
+		for (Job job : findAllIt()) {
+			if (job.isPending()) {
+				jobs.add(job);
 			}
 		}
+		Comparator<Job> byPriority = Comparator.comparingInt(Job::getPriority);
+		jobs.sort(byPriority.reversed().thenComparing(Job::getCreationTimestamp, Comparator.nullsLast(Comparator.naturalOrder())));
+		return jobs;
 	}
 
 	@Override
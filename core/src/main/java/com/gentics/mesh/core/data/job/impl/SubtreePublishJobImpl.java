@@ -0,0 +1,306 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.Release;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.root.NodeRoot;
+import com.gentics.mesh.core.data.search.SearchQueueBatch;
+import com.gentics.mesh.core.rest.admin.migration.MigrationType;
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.verticle.migration.MigrationStatusHandler;
+import com.gentics.mesh.core.verticle.migration.impl.MigrationStatusHandlerImpl;
+import com.gentics.mesh.dagger.DB;
+import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.graphdb.spi.Database;
+
+import io.reactivex.exceptions.CompositeException;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Job which publishes or takes offline a node and all its descendants in a release. The subtree is handled level by level in chunks of
+ * {@link com.gentics.mesh.etc.config.MigrationOptions#getTxBatchSize()} nodes. Each chunk is handled in a dedicated transaction and the search index is
+ * updated once per chunk. Publishing starts at the root node so that parent nodes are always published before their children. Taking the subtree offline
+ * starts at the deepest level for the same reason.
+ */
+public class SubtreePublishJobImpl extends JobImpl {
+
+	private static final Logger log = LoggerFactory.getLogger(SubtreePublishJobImpl.class);
+
+	public static final String NODE_UUID_PROPERTY_KEY = "nodeUuid";
+
+	public static void init(Database database) {
+		database.addVertexType(SubtreePublishJobImpl.class, MeshVertexImpl.class);
+	}
+
+	/**
+	 * Return the uuid of the root node of the subtree.
+	 *
+	 * @return
+	 */
+	public String getNodeUuid() {
+		return getProperty(NODE_UUID_PROPERTY_KEY);
+	}
+
+	/**
+	 * Set the uuid of the root node of the subtree.
+	 *
+	 * @param uuid
+	 */
+	public void setNodeUuid(String uuid) {
+		setProperty(NODE_UUID_PROPERTY_KEY, uuid);
+	}
+
+	@Override
+	public JobResponse transformToRestSync(InternalActionContext ac, int level, String... languageTags) {
+		JobResponse response = super.transformToRestSync(ac, level, languageTags);
+		response.getProperties().put("nodeUuid", getNodeUuid());
+		return response;
+	}
+
+	@Override
+	public void prepare() {
+		// No preparation needed
+	}
+
+	@Override
+	protected void processTask() {
+		MigrationType type = getType();
+		MigrationStatusHandler status = new MigrationStatusHandlerImpl(this, Mesh.vertx(), type);
+		Database db = DB.get();
+		try {
+			Release release = db.tx(() -> {
+				Release r = getRelease();
+				if (r == null) {
+					throw error(BAD_REQUEST, "Release for job {" + getUuid() + "} cannot be found.");
+				}
+				if (r.getProject().getNodeRoot().findByUuid(getNodeUuid()) == null) {
+					throw error(BAD_REQUEST, "Node {" + getNodeUuid() + "} for job {" + getUuid() + "} cannot be found.");
+				}
+				status.commit();
+				return r;
+			});
+
+			// Each chunk and each status update is handled in a dedicated short transaction
+			List<Exception> errors = new ArrayList<>();
+			if (type == MigrationType.publish) {
+				publish(release, status, errors);
+			} else {
+				takeOffline(release, status, errors);
+			}
+			if (!errors.isEmpty()) {
+				throw new CompositeException(errors);
+			}
+			db.tx(() -> {
+				status.done();
+			});
+		} catch (Exception e) {
+			db.tx(() -> {
+				status.error(e, "Error while handling the subtree of node {" + getNodeUuid() + "}.");
+			});
+			throw e;
+		}
+	}
+
+	/**
+	 * Publish the subtree level by level. The subtrees of nodes which could not be published (e.g. due to webroot conflicts) will be skipped.
+	 *
+	 * @param release
+	 * @param status
+	 * @param errors
+	 *            List which collects the errors of the nodes which could not be published
+	 */
+	private void publish(Release release, MigrationStatusHandler status, List<Exception> errors) {
+		Database db = DB.get();
+		String releaseUuid = db.tx(() -> release.getUuid());
+		NodeRoot nodeRoot = db.tx(() -> release.getProject().getNodeRoot());
+		User user = db.tx(() -> getCreator());
+		String rootUuid = getNodeUuidTx();
+		db.tx(() -> {
+			Node parent = nodeRoot.findByUuid(rootUuid).getParentNode(releaseUuid);
+			if (parent != null && !parent.getUuid().equals(release.getProject().getBaseNode().getUuid())
+					&& parent.getGraphFieldContainers(releaseUuid, PUBLISHED).isEmpty()) {
+				throw error(BAD_REQUEST, "node_error_parent_containers_not_published", parent.getUuid());
+			}
+		});
+
+		List<String> level = Collections.singletonList(rootUuid);
+		while (!level.isEmpty()) {
+			Set<String> published = processLevel(level, nodeRoot, status, errors, (node, batch) -> node.publishDrafts(release, user, batch));
+			List<String> publishedLevel = new ArrayList<>(published);
+			level = db.tx(() -> getChildren(publishedLevel, nodeRoot, releaseUuid, null));
+		}
+	}
+
+	/**
+	 * Take the subtree offline. The levels of the subtree are handled in reverse order so that the child nodes are always taken offline before their
+	 * parent. The ancestors of nodes which could not be taken offline will be skipped so that no published node ends up below an offline parent.
+	 *
+	 * @param release
+	 * @param status
+	 * @param errors
+	 *            List which collects the errors of the nodes which could not be taken offline
+	 */
+	private void takeOffline(Release release, MigrationStatusHandler status, List<Exception> errors) {
+		Database db = DB.get();
+		String releaseUuid = db.tx(() -> release.getUuid());
+		NodeRoot nodeRoot = db.tx(() -> release.getProject().getNodeRoot());
+		Map<String, String> parents = new HashMap<>();
+		List<List<String>> levels = new ArrayList<>();
+		List<String> level = Collections.singletonList(getNodeUuidTx());
+		while (!level.isEmpty()) {
+			levels.add(level);
+			List<String> currentLevel = level;
+			level = db.tx(() -> getChildren(currentLevel, nodeRoot, releaseUuid, parents));
+		}
+
+		Set<String> blocked = new HashSet<>();
+		for (int i = levels.size() - 1; i >= 0; i--) {
+			List<String> candidates = new ArrayList<>();
+			for (String uuid : levels.get(i)) {
+				if (blocked.contains(uuid)) {
+					log.warn("Skipping node {" + uuid + "} since a descendant could not be taken offline.");
+					status.incCompleted();
+				} else {
+					candidates.add(uuid);
+				}
+			}
+			Set<String> handled = processLevel(candidates, nodeRoot, status, errors, (n, batch) -> n.takeOffline(release, batch));
+			for (String uuid : levels.get(i)) {
+				// Skipped nodes also block their parent
+				String parentUuid = parents.get(uuid);
+				if (!handled.contains(uuid) && parentUuid != null) {
+					blocked.add(parentUuid);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Load the uuid of the root node of the subtree within a transaction.
+	 *
+	 * @return
+	 */
+	private String getNodeUuidTx() {
+		return DB.get().tx(() -> getNodeUuid());
+	}
+
+	/**
+	 * Return the uuids of the children of the given nodes in the release.
+	 *
+	 * @param uuids
+	 * @param nodeRoot
+	 * @param releaseUuid
+	 * @param parents
+	 *            Map to which the parent uuid of each child will be added or null
+	 * @return
+	 */
+	private List<String> getChildren(List<String> uuids, NodeRoot nodeRoot, String releaseUuid, Map<String, String> parents) {
+		List<String> children = new ArrayList<>();
+		for (String uuid : uuids) {
+			for (Node child : nodeRoot.findByUuid(uuid).getChildren(releaseUuid)) {
+				children.add(child.getUuid());
+				if (parents != null) {
+					parents.put(child.getUuid(), uuid);
+				}
+			}
+		}
+		return children;
+	}
+
+	/**
+	 * Apply the action to the nodes of the level in chunks.
+	 *
+	 * @param level
+	 *            Uuids of the nodes
+	 * @param nodeRoot
+	 * @param status
+	 * @param errors
+	 * @param action
+	 * @return Uuids of the nodes which have been handled successfully, in the order of the level
+	 */
+	private Set<String> processLevel(List<String> level, NodeRoot nodeRoot, MigrationStatusHandler status, List<Exception> errors,
+			BiConsumer<Node, SearchQueueBatch> action) {
+		int batchSize = Mesh.mesh().getOptions().getMigrationOptions().getTxBatchSize();
+		Set<String> handled = new LinkedHashSet<>();
+		for (int i = 0; i < level.size(); i += batchSize) {
+			List<String> chunk = level.subList(i, Math.min(level.size(), i + batchSize));
+			processChunk(chunk, nodeRoot, status, errors, action, handled);
+			DB.get().tx(() -> {
+				status.commit();
+			});
+		}
+		return handled;
+	}
+
+	/**
+	 * Apply the action to the nodes of the chunk within a single transaction. If the transaction fails the nodes will be handled one by one so that a single
+	 * conflicting node does not prevent the other nodes of the chunk from being handled. The chunk counts as handled once the transaction has been
+	 * committed. A failure while updating the search index afterwards will only be recorded since applying the action again would not fix the index.
+	 *
+	 * @param chunk
+	 * @param nodeRoot
+	 * @param status
+	 * @param errors
+	 * @param action
+	 * @param handled
+	 *            Set to which the uuids of the successfully handled nodes will be added
+	 */
+	private void processChunk(List<String> chunk, NodeRoot nodeRoot, MigrationStatusHandler status, List<Exception> errors,
+			BiConsumer<Node, SearchQueueBatch> action, Set<String> handled) {
+		SearchQueueBatch batch;
+		try {
+			batch = DB.get().tx(() -> {
+				SearchQueueBatch sqb = MeshInternal.get().searchQueue().create();
+				for (String uuid : chunk) {
+					Node node = nodeRoot.findByUuid(uuid);
+					if (node != null) {
+						action.accept(node, sqb);
+					}
+				}
+				return sqb;
+			});
+		} catch (Exception e) {
+			if (chunk.size() == 1) {
+				log.error("Error while handling node {" + chunk.get(0) + "} of the subtree.", e);
+				errors.add(e);
+				status.incCompleted();
+			} else {
+				log.warn("Handling of chunk with {" + chunk.size() + "} nodes failed. Handling the nodes one by one.", e);
+				for (String uuid : chunk) {
+					processChunk(Collections.singletonList(uuid), nodeRoot, status, errors, action, handled);
+				}
+			}
+			return;
+		}
+
+		handled.addAll(chunk);
+		chunk.forEach(uuid -> status.incCompleted());
+
+		try {
+			batch.processSync();
+		} catch (Exception e) {
+			log.error("Error while updating the search index for nodes " + chunk + " of the subtree. The changes have been applied but the index needs to be "
+					+ "synced.", e);
+			errors.add(e);
+		}
+	}
+
+}
@@ -0,0 +1,159 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import static com.gentics.mesh.core.data.ContainerType.DRAFT;
+import static com.gentics.mesh.core.data.ContainerType.INITIAL;
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.Release;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.admin.migration.MigrationType;
+import com.gentics.mesh.core.verticle.migration.MigrationStatusHandler;
+import com.gentics.mesh.core.verticle.migration.impl.MigrationStatusHandlerImpl;
+import com.gentics.mesh.dagger.DB;
+import com.gentics.mesh.etc.config.VersionRetentionOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.google.common.collect.Lists;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Job which removes old versions of the node contents of a release according to the {@link VersionRetentionOptions}. Only the version history of the
+ * release is pruned. The history which precedes the initial version of the release belongs to the previous release.
+ */
+public class VersionPruneJobImpl extends JobImpl {
+
+	private static final Logger log = LoggerFactory.getLogger(VersionPruneJobImpl.class);
+
+	public static void init(Database database) {
+		database.addVertexType(VersionPruneJobImpl.class, MeshVertexImpl.class);
+	}
+
+	@Override
+	public void prepare() {
+		// No preparation needed
+	}
+
+	@Override
+	protected void processTask() {
+		MigrationStatusHandler status = new MigrationStatusHandlerImpl(this, Mesh.vertx(), MigrationType.versionprune);
+		Database db = DB.get();
+		try {
+			VersionRetentionOptions options = Mesh.mesh().getOptions().getVersionRetentionOptions();
+			int batchSize = Mesh.mesh().getOptions().getMigrationOptions().getTxBatchSize();
+			long keepSince = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(options.getKeepDays());
+
+			List<String> nodeUuids = db.tx(() -> {
+				Release release = getRelease();
+				if (release == null) {
+					throw error(BAD_REQUEST, "Release for job {" + getUuid() + "} cannot be found.");
+				}
+				status.commit();
+				List<String> uuids = new ArrayList<>();
+				if (options.getKeepVersions() > 0) {
+					for (Node node : release.getProject().getNodeRoot().findAllIt()) {
+						uuids.add(node.getUuid());
+					}
+				}
+				return uuids;
+			});
+
+			// Each batch is committed on its own. Data of removed binaries will only be deleted once the batch has been committed.
+			long purged = 0;
+			for (List<String> batch : Lists.partition(nodeUuids, batchSize)) {
+				purged += db.tx(() -> {
+					Release release = getRelease();
+					long batchPurged = 0;
+					for (String nodeUuid : batch) {
+						Node node = release.getProject().getNodeRoot().findByUuid(nodeUuid);
+						if (node != null) {
+							batchPurged += pruneVersions(node, release.getUuid(), options, keepSince);
+						}
+					}
+					return batchPurged;
+				});
+				for (int i = 0; i < batch.size(); i++) {
+					status.incCompleted();
+				}
+				db.tx(() -> {
+					status.commit();
+				});
+			}
+
+			log.info("Removed {" + purged + "} versions for job {" + getUuid() + "}");
+			db.tx(() -> {
+				status.done();
+			});
+		} catch (Exception e) {
+			db.tx(() -> {
+				status.error(e, "Error while pruning versions.");
+			});
+			throw e;
+		}
+	}
+
+	/**
+	 * Remove the old versions of all languages of the node in the given release.
+	 *
+	 * @param node
+	 * @param releaseUuid
+	 * @param options
+	 * @param keepSince
+	 *            Versions which have been edited after this timestamp will be kept
+	 * @return Amount of removed versions
+	 */
+	private long pruneVersions(Node node, String releaseUuid, VersionRetentionOptions options, long keepSince) {
+		long purged = 0;
+		for (NodeGraphFieldContainer draft : node.getGraphFieldContainers(releaseUuid, DRAFT)) {
+			NodeGraphFieldContainer initial = node.getGraphFieldContainer(draft.getLanguage().getLanguageTag(), releaseUuid, INITIAL);
+			String initialUuid = initial == null ? null : initial.getUuid();
+
+			// The draft is the most recent version
+			int position = 1;
+			NodeGraphFieldContainer container = draft;
+			while (!container.getUuid().equals(initialUuid)) {
+				container = container.getPreviousVersion();
+				if (container == null) {
+					break;
+				}
+				position++;
+				if (position > options.getKeepVersions() && isPrunable(container, options, keepSince)) {
+					NodeGraphFieldContainer next = container.getNextVersion();
+					container.purge();
+					purged++;
+					container = next;
+				}
+			}
+		}
+		return purged;
+	}
+
+	/**
+	 * Check whether the given version can be removed.
+	 *
+	 * @param container
+	 * @param options
+	 * @param keepSince
+	 * @return
+	 */
+	private boolean isPrunable(NodeGraphFieldContainer container, VersionRetentionOptions options, long keepSince) {
+		// Versions which are used by a release must never be removed
+		if (!container.getReleaseTypes().isEmpty()) {
+			return false;
+		}
+		if (options.isKeepPublished() && container.getVersion().getMinor() == 0) {
+			return false;
+		}
+		Long edited = container.getLastEditedTimestamp();
+		return edited == null || edited < keepSince;
+	}
+
+}
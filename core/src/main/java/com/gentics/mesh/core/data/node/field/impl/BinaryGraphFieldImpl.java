@@ -183,9 +183,9 @@ public class BinaryGraphFieldImpl extends MeshEdgeImpl implements BinaryGraphFie
 	public void removeField(GraphFieldContainer container) {
 		Binary binary = getBinary();
 		remove();
-		// Only get rid of the binary as well if no other fields are using the binary.
+		// Only get rid of the binary and its data as well if no other fields are using the binary.
 		if (!binary.findFields().iterator().hasNext()) {
-			binary.remove();
+			binary.delete(null);
 		}
 	}
 
@@ -97,6 +97,13 @@ public class MicronodeGraphFieldImpl extends MeshEdgeImpl implements MicronodeGr
 			throw error(BAD_REQUEST, "node_error_invalid_microschema_field_value", fieldKey, microschemaContainerVersion.getName());
 		}
 
+		// Rest model equals the stored micronode - Keep the micronode
+		if (micronodeGraphField != null
+				&& microschemaContainerVersion.getUuid().equals(micronodeGraphField.getMicronode().getSchemaContainerVersion().getUuid())
+				&& micronodeGraphField.equals(micronodeRestField)) {
+			return;
+		}
+
 		// Always create a new micronode field since each update must create a new field instance. The old field must be detached from the given container.
 		micronodeGraphField = container.createMicronode(fieldKey, microschemaContainerVersion);
 		micronode = micronodeGraphField.getMicronode();
@@ -196,7 +203,7 @@ public class MicronodeGraphFieldImpl extends MeshEdgeImpl implements MicronodeGr
 			Micronode micronodeA = getMicronode();
 			MicronodeField micronodeB = ((MicronodeField) field);
 			// Load each field using the field schema
-			Microschema schema = micronodeA.getSchemaContainerVersion().getSchema();
+			Microschema schema = micronodeA.getSchemaContainerVersion().getSchemaReadOnly();
 			for (FieldSchema fieldSchema : schema.getFields()) {
 				GraphField graphField = micronodeA.getField(fieldSchema);
 				try {
@@ -241,7 +248,7 @@ public class MicronodeGraphFieldImpl extends MeshEdgeImpl implements MicronodeGr
 			MicronodeField micronodeB = ((MicronodeField) obj);
 
 			// Load each field using the field schema
-			Microschema schema = micronodeA.getSchemaContainerVersion().getSchema();
+			Microschema schema = micronodeA.getSchemaContainerVersion().getSchemaReadOnly();
 			for (FieldSchema fieldSchema : schema.getFields()) {
 				GraphField graphField = micronodeA.getField(fieldSchema);
 				try {
@@ -3,8 +3,9 @@ package com.gentics.mesh.core.data.node.field.list;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_LIST;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Function;
 
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.node.field.GraphField;
@@ -13,8 +14,9 @@ import com.gentics.mesh.core.rest.node.field.Field;
 import com.gentics.mesh.util.CompareUtils;
 
 /**
- * Abstract class for basic graph field lists. Basic graph field lists are stored within dedicated vertices. The values of such lists are stored as properties
- * within the vertex that represents the list.
+ * Abstract class for basic graph field lists. Basic graph field lists are stored within dedicated vertices. The values of such lists are stored as a single
+ * native list property within the vertex that represents the list. The item fields which are returned by the list access their values by index via the
+ * {@code item-<index>-<type>} keys which are mapped to the native list property.
  *
  * @param <T>
  *            Field type that represents a list item
@@ -25,6 +27,10 @@ import com.gentics.mesh.util.CompareUtils;
  */
 public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField, RM extends Field, U> extends AbstractGraphFieldList<T, RM, U> {
 
+	public static final String ITEMS_PROPERTY_KEY = "items";
+
+	private static final String ITEM_PREFIX = "item-";
+
 	/**
 	 * Create a new field wrapper which is used to handle the field value.
 	 * 
@@ -33,9 +39,31 @@ public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField,
 	 */
 	protected abstract T createField(String key);
 
-	protected T convertBasicValue(String itemKey) {
-		String key = itemKey.substring(0, itemKey.lastIndexOf("-"));
-		return createField(key);
+	/**
+	 * Return the property key suffix which is used by the item fields to store their value (e.g. string, number).
+	 * 
+	 * @return
+	 */
+	protected abstract String getItemType();
+
+	/**
+	 * Convert the value which was set by an item field to the value which will be stored in the native list.
+	 * 
+	 * @param fieldValue
+	 * @return
+	 */
+	protected Object toItemValue(Object fieldValue) {
+		return fieldValue;
+	}
+
+	/**
+	 * Convert the value which is stored in the native list to the value which is expected by the item fields.
+	 * 
+	 * @param itemValue
+	 * @return
+	 */
+	protected Object toFieldValue(Object itemValue) {
+		return itemValue;
 	}
 
 	/**
@@ -45,40 +73,126 @@ public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField,
 	 * @return
 	 */
 	protected T getField(int index) {
-		return createField("item-" + index);
+		return createField(ITEM_PREFIX + index);
 	}
 
 	protected T createField() {
-		return createField("item-" + (getSize() + 1));
+		return createField(ITEM_PREFIX + (getSize() + 1));
+	}
+
+	/**
+	 * Return the values which are stored in the native list property.
+	 * 
+	 * @return
+	 */
+	protected List<Object> getItems() {
+		List<Object> items = super.getProperty(ITEMS_PROPERTY_KEY);
+		return items == null ? Collections.emptyList() : items;
+	}
+
+	/**
+	 * Return the stored values mapped to the value type of the list.
+	 * 
+	 * @param mapper
+	 * @return
+	 */
+	protected <V> List<V> getItems(Function<Object, V> mapper) {
+		List<Object> items = getItems();
+		List<V> values = new ArrayList<>(items.size());
+		for (Object item : items) {
+			values.add(mapper.apply(item));
+		}
+		return values;
+	}
+
+	/**
+	 * Replace the values of the list. The values are written with a single property update. Adding the values one by one via item fields would copy the
+	 * native list for each item.
+	 * 
+	 * @param values
+	 */
+	public void setItems(List<U> values) {
+		super.setProperty(ITEMS_PROPERTY_KEY, new ArrayList<Object>(values));
 	}
 
 	@Override
 	public long getSize() {
-		return getProperties("item").size();
+		return getItems().size();
 	}
 
 	@Override
 	public void removeAll() {
-		for (String key : getProperties("item-").keySet()) {
-			setProperty(key, null);
-		}
+		super.setProperty(ITEMS_PROPERTY_KEY, null);
 	}
 
 	@Override
 	public List<? extends T> getList() {
-		Map<String, String> map = getProperties("item");
-		List<T> list = new ArrayList<>();
-		// TODO sorting is not very efficient, because the keys are transformed to their order too often
-		map.keySet().stream().sorted((key1, key2) -> {
-			int index1 = Integer.parseInt(key1.substring("item-".length(), key1.lastIndexOf("-")));
-			int index2 = Integer.parseInt(key2.substring("item-".length(), key2.lastIndexOf("-")));
-			return index1 - index2;
-		}).forEachOrdered(itemKey -> {
-			list.add(convertBasicValue(itemKey));
-		});
+		int size = getItems().size();
+		List<T> list = new ArrayList<>(size);
+		for (int i = 1; i <= size; i++) {
+			list.add(getField(i));
+		}
 		return list;
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public <E> E getProperty(String name) {
+		int index = getItemIndex(name);
+		if (index < 0) {
+			return super.getProperty(name);
+		}
+		List<Object> items = getItems();
+		return index < items.size() ? (E) toFieldValue(items.get(index)) : null;
+	}
+
+	@Override
+	public void setProperty(String name, Object value) {
+		int index = getItemIndex(name);
+		if (index < 0) {
+			super.setProperty(name, value);
+			return;
+		}
+		List<Object> items = new ArrayList<>(getItems());
+		if (value == null) {
+			if (index >= items.size()) {
+				return;
+			}
+			// Keep the positions of the following items. Only trailing empty positions are removed.
+			items.set(index, null);
+			while (!items.isEmpty() && items.get(items.size() - 1) == null) {
+				items.remove(items.size() - 1);
+			}
+		} else {
+			while (items.size() <= index) {
+				items.add(null);
+			}
+			items.set(index, toItemValue(value));
+		}
+		super.setProperty(ITEMS_PROPERTY_KEY, items);
+	}
+
+	/**
+	 * Return the zero based index of the item which is addressed by the given item field property key (e.g. item-1-string).
+	 * 
+	 * @param name
+	 * @return Index or -1 if the key does not address an item value
+	 */
+	private int getItemIndex(String name) {
+		if (name == null || !name.startsWith(ITEM_PREFIX)) {
+			return -1;
+		}
+		int separator = name.indexOf('-', ITEM_PREFIX.length());
+		if (separator < 0 || !getItemType().equals(name.substring(separator + 1))) {
+			return -1;
+		}
+		try {
+			return Integer.parseInt(name.substring(ITEM_PREFIX.length(), separator)) - 1;
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
 	@Override
 	public void removeField(GraphFieldContainer container) {
 		container.unlinkOut(this, HAS_LIST);
@@ -4,7 +4,6 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
@@ -60,20 +59,23 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 			return;
 		}
 
+		// Rest model equals the stored list - Keep the list
+		if (graphBooleanFieldList != null && graphBooleanFieldList.equals(booleanList)) {
+			return;
+		}
+
 		// Always create a new list.
 		// This will effectively unlink the old list and create a new one.
 		// Otherwise the list which is linked to old versions would be updated.
 		graphBooleanFieldList = container.createBooleanList(fieldKey);
 
 		// Handle Update
-		// Remove all and add the listed items
-		graphBooleanFieldList.removeAll();
 		for (Boolean item : booleanList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphBooleanFieldList.createBoolean(item);
 		}
+		graphBooleanFieldList.setItems(booleanList.getItems());
 
 	};
 
@@ -102,6 +104,22 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 		return new BooleanGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected String getItemType() {
+		return "boolean";
+	}
+
+	@Override
+	protected Object toItemValue(Object fieldValue) {
+		// The item fields store their value as string
+		return Boolean.valueOf(fieldValue.toString());
+	}
+
+	@Override
+	protected Object toFieldValue(Object itemValue) {
+		return itemValue == null ? null : String.valueOf(itemValue);
+	}
+
 	@Override
 	public Class<? extends BooleanGraphField> getListType() {
 		return BooleanGraphFieldImpl.class;
@@ -115,15 +133,13 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 	@Override
 	public BooleanFieldListImpl transformToRest(InternalActionContext ac, String fieldKey, List<String> languageTags, int level) {
 		BooleanFieldListImpl restModel = new BooleanFieldListImpl();
-		for (BooleanGraphField item : getList()) {
-			restModel.add(item.getBoolean());
-		}
+		restModel.setItems(getValues());
 		return restModel;
 	}
 
 	@Override
 	public List<Boolean> getValues() {
-		return getList().stream().map(BooleanGraphField::getBoolean).collect(Collectors.toList());
+		return getItems(Boolean.class::cast);
 	}
 
 	@Override
@@ -131,9 +147,7 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 		if (obj instanceof BooleanFieldListImpl) {
 			BooleanFieldListImpl restField = (BooleanFieldListImpl) obj;
 			List<Boolean> restList = restField.getItems();
-			List<? extends BooleanGraphField> graphList = getList();
-			List<Boolean> graphStringList = graphList.stream().map(e -> e.getBoolean()).collect(Collectors.toList());
-			return CompareUtils.equals(restList, graphStringList);
+			return CompareUtils.equals(restList, getValues());
 		}
 		return super.equals(obj);
 	}
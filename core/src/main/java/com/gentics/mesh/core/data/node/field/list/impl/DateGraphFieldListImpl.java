@@ -5,6 +5,7 @@ import static com.gentics.mesh.util.DateUtils.fromISO8601;
 import static com.gentics.mesh.util.DateUtils.toISO8601;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -61,19 +62,25 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 			return;
 		}
 
+		// Rest model equals the stored list - Keep the list
+		if (graphDateFieldList != null && graphDateFieldList.equals(dateList)) {
+			return;
+		}
+
 		// Always create a new list.
 		// This will effectively unlink the old list and create a new one.
 		// Otherwise the list which is linked to old versions would be updated.
 		graphDateFieldList = container.createDateList(fieldKey);
 
 		// Handle Update
-		graphDateFieldList.removeAll();
+		List<Long> dates = new ArrayList<>(dateList.getItems().size());
 		for (String item : dateList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphDateFieldList.createDate(fromISO8601(item));
+			dates.add(fromISO8601(item));
 		}
+		graphDateFieldList.setItems(dates);
 
 	};
 
@@ -102,6 +109,22 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 		return getField(index);
 	}
 
+	@Override
+	protected String getItemType() {
+		return "date";
+	}
+
+	@Override
+	protected Object toItemValue(Object fieldValue) {
+		// The item fields store their value as string
+		return Long.valueOf(fieldValue.toString());
+	}
+
+	@Override
+	protected Object toFieldValue(Object itemValue) {
+		return itemValue == null ? null : String.valueOf(itemValue);
+	}
+
 	@Override
 	public Class<? extends DateGraphField> getListType() {
 		return DateGraphFieldImpl.class;
@@ -115,15 +138,15 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 	@Override
 	public DateFieldListImpl transformToRest(InternalActionContext ac, String fieldKey, List<String> languageTags, int level) {
 		DateFieldListImpl restModel = new DateFieldListImpl();
-		for (DateGraphField item : getList()) {
-			restModel.add(toISO8601(item.getDate()));
+		for (Long date : getValues()) {
+			restModel.add(toISO8601(date));
 		}
 		return restModel;
 	}
 
 	@Override
 	public List<Long> getValues() {
-		return getList().stream().map(DateGraphField::getDate).collect(Collectors.toList());
+		return getItems(item -> item == null ? null : ((Number) item).longValue());
 	}
 
 	@Override
@@ -131,8 +154,7 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 		if (obj instanceof DateFieldListImpl) {
 			DateFieldListImpl restField = (DateFieldListImpl) obj;
 			List<String> restList = restField.getItems();
-			List<? extends DateGraphField> graphList = getList();
-			List<String> graphStringList = graphList.stream().map(e -> toISO8601(e.getDate())).collect(Collectors.toList());
+			List<String> graphStringList = getValues().stream().map(date -> toISO8601(date)).collect(Collectors.toList());
 			return CompareUtils.equals(restList, graphStringList);
 		}
 		return super.equals(obj);
@@ -4,7 +4,6 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
@@ -59,6 +58,11 @@ public class HtmlGraphFieldListImpl extends AbstractBasicGraphFieldList<HtmlGrap
 			return;
 		}
 
+		// Rest model equals the stored list - Keep the list
+		if (graphHtmlFieldList != null && graphHtmlFieldList.equals(htmlList)) {
+			return;
+		}
+
 		// Always create a new list.
 		// This will effectively unlink the old list and create a new one.
 		// Otherwise the list which is linked to old versions would be updated.
@@ -69,8 +73,8 @@ public class HtmlGraphFieldListImpl extends AbstractBasicGraphFieldList<HtmlGrap
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphHtmlFieldList.createHTML(item);
 		}
+		graphHtmlFieldList.setItems(htmlList.getItems());
 	};
 
 	public static FieldGetter HTML_LIST_GETTER = (container, fieldSchema) -> {
@@ -98,6 +102,11 @@ public class HtmlGraphFieldListImpl extends AbstractBasicGraphFieldList<HtmlGrap
 		return getField(index);
 	}
 
+	@Override
+	protected String getItemType() {
+		return "html";
+	}
+
 	@Override
 	public Class<? extends HtmlGraphField> getListType() {
 		return HtmlGraphFieldImpl.class;
@@ -111,15 +120,13 @@ public class HtmlGraphFieldListImpl extends AbstractBasicGraphFieldList<HtmlGrap
 	@Override
 	public HtmlFieldListImpl transformToRest(InternalActionContext ac, String fieldKey, List<String> languageTags, int level) {
 		HtmlFieldListImpl restModel = new HtmlFieldListImpl();
-		for (HtmlGraphField item : getList()) {
-			restModel.add(item.getHTML());
-		}
+		restModel.setItems(getValues());
 		return restModel;
 	}
 
 	@Override
 	public List<String> getValues() {
-		return getList().stream().map(HtmlGraphField::getHTML).collect(Collectors.toList());
+		return getItems(String.class::cast);
 	}
 
 	@Override
@@ -127,9 +134,7 @@ public class HtmlGraphFieldListImpl extends AbstractBasicGraphFieldList<HtmlGrap
 		if (obj instanceof HtmlFieldListImpl) {
 			HtmlFieldListImpl restField = (HtmlFieldListImpl) obj;
 			List<String> restList = restField.getItems();
-			List<? extends HtmlGraphField> graphList = getList();
-			List<String> graphStringList = graphList.stream().map(e -> e.getHTML()).collect(Collectors.toList());
-			return CompareUtils.equals(restList, graphStringList);
+			return CompareUtils.equals(restList, getValues());
 		}
 		return super.equals(obj);
 	}
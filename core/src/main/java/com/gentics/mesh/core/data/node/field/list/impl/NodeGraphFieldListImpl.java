@@ -63,6 +63,11 @@ public class NodeGraphFieldListImpl extends AbstractReferencingGraphFieldList<No
 			return;
 		}
 
+		// Rest model equals the stored list - Keep the list
+		if (graphNodeFieldList != null && graphNodeFieldList.equals(nodeList)) {
+			return;
+		}
+
 		// Always create a new list.
 		// This will effectively unlink the old list and create a new one.
 		// Otherwise the list which is linked to old versions would be updated.
@@ -4,7 +4,6 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
@@ -61,19 +60,23 @@ public class NumberGraphFieldListImpl extends AbstractBasicGraphFieldList<Number
 			return;
 		}
 
+		// Rest model equals the stored list - Keep the list
+		if (graphNumberFieldList != null && graphNumberFieldList.equals(numberList)) {
+			return;
+		}
+
 		// Always create a new list.
 		// This will effectively unlink the old list and create a new one.
 		// Otherwise the list which is linked to old versions would be updated.
 		graphNumberFieldList = container.createNumberList(fieldKey);
 
 		// Handle Update
-		graphNumberFieldList.removeAll();
 		for (Number item : numberList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphNumberFieldList.createNumber(item);
 		}
+		graphNumberFieldList.setItems(numberList.getItems());
 
 	};
 
@@ -102,6 +105,11 @@ public class NumberGraphFieldListImpl extends AbstractBasicGraphFieldList<Number
 		return new NumberGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected String getItemType() {
+		return "number";
+	}
+
 	@Override
 	public Class<? extends NumberGraphField> getListType() {
 		return NumberGraphFieldImpl.class;
@@ -115,15 +123,13 @@ public class NumberGraphFieldListImpl extends AbstractBasicGraphFieldList<Number
 	@Override
 	public NumberFieldListImpl transformToRest(InternalActionContext ac, String fieldKey, List<String> languageTags, int level) {
 		NumberFieldListImpl restModel = new NumberFieldListImpl();
-		for (NumberGraphField item : getList()) {
-			restModel.add(item.getNumber());
-		}
+		restModel.setItems(getValues());
 		return restModel;
 	}
 
 	@Override
 	public List<Number> getValues() {
-		return getList().stream().map(NumberGraphField::getNumber).collect(Collectors.toList());
+		return getItems(Number.class::cast);
 	}
 
 	@Override
@@ -131,9 +137,7 @@ public class NumberGraphFieldListImpl extends AbstractBasicGraphFieldList<Number
 		if (obj instanceof NumberFieldListImpl) {
 			NumberFieldListImpl restField = (NumberFieldListImpl) obj;
 			List<Number> restList = restField.getItems();
-			List<? extends NumberGraphField> graphList = getList();
-			List<Number> graphStringList = graphList.stream().map(e -> e.getNumber()).collect(Collectors.toList());
-			return CompareUtils.equals(restList, graphStringList);
+			return CompareUtils.equals(restList, getValues());
 		}
 		return super.equals(obj);
 	}
@@ -4,7 +4,6 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
@@ -60,19 +59,23 @@ public class StringGraphFieldListImpl extends AbstractBasicGraphFieldList<String
 			return;
 		}
 
+		// Rest model equals the stored list - Keep the list
+		if (graphStringList != null && graphStringList.equals(stringList)) {
+			return;
+		}
+
 		// Always create a new list.
 		// This will effectively unlink the old list and create a new one.
 		// Otherwise the list which is linked to old versions would be updated.
 		graphStringList = container.createStringList(fieldKey);
 
 		// Handle Update
-		graphStringList.removeAll();
 		for (String item : stringList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphStringList.createString(item);
 		}
+		graphStringList.setItems(stringList.getItems());
 	};
 
 	public static FieldGetter STRING_LIST_GETTER = (container, fieldSchema) -> {
@@ -100,6 +103,11 @@ public class StringGraphFieldListImpl extends AbstractBasicGraphFieldList<String
 		return new StringGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected String getItemType() {
+		return "string";
+	}
+
 	@Override
 	public Class<? extends StringGraphField> getListType() {
 		return StringGraphFieldImpl.class;
@@ -113,15 +121,13 @@ public class StringGraphFieldListImpl extends AbstractBasicGraphFieldList<String
 	@Override
 	public StringFieldListImpl transformToRest(InternalActionContext ac, String fieldKey, List<String> languageTags, int level) {
 		StringFieldListImpl restModel = new StringFieldListImpl();
-		for (StringGraphField item : getList()) {
-			restModel.add(item.getString());
-		}
+		restModel.setItems(getValues());
 		return restModel;
 	}
 
 	@Override
 	public List<String> getValues() {
-		return getList().stream().map(StringGraphField::getString).collect(Collectors.toList());
+		return getItems(String.class::cast);
 	}
 
 	@Override
@@ -129,9 +135,7 @@ public class StringGraphFieldListImpl extends AbstractBasicGraphFieldList<String
 		if (obj instanceof StringFieldListImpl) {
 			StringFieldListImpl restField = (StringFieldListImpl) obj;
 			List<String> restList = restField.getItems();
-			List<? extends StringGraphField> graphList = getList();
-			List<String> graphStringList = graphList.stream().map(e -> e.getString()).collect(Collectors.toList());
-			return CompareUtils.equals(restList, graphStringList);
+			return CompareUtils.equals(restList, getValues());
 		}
 		return super.equals(obj);
 	}
@@ -67,7 +67,7 @@ public class MicronodeImpl extends AbstractGraphFieldContainerImpl implements Mi
 			throw error(BAD_REQUEST, "The microschema container for micronode {" + getUuid() + "} could not be found.");
 		}
 
-		Microschema microschema = microschemaContainer.getSchema();
+		Microschema microschema = microschemaContainer.getSchemaReadOnly();
 		if (microschema == null) {
 			throw error(BAD_REQUEST, "The microschema for micronode {" + getUuid() + "} could not be found.");
 		}
@@ -205,7 +205,7 @@ public class MicronodeImpl extends AbstractGraphFieldContainerImpl implements Mi
 
 	@Override
 	public void validate() {
-		Microschema microschema = getSchemaContainerVersion().getSchema();
+		Microschema microschema = getSchemaContainerVersion().getSchemaReadOnly();
 		Map<String, GraphField> fieldsMap = getFields().stream().collect(Collectors.toMap(GraphField::getFieldKey, Function.identity()));
 
 		microschema.getFields().stream().forEach(fieldSchema -> {
@@ -229,7 +229,7 @@ public class MicronodeImpl extends AbstractGraphFieldContainerImpl implements Mi
 		}
 		if (obj instanceof MicronodeField) {
 			MicronodeField restMicronode = (MicronodeField) obj;
-			Microschema schema = getSchemaContainerVersion().getSchema();
+			Microschema schema = getSchemaContainerVersion().getSchemaReadOnly();
 			// Iterate over all field schemas and compare rest and graph with eachother
 			for (FieldSchema fieldSchema : schema.getFields()) {
 				GraphField graphField = getField(fieldSchema);
@@ -246,7 +246,7 @@ public class MicronodeImpl extends AbstractGraphFieldContainerImpl implements Mi
 	@Override
 	public List<FieldContainerChange> compareTo(Micronode micronode) {
 		List<FieldContainerChange> changes = new ArrayList<>();
-		for (FieldSchema fieldSchema : getSchemaContainerVersion().getSchema().getFields()) {
+		for (FieldSchema fieldSchema : getSchemaContainerVersion().getSchemaReadOnly().getFields()) {
 			GraphField fieldA = getField(fieldSchema);
 			GraphField fieldB = micronode.getField(fieldSchema);
 			if (!CompareUtils.equals(fieldA, fieldB)) {
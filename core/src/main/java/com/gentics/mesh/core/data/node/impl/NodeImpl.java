@@ -16,6 +16,15 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_SCH
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TAG;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_USER;
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.parameter.NodeParameters.PROJECTION_BREADCRUMB;
+import static com.gentics.mesh.parameter.NodeParameters.PROJECTION_CHILDREN;
+import static com.gentics.mesh.parameter.NodeParameters.PROJECTION_FIELDS;
+import static com.gentics.mesh.parameter.NodeParameters.PROJECTION_LANGUAGES;
+import static com.gentics.mesh.parameter.NodeParameters.PROJECTION_PARENT;
+import static com.gentics.mesh.parameter.NodeParameters.PROJECTION_PATH;
+import static com.gentics.mesh.parameter.NodeParameters.PROJECTION_PROJECT;
+import static com.gentics.mesh.parameter.NodeParameters.PROJECTION_ROLE_PERMS;
+import static com.gentics.mesh.parameter.NodeParameters.PROJECTION_TAGS;
 import static com.gentics.mesh.util.URIUtils.encodeFragment;
 import static com.tinkerpop.blueprints.Direction.IN;
 import static com.tinkerpop.blueprints.Direction.OUT;
@@ -37,6 +46,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.TreeMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -45,11 +56,16 @@ import org.apache.commons.lang3.NotImplementedException;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.NavigationCache;
+import com.gentics.mesh.core.cache.NavigationCache.NavigationEntry;
+import com.gentics.mesh.core.cache.ReleaseStateCache;
+import com.gentics.mesh.core.data.BasicFieldContainer;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.GraphFieldContainerEdge;
 import com.gentics.mesh.core.data.Language;
 import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.NamedElement;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
@@ -100,11 +116,11 @@ import com.gentics.mesh.core.rest.user.NodeReference;
 import com.gentics.mesh.dagger.DB;
 import com.gentics.mesh.dagger.MeshInternal;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphdb.spi.FieldType;
 import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.DeleteParameters;
 import com.gentics.mesh.parameter.LinkType;
-import com.gentics.mesh.parameter.NavigationParameters;
 import com.gentics.mesh.parameter.NodeParameters;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.PublishParameters;
@@ -139,8 +155,14 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	private static final Logger log = LoggerFactory.getLogger(NodeImpl.class);
 
+	/**
+	 * Name of the ordered index on the uuids of the nodes. The index is used to iterate over the nodes in a stable order.
+	 */
+	public static final String UUID_ORDERED_INDEX_NAME = "orderedNodeUuidIndex";
+
 	public static void init(Database database) {
 		database.addVertexType(NodeImpl.class, MeshVertexImpl.class);
+		database.addOrderedVertexIndex(UUID_ORDERED_INDEX_NAME, NodeImpl.class, MeshVertex.UUID_KEY, FieldType.STRING);
 		database.addEdgeIndex(HAS_PARENT_NODE);
 		database.addCustomEdgeIndex(HAS_PARENT_NODE, "release_out", "out", RELEASE_UUID_KEY);
 		database.addCustomEdgeIndex(HAS_PARENT_NODE, "release", "in", RELEASE_UUID_KEY);
@@ -266,7 +288,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public List<? extends Tag> getTags(Release release) {
-		return TagEdgeImpl.getTagTraversal(this, release).toListExplicit(TagImpl.class);
+		return TagEdgeImpl.getTagTraversal(this, getEffectiveRelease(release)).toListExplicit(TagImpl.class);
 	}
 
 	@Override
@@ -287,6 +309,12 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public List<? extends NodeGraphFieldContainer> getGraphFieldContainers(String releaseUuid, ContainerType type) {
+		if (type != INITIAL) {
+			String fallbackReleaseUuid = getUnmigratedFallbackReleaseUuid(releaseUuid);
+			if (fallbackReleaseUuid != null) {
+				return getGraphFieldContainers(fallbackReleaseUuid, type);
+			}
+		}
 		List<? extends NodeGraphFieldContainerImpl> list = outE(HAS_FIELD_CONTAINER).has(GraphFieldContainerEdgeImpl.RELEASE_UUID_KEY, releaseUuid)
 				.has(GraphFieldContainerEdgeImpl.EDGE_TYPE_KEY, type.getCode()).inV().toListExplicit(NodeGraphFieldContainerImpl.class);
 		return list;
@@ -319,6 +347,17 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		return getGraphFieldContainer(languageTag, releaseUuid, type, NodeGraphFieldContainerImpl.class);
 	}
 
+	@Override
+	protected <U extends BasicFieldContainer> U getGraphFieldContainer(String languageTag, String releaseUuid, ContainerType type, Class<U> classOfU) {
+		if (type != INITIAL) {
+			String fallbackReleaseUuid = getUnmigratedFallbackReleaseUuid(releaseUuid);
+			if (fallbackReleaseUuid != null) {
+				return getGraphFieldContainer(languageTag, fallbackReleaseUuid, type, classOfU);
+			}
+		}
+		return super.getGraphFieldContainer(languageTag, releaseUuid, type, classOfU);
+	}
+
 	@Override
 	public NodeGraphFieldContainer createGraphFieldContainer(Language language, Release release, User editor) {
 		return createGraphFieldContainer(language, release, editor, null, true);
@@ -327,6 +366,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	@Override
 	public NodeGraphFieldContainer createGraphFieldContainer(Language language, Release release, User editor, NodeGraphFieldContainer original,
 			boolean handleDraftEdge) {
+		invalidateNavigation();
 		NodeGraphFieldContainerImpl previous = null;
 		EdgeFrame draftEdge = null;
 		String languageTag = language.getLanguageTag();
@@ -437,6 +477,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public void addTag(Tag tag, Release release) {
+		invalidateNavigation();
 		removeTag(tag, release);
 		TagEdge edge = addFramedEdge(HAS_TAG, tag, TagEdgeImpl.class);
 		edge.setReleaseUuid(release.getUuid());
@@ -444,11 +485,13 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public void removeTag(Tag tag, Release release) {
+		invalidateNavigation();
 		outE(HAS_TAG).has(TagEdgeImpl.RELEASE_UUID_KEY, release.getUuid()).mark().inV().retain(tag).back().removeAll();
 	}
 
 	@Override
 	public void removeAllTags(Release release) {
+		invalidateNavigation();
 		outE(HAS_TAG).has(TagEdgeImpl.RELEASE_UUID_KEY, release.getUuid()).removeAll();
 	}
 
@@ -472,6 +515,24 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public Iterable<Node> getChildren(String releaseUuid) {
+		Iterable<Node> children = findChildren(releaseUuid);
+		String fallbackReleaseUuid = getLazyFallbackReleaseUuid(releaseUuid);
+		if (fallbackReleaseUuid == null) {
+			return children;
+		}
+		// Children which were not yet migrated to the release are still only attached to this node in the previous release
+		Stream<Node> inherited = StreamSupport.stream(getChildren(fallbackReleaseUuid).spliterator(), false).filter(child -> !((NodeImpl) child)
+				.isMigratedToRelease(releaseUuid));
+		return () -> Stream.concat(StreamSupport.stream(children.spliterator(), false), inherited).iterator();
+	}
+
+	/**
+	 * Return the children which are attached to this node in the given release without considering the lazy release migration.
+	 *
+	 * @param releaseUuid
+	 * @return
+	 */
+	private Iterable<Node> findChildren(String releaseUuid) {
 		Database db = MeshInternal.get().database();
 		FramedGraph graph = Tx.getActive().getGraph();
 		Iterable<Edge> edges = graph.getEdges("e." + HAS_PARENT_NODE.toLowerCase() + "_release", db.createComposedIndexKey(getId(), releaseUuid));
@@ -488,6 +549,10 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public Node getParentNode(String releaseUuid) {
+		String fallbackReleaseUuid = getUnmigratedFallbackReleaseUuid(releaseUuid);
+		if (fallbackReleaseUuid != null) {
+			return getParentNode(fallbackReleaseUuid);
+		}
 		Database db = MeshInternal.get().database();
 		FramedGraph graph = Tx.getActive().getGraph();
 		Iterable<Edge> edges = graph.getEdges("e." + HAS_PARENT_NODE.toLowerCase() + "_release_out", db.createComposedIndexKey(getId(), releaseUuid));
@@ -502,10 +567,134 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public void setParentNode(String releaseUuid, Node parent) {
+		invalidateNavigation();
 		outE(HAS_PARENT_NODE).has(RELEASE_UUID_KEY, releaseUuid).removeAll();
 		addFramedEdge(HAS_PARENT_NODE, parent).setProperty(RELEASE_UUID_KEY, releaseUuid);
 	}
 
+	@Override
+	public boolean migrateToRelease(Release newRelease, SearchQueueBatch batch) {
+		Release oldRelease = newRelease.getPreviousRelease();
+		if (oldRelease == null || isMigratedToRelease(newRelease.getUuid())) {
+			return false;
+		}
+		invalidateNavigation();
+		getGraphFieldContainers(oldRelease, DRAFT).stream().forEach(container -> {
+			GraphFieldContainerEdgeImpl initialEdge = addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
+			initialEdge.setLanguageTag(container.getLanguage().getLanguageTag());
+			initialEdge.setType(INITIAL);
+			initialEdge.setReleaseUuid(newRelease.getUuid());
+
+			GraphFieldContainerEdgeImpl draftEdge = addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
+			draftEdge.setLanguageTag(container.getLanguage().getLanguageTag());
+			draftEdge.setType(DRAFT);
+			draftEdge.setReleaseUuid(newRelease.getUuid());
+		});
+		batch.store(this, newRelease.getUuid(), DRAFT, false);
+
+		getGraphFieldContainers(oldRelease, PUBLISHED).stream().forEach(container -> {
+			GraphFieldContainerEdgeImpl edge = addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
+			edge.setLanguageTag(container.getLanguage().getLanguageTag());
+			edge.setType(PUBLISHED);
+			edge.setReleaseUuid(newRelease.getUuid());
+		});
+		batch.store(this, newRelease.getUuid(), PUBLISHED, false);
+
+		Node parent = getParentNode(oldRelease.getUuid());
+		if (parent != null) {
+			setParentNode(newRelease.getUuid(), parent);
+		}
+
+		// migrate tags
+		getTags(oldRelease).forEach(tag -> addTag(tag, newRelease));
+		return true;
+	}
+
+	/**
+	 * Make sure that the node has been migrated to the given release before it gets modified. Releases which were created using the lazy release migration
+	 * only share the containers of the previous release until the node is modified for the first time. Nothing needs to be done if the lazy release
+	 * migration is disabled since the release migration job migrates all nodes.
+	 * 
+	 * @param release
+	 * @param batch
+	 */
+	private void materializeRelease(Release release, SearchQueueBatch batch) {
+		if (!Mesh.mesh().getOptions().getMigrationOptions().isLazyReleaseMigration()) {
+			return;
+		}
+		if (!release.isMigrated()) {
+			migrateToRelease(release, batch);
+		}
+	}
+
+	/**
+	 * Check whether the node has been migrated to the given release. Nodes which have been migrated or created in the release have their own parent edge
+	 * or their own initial containers in the release.
+	 * 
+	 * @param releaseUuid
+	 * @return
+	 */
+	private boolean isMigratedToRelease(String releaseUuid) {
+		Database db = MeshInternal.get().database();
+		FramedGraph graph = Tx.getActive().getGraph();
+		if (graph.getEdges("e." + HAS_PARENT_NODE.toLowerCase() + "_release_out", db.createComposedIndexKey(getId(), releaseUuid)).iterator()
+				.hasNext()) {
+			return true;
+		}
+		return outE(HAS_FIELD_CONTAINER).has(GraphFieldContainerEdgeImpl.RELEASE_UUID_KEY, releaseUuid).has(GraphFieldContainerEdgeImpl.EDGE_TYPE_KEY,
+				INITIAL.getCode()).hasNext();
+	}
+
+	/**
+	 * Return the uuid of the release from which the contents of nodes which were not yet migrated to the given release are read. This is only the case
+	 * for releases which use the lazy release migration and which have not yet been fully migrated. The migration state of the release is cached.
+	 * 
+	 * @param releaseUuid
+	 * @return Uuid of the previous release or null if no fallback should be used
+	 */
+	private String getLazyFallbackReleaseUuid(String releaseUuid) {
+		if (releaseUuid == null || !Mesh.mesh().getOptions().getMigrationOptions().isLazyReleaseMigration()) {
+			return null;
+		}
+		return ReleaseStateCache.getFallbackReleaseUuid(releaseUuid, uuid -> {
+			Release release = getProject().getReleaseRoot().findByUuid(uuid);
+			if (release == null || release.isMigrated()) {
+				return null;
+			}
+			Release previousRelease = release.getPreviousRelease();
+			return previousRelease == null ? null : previousRelease.getUuid();
+		});
+	}
+
+	/**
+	 * Return the uuid of the release from which the contents of this node should be read for the given release. Only nodes which were not yet migrated
+	 * to a release which uses the lazy release migration read from the previous release.
+	 * 
+	 * @param releaseUuid
+	 * @return Uuid of the previous release or null if the node should be read from the given release
+	 */
+	private String getUnmigratedFallbackReleaseUuid(String releaseUuid) {
+		String fallbackReleaseUuid = getLazyFallbackReleaseUuid(releaseUuid);
+		if (fallbackReleaseUuid == null || isMigratedToRelease(releaseUuid)) {
+			return null;
+		}
+		return fallbackReleaseUuid;
+	}
+
+	/**
+	 * Return the release from which the release specific elements (e.g. tags) of this node should be read.
+	 * 
+	 * @param release
+	 * @return
+	 */
+	private Release getEffectiveRelease(Release release) {
+		String fallbackReleaseUuid = getUnmigratedFallbackReleaseUuid(release.getUuid());
+		if (fallbackReleaseUuid == null) {
+			return release;
+		}
+		return getEffectiveRelease(getProject().getReleaseRoot().findByUuid(fallbackReleaseUuid));
+	}
+
 	@Override
 	public Project getProject() {
 		return out(ASSIGNED_TO_PROJECT).has(ProjectImpl.class).nextOrDefaultExplicit(ProjectImpl.class, null);
@@ -560,16 +749,34 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			throw error(BAD_REQUEST, "The schema container for node {" + getUuid() + "} could not be found.");
 		}
 		Release release = ac.getRelease(getProject());
-		restNode.setAvailableLanguages(getLanguageInfo(ac));
+		// Sections which were not requested via the projection parameter are not computed at all
+		NodeParameters nodeParameters = ac.getNodeParameters();
+		if (nodeParameters.isProjected(PROJECTION_LANGUAGES)) {
+			restNode.setAvailableLanguages(getLanguageInfo(ac));
+		}
 		setFields(ac, release, restNode, level, languageTags);
-		setParentNodeInfo(ac, release, restNode);
-		setRolePermissions(ac, restNode);
-		setChildrenInfo(ac, release, restNode);
-		setTagsToRest(ac, restNode, release);
+		if (nodeParameters.isProjected(PROJECTION_PARENT)) {
+			setParentNodeInfo(ac, release, restNode);
+		}
+		if (nodeParameters.isProjected(PROJECTION_ROLE_PERMS)) {
+			setRolePermissions(ac, restNode);
+		}
+		if (nodeParameters.isProjected(PROJECTION_CHILDREN)) {
+			setChildrenInfo(ac, release, restNode);
+		}
+		if (nodeParameters.isProjected(PROJECTION_TAGS)) {
+			setTagsToRest(ac, restNode, release);
+		}
 		fillCommonRestFields(ac, restNode);
-		setBreadcrumbToRest(ac, restNode);
-		setPathsToRest(ac, restNode, release);
-		setProjectReference(ac, restNode);
+		if (nodeParameters.isProjected(PROJECTION_BREADCRUMB)) {
+			setBreadcrumbToRest(ac, restNode);
+		}
+		if (nodeParameters.isProjected(PROJECTION_PATH)) {
+			setPathsToRest(ac, restNode, release);
+		}
+		if (nodeParameters.isProjected(PROJECTION_PROJECT)) {
+			setProjectReference(ac, restNode);
+		}
 		return restNode;
 	}
 
@@ -660,7 +867,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			// We should change this behaviour and update the client implementations.
 			// throw error(NOT_FOUND, "object_not_found_for_uuid", getUuid());
 		} else {
-			Schema schema = fieldContainer.getSchemaContainerVersion().getSchema();
+			Schema schema = fieldContainer.getSchemaContainerVersion().getSchemaReadOnly();
 			restNode.setContainer(schema.isContainer());
 			restNode.setDisplayField(schema.getDisplayField());
 			restNode.setDisplayName(getDisplayName(ac));
@@ -688,6 +895,10 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			}
 			restNode.setEdited(fieldContainer.getLastEditedDate());
 
+			if (!nodeParameters.isProjected(PROJECTION_FIELDS)) {
+				return;
+			}
+
 			// Iterate over all fields and transform them to rest
 			for (FieldSchema fieldEntry : schema.getFields()) {
 				// boolean expandField =
@@ -726,15 +937,27 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 *            Rest model which will be updated
 	 */
 	private void setChildrenInfo(InternalActionContext ac, Release release, NodeResponse restNode) {
+		restNode.setChildrenInfo(getChildrenInfo(ac, release));
+	}
+
+	/**
+	 * Determine the amount of children per schema which are visible to the user. The children are loaded and checked for read permission.
+	 * 
+	 * @param ac
+	 * @param release
+	 *            Release which will be used to identify the release specific child nodes
+	 * @return Children info per schema name
+	 */
+	private Map<String, NodeChildrenInfo> getChildrenInfo(InternalActionContext ac, Release release) {
 		Map<String, NodeChildrenInfo> childrenInfo = new HashMap<>();
 		for (Node child : getChildren(release.getUuid())) {
 			if (ac.getUser().hasPermission(child, READ_PERM)) {
-				String schemaName = child.getSchemaContainer().getName();
+				SchemaContainer schema = child.getSchemaContainer();
+				String schemaName = schema.getName();
 				NodeChildrenInfo info = childrenInfo.get(schemaName);
 				if (info == null) {
 					info = new NodeChildrenInfo();
-					String schemaUuid = child.getSchemaContainer().getUuid();
-					info.setSchemaUuid(schemaUuid);
+					info.setSchemaUuid(schema.getUuid());
 					info.setCount(1);
 					childrenInfo.put(schemaName, info);
 				} else {
@@ -742,7 +965,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				}
 			}
 		}
-		restNode.setChildrenInfo(childrenInfo);
+		return childrenInfo;
 	}
 
 	/**
@@ -864,29 +1087,42 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 		return MeshInternal.get().database().asyncTx(() -> {
 			// TODO assure that the schema version is correct
-			if (!getSchemaContainer().getLatestVersion().getSchema().isContainer()) {
+			if (!getSchemaContainer().getLatestVersion().getSchemaReadOnly().isContainer()) {
 				throw error(BAD_REQUEST, "navigation_error_no_container");
 			}
-			String etagKey = buildNavigationEtagKey(ac, this, parameters.getMaxDepth(), 0, ac.getRelease(getProject()).getUuid(), forVersion(ac
-					.getVersioningParameters().getVersion()));
+			String releaseUuid = ac.getRelease(getProject()).getUuid();
+			ContainerType type = forVersion(ac.getVersioningParameters().getVersion());
+			int maxDepth = parameters.getMaxDepth();
+			boolean includeAll = parameters.isIncludeAll();
+
+			// The structure of the navigation is shared by all users and will only be filtered by the permissions of the user
+			String cacheKey = getUuid() + "-" + releaseUuid + "-" + type.getCode() + "-" + maxDepth + "-" + includeAll;
+			NavigationEntry root = NavigationCache.get(cacheKey, getProject().getUuid(), stamp -> {
+				NavigationEntry entry = new NavigationEntry(getId(), getUuid(), stamp);
+				buildNavigationEntry(this, entry, maxDepth, 0, releaseUuid, type, includeAll);
+				return entry;
+			});
+
+			GraphPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
+			String etagKey = buildNavigationEtagKey(ac, root, cacheKey, perm);
 			String etag = ETag.hash(etagKey);
 			ac.setEtag(etag, true);
 			if (ac.matches(etag, true)) {
 				return Single.error(new NotModifiedException());
 			} else {
 				NavigationResponse response = new NavigationResponse();
-				return buildNavigationResponse(ac, this, parameters.getMaxDepth(), 0, response, response, ac.getRelease(getProject()).getUuid(),
-						forVersion(ac.getVersioningParameters().getVersion()));
+				return buildNavigationResponse(ac, root, perm, response, response);
 			}
 		});
 	}
 
 	/**
-	 * Generate the etag key for the requested navigation.
+	 * Recursively load the unfiltered navigation structure.
 	 * 
-	 * @param ac
 	 * @param node
-	 *            Current node to start building the navigation
+	 *            Current node
+	 * @param entry
+	 *            Navigation entry of the current node
 	 * @param maxDepth
 	 *            Maximum depth of navigation
 	 * @param level
@@ -894,28 +1130,67 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 * @param releaseUuid
 	 *            Release uuid used to extract selected tree structure
 	 * @param type
+	 *            Type of the containers which the child nodes must provide
+	 * @param includeAll
+	 *            Whether to include nodes which are not containers
+	 */
+	private void buildNavigationEntry(Node node, NavigationEntry entry, int maxDepth, int level, String releaseUuid, ContainerType type,
+			boolean includeAll) {
+		// Abort recursion when we reach the max level
+		if (level == maxDepth) {
+			return;
+		}
+		for (Node child : node.getChildren(releaseUuid)) {
+			if (child.getGraphFieldContainers(releaseUuid, type).isEmpty()) {
+				continue;
+			}
+			if (child.getSchemaContainer().getLatestVersion().getSchemaReadOnly().isContainer()) {
+				NavigationEntry childEntry = new NavigationEntry(child.getId(), child.getUuid(), null);
+				entry.addChild(childEntry);
+				buildNavigationEntry(child, childEntry, maxDepth, level + 1, releaseUuid, type, includeAll);
+			} else if (includeAll) {
+				NavigationEntry childEntry = new NavigationEntry(child.getId(), child.getUuid(), null);
+				entry.addChild(childEntry);
+				buildNavigationEntry(child, childEntry, maxDepth, level, releaseUuid, type, includeAll);
+			}
+		}
+	}
+
+	/**
+	 * Generate the etag key for the requested navigation. The key is computed from the version stamp of the cached structure and the entries which are
+	 * visible to the user. Thus no node needs to be loaded.
+	 * 
+	 * @param ac
+	 * @param root
+	 *            Root entry of the cached navigation structure
+	 * @param cacheKey
+	 *            Key of the cached navigation structure
+	 * @param perm
+	 *            Permission which is required to view the navigation entries
 	 * @return
 	 */
-	private String buildNavigationEtagKey(InternalActionContext ac, Node node, int maxDepth, int level, String releaseUuid, ContainerType type) {
-		NavigationParametersImpl parameters = new NavigationParametersImpl(ac);
+	private String buildNavigationEtagKey(InternalActionContext ac, NavigationEntry root, String cacheKey, GraphPermission perm) {
 		StringBuilder builder = new StringBuilder();
-		builder.append(node.getETag(ac));
-
-		List<? extends Node> nodes = node.getChildren(ac.getUser(), releaseUuid, null, type);
+		builder.append(root.getStamp());
+		builder.append("-");
+		builder.append(cacheKey);
+		builder.append("-");
+		// The node responses contain user specific permissions and depend on the query parameters (e.g. language, link resolving)
+		builder.append(ac.getUser().getUuid());
+		builder.append("-");
+		builder.append(ac.query());
+		appendVisibleEntries(ac.getUser(), root, perm, builder);
+		return builder.toString();
+	}
 
-		// Abort recursion when we reach the max level or when no more children
-		// can be found.
-		if (level == maxDepth || nodes.isEmpty()) {
-			return builder.toString();
-		}
-		for (Node child : nodes) {
-			if (child.getSchemaContainer().getLatestVersion().getSchema().isContainer()) {
-				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level + 1, releaseUuid, type));
-			} else if (parameters.isIncludeAll()) {
-				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level, releaseUuid, type));
+	private void appendVisibleEntries(MeshAuthUser user, NavigationEntry entry, GraphPermission perm, StringBuilder builder) {
+		for (NavigationEntry child : entry.getChildren()) {
+			if (user.hasPermissionForId(child.getId(), perm)) {
+				builder.append("-");
+				builder.append(child.getUuid());
+				appendVisibleEntries(user, child, perm, builder);
 			}
 		}
-		return builder.toString();
 	}
 
 	/**
@@ -923,25 +1198,20 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 * 
 	 * @param ac
 	 *            Action context
-	 * @param node
-	 *            Current node that should be handled in combination with the given navigation element
-	 * @param maxDepth
-	 *            Maximum depth for the navigation
-	 * @param level
-	 *            Zero based level of the current navigation element
+	 * @param entry
+	 *            Cached navigation entry that should be handled in combination with the given navigation element
+	 * @param perm
+	 *            Permission which is required to view the child entries
 	 * @param navigation
 	 *            Current navigation response
 	 * @param currentElement
 	 *            Current navigation element for the given level
-	 * @param releaseUuid
-	 *            release uuid to be used for loading children of nodes
-	 * @param type
-	 *            container type to be used for transformation
 	 * @return
 	 */
-	private Single<NavigationResponse> buildNavigationResponse(InternalActionContext ac, Node node, int maxDepth, int level,
-			NavigationResponse navigation, NavigationElement currentElement, String releaseUuid, ContainerType type) {
-		List<? extends Node> nodes = node.getChildren(ac.getUser(), releaseUuid, null, type);
+	private Single<NavigationResponse> buildNavigationResponse(InternalActionContext ac, NavigationEntry entry, GraphPermission perm,
+			NavigationResponse navigation, NavigationElement currentElement) {
+		FramedGraph graph = Tx.getActive().getGraph();
+		Node node = graph.frameElementExplicit(graph.getVertex(entry.getId()), NodeImpl.class);
 		List<Single<NavigationResponse>> obsResponses = new ArrayList<>();
 
 		obsResponses.add(node.transformToRest(ac, 0).map(response -> {
@@ -951,39 +1221,32 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			return navigation;
 		}));
 
-		// Abort recursion when we reach the max level or when no more children
-		// can be found.
-		if (level == maxDepth || nodes.isEmpty()) {
-			List<Observable<NavigationResponse>> obsList = obsResponses.stream().map(ele -> ele.toObservable()).collect(Collectors.toList());
-			return Observable.merge(obsList).lastOrError();
-		}
-		NavigationParameters parameters = new NavigationParametersImpl(ac);
 		// Add children
-		for (Node child : nodes) {
-			// TODO assure that the schema version is correct?
-			// TODO also allow navigations over containers
-			if (child.getSchemaContainer().getLatestVersion().getSchema().isContainer()) {
-				NavigationElement childElement = new NavigationElement();
-				// We found at least one child so lets create the array
-				if (currentElement.getChildren() == null) {
-					currentElement.setChildren(new ArrayList<>());
-				}
-				currentElement.getChildren().add(childElement);
-				obsResponses.add(buildNavigationResponse(ac, child, maxDepth, level + 1, navigation, childElement, releaseUuid, type));
-			} else if (parameters.isIncludeAll()) {
-				// We found at least one child so lets create the array
-				if (currentElement.getChildren() == null) {
-					currentElement.setChildren(new ArrayList<>());
-				}
-				NavigationElement childElement = new NavigationElement();
-				currentElement.getChildren().add(childElement);
-				obsResponses.add(buildNavigationResponse(ac, child, maxDepth, level, navigation, childElement, releaseUuid, type));
+		for (NavigationEntry child : entry.getChildren()) {
+			if (!ac.getUser().hasPermissionForId(child.getId(), perm)) {
+				continue;
+			}
+			// We found at least one child so lets create the array
+			if (currentElement.getChildren() == null) {
+				currentElement.setChildren(new ArrayList<>());
 			}
+			NavigationElement childElement = new NavigationElement();
+			currentElement.getChildren().add(childElement);
+			obsResponses.add(buildNavigationResponse(ac, child, perm, navigation, childElement));
 		}
 		List<Observable<NavigationResponse>> obsList = obsResponses.stream().map(ele -> ele.toObservable()).collect(Collectors.toList());
 		return Observable.merge(obsList).lastOrError();
 	}
 
+	/**
+	 * Invalidate the cached navigation structures of the project of the node. Must be invoked for each change which affects the tree structure or the
+	 * content of the node.
+	 */
+	private void invalidateNavigation() {
+		Project project = getProject();
+		NavigationCache.invalidate(project == null ? null : project.getUuid());
+	}
+
 	@Override
 	public NodeReference transformToReference(InternalActionContext ac) {
 		Release release = ac.getRelease(getProject());
@@ -1070,13 +1333,9 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	@Override
 	public void publish(InternalActionContext ac, SearchQueueBatch batch) {
 		Release release = ac.getRelease(getProject());
-		String releaseUuid = release.getUuid();
-
-		List<? extends NodeGraphFieldContainer> unpublishedContainers = getGraphFieldContainers(release, ContainerType.DRAFT).stream().filter(c -> !c
-				.isPublished(releaseUuid)).collect(Collectors.toList());
 
 		// publish all unpublished containers and handle recursion
-		unpublishedContainers.stream().forEach(c -> publish(c.getLanguage(), release, ac.getUser()));
+		publishDrafts(release, ac.getUser(), batch);
 
 		PublishParameters parameters = ac.getPublishParameters();
 		if (parameters.isRecursive()) {
@@ -1087,11 +1346,38 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 
 		assertPublishConsistency(ac, release);
+	}
+
+	@Override
+	public void publishDrafts(Release release, User user, SearchQueueBatch batch) {
+		String releaseUuid = release.getUuid();
+		materializeRelease(release, batch);
+
+		List<? extends NodeGraphFieldContainer> unpublishedContainers = getGraphFieldContainers(release, ContainerType.DRAFT).stream().filter(c -> !c
+				.isPublished(releaseUuid)).collect(Collectors.toList());
+		unpublishedContainers.stream().forEach(c -> publish(c.getLanguage(), release, user));
+
 		batch.store(this, releaseUuid, PUBLISHED, false);
 	}
 
 	@Override
 	public void takeOffline(InternalActionContext ac, SearchQueueBatch batch, Release release, PublishParameters parameters) {
+		takeOffline(release, batch);
+
+		// Handle recursion
+		if (parameters.isRecursive()) {
+			for (Node node : getChildren()) {
+				node.takeOffline(ac, batch, release, parameters);
+			}
+		}
+
+		assertPublishConsistency(ac, release);
+	}
+
+	@Override
+	public void takeOffline(Release release, SearchQueueBatch batch) {
+		invalidateNavigation();
+		materializeRelease(release, batch);
 		List<? extends NodeGraphFieldContainer> published = getGraphFieldContainers(release, PUBLISHED);
 
 		String releaseUuid = release.getUuid();
@@ -1105,15 +1391,6 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			c.setProperty(NodeGraphFieldContainer.PUBLISHED_WEBROOT_URLFIELD_PROPERTY_KEY, null);
 		});
 
-		// Handle recursion
-		if (parameters.isRecursive()) {
-			for (Node node : getChildren()) {
-				node.takeOffline(ac, batch, release, parameters);
-			}
-		}
-
-		assertPublishConsistency(ac, release);
-
 		// Remove the published node from the index
 		for (NodeGraphFieldContainer container : publishedContainers) {
 			batch.delete(container, releaseUuid, PUBLISHED, false);
@@ -1160,6 +1437,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	public void publish(InternalActionContext ac, SearchQueueBatch batch, String languageTag) {
 		Release release = ac.getRelease(getProject());
 		String releaseUuid = release.getUuid();
+		materializeRelease(release, batch);
 
 		// get the draft version of the given language
 		NodeGraphFieldContainer draftVersion = getGraphFieldContainer(languageTag, releaseUuid, DRAFT);
@@ -1183,7 +1461,9 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public void takeOffline(InternalActionContext ac, SearchQueueBatch batch, Release release, String languageTag) {
+		invalidateNavigation();
 		String releaseUuid = release.getUuid();
+		materializeRelease(release, batch);
 
 		// 1. Locate the published container
 		NodeGraphFieldContainer published = getGraphFieldContainer(languageTag, releaseUuid, PUBLISHED);
@@ -1203,6 +1483,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public void setPublished(NodeGraphFieldContainer container, String releaseUuid) {
+		invalidateNavigation();
 		String languageTag = container.getLanguage().getLanguageTag();
 
 		// Remove an existing published edge
@@ -1237,6 +1518,12 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public NodeGraphFieldContainer findVersion(List<String> languageTags, String releaseUuid, String version) {
+		// The node may not yet have been migrated to the release. Use the shared containers of the previous release instead.
+		String fallbackReleaseUuid = getUnmigratedFallbackReleaseUuid(releaseUuid);
+		if (fallbackReleaseUuid != null) {
+			return findVersion(languageTags, fallbackReleaseUuid, version);
+		}
+
 		NodeGraphFieldContainer fieldContainer = null;
 
 		// TODO refactor the type handling and don't return INITIAL.
@@ -1283,6 +1570,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public void delete(SearchQueueBatch batch, boolean ignoreChecks) {
+		invalidateNavigation();
 		if (!ignoreChecks) {
 			// Prevent deletion of basenode
 			if (getProject().getBaseNode().getUuid().equals(getUuid())) {
@@ -1315,8 +1603,10 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public void deleteFromRelease(InternalActionContext ac, Release release, SearchQueueBatch batch, boolean ignoreChecks) {
+		invalidateNavigation();
 
 		DeleteParameters parameters = ac.getDeleteParameters();
+		materializeRelease(release, batch);
 
 		// 1. Remove subfolders from release
 		String releaseUuid = release.getUuid();
@@ -1391,6 +1681,22 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public List<? extends Node> getChildren(MeshAuthUser requestUser, String releaseUuid, List<String> languageTags, ContainerType type) {
+		if (getLazyFallbackReleaseUuid(releaseUuid) != null) {
+			// The children of unmigrated releases can't be found using a single traversal
+			GraphPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
+			List<Node> children = new ArrayList<>();
+			for (Node child : getChildren(releaseUuid)) {
+				if (!requestUser.hasPermissionForId(child.getId(), perm)) {
+					continue;
+				}
+				if (type != null && child.getGraphFieldContainers(releaseUuid, type).stream().noneMatch(container -> languageTags == null
+						|| languageTags.contains(container.getLanguage().getLanguageTag()))) {
+					continue;
+				}
+				children.add(child);
+			}
+			return children;
+		}
 		return getChildrenTraversal(requestUser, releaseUuid, languageTags, type).toListExplicit(NodeImpl.class);
 	}
 
@@ -1401,7 +1707,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		Object indexKey = DB.get().createComposedIndexKey(getId(), releaseUuid);
 
 		GraphPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
-		return new DynamicTransformablePageImpl<NodeImpl>(ac.getUser(), indexName, indexKey, NodeImpl.class, pagingInfo, perm, (item) -> {
+		Predicate<Vertex> languageFilter = (item) -> {
 
 			// Filter out nodes which do not provide one of the specified language tags and type
 			if (languageTags != null) {
@@ -1420,12 +1726,17 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				return false;
 			}
 			return true;
-		}, true);
+		};
+		if (getLazyFallbackReleaseUuid(releaseUuid) != null) {
+			// The children of unmigrated releases are also attached to this node in the previous release and can't be found using a single index
+			return new DynamicTransformablePageImpl<NodeImpl>(ac.getUser(), getChildren(releaseUuid), NodeImpl.class, pagingInfo, perm, languageFilter);
+		}
+		return new DynamicTransformablePageImpl<NodeImpl>(ac.getUser(), indexName, indexKey, NodeImpl.class, pagingInfo, perm, languageFilter, true);
 	}
 
 	@Override
 	public TransformablePage<? extends Tag> getTags(User user, PagingParameters params, Release release) {
-		VertexTraversal<?, ?, ?> traversal = TagEdgeImpl.getTagTraversal(this, release);
+		VertexTraversal<?, ?, ?> traversal = TagEdgeImpl.getTagTraversal(this, getEffectiveRelease(release));
 		return new DynamicTransformablePageImpl<Tag>(user, traversal, params, READ_PERM, TagImpl.class);
 	}
 
@@ -1501,6 +1812,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			throw error(BAD_REQUEST, "error_language_not_found", requestModel.getLanguage());
 		}
 		Release release = ac.getRelease(getProject());
+		materializeRelease(release, batch);
 		NodeGraphFieldContainer latestDraftVersion = getGraphFieldContainer(language, release, DRAFT);
 
 		// Check whether this is the first time that an update for the given language and release occurs. In this case a new container must be created.
@@ -1543,11 +1855,13 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				throw error(BAD_REQUEST, "node_error_draft_not_found", requestModel.getVersion(), requestModel.getLanguage());
 			}
 
-			latestDraftVersion.getSchemaContainerVersion().getSchema().assertForUnhandledFields(requestModel.getFields());
+			latestDraftVersion.getSchemaContainerVersion().getSchemaReadOnly().assertForUnhandledFields(requestModel.getFields());
 
-			// TODO handle simplified case in which baseContainerVersion and
-			// latestDraftVersion are equal
-			List<FieldContainerChange> baseVersionDiff = baseVersionContainer.compareTo(latestDraftVersion);
+			// There are no changes in between the base version and the latest draft version if the update is based on the latest draft version
+			List<FieldContainerChange> baseVersionDiff = Collections.emptyList();
+			if (!baseVersionContainer.getUuid().equals(latestDraftVersion.getUuid())) {
+				baseVersionDiff = baseVersionContainer.compareTo(latestDraftVersion);
+			}
 			List<FieldContainerChange> requestVersionDiff = latestDraftVersion.compareTo(requestModel.getFields());
 
 			// Compare both sets of change sets
@@ -1572,10 +1886,11 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			// unaffected fields from the rest request in order to prevent duplicate references. We don't want to touch field that have not been changed.
 			// Otherwise the graph field references would no longer point to older revisions of the same field.
 			Set<String> fieldsToKeepForUpdate = requestVersionDiff.stream().map(e -> e.getFieldKey()).collect(Collectors.toSet());
-			for (String fieldKey : requestModel.getFields().keySet()) {
-				if (fieldsToKeepForUpdate.contains(fieldKey)) {
-					continue;
-				}
+			List<String> unchangedFields = requestModel.getFields().keySet().stream().filter(key -> !fieldsToKeepForUpdate.contains(key)).collect(
+					Collectors.toList());
+			// Remember the digests of the unchanged fields. This way the next update with the same values can be detected without loading the values.
+			latestDraftVersion.updateFieldDigests(requestModel.getFields(), unchangedFields);
+			for (String fieldKey : unchangedFields) {
 				if (log.isDebugEnabled()) {
 					log.debug("Removing field from request {" + fieldKey + "} in order to handle deduplication.");
 				}
@@ -1604,6 +1919,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		TagListUpdateRequest request = JsonUtil.readValue(ac.getBodyAsString(), TagListUpdateRequest.class);
 		TagFamilyRoot tagFamilyRoot = project.getTagFamilyRoot();
 		User user = ac.getUser();
+		materializeRelease(release, batch);
 		batch.store(this);
 		removeAllTags(release);
 		for (TagReference tagReference : request.getTags()) {
@@ -1657,6 +1973,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		// invalidate the tree structure
 		Release release = ac.getRelease(getProject());
 		String releaseUuid = release.getUuid();
+		materializeRelease(release, batch);
 		Node parent = targetNode.getParentNode(releaseUuid);
 		while (parent != null) {
 			if (parent.getUuid().equals(getUuid())) {
@@ -1665,7 +1982,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			parent = parent.getParentNode(releaseUuid);
 		}
 
-		if (!targetNode.getSchemaContainer().getLatestVersion().getSchema().isContainer()) {
+		if (!targetNode.getSchemaContainer().getLatestVersion().getSchemaReadOnly().isContainer()) {
 			throw error(BAD_REQUEST, "node_move_error_targetnode_is_no_folder");
 		}
 
@@ -1693,6 +2010,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	@Override
 	public void deleteLanguageContainer(InternalActionContext ac, Release release, Language language, SearchQueueBatch batch,
 			boolean failForLastContainer) {
+		invalidateNavigation();
+		materializeRelease(release, batch);
 
 		// 1. Check whether the container has also a published variant. We need to take it offline in those cases
 		NodeGraphFieldContainer container = getGraphFieldContainer(language, release, PUBLISHED);
@@ -1731,7 +2050,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Check the different language versions
 		for (NodeGraphFieldContainer container : getGraphFieldContainers(releaseUuid, type)) {
-			Schema schema = container.getSchemaContainerVersion().getSchema();
+			Schema schema = container.getSchemaContainerVersion().getSchemaReadOnly();
 			String segmentFieldName = schema.getSegmentField();
 			// First check whether a string field exists for the given name
 			StringGraphField field = container.getString(segmentFieldName);
@@ -1805,7 +2124,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		ContainerType type = forVersion(versioiningParameters.getVersion());
 
 		Node parentNode = getParentNode(release.getUuid());
-		NodeGraphFieldContainer container = findVersion(ac.getNodeParameters().getLanguageList(), release.getUuid(), ac.getVersioningParameters()
+		NodeParameters nodeParameters = ac.getNodeParameters();
+		NodeGraphFieldContainer container = findVersion(nodeParameters.getLanguageList(), release.getUuid(), ac.getVersioningParameters()
 				.getVersion());
 
 		StringBuilder keyBuilder = new StringBuilder();
@@ -1858,18 +2178,30 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		keyBuilder.append("expandFields:");
 		keyBuilder.append(expandedFields);
 
+		/**
+		 * Projection
+		 * 
+		 * Sections which were not requested are not part of the response and thus can be omitted from the etag computation.
+		 */
+		keyBuilder.append("-");
+		keyBuilder.append("projection:");
+		keyBuilder.append(nodeParameters.getProjection());
+
 		// release specific tags
-		for (Tag tag : getTags(release)) {
-			// Tags can't be moved across releases thus we don't need to add the
-			// tag family etag
-			keyBuilder.append(tag.getETag(ac));
+		if (nodeParameters.isProjected(PROJECTION_TAGS)) {
+			for (Tag tag : getTags(release)) {
+				// Tags can't be moved across releases thus we don't need to add the
+				// tag family etag
+				keyBuilder.append(tag.getETag(ac));
+			}
 		}
 
 		// release specific children
-		for (Node child : getChildren(release.getUuid())) {
-			if (ac.getUser().hasPermission(child, READ_PERM)) {
+		if (nodeParameters.isProjected(PROJECTION_CHILDREN)) {
+			for (Map.Entry<String, NodeChildrenInfo> entry : new TreeMap<>(getChildrenInfo(ac, release)).entrySet()) {
 				keyBuilder.append("-");
-				keyBuilder.append(child.getSchemaContainer().getName());
+				keyBuilder.append(entry.getKey());
+				keyBuilder.append(entry.getValue().getCount());
 			}
 		}
 
@@ -1880,13 +2212,15 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		// keyBuilder.append(getCreator().getETag(ac));
 
 		// availableLanguages
-		keyBuilder.append("-");
-		keyBuilder.append(Arrays.toString(getAvailableLanguageNames(release, type).toArray()));
+		if (nodeParameters.isProjected(PROJECTION_LANGUAGES)) {
+			keyBuilder.append("-");
+			keyBuilder.append(Arrays.toString(getAvailableLanguageNames(release, type).toArray()));
+		}
 
 		// breadcrumb
 		keyBuilder.append("-");
 		Node current = getParentNode(release.getUuid());
-		if (current != null) {
+		if (current != null && nodeParameters.isProjected(PROJECTION_BREADCRUMB)) {
 			while (current != null) {
 
 				String key = current.getUuid() + current.getDisplayName(ac);
@@ -1908,7 +2242,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		 * The webroot and language paths must be included in the etag computation in order to invalidate the etag once a node language gets updated or once the
 		 * display name of any parent node changes.
 		 */
-		if (ac.getNodeParameters().getResolveLinks() != LinkType.OFF) {
+		if (ac.getNodeParameters().getResolveLinks() != LinkType.OFF && nodeParameters.isProjected(PROJECTION_PATH)) {
 
 			WebRootLinkReplacer linkReplacer = MeshInternal.get().webRootLinkReplacer();
 			String path = linkReplacer.resolve(ac, release.getUuid(), type, getUuid(), ac.getNodeParameters().getResolveLinks(), getProject()
@@ -1930,7 +2264,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		 * Permissions can change and thus must be included in the etag computation in order to invalidate the etag once the permissions change.
 		 */
 		String roleUuid = ac.getRolePermissionParameters().getRoleUuid();
-		if (!isEmpty(roleUuid)) {
+		if (!isEmpty(roleUuid) && nodeParameters.isProjected(PROJECTION_ROLE_PERMS)) {
 			Role role = MeshInternal.get().boot().meshRoot().getRoleRoot().loadObjectByUuid(ac, roleUuid, READ_PERM);
 			if (role != null) {
 				Set<GraphPermission> permSet = role.getPermissions(this);
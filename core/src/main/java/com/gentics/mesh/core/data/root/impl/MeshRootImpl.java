@@ -94,6 +94,16 @@ public class MeshRootImpl extends MeshVertexImpl implements MeshRoot {
 		setProperty(MESH_DB_REV, rev);
 	}
 
+	@Override
+	public Long getConsistencyCheckTimestamp() {
+		return getProperty(MESH_CONSISTENCY_CHECK_TIMESTAMP);
+	}
+
+	@Override
+	public void setConsistencyCheckTimestamp(Long timestamp) {
+		setProperty(MESH_CONSISTENCY_CHECK_TIMESTAMP, timestamp);
+	}
+
 	@Override
 	public BinaryRoot getBinaryRoot() {
 		if (binaryRoot == null) {
@@ -18,12 +18,16 @@ import com.gentics.mesh.core.data.schema.SchemaChange;
 import com.gentics.mesh.core.data.schema.handler.FieldSchemaContainerComparator;
 import com.gentics.mesh.core.data.schema.handler.FieldSchemaContainerMutator;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
+import com.gentics.mesh.core.data.service.CompiledSchema;
 import com.gentics.mesh.core.rest.common.NameUuidReference;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.rest.schema.FieldSchemaContainer;
 import com.gentics.mesh.core.rest.schema.FieldSchemaContainerVersion;
 import com.gentics.mesh.core.rest.schema.change.impl.SchemaChangeModel;
 import com.gentics.mesh.core.rest.schema.change.impl.SchemaChangesListModel;
+import com.gentics.mesh.dagger.MeshInternal;
 import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.util.UUIDUtil;
 
 /**
  * Abstract implementation for a graph field container version.
@@ -40,6 +44,8 @@ import com.gentics.mesh.json.JsonUtil;
 public abstract class AbstractGraphFieldSchemaContainerVersion<R extends FieldSchemaContainer, RM extends FieldSchemaContainerVersion, RE extends NameUuidReference<RE>, SCV extends GraphFieldSchemaContainerVersion<R, RM, RE, SCV, SC>, SC extends GraphFieldSchemaContainer<R, RE, SC, SCV>>
 		extends AbstractMeshCoreVertex<R, SCV> implements GraphFieldSchemaContainerVersion<R, RM, RE, SCV, SC> {
 
+	public static final String JSON_STAMP_PROPERTY_KEY = "jsonStamp";
+
 	@Override
 	public void setName(String name) {
 		setProperty("name", name);
@@ -159,6 +165,70 @@ public abstract class AbstractGraphFieldSchemaContainerVersion<R extends FieldSc
 	@Override
 	public void setJson(String json) {
 		setProperty("json", json);
+		// The stamp is used to validate the compiled schema without reading the JSON
+		setProperty(JSON_STAMP_PROPERTY_KEY, UUIDUtil.randomUUID());
+		MeshInternal.get().serverSchemaStorage().removeCompiledVersion(getId());
+	}
+
+	/**
+	 * Return the stamp of the stored JSON. Versions which were stored before the stamp was introduced have no stamp. Their JSON has not been modified
+	 * since.
+	 * 
+	 * @return
+	 */
+	private String getJsonStamp() {
+		String stamp = getProperty(JSON_STAMP_PROPERTY_KEY);
+		return stamp == null ? "" : stamp;
+	}
+
+	/**
+	 * Load the schema model of this version from the schema storage or from the stored JSON.
+	 * 
+	 * @return
+	 */
+	protected abstract RM loadSchema();
+
+	/**
+	 * Return the class of the schema model which is used to parse the stored JSON.
+	 * 
+	 * @return
+	 */
+	protected abstract Class<? extends RM> getSchemaModelClass();
+
+	/**
+	 * Return the compiled schema of this version. The compiled schema is held by the schema storage and will be compiled again if the JSON stamp of the
+	 * version differs from the stamp of the compiled schema. Validating the compiled schema thus only requires reading the small stamp property.
+	 * 
+	 * @return Compiled schema or null if the version has not yet been committed and thus only has a temporary id which can't be used for caching
+	 */
+	protected CompiledSchema<RM> getCompiledSchema() {
+		if (!MeshInternal.get().database().isPersisted(getElement())) {
+			return null;
+		}
+		String stamp = getJsonStamp();
+		return MeshInternal.get().serverSchemaStorage().getCompiledVersion(getId(), stamp, () -> {
+			String json = getJson();
+			return new CompiledSchema<>(JsonUtil.readValue(json, getSchemaModelClass()), json, stamp);
+		});
+	}
+
+	@Override
+	public RM getSchema() {
+		// Parse a modifiable copy. The JSON of the compiled schema is used to avoid reading it from the graph.
+		CompiledSchema<RM> compiled = getCompiledSchema();
+		return JsonUtil.readValue(compiled == null ? getJson() : compiled.getJson(), getSchemaModelClass());
+	}
+
+	@Override
+	public RM getSchemaReadOnly() {
+		CompiledSchema<RM> compiled = getCompiledSchema();
+		return compiled == null ? loadSchema() : compiled.getSchema();
+	}
+
+	@Override
+	public FieldSchema getFieldSchema(String fieldName) {
+		CompiledSchema<RM> compiled = getCompiledSchema();
+		return compiled == null ? loadSchema().getField(fieldName) : compiled.getField(fieldName);
 	}
 
 	@Override
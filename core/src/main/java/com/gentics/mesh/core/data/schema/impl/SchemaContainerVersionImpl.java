@@ -10,6 +10,7 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_SCH
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_SCHEMA_VERSION;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TO_VERSION;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Spliterator;
@@ -95,7 +96,12 @@ public class SchemaContainerVersionImpl extends
 	}
 
 	@Override
-	public SchemaModel getSchema() {
+	protected Class<? extends SchemaModel> getSchemaModelClass() {
+		return SchemaModelImpl.class;
+	}
+
+	@Override
+	protected SchemaModel loadSchema() {
 		SchemaModel schema = MeshInternal.get().serverSchemaStorage().getSchema(getName(), getVersion());
 		if (schema == null) {
 			schema = JsonUtil.readValue(getJson(), SchemaModelImpl.class);
@@ -106,9 +112,18 @@ public class SchemaContainerVersionImpl extends
 
 	@Override
 	public SchemaResponse transformToRestSync(InternalActionContext ac, int level, String... languageTags) {
-		// Load the schema and add/overwrite some properties
-		// Use getSchema to utilise the schema storage
-		SchemaResponse restSchema = JsonUtil.readValue(getJson(), SchemaResponse.class);
+		// Build the response from the compiled schema to avoid loading and parsing the stored JSON. The field schemas are shared with the compiled schema.
+		SchemaModel schema = getSchemaReadOnly();
+		SchemaResponse restSchema = new SchemaResponse();
+		restSchema.setName(schema.getName());
+		restSchema.setVersion(schema.getVersion());
+		restSchema.setDescription(schema.getDescription());
+		restSchema.setDisplayField(schema.getDisplayField());
+		restSchema.setSegmentField(schema.getSegmentField());
+		restSchema.setUrlFields(schema.getUrlFields() == null ? null : new ArrayList<>(schema.getUrlFields()));
+		restSchema.setContainer(schema.isContainer());
+		restSchema.setElasticsearch(schema.getElasticsearch() == null ? null : schema.getElasticsearch().copy());
+		restSchema.setFields(new ArrayList<>(schema.getFields()));
 		SchemaContainer container = getSchemaContainer();
 		container.fillCommonRestFields(ac, restSchema);
 		container.setRolePermissions(ac, restSchema);
@@ -181,6 +196,7 @@ public class SchemaContainerVersionImpl extends
 			job.remove();
 		}
 		// Delete version
+		MeshInternal.get().serverSchemaStorage().removeCompiledVersion(getId());
 		remove();
 	}
 
@@ -0,0 +1,89 @@
+package com.gentics.mesh.core.data.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.core.rest.schema.FieldSchemaContainer;
+
+/**
+ * Pre-compiled schema or microschema version which is held by the {@link ServerSchemaStorage}. The compiled schema contains the parsed schema model, the
+ * stored JSON and a lookup table for the fields so that field schemas can be located without iterating over the field list. The field list of the model
+ * can't be modified since the model is shared between all threads. Each compiled schema is tagged with the JSON stamp of the version from which it was
+ * compiled.
+ *
+ * @param <T>
+ *            Schema model type
+ */
+public class CompiledSchema<T extends FieldSchemaContainer> {
+
+	private final T schema;
+
+	private final String json;
+
+	private final String stamp;
+
+	private final Map<String, FieldSchema> fields;
+
+	/**
+	 * Create a new compiled schema.
+	 *
+	 * @param schema
+	 *            Parsed schema model
+	 * @param json
+	 *            JSON from which the model was parsed
+	 * @param stamp
+	 *            JSON stamp of the version from which the schema was compiled
+	 */
+	public CompiledSchema(T schema, String json, String stamp) {
+		this.schema = schema;
+		this.json = json;
+		this.stamp = stamp;
+		Map<String, FieldSchema> fields = new HashMap<>();
+		for (FieldSchema field : schema.getFields()) {
+			fields.put(field.getName(), field);
+		}
+		this.fields = Collections.unmodifiableMap(fields);
+		schema.setFields(Collections.unmodifiableList(schema.getFields()));
+	}
+
+	/**
+	 * Check whether the schema was compiled from the JSON with the given stamp.
+	 *
+	 * @param stamp
+	 * @return
+	 */
+	public boolean isCompiledFrom(String stamp) {
+		return this.stamp.equals(stamp);
+	}
+
+	/**
+	 * Return the parsed schema model.
+	 *
+	 * @return
+	 */
+	public T getSchema() {
+		return schema;
+	}
+
+	/**
+	 * Return the JSON of the schema. The JSON can be used to create new rest models without loading the schema from the graph.
+	 *
+	 * @return
+	 */
+	public String getJson() {
+		return json;
+	}
+
+	/**
+	 * Return the field schema with the given name.
+	 *
+	 * @param fieldName
+	 * @return Field schema or null if the schema contains no such field
+	 */
+	public FieldSchema getField(String fieldName) {
+		return fieldName == null ? null : fields.get(fieldName);
+	}
+
+}
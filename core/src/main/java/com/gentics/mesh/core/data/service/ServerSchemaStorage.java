@@ -1,13 +1,20 @@
 package com.gentics.mesh.core.data.service;
 
-import java.util.HashMap;
+import static com.gentics.mesh.Events.EVENT_MICROSCHEMA_DELETED;
+import static com.gentics.mesh.Events.EVENT_MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.Events.EVENT_SCHEMA_DELETED;
+import static com.gentics.mesh.Events.EVENT_SCHEMA_UPDATED;
+
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
@@ -25,6 +32,10 @@ import io.vertx.core.logging.LoggerFactory;
 /**
  * Central schema storage system which is used to buffer/cache JSON schema data. Storing the schema pojo's in memory is not expensive and help peformance a lot
  * since it is not required to load the schema from the graph everytime it is needed.
+ * 
+ * The storage additionally holds the compiled schema versions by the id of their version vertex. A compiled version is only used if it was compiled from
+ * the JSON with the stamp which is currently stored in the version. The compiled versions will be cleared when a schema or microschema gets updated or deleted on any
+ * instance of the cluster. All maps of the storage can be accessed concurrently.
  */
 @Singleton
 public class ServerSchemaStorage implements SchemaStorage {
@@ -36,9 +47,14 @@ public class ServerSchemaStorage implements SchemaStorage {
 	/**
 	 * Map holding the schemas per name and version
 	 */
-	private Map<String, Map<String, SchemaModel>> schemas = new HashMap<>();
+	private Map<String, Map<String, SchemaModel>> schemas = new ConcurrentHashMap<>();
+
+	private Map<String, Map<String, MicroschemaModel>> microschemas = new ConcurrentHashMap<>();
 
-	private Map<String, Map<String, MicroschemaModel>> microschemas = new HashMap<>();
+	/**
+	 * Map holding the compiled schema and microschema versions per version vertex id
+	 */
+	private Map<Object, CompiledSchema<?>> compiledVersions = new ConcurrentHashMap<>();
 
 	@Inject
 	public ServerSchemaStorage(Lazy<BootstrapInitializer> boot) {
@@ -50,7 +66,7 @@ public class ServerSchemaStorage implements SchemaStorage {
 		for (SchemaContainer container : boot.get().schemaContainerRoot().findAllIt()) {
 			for (SchemaContainerVersion version : container.findAll()) {
 				SchemaModel restSchema = version.getSchema();
-				schemas.computeIfAbsent(restSchema.getName(), k -> new HashMap<>()).put(restSchema.getVersion(), restSchema);
+				schemas.computeIfAbsent(restSchema.getName(), k -> new ConcurrentHashMap<>()).put(restSchema.getVersion(), restSchema);
 			}
 		}
 
@@ -58,15 +74,68 @@ public class ServerSchemaStorage implements SchemaStorage {
 		for (MicroschemaContainer container : boot.get().microschemaContainerRoot().findAllIt()) {
 			for (MicroschemaContainerVersion version : container.findAll()) {
 				MicroschemaModel restMicroschema = version.getSchema();
-				microschemas.computeIfAbsent(restMicroschema.getName(), k -> new HashMap<>()).put(restMicroschema.getVersion(), restMicroschema);
+				microschemas.computeIfAbsent(restMicroschema.getName(), k -> new ConcurrentHashMap<>()).put(restMicroschema.getVersion(), restMicroschema);
 			}
 		}
 	}
 
+	/**
+	 * Register the event handlers which clear the compiled versions when a schema or microschema was updated or deleted.
+	 */
+	public void registerEventHandler() {
+		for (String address : new String[] { EVENT_SCHEMA_UPDATED, EVENT_SCHEMA_DELETED, EVENT_MICROSCHEMA_UPDATED, EVENT_MICROSCHEMA_DELETED }) {
+			Mesh.vertx().eventBus().consumer(address, e -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing compiled schema versions due to received event from {" + e.address() + "}");
+				}
+				clearCompiledVersions();
+			});
+		}
+	}
+
+	/**
+	 * Return the compiled schema or microschema version for the given version vertex id. The version will be compiled again if the cached version was not
+	 * compiled from the JSON with the given stamp. This way schema JSON of uncommitted or rolled back transactions will never be returned for other JSON.
+	 * 
+	 * @param versionId
+	 *            Id of the version vertex
+	 * @param stamp
+	 *            Currently stored JSON stamp of the version
+	 * @param compiler
+	 *            Compiler which loads the JSON and creates the compiled version
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends FieldSchemaContainer> CompiledSchema<T> getCompiledVersion(Object versionId, String stamp, Supplier<CompiledSchema<T>> compiler) {
+		CompiledSchema<?> compiled = compiledVersions.get(versionId);
+		if (compiled == null || !compiled.isCompiledFrom(stamp)) {
+			compiled = compiler.get();
+			compiledVersions.put(versionId, compiled);
+		}
+		return (CompiledSchema<T>) compiled;
+	}
+
+	/**
+	 * Remove the compiled version for the given version vertex id.
+	 * 
+	 * @param versionId
+	 */
+	public void removeCompiledVersion(Object versionId) {
+		compiledVersions.remove(versionId);
+	}
+
+	/**
+	 * Remove all compiled versions. This is required when the graph was replaced since the version vertex ids may have changed.
+	 */
+	public void clearCompiledVersions() {
+		compiledVersions.clear();
+	}
+
 	@Override
 	public void clear() {
 		schemas.clear();
 		microschemas.clear();
+		clearCompiledVersions();
 	}
 
 	@Override
@@ -117,12 +186,9 @@ public class ServerSchemaStorage implements SchemaStorage {
 
 	@Override
 	public void addSchema(SchemaModel schema) {
-		Map<String, SchemaModel> schemaMap = schemas.computeIfAbsent(schema.getName(), k -> new HashMap<>());
-		if (schemaMap.containsKey(schema.getVersion())) {
+		Map<String, SchemaModel> schemaMap = schemas.computeIfAbsent(schema.getName(), k -> new ConcurrentHashMap<>());
+		if (schemaMap.putIfAbsent(schema.getVersion(), schema) != null) {
 			log.error("Schema " + schema.getName() + ", version " + schema.getVersion() + " is already stored.");
-			return;
-		} else {
-			schemaMap.put(schema.getVersion(), schema);
 		}
 	}
 
@@ -156,12 +222,9 @@ public class ServerSchemaStorage implements SchemaStorage {
 
 	@Override
 	public void addMicroschema(MicroschemaModel microschema) {
-		Map<String, MicroschemaModel> microschemaMap = microschemas.computeIfAbsent(microschema.getName(), k -> new HashMap<>());
-		if (microschemaMap.containsKey(microschema.getVersion())) {
+		Map<String, MicroschemaModel> microschemaMap = microschemas.computeIfAbsent(microschema.getName(), k -> new ConcurrentHashMap<>());
+		if (microschemaMap.putIfAbsent(microschema.getVersion(), microschema) != null) {
 			log.error("Microschema " + microschema.getName() + ", version " + microschema.getVersion() + " is already stored.");
-			return;
-		} else {
-			microschemaMap.put(microschema.getVersion(), microschema);
 		}
 	}
 
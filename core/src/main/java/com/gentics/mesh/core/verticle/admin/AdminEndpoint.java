@@ -12,6 +12,7 @@ import com.gentics.mesh.MeshStatus;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheckHandler;
+import com.gentics.mesh.parameter.impl.ConsistencyCheckParametersImpl;
 import com.gentics.mesh.rest.EndpointRoute;
 import com.gentics.mesh.router.route.AbstractEndpoint;
 import com.gentics.mesh.util.UUIDUtil;
@@ -80,7 +81,9 @@ public class AdminEndpoint extends AbstractEndpoint {
 		EndpointRoute endpoint = createEndpoint();
 		endpoint.path("/consistency/check");
 		endpoint.method(GET);
-		endpoint.description("Invokes a consistency check of the graph database and returns a list of found issues");
+		endpoint.description("Invokes a consistency check of the graph database and returns a list of found issues. "
+				+ "The check can be limited to specific element types, a single project or to the elements which have been modified since the last complete check.");
+		endpoint.addQueryParameters(ConsistencyCheckParametersImpl.class);
 		endpoint.produces(APPLICATION_JSON);
 		endpoint.exampleResponse(OK, miscExamples.createConsistencyCheckResponse(), "Consistency check report");
 		endpoint.handler(rc -> {
@@ -18,6 +18,7 @@ import javax.inject.Singleton;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.MeshStatus;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.service.ServerSchemaStorage;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
 import com.gentics.mesh.core.verticle.handler.AbstractHandler;
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -39,9 +40,12 @@ public class AdminHandler extends AbstractHandler {
 
 	private Database db;
 
+	private ServerSchemaStorage schemaStorage;
+
 	@Inject
-	public AdminHandler(Database db) {
+	public AdminHandler(Database db, ServerSchemaStorage schemaStorage) {
 		this.db = db;
+		this.schemaStorage = schemaStorage;
 	}
 
 	public void handleMeshStatus(InternalActionContext ac) {
@@ -88,6 +92,7 @@ public class AdminHandler extends AbstractHandler {
 				throw error(INTERNAL_SERVER_ERROR, "error_backup", backupDir.getAbsolutePath());
 			}
 			db.restoreGraph(latestFile.getAbsolutePath());
+			schemaStorage.clearCompiledVersions();
 			return Single.just(message(ac, "restore_finished"));
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 	}
@@ -125,6 +130,7 @@ public class AdminHandler extends AbstractHandler {
 				.sorted(comparing(File::lastModified)).reduce((first, second) -> second).orElseGet(() -> null);
 		try {
 			db.importGraph(latestFile.getAbsolutePath());
+			schemaStorage.clearCompiledVersions();
 			Single.just(message(ac, "import_finished")).subscribe(model -> ac.send(model, OK), ac::fail);
 		} catch (IOException e) {
 			ac.fail(e);
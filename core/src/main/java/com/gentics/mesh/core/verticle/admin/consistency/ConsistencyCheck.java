@@ -11,13 +11,38 @@ import com.gentics.mesh.graphdb.spi.Database;
 public interface ConsistencyCheck {
 
 	/**
-	 * Invoke the consistency check and update the given response with found inconsistencies.
+	 * Return the name of the check which can be used to select the check via the type parameter.
+	 * 
+	 * @return
+	 */
+	String getName();
+
+	/**
+	 * Check whether the checked elements are assigned to a project.
+	 * 
+	 * @return
+	 */
+	default boolean isProjectScoped() {
+		return false;
+	}
+
+	/**
+	 * Invoke the consistency check and pass the found inconsistencies to the listener of the context.
+	 * 
+	 * @param context
+	 */
+	void invoke(ConsistencyCheckContext context);
+
+	/**
+	 * Invoke the consistency check within the current transaction and update the given response with found inconsistencies.
 	 * 
 	 * @param db
 	 *            database
 	 * @param response
 	 */
-	void invoke(Database db, ConsistencyCheckResponse response);
+	default void invoke(Database db, ConsistencyCheckResponse response) {
+		invoke(new ConsistencyCheckContext(db, response));
+	}
 
 	/**
 	 * Check existence of an incoming edge.
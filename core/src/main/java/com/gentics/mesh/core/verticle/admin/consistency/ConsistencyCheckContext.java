@@ -0,0 +1,244 @@
+package com.gentics.mesh.core.verticle.admin.consistency;
+
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.ASSIGNED_TO_PROJECT;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_RELEASE_ROOT;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import com.gentics.mesh.core.data.CreatorTrackingVertex;
+import com.gentics.mesh.core.data.EditorTrackingVertex;
+import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.impl.ProjectImpl;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.root.ReleaseRoot;
+import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
+import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.syncleus.ferma.tx.Tx;
+
+/**
+ * Context for a consistency check run. The context iterates over the elements of a type and passes them in chunks to the element checks. Chunks will be
+ * checked in parallel within dedicated transactions if an executor has been set. Found inconsistencies will be passed to the listener once a chunk has
+ * been checked so that the results of a run never need to be held in memory as a whole.
+ */
+public class ConsistencyCheckContext {
+
+	public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+	private final Database db;
+
+	private final Consumer<InconsistencyInfo> listener;
+
+	private ExecutorService executor;
+
+	private Semaphore pendingChunks;
+
+	private List<Future<?>> futures = new ArrayList<>();
+
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	private String projectUuid;
+
+	private Long since;
+
+	/**
+	 * Create a new context which checks all elements sequentially within the current transaction and adds the found inconsistencies to the response.
+	 *
+	 * @param db
+	 * @param response
+	 */
+	public ConsistencyCheckContext(Database db, ConsistencyCheckResponse response) {
+		this(db, response.getInconsistencies()::add);
+	}
+
+	/**
+	 * Create a new context which checks all elements sequentially within the current transaction.
+	 *
+	 * @param db
+	 * @param listener
+	 *            Listener which will be invoked for each found inconsistency
+	 */
+	public ConsistencyCheckContext(Database db, Consumer<InconsistencyInfo> listener) {
+		this.db = db;
+		this.listener = listener;
+	}
+
+	/**
+	 * Set the executor which will be used to check the chunks in parallel. Each chunk will be checked within a dedicated transaction.
+	 *
+	 * @param executor
+	 * @param parallelism
+	 *            Maximum amount of chunks which will be queued or checked at the same time
+	 * @return Fluent API
+	 */
+	public ConsistencyCheckContext setExecutor(ExecutorService executor, int parallelism) {
+		this.executor = executor;
+		this.pendingChunks = new Semaphore(parallelism * 2);
+		return this;
+	}
+
+	/**
+	 * Set the amount of elements which will be checked within a single chunk.
+	 *
+	 * @param chunkSize
+	 * @return Fluent API
+	 */
+	public ConsistencyCheckContext setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	/**
+	 * Limit the check to the elements of the project with the given uuid.
+	 *
+	 * @param projectUuid
+	 * @return Fluent API
+	 */
+	public ConsistencyCheckContext setProjectUuid(String projectUuid) {
+		this.projectUuid = projectUuid;
+		return this;
+	}
+
+	/**
+	 * Limit the check to elements which have been created or edited since the given timestamp.
+	 *
+	 * @param since
+	 * @return Fluent API
+	 */
+	public ConsistencyCheckContext setSince(Long since) {
+		this.since = since;
+		return this;
+	}
+
+	/**
+	 * Check all elements of the given type which match the project and timestamp restrictions of the context.
+	 *
+	 * @param clazz
+	 *            Type of the elements
+	 * @param check
+	 *            Check which will be invoked for each element
+	 */
+	public <T extends MeshVertex> void checkAll(Class<T> clazz, BiConsumer<? super T, ConsistencyCheckResponse> check) {
+		Iterator<? extends T> it = db.getVerticesForType(clazz);
+		List<T> chunk = new ArrayList<>(chunkSize);
+		while (it.hasNext()) {
+			chunk.add(it.next());
+			if (chunk.size() == chunkSize) {
+				submit(chunk, check);
+				chunk = new ArrayList<>(chunkSize);
+			}
+		}
+		if (!chunk.isEmpty()) {
+			submit(chunk, check);
+		}
+	}
+
+	/**
+	 * Wait until all submitted chunks have been checked.
+	 *
+	 * @throws InterruptedException
+	 * @throws ExecutionException
+	 *             Error which occurred while checking a chunk
+	 */
+	public void await() throws InterruptedException, ExecutionException {
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		futures.clear();
+	}
+
+	private <T extends MeshVertex> void submit(List<T> chunk, BiConsumer<? super T, ConsistencyCheckResponse> check) {
+		if (executor == null) {
+			checkChunk(chunk, check);
+			return;
+		}
+
+		// Don't read ahead too far. Otherwise all elements would end up in the queue of the executor.
+		pendingChunks.acquireUninterruptibly();
+		futures.add(executor.submit(() -> {
+			try (Tx tx = db.tx()) {
+				checkChunk(chunk, check);
+			} finally {
+				pendingChunks.release();
+			}
+		}));
+	}
+
+	private <T extends MeshVertex> void checkChunk(List<T> chunk, BiConsumer<? super T, ConsistencyCheckResponse> check) {
+		ConsistencyCheckResponse chunkResponse = new ConsistencyCheckResponse();
+		for (T element : chunk) {
+			if (matchesProject(element) && isModifiedSince(element)) {
+				check.accept(element, chunkResponse);
+			}
+		}
+		synchronized (listener) {
+			chunkResponse.getInconsistencies().forEach(listener);
+		}
+	}
+
+	/**
+	 * Check whether the element belongs to the project of the context. Elements which are not assigned to a project will be skipped if the check has been
+	 * limited to a project.
+	 *
+	 * @param element
+	 * @return
+	 */
+	private boolean matchesProject(MeshVertex element) {
+		if (projectUuid == null) {
+			return true;
+		}
+		if (element instanceof Project) {
+			return projectUuid.equals(element.getUuid());
+		}
+		if (element instanceof ReleaseRoot) {
+			Project project = element.in(HAS_RELEASE_ROOT).has(ProjectImpl.class).nextOrDefaultExplicit(ProjectImpl.class, null);
+			return project != null && projectUuid.equals(project.getUuid());
+		}
+		Project project = element.out(ASSIGNED_TO_PROJECT).has(ProjectImpl.class).nextOrDefaultExplicit(ProjectImpl.class, null);
+		return project != null && projectUuid.equals(project.getUuid());
+	}
+
+	/**
+	 * Check whether the element has been created or edited since the timestamp of the context. Nodes are considered to be modified if one of their
+	 * field containers has been edited.
+	 *
+	 * @param element
+	 * @return
+	 */
+	private boolean isModifiedSince(MeshVertex element) {
+		if (since == null) {
+			return true;
+		}
+		if (element instanceof Node) {
+			for (NodeGraphFieldContainer container : ((Node) element).getDraftGraphFieldContainers()) {
+				if (isAfter(container.getLastEditedTimestamp())) {
+					return true;
+				}
+			}
+		}
+		if (element instanceof EditorTrackingVertex && isAfter(((EditorTrackingVertex) element).getLastEditedTimestamp())) {
+			return true;
+		}
+		if (element instanceof CreatorTrackingVertex) {
+			Long created = ((CreatorTrackingVertex) element).getCreationTimestamp();
+			// Elements without creation timestamp can't be tracked and will always be checked
+			return created == null || isAfter(created);
+		}
+		return !(element instanceof EditorTrackingVertex);
+	}
+
+	private boolean isAfter(Long timestamp) {
+		return timestamp != null && timestamp >= since;
+	}
+
+}
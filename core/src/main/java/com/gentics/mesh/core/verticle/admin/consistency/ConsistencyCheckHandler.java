@@ -1,16 +1,23 @@
 package com.gentics.mesh.core.verticle.admin.consistency;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.verticle.admin.consistency.asserter.GroupCheck;
 import com.gentics.mesh.core.verticle.admin.consistency.asserter.MicroschemaContainerCheck;
@@ -23,9 +30,11 @@ import com.gentics.mesh.core.verticle.admin.consistency.asserter.TagCheck;
 import com.gentics.mesh.core.verticle.admin.consistency.asserter.TagFamilyCheck;
 import com.gentics.mesh.core.verticle.admin.consistency.asserter.UserCheck;
 import com.gentics.mesh.core.verticle.handler.AbstractHandler;
+import com.gentics.mesh.dagger.MeshInternal;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.parameter.ConsistencyCheckParameters;
+import com.syncleus.ferma.tx.Tx;
 
-import io.reactivex.Single;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -37,6 +46,11 @@ public class ConsistencyCheckHandler extends AbstractHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(ConsistencyCheckHandler.class);
 
+	/**
+	 * Maximum amount of inconsistencies which will be added to the response. Further inconsistencies will only be logged.
+	 */
+	public static final int MAX_REPORTED_INCONSISTENCIES = 250;
+
 	private Database db;
 
 	private static List<ConsistencyCheck> checks = Arrays.asList(new GroupCheck(), new MicroschemaContainerCheck(), new NodeCheck(),
@@ -58,22 +72,93 @@ public class ConsistencyCheckHandler extends AbstractHandler {
 	}
 
 	/**
-	 * Invoke the consistency check. 
+	 * Invoke the consistency check. The checks will be executed in parallel. Only the elements which have been modified since the last complete check
+	 * will be checked if the incremental flag has been set.
+	 * 
 	 * @param ac
 	 */
 	public void invokeCheck(InternalActionContext ac) {
-		db.asyncTx((tx) -> {
-			if (!ac.getUser().hasAdminRole()) {
-				throw error(FORBIDDEN, "error_admin_permission_required");
-			}
-			log.info("Consistency check has been invoked.");
+		ConsistencyCheckParameters parameters = ac.getConsistencyCheckParameters();
+		List<String> types = parameters.getTypes();
+		String projectName = parameters.getProjectName();
+		boolean incremental = parameters.isIncremental();
+
+		Mesh.vertx().<ConsistencyCheckResponse>executeBlocking(bc -> {
+			ConsistencyCheckContext context;
+			List<ConsistencyCheck> selectedChecks;
+			long start = System.currentTimeMillis();
 			ConsistencyCheckResponse response = new ConsistencyCheckResponse();
-			// Check domain model
-			for (ConsistencyCheck check : checks) {
-				check.invoke(db, response);
+			AtomicInteger found = new AtomicInteger();
+
+			try (Tx tx = db.tx()) {
+				if (!ac.getUser().hasAdminRole()) {
+					throw error(FORBIDDEN, "error_admin_permission_required");
+				}
+				for (String type : types) {
+					if (checks.stream().noneMatch(check -> check.getName().equals(type))) {
+						throw error(BAD_REQUEST, "admin_consistency_check_type_unknown", type, getCheckNames());
+					}
+				}
+				selectedChecks = checks.stream().filter(check -> types.isEmpty() || types.contains(check.getName())).collect(Collectors.toList());
+
+				context = new ConsistencyCheckContext(db, info -> {
+					if (found.incrementAndGet() <= MAX_REPORTED_INCONSISTENCIES) {
+						response.getInconsistencies().add(info);
+					} else {
+						response.setOutputTruncated(true);
+						log.warn("Inconsistency found: {" + info.getDescription() + "} for element {" + info.getElementUuid() + "}");
+					}
+				});
+
+				if (projectName != null) {
+					Project project = MeshInternal.get().boot().projectRoot().findByName(projectName);
+					if (project == null) {
+						throw error(BAD_REQUEST, "project_not_found", projectName);
+					}
+					context.setProjectUuid(project.getUuid());
+					selectedChecks = selectedChecks.stream().filter(ConsistencyCheck::isProjectScoped).collect(Collectors.toList());
+				}
+				if (incremental) {
+					context.setSince(MeshInternal.get().boot().meshRoot().getConsistencyCheckTimestamp());
+				}
+			}
+
+			log.info("Consistency check has been invoked for {" + selectedChecks.stream().map(ConsistencyCheck::getName).collect(Collectors.joining(","))
+					+ "}");
+			int parallelism = Runtime.getRuntime().availableProcessors();
+			ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+			try (Tx tx = db.tx()) {
+				context.setExecutor(executor, parallelism);
+				for (ConsistencyCheck check : selectedChecks) {
+					check.invoke(context);
+				}
+				context.await();
+			} catch (Exception e) {
+				bc.fail(e);
+				return;
+			} finally {
+				executor.shutdownNow();
+			}
+
+			// Only a complete check can serve as the base for the next incremental check
+			if (types.isEmpty() && projectName == null) {
+				db.tx(() -> {
+					MeshInternal.get().boot().meshRoot().setConsistencyCheckTimestamp(start);
+				});
+			}
+			log.info("Consistency check found {" + found.get() + "} inconsistencies in {" + (System.currentTimeMillis() - start) + "} ms");
+			bc.complete(response);
+		}, false, rh -> {
+			if (rh.succeeded()) {
+				ac.send(rh.result(), OK);
+			} else {
+				ac.fail(rh.cause());
 			}
-			return Single.just(response);
-		}).subscribe(model -> ac.send(model, OK), ac::fail);
+		});
+	}
+
+	private String getCheckNames() {
+		return checks.stream().map(ConsistencyCheck::getName).collect(Collectors.joining(", "));
 	}
 
 }
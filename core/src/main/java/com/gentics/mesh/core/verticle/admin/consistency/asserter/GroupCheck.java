@@ -5,14 +5,12 @@ import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
-import java.util.Iterator;
-
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.impl.GroupImpl;
 import com.gentics.mesh.core.data.root.impl.GroupRootImpl;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheck;
-import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheckContext;
 
 /**
  * Group specific consistency checks.
@@ -20,11 +18,13 @@ import com.gentics.mesh.graphdb.spi.Database;
 public class GroupCheck implements ConsistencyCheck {
 
 	@Override
-	public void invoke(Database db, ConsistencyCheckResponse response) {
-		Iterator<? extends Group> it = db.getVerticesForType(GroupImpl.class);
-		while (it.hasNext()) {
-			checkGroup(it.next(), response);
-		}
+	public String getName() {
+		return "groups";
+	}
+
+	@Override
+	public void invoke(ConsistencyCheckContext context) {
+		context.checkAll(GroupImpl.class, this::checkGroup);
 	}
 
 	private void checkGroup(Group group, ConsistencyCheckResponse response) {
@@ -2,13 +2,11 @@ package com.gentics.mesh.core.verticle.admin.consistency.asserter;
 
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
 
-import java.util.Iterator;
-
 import com.gentics.mesh.core.data.container.impl.MicroschemaContainerImpl;
 import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheck;
-import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheckContext;
 
 /**
  * Microschema container specific consistency checks.
@@ -16,11 +14,13 @@ import com.gentics.mesh.graphdb.spi.Database;
 public class MicroschemaContainerCheck implements ConsistencyCheck {
 
 	@Override
-	public void invoke(Database db, ConsistencyCheckResponse response) {
-		Iterator<? extends MicroschemaContainer> it = db.getVerticesForType(MicroschemaContainerImpl.class);
-		while (it.hasNext()) {
-			checkMicroschemaContainer(it.next(), response);
-		}
+	public String getName() {
+		return "microschemas";
+	}
+
+	@Override
+	public void invoke(ConsistencyCheckContext context) {
+		context.checkAll(MicroschemaContainerImpl.class, this::checkMicroschemaContainer);
 	}
 
 	private void checkMicroschemaContainer(MicroschemaContainer microschemaContainer, ConsistencyCheckResponse response) {
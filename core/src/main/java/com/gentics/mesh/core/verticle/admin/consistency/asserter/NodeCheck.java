@@ -7,7 +7,6 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_SCH
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.HIGH;
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
 
-import java.util.Iterator;
 import java.util.List;
 
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
@@ -18,7 +17,7 @@ import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.schema.impl.SchemaContainerImpl;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheck;
-import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheckContext;
 
 /**
  * Node specific consistency checks.
@@ -26,11 +25,18 @@ import com.gentics.mesh.graphdb.spi.Database;
 public class NodeCheck implements ConsistencyCheck {
 
 	@Override
-	public void invoke(Database db, ConsistencyCheckResponse response) {
-		Iterator<? extends Node> it = db.getVerticesForType(NodeImpl.class);
-		while (it.hasNext()) {
-			checkNode(it.next(), response);
-		}
+	public String getName() {
+		return "nodes";
+	}
+
+	@Override
+	public boolean isProjectScoped() {
+		return true;
+	}
+
+	@Override
+	public void invoke(ConsistencyCheckContext context) {
+		context.checkAll(NodeImpl.class, this::checkNode);
 	}
 
 	private void checkNode(Node node, ConsistencyCheckResponse response) {
@@ -11,8 +11,6 @@ import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
-import java.util.Iterator;
-
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.impl.ProjectImpl;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
@@ -24,7 +22,7 @@ import com.gentics.mesh.core.data.root.impl.ReleaseRootImpl;
 import com.gentics.mesh.core.data.root.impl.TagFamilyRootImpl;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheck;
-import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheckContext;
 
 /**
  * Project specific checks.
@@ -32,11 +30,18 @@ import com.gentics.mesh.graphdb.spi.Database;
 public class ProjectCheck implements ConsistencyCheck {
 
 	@Override
-	public void invoke(Database db, ConsistencyCheckResponse response) {
-		Iterator<? extends Project> it = db.getVerticesForType(ProjectImpl.class);
-		while (it.hasNext()) {
-			checkProject(it.next(), response);
-		}
+	public String getName() {
+		return "projects";
+	}
+
+	@Override
+	public boolean isProjectScoped() {
+		return true;
+	}
+
+	@Override
+	public void invoke(ConsistencyCheckContext context) {
+		context.checkAll(ProjectImpl.class, this::checkProject);
 	}
 
 	private void checkProject(Project project, ConsistencyCheckResponse response) {
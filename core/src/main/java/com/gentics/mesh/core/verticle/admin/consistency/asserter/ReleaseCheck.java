@@ -9,8 +9,6 @@ import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
-import java.util.Iterator;
-
 import com.gentics.mesh.core.data.Release;
 import com.gentics.mesh.core.data.impl.ProjectImpl;
 import com.gentics.mesh.core.data.impl.ReleaseImpl;
@@ -18,7 +16,7 @@ import com.gentics.mesh.core.data.root.ReleaseRoot;
 import com.gentics.mesh.core.data.root.impl.ReleaseRootImpl;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheck;
-import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheckContext;
 
 /**
  * Release specific consistency checks.
@@ -26,16 +24,19 @@ import com.gentics.mesh.graphdb.spi.Database;
 public class ReleaseCheck implements ConsistencyCheck {
 
 	@Override
-	public void invoke(Database db, ConsistencyCheckResponse response) {
-		Iterator<? extends ReleaseRoot> it = db.getVerticesForType(ReleaseRootImpl.class);
-		while (it.hasNext()) {
-			checkReleaseRoot(it.next(), response);
-		}
+	public String getName() {
+		return "releases";
+	}
 
-		Iterator<? extends Release> rIt = db.getVerticesForType(ReleaseImpl.class);
-		while (rIt.hasNext()) {
-			checkRelease(rIt.next(), response);
-		}
+	@Override
+	public boolean isProjectScoped() {
+		return true;
+	}
+
+	@Override
+	public void invoke(ConsistencyCheckContext context) {
+		context.checkAll(ReleaseRootImpl.class, this::checkReleaseRoot);
+		context.checkAll(ReleaseImpl.class, this::checkRelease);
 	}
 
 	private void checkReleaseRoot(ReleaseRoot releaseRoot, ConsistencyCheckResponse response) {
@@ -4,13 +4,11 @@ import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
-import java.util.Iterator;
-
 import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.impl.RoleImpl;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheck;
-import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheckContext;
 
 /**
  * Role specific consistency checks.
@@ -18,11 +16,13 @@ import com.gentics.mesh.graphdb.spi.Database;
 public class RoleCheck implements ConsistencyCheck {
 
 	@Override
-	public void invoke(Database db, ConsistencyCheckResponse response) {
-		Iterator<? extends Role> it = db.getVerticesForType(RoleImpl.class);
-		while (it.hasNext()) {
-			checkRole(it.next(), response);
-		}
+	public String getName() {
+		return "roles";
+	}
+
+	@Override
+	public void invoke(ConsistencyCheckContext context) {
+		context.checkAll(RoleImpl.class, this::checkRole);
 	}
 
 	private void checkRole(Role role, ConsistencyCheckResponse response) {
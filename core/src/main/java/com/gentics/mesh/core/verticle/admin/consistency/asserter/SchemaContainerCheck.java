@@ -7,8 +7,6 @@ import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
-import java.util.Iterator;
-
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.root.impl.SchemaContainerRootImpl;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
@@ -17,7 +15,7 @@ import com.gentics.mesh.core.data.schema.impl.SchemaContainerImpl;
 import com.gentics.mesh.core.data.schema.impl.SchemaContainerVersionImpl;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheck;
-import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheckContext;
 
 /**
  * Schema container specific checks.
@@ -25,16 +23,14 @@ import com.gentics.mesh.graphdb.spi.Database;
 public class SchemaContainerCheck implements ConsistencyCheck {
 
 	@Override
-	public void invoke(Database db, ConsistencyCheckResponse response) {
-		Iterator<? extends SchemaContainer> it = db.getVerticesForType(SchemaContainerImpl.class);
-		while (it.hasNext()) {
-			checkSchemaContainer(it.next(), response);
-		}
+	public String getName() {
+		return "schemas";
+	}
 
-		Iterator<? extends SchemaContainerVersionImpl> vIt = db.getVerticesForType(SchemaContainerVersionImpl.class);
-		while (vIt.hasNext()) {
-			checkSchemaContainerVersion(vIt.next(), response);
-		}
+	@Override
+	public void invoke(ConsistencyCheckContext context) {
+		context.checkAll(SchemaContainerImpl.class, this::checkSchemaContainer);
+		context.checkAll(SchemaContainerVersionImpl.class, this::checkSchemaContainerVersion);
 	}
 
 	private void checkSchemaContainer(SchemaContainer schemaContainer, ConsistencyCheckResponse response) {
@@ -4,13 +4,11 @@ import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
-import java.util.Iterator;
-
 import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.impl.TagImpl;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheck;
-import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheckContext;
 
 /**
  * Tag specific consistency checks.
@@ -18,11 +16,18 @@ import com.gentics.mesh.graphdb.spi.Database;
 public class TagCheck implements ConsistencyCheck {
 
 	@Override
-	public void invoke(Database db, ConsistencyCheckResponse response) {
-		Iterator<? extends Tag> it = db.getVerticesForType(TagImpl.class);
-		while (it.hasNext()) {
-			checkTag(it.next(), response);
-		}
+	public String getName() {
+		return "tags";
+	}
+
+	@Override
+	public boolean isProjectScoped() {
+		return true;
+	}
+
+	@Override
+	public void invoke(ConsistencyCheckContext context) {
+		context.checkAll(TagImpl.class, this::checkTag);
 	}
 
 	private void checkTag(Tag tag, ConsistencyCheckResponse response) {
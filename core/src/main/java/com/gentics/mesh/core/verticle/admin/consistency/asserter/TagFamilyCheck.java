@@ -3,13 +3,11 @@ package com.gentics.mesh.core.verticle.admin.consistency.asserter;
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.HIGH;
 import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity.MEDIUM;
 
-import java.util.Iterator;
-
 import com.gentics.mesh.core.data.TagFamily;
 import com.gentics.mesh.core.data.impl.TagFamilyImpl;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheck;
-import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheckContext;
 
 /**
  * Tag specific checks.
@@ -17,11 +15,18 @@ import com.gentics.mesh.graphdb.spi.Database;
 public class TagFamilyCheck implements ConsistencyCheck {
 
 	@Override
-	public void invoke(Database db, ConsistencyCheckResponse response) {
-		Iterator<? extends TagFamily> it = db.getVerticesForType(TagFamilyImpl.class);
-		while (it.hasNext()) {
-			checkTagFamily(it.next(), response);
-		}
+	public String getName() {
+		return "tagfamilies";
+	}
+
+	@Override
+	public boolean isProjectScoped() {
+		return true;
+	}
+
+	@Override
+	public void invoke(ConsistencyCheckContext context) {
+		context.checkAll(TagFamilyImpl.class, this::checkTagFamily);
 	}
 
 	private void checkTagFamily(TagFamily tagFamily, ConsistencyCheckResponse response) {
@@ -6,7 +6,6 @@ import static com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Set;
 
 import com.gentics.mesh.core.data.Group;
@@ -16,7 +15,7 @@ import com.gentics.mesh.core.data.impl.UserImpl;
 import com.gentics.mesh.core.data.root.impl.UserRootImpl;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheck;
-import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.core.verticle.admin.consistency.ConsistencyCheckContext;
 
 /**
  * User specific checks.
@@ -24,11 +23,13 @@ import com.gentics.mesh.graphdb.spi.Database;
 public class UserCheck implements ConsistencyCheck {
 
 	@Override
-	public void invoke(Database db, ConsistencyCheckResponse response) {
-		Iterator<? extends User> it = db.getVerticesForType(UserImpl.class);
-		while (it.hasNext()) {
-			checkUser(it.next(), response);
-		}
+	public String getName() {
+		return "users";
+	}
+
+	@Override
+	public void invoke(ConsistencyCheckContext context) {
+		context.checkAll(UserImpl.class, this::checkUser);
 	}
 
 	private void checkUser(User user, ConsistencyCheckResponse response) {
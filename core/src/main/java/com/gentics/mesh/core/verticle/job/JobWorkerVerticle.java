@@ -2,31 +2,46 @@ package com.gentics.mesh.core.verticle.job;
 
 import static com.gentics.mesh.Events.JOB_WORKER_ADDRESS;
 
-import java.util.function.Consumer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.job.JobRoot;
 import com.gentics.mesh.graphdb.spi.Database;
 
 import dagger.Lazy;
 import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Handler;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.shareddata.Lock;
 
 /**
- * Dedicated verticle which will process jobs.
+ * Dedicated verticle which will process jobs. Jobs are dispatched to a pool of job workers. Before a job is executed the locks which are returned by
+ * {@link Job#getLockNames()} will be acquired. Jobs which can't acquire their locks will be skipped and dispatched again once a running job finishes.
  */
 @Singleton
 public class JobWorkerVerticle extends AbstractVerticle {
 
 	private static final Logger log = LoggerFactory.getLogger(JobWorkerVerticle.class);
 
-	private static final String GLOBAL_JOB_LOCK_NAME = "mesh.internal.joblock";
+	/**
+	 * Timeout in milliseconds for acquiring a single job lock.
+	 */
+	private static final long LOCK_TIMEOUT = 100;
 
 	public final static String PROJECT_UUID_HEADER = "projectUuid";
 
@@ -50,6 +65,19 @@ public class JobWorkerVerticle extends AbstractVerticle {
 
 	private boolean stopped = false;
 
+	private int workerCount;
+
+	private ExecutorService executor;
+
+	/**
+	 * Uuids of the jobs which are currently executed by this instance.
+	 */
+	private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+	private boolean dispatching = false;
+
+	private boolean dispatchRequested = false;
+
 	@Inject
 	public JobWorkerVerticle(Database db, Lazy<BootstrapInitializer> boot) {
 		this.db = db;
@@ -62,6 +90,9 @@ public class JobWorkerVerticle extends AbstractVerticle {
 			log.debug("Starting verticle {" + getClass().getName() + "}");
 		}
 		stopped = false;
+		workerCount = Mesh.mesh().getOptions().getMigrationOptions().getJobWorkerCount();
+		AtomicInteger workerIds = new AtomicInteger();
+		executor = Executors.newFixedThreadPool(workerCount, r -> new Thread(r, "mesh-job-worker-" + workerIds.incrementAndGet()));
 		registerJobHandler();
 
 		// The verticle has been deployed. Now wait a few seconds and schedule the periodic execution of jobs
@@ -76,21 +107,122 @@ public class JobWorkerVerticle extends AbstractVerticle {
 
 	private void registerJobHandler() {
 		jobConsumer = vertx.eventBus().consumer(JOB_WORKER_ADDRESS, (message) -> {
-			log.info("Got job processing request. Getting lock to execute the request.");
+			log.info("Got job processing request. Dispatching pending jobs.");
 			processJobs();
 		});
 	}
 
+	/**
+	 * Dispatch the pending jobs to the job workers. Only one dispatch run will be active at a time. Requests which arrive during a dispatch run will cause
+	 * another run once the current one has finished.
+	 */
 	private void processJobs() {
-		executeLocked(() -> {
-			if (!stopped) {
+		if (stopped) {
+			return;
+		}
+		if (dispatching) {
+			dispatchRequested = true;
+			return;
+		}
+		dispatching = true;
+		dispatchRequested = false;
+
+		List<PendingJob> pendingJobs;
+		try {
+			pendingJobs = db.tx(() -> {
+				List<PendingJob> list = new ArrayList<>();
+				for (Job job : boot.get().jobRoot().findPendingJobs()) {
+					String uuid = job.getUuid();
+					if (!runningJobs.contains(uuid)) {
+						list.add(new PendingJob(uuid, new TreeSet<>(job.getLockNames())));
+					}
+				}
+				return list;
+			});
+		} catch (Exception e) {
+			log.error("Error while loading pending jobs", e);
+			dispatchDone();
+			return;
+		}
+		dispatch(pendingJobs.iterator());
+	}
+
+	private void dispatch(Iterator<PendingJob> pendingJobs) {
+		if (stopped || !pendingJobs.hasNext() || runningJobs.size() >= workerCount) {
+			dispatchDone();
+			return;
+		}
+		PendingJob pendingJob = pendingJobs.next();
+		acquireLocks(pendingJob.lockNames.iterator(), new ArrayList<>(), locks -> {
+			if (locks == null) {
+				if (log.isDebugEnabled()) {
+					log.debug("Job {" + pendingJob.uuid + "} is blocked by another job. Trying again later.");
+				}
+			} else {
+				execute(pendingJob.uuid, locks);
+			}
+			dispatch(pendingJobs);
+		});
+	}
+
+	private void dispatchDone() {
+		dispatching = false;
+		if (dispatchRequested) {
+			processJobs();
+		}
+	}
+
+	/**
+	 * Try to acquire all remaining locks. The handler will be invoked with the acquired locks or with null if one of the locks could not be acquired. Locks
+	 * which have already been acquired will be released in this case.
+	 * 
+	 * @param names
+	 * @param acquired
+	 * @param handler
+	 */
+	private void acquireLocks(Iterator<String> names, List<Lock> acquired, Handler<List<Lock>> handler) {
+		if (!names.hasNext()) {
+			handler.handle(acquired);
+			return;
+		}
+		String name = names.next();
+		vertx.sharedData().getLockWithTimeout(name, LOCK_TIMEOUT, rh -> {
+			if (rh.failed()) {
+				acquired.forEach(Lock::release);
+				handler.handle(null);
+			} else {
+				acquired.add(rh.result());
+				acquireLocks(names, acquired, handler);
+			}
+		});
+	}
+
+	/**
+	 * Execute the job using a job worker. The locks will be released once the job has been processed.
+	 * 
+	 * @param jobUuid
+	 * @param locks
+	 */
+	private void execute(String jobUuid, List<Lock> locks) {
+		runningJobs.add(jobUuid);
+		executor.execute(() -> {
+			try {
 				db.tx(() -> {
 					JobRoot jobRoot = boot.get().jobRoot();
-					jobRoot.process();
+					// The job may have been processed by another instance before we acquired the locks. JobRoot#process will check the status again.
+					Job job = jobRoot.findByUuid(jobUuid);
+					if (job != null) {
+						jobRoot.process(job);
+					}
 				});
+			} catch (Exception e) {
+				log.error("Error while processing job {" + jobUuid + "}", e);
+			} finally {
+				locks.forEach(Lock::release);
+				runningJobs.remove(jobUuid);
+				// Dispatch the jobs which were blocked by the finished job
+				context.runOnContext(v -> processJobs());
 			}
-		}, error -> {
-			log.error("Error while processing jobs", error);
 		});
 	}
 
@@ -104,40 +236,23 @@ public class JobWorkerVerticle extends AbstractVerticle {
 			vertx.cancelTimer(periodicTimerId);
 		}
 		stopped = true;
+		// Interrupted migrations will be resumed from their last checkpoint
+		executor.shutdown();
 		super.stop();
 	}
 
 	/**
-	 * Acquire a cluster wide exclusive lock. By default the method will try to acquire the lock within 10s. The errorAction is invoked if the lock could not be
-	 * acquired by then.
-	 * 
-	 * @param action
-	 *            Action which will be invoked when the lock has been obtained
-	 * @param errorAction
-	 *            Action which will be invoked when the lock could not be obtained or the action failed.
+	 * Information about a job which is waiting to be executed.
 	 */
-	protected void executeLocked(Runnable action, Consumer<Throwable> errorAction) {
-		try {
-			vertx.sharedData().getLock(GLOBAL_JOB_LOCK_NAME, rh -> {
-				if (rh.failed()) {
-					Throwable cause = rh.cause();
-					log.error("Error while acquiring global migration lock {" + GLOBAL_JOB_LOCK_NAME + "}", cause);
-					errorAction.accept(cause);
-				} else {
-					Lock lock = rh.result();
-					try {
-						action.run();
-					} catch (Exception e) {
-						log.error("Error while executing locked action", e);
-						errorAction.accept(e);
-					} finally {
-						lock.release();
-					}
-				}
-			});
-		} catch (Exception e) {
-			log.error("Error while waiting for global lock {" + GLOBAL_JOB_LOCK_NAME + "}", e);
-			errorAction.accept(e);
+	private static class PendingJob {
+
+		private final String uuid;
+
+		private final Set<String> lockNames;
+
+		PendingJob(String uuid, Set<String> lockNames) {
+			this.uuid = uuid;
+			this.lockNames = lockNames;
 		}
 	}
 
@@ -1,23 +1,53 @@
 package com.gentics.mesh.core.verticle.migration;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptEngine;
+import javax.script.ScriptException;
 
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.GraphFieldContainer;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.node.handler.TypeConverter;
 import com.gentics.mesh.core.data.schema.GraphFieldSchemaContainerVersion;
 import com.gentics.mesh.core.data.schema.RemoveFieldChange;
 import com.gentics.mesh.core.data.schema.SchemaChange;
 import com.gentics.mesh.core.data.schema.impl.FieldTypeChangeImpl;
 import com.gentics.mesh.core.data.search.SearchQueue;
+import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.rest.common.FieldContainer;
-import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.core.rest.node.FieldMap;
+import com.gentics.mesh.core.rest.node.field.Field;
+import com.gentics.mesh.core.rest.node.field.impl.BooleanFieldImpl;
+import com.gentics.mesh.core.rest.node.field.impl.DateFieldImpl;
+import com.gentics.mesh.core.rest.node.field.impl.HtmlFieldImpl;
+import com.gentics.mesh.core.rest.node.field.impl.NumberFieldImpl;
+import com.gentics.mesh.core.rest.node.field.impl.StringFieldImpl;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.verticle.handler.AbstractHandler;
 import com.gentics.mesh.core.verticle.node.BinaryFieldHandler;
+import com.gentics.mesh.etc.config.MigrationOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.util.Tuple;
@@ -37,6 +67,34 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 	 */
 	protected NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
 
+	/**
+	 * Maximum amount of compiled scripts which will be kept per thread.
+	 */
+	private static final int MAX_COMPILED_SCRIPTS = 50;
+
+	/**
+	 * Script engine which is reused by the migration thread. Compiled scripts are bound to the engine which compiled them.
+	 */
+	private final ThreadLocal<ScriptEngine> engine = ThreadLocal.withInitial(() -> factory.getScriptEngine(new Sandbox()));
+
+	/**
+	 * Cache of compiled migration scripts for the migration thread.
+	 */
+	private final ThreadLocal<Map<String, CompiledScript>> compiledScripts = ThreadLocal.withInitial(() -> new LinkedHashMap<String, CompiledScript>(
+		16, 0.75f, true) {
+		private static final long serialVersionUID = 4284212316475245423L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CompiledScript> eldest) {
+			return size() > MAX_COMPILED_SCRIPTS;
+		}
+	});
+
+	/**
+	 * Amount of migration scripts which have been compiled by the handler.
+	 */
+	private final AtomicLong compiledScriptCount = new AtomicLong();
+
 	protected Database db;
 
 	protected SearchQueue searchQueue;
@@ -50,7 +108,9 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 	}
 
 	/**
-	 * Collect the migration scripts and set of touched fields when migrating the given container into the next version
+	 * Collect the migration scripts and set of touched fields when migrating the given container into the next version. Additionally the native field
+	 * changes will be returned if all changes can be applied without the script engine. This is the case if only automatic migration scripts for field
+	 * removals and basic field type changes are needed.
 	 *
 	 * @param fromVersion
 	 *            Container which contains the expected migration changes
@@ -58,14 +118,31 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 	 *            List of migration scripts (will be modified)
 	 * @param touchedFields
 	 *            Set of touched fields (will be modified)
+	 * @return List of native changes or null if the migration scripts need to be executed
 	 * @throws IOException
 	 */
-	protected void prepareMigration(GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion,
+	protected List<Consumer<FieldMap>> prepareMigration(GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion,
 			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, Set<String> touchedFields) throws IOException {
+		List<Consumer<FieldMap>> nativeChanges = new ArrayList<>();
+		// Track the field types since a field may be changed multiple times
+		Map<String, String> fieldTypes = new HashMap<>();
+		for (FieldSchema fieldSchema : fromVersion.getSchemaReadOnly().getFields()) {
+			fieldTypes.put(fieldSchema.getName(), fieldSchema.getType());
+		}
+
 		SchemaChange<?> change = fromVersion.getNextChange();
 		while (change != null) {
 			String migrationScript = change.getMigrationScript();
 			if (migrationScript != null) {
+				if (nativeChanges != null) {
+					boolean isAutoScript = migrationScript.equals(change.getAutoMigrationScript());
+					Consumer<FieldMap> nativeChange = isAutoScript ? toNativeChange(change, fieldTypes) : null;
+					if (nativeChange == null) {
+						nativeChanges = null;
+					} else {
+						nativeChanges.add(nativeChange);
+					}
+				}
 				migrationScript = migrationScript + "\nnode = JSON.stringify(migrate(JSON.parse(node), fieldname, convert));";
 				migrationScripts.add(Tuple.tuple(migrationScript, change.getMigrationScriptContext()));
 			}
@@ -73,17 +150,115 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 			// if either the type changes or the field is removed, the field is
 			// "touched"
 			if (change instanceof FieldTypeChangeImpl) {
-				touchedFields.add(((FieldTypeChangeImpl) change).getFieldName());
+				FieldTypeChangeImpl typeChange = (FieldTypeChangeImpl) change;
+				touchedFields.add(typeChange.getFieldName());
+				fieldTypes.put(typeChange.getFieldName(), typeChange.getType());
 			} else if (change instanceof RemoveFieldChange) {
 				touchedFields.add(((RemoveFieldChange) change).getFieldName());
 			}
 
 			change = change.getNextChange();
 		}
+		return nativeChanges;
 	}
 
 	/**
-	 * Migrate the given container. This will also set the new version to the container.
+	 * Return the native equivalent of the automatic migration script of the given change.
+	 * 
+	 * @param change
+	 * @param fieldTypes
+	 *            Current types of the fields
+	 * @return Native change or null if the change can only be handled by the migration script
+	 */
+	private Consumer<FieldMap> toNativeChange(SchemaChange<?> change, Map<String, String> fieldTypes) {
+		if (change instanceof RemoveFieldChange) {
+			String fieldName = ((RemoveFieldChange) change).getFieldName();
+			return fields -> fields.remove(fieldName);
+		}
+		if (change instanceof FieldTypeChangeImpl) {
+			FieldTypeChangeImpl typeChange = (FieldTypeChangeImpl) change;
+			String fieldName = typeChange.getFieldName();
+			String oldType = fieldTypes.get(fieldName);
+			String newType = typeChange.getType();
+			// Numbers are not handled natively since the script engine representation of numbers differs from the java one
+			if (oldType == null || newType == null || !isNativeSourceType(oldType)) {
+				return null;
+			}
+			TypeConverter convert = new TypeConverter();
+			switch (newType) {
+			case "string":
+				return fields -> putOrRemove(fields, fieldName, convert.toString(getNativeValue(fields, fieldName, oldType)),
+					v -> new StringFieldImpl().setString(v));
+			case "html":
+				return fields -> putOrRemove(fields, fieldName, convert.toString(getNativeValue(fields, fieldName, oldType)),
+					v -> new HtmlFieldImpl().setHTML(v));
+			case "number":
+				return fields -> putOrRemove(fields, fieldName, convert.toNumber(getNativeValue(fields, fieldName, oldType)),
+					v -> new NumberFieldImpl().setNumber(v));
+			case "boolean":
+				return fields -> putOrRemove(fields, fieldName, convert.toBoolean(getNativeValue(fields, fieldName, oldType)),
+					v -> new BooleanFieldImpl().setValue(v));
+			case "date":
+				return fields -> putOrRemove(fields, fieldName, convert.toDate(getNativeValue(fields, fieldName, oldType)),
+					v -> new DateFieldImpl().setDate(v));
+			}
+		}
+		return null;
+	}
+
+	private boolean isNativeSourceType(String type) {
+		switch (type) {
+		case "string":
+		case "html":
+		case "boolean":
+		case "date":
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Return the plain value of the field with the given type.
+	 * 
+	 * @param fields
+	 * @param fieldName
+	 * @param type
+	 * @return
+	 */
+	private Object getNativeValue(FieldMap fields, String fieldName, String type) {
+		if (!fields.hasField(fieldName)) {
+			return null;
+		}
+		switch (type) {
+		case "string":
+			StringFieldImpl stringField = fields.getStringField(fieldName);
+			return stringField == null ? null : stringField.getString();
+		case "html":
+			HtmlFieldImpl htmlField = fields.getHtmlField(fieldName);
+			return htmlField == null ? null : htmlField.getHTML();
+		case "boolean":
+			BooleanFieldImpl booleanField = fields.getBooleanField(fieldName);
+			return booleanField == null ? null : booleanField.getValue();
+		case "date":
+			DateFieldImpl dateField = fields.getDateField(fieldName);
+			return dateField == null ? null : dateField.getDate();
+		default:
+			return null;
+		}
+	}
+
+	private <V> void putOrRemove(FieldMap fields, String fieldName, V value, Function<V, Field> fieldCreator) {
+		if (value == null) {
+			fields.remove(fieldName);
+		} else {
+			fields.put(fieldName, fieldCreator.apply(value));
+		}
+	}
+
+	/**
+	 * Migrate the given container. This will also set the new version to the container. The native changes will be applied directly to the fields of the
+	 * rest model if available. Otherwise the migration scripts will be executed.
 	 * 
 	 * @param ac
 	 *            context
@@ -97,47 +272,247 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 	 *            set of touched fields
 	 * @param migrationScripts
 	 *            list of migration scripts
+	 * @param nativeChanges
+	 *            list of native changes or null if the migration scripts should be used
 	 * @param clazz
 	 * @throws Exception
 	 */
-	protected <T extends FieldContainer> void migrate(NodeMigrationActionContextImpl ac, GraphFieldContainer container, RestModel restModel,
+	protected <T extends FieldContainer> void migrate(NodeMigrationActionContextImpl ac, GraphFieldContainer container, FieldContainer restModel,
 			GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> newVersion, Set<String> touchedFields,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, Class<T> clazz) throws Exception {
+			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, List<Consumer<FieldMap>> nativeChanges, Class<T> clazz)
+			throws Exception {
 
 		// Remove all touched fields (if necessary, they will be readded later)
 		container.getFields().stream().filter(f -> touchedFields.contains(f.getFieldKey())).forEach(f -> f.removeField(container));
 
-		String nodeJson = restModel.toJson();
+		FieldMap fields;
+		if (nativeChanges != null) {
+			fields = restModel.getFields();
+			for (Consumer<FieldMap> change : nativeChanges) {
+				change.accept(fields);
+			}
+		} else {
+			String nodeJson = restModel.toJson();
+
+			for (Tuple<String, List<Tuple<String, Object>>> scriptEntry : migrationScripts) {
+				String script = scriptEntry.v1();
+				List<Tuple<String, Object>> context = scriptEntry.v2();
+				ScriptEngine engine = this.engine.get();
+				Bindings bindings = engine.createBindings();
 
-		for (Tuple<String, List<Tuple<String, Object>>> scriptEntry : migrationScripts) {
-			String script = scriptEntry.v1();
-			List<Tuple<String, Object>> context = scriptEntry.v2();
-			ScriptEngine engine = factory.getScriptEngine(new Sandbox());
+				bindings.put("node", nodeJson);
+				bindings.put("convert", new TypeConverter());
+				if (context != null) {
+					for (Tuple<String, Object> ctxEntry : context) {
+						bindings.put(ctxEntry.v1(), ctxEntry.v2());
+					}
+				}
+				getCompiledScript(engine, script).eval(bindings);
+
+				Object transformedNodeModel = bindings.get("node");
 
-			engine.put("node", nodeJson);
-			engine.put("convert", new TypeConverter());
-			if (context != null) {
-				for (Tuple<String, Object> ctxEntry : context) {
-					engine.put(ctxEntry.v1(), ctxEntry.v2());
+				if (transformedNodeModel == null) {
+					throw new Exception("Transformed node model not found after handling migration scripts");
 				}
+
+				nodeJson = transformedNodeModel.toString();
 			}
-			engine.eval(script);
 
-			Object transformedNodeModel = engine.get("node");
+			// Transform the result back to the Rest Model
+			T transformedRestModel = JsonUtil.readValue(nodeJson, clazz);
+			fields = transformedRestModel.getFields();
+		}
+
+		container.setSchemaContainerVersion(newVersion);
+		container.updateFieldsFromRest(ac, fields);
 
-			if (transformedNodeModel == null) {
-				throw new Exception("Transformed node model not found after handling migration scripts");
+	}
+
+	/**
+	 * Return the compiled version of the given script. The script will only be compiled once per migration thread.
+	 * 
+	 * @param engine
+	 *            Engine of the current thread
+	 * @param script
+	 * @return
+	 * @throws ScriptException
+	 */
+	private CompiledScript getCompiledScript(ScriptEngine engine, String script) throws ScriptException {
+		Map<String, CompiledScript> cache = compiledScripts.get();
+		CompiledScript compiledScript = cache.get(script);
+		if (compiledScript == null) {
+			if (log.isDebugEnabled()) {
+				log.debug("Compiling migration script");
 			}
+			compiledScript = ((Compilable) engine).compile(script);
+			cache.put(script, compiledScript);
+			compiledScriptCount.incrementAndGet();
+		}
+		return compiledScript;
+	}
+
+	/**
+	 * Return the amount of migration scripts which have been compiled by the handler since it was created. Each migration worker compiles its own copy of a
+	 * script since the compiled scripts are bound to the script engine of the worker.
+	 * 
+	 * @return
+	 */
+	long getCompiledScriptCount() {
+		return compiledScriptCount.get();
+	}
+
+	/**
+	 * Migrate the containers which are provided by the iterator. The containers will be partitioned into chunks which are migrated in parallel by the
+	 * configured amount of workers. Each chunk is migrated within a single transaction and the search index updates of all committed chunks are handed to
+	 * a single indexing stage. The containers of a failed chunk will be migrated again one by one in order to record the errors per container.
+	 * 
+	 * @param containers
+	 *            Containers to be migrated
+	 * @param status
+	 *            Status handler which will be used to track the progress
+	 * @param contextSupplier
+	 *            Supplier for the action context which will be used by the workers
+	 * @param migration
+	 *            Migration which will be invoked for every container
+	 * @return List of detected errors
+	 */
+	protected List<Exception> migrateLoop(Iterator<? extends NodeGraphFieldContainer> containers, MigrationStatusHandler status,
+			Supplier<NodeMigrationActionContextImpl> contextSupplier, ContainerMigration migration) {
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		int workerCount = options.getWorkerCount();
+		int batchSize = options.getTxBatchSize();
+		// Limit the amount of chunks which are queued for the workers
+		int maxPendingChunks = workerCount * 2;
 
-			nodeJson = transformedNodeModel.toString();
+		List<Exception> errorsDetected = Collections.synchronizedList(new ArrayList<>());
+		AtomicInteger workerIds = new AtomicInteger();
+		ExecutorService workers = Executors.newFixedThreadPool(workerCount, r -> new Thread(r, "mesh-migration-worker-" + workerIds
+				.incrementAndGet()));
+		ExecutorService indexer = Executors.newSingleThreadExecutor(r -> new Thread(r, "mesh-migration-indexer"));
+		Semaphore pendingChunks = new Semaphore(maxPendingChunks);
+
+		long count = 0;
+		long nextStatusCommit = 0;
+		try {
+			while (containers.hasNext()) {
+				List<NodeGraphFieldContainer> chunk = new ArrayList<>(batchSize);
+				while (containers.hasNext() && chunk.size() < batchSize) {
+					chunk.add(containers.next());
+				}
+				pendingChunks.acquire();
+				workers.execute(() -> {
+					try {
+						migrateChunk(chunk, status, contextSupplier, migration, indexer, errorsDetected);
+					} finally {
+						pendingChunks.release();
+					}
+				});
+				count += chunk.size();
+
+				// The status can only be committed by the thread which owns the job transaction
+				if (count >= nextStatusCommit) {
+					log.info("Migrated containers: " + count);
+					if (status != null) {
+						status.commit();
+					}
+					nextStatusCommit = count + 50;
+				}
+			}
+			// Wait for the workers and the indexing stage to finish
+			pendingChunks.acquire(maxPendingChunks);
+			workers.shutdown();
+			indexer.shutdown();
+			indexer.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			errorsDetected.add(e);
+		} finally {
+			workers.shutdownNow();
+			indexer.shutdownNow();
+		}
+		if (status != null) {
+			status.commit();
 		}
+		log.info("Migration of " + count + " containers done..");
+		return errorsDetected;
+	}
 
-		// Transform the result back to the Rest Model
-		T transformedRestModel = JsonUtil.readValue(nodeJson, clazz);
+	/**
+	 * Migrate the given chunk of containers within a single transaction. If the transaction fails the containers will be migrated one by one.
+	 * 
+	 * @param chunk
+	 * @param status
+	 * @param contextSupplier
+	 * @param migration
+	 * @param indexer
+	 *            Executor of the indexing stage
+	 * @param errorsDetected
+	 */
+	private void migrateChunk(List<NodeGraphFieldContainer> chunk, MigrationStatusHandler status,
+			Supplier<NodeMigrationActionContextImpl> contextSupplier, ContainerMigration migration, ExecutorService indexer,
+			List<Exception> errorsDetected) {
+		try {
+			NodeMigrationActionContextImpl ac = contextSupplier.get();
+			// Run the actual migration in a dedicated transaction
+			SearchQueueBatch batch = db.tx((tx) -> {
+				SearchQueueBatch sqb = searchQueue.create();
+				for (NodeGraphFieldContainer container : chunk) {
+					if (log.isDebugEnabled()) {
+						log.debug("Migrating container {" + container.getUuid() + "}");
+					}
+					migration.migrate(ac, sqb, container);
+				}
+				return sqb;
+			});
+			// Hand the batch to the indexing stage in order to update the search index
+			if (batch != null) {
+				indexer.execute(() -> {
+					try {
+						batch.processSync();
+					} catch (Exception e) {
+						log.error("Error while updating the search index for migrated containers.", e);
+						errorsDetected.add(e);
+					}
+				});
+			}
+			if (status != null) {
+				chunk.forEach(c -> status.incCompleted());
+			}
+		} catch (Exception e) {
+			if (chunk.size() == 1) {
+				String uuid = db.tx(() -> chunk.get(0).getUuid());
+				log.error("Error while handling container {" + uuid + "} during migration.", e);
+				errorsDetected.add(e);
+				if (status != null) {
+					status.incCompleted();
+				}
+			} else {
+				log.warn("Migration of chunk with {" + chunk.size() + "} containers failed. Migrating the containers one by one.", e);
+				for (NodeGraphFieldContainer container : chunk) {
+					migrateChunk(Collections.singletonList(container), status, contextSupplier, migration, indexer, errorsDetected);
+				}
+			}
+		}
+	}
 
-		container.setSchemaContainerVersion(newVersion);
-		container.updateFieldsFromRest(ac, transformedRestModel.getFields());
+	/**
+	 * Migration for a single container which will be invoked by the migration workers.
+	 */
+	@FunctionalInterface
+	protected interface ContainerMigration {
 
+		/**
+		 * Migrate the given container. The method will be invoked within a transaction.
+		 * 
+		 * @param ac
+		 *            Action context of the worker
+		 * @param batch
+		 *            Batch which will be used to update the search index
+		 * @param container
+		 *            Container to migrate
+		 * @throws Exception
+		 */
+		void migrate(NodeMigrationActionContextImpl ac, SearchQueueBatch batch, NodeGraphFieldContainer container) throws Exception;
 	}
 
 	/**
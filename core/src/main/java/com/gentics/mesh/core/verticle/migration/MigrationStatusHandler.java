@@ -53,6 +53,23 @@ public interface MigrationStatusHandler {
 	 */
 	void setCompletionCount(long completionCount);
 
+	/**
+	 * Increment the completion count. This method may be invoked by multiple migration workers.
+	 */
 	void incCompleted();
 
+	/**
+	 * Return the checkpoint from which the migration should be resumed.
+	 * 
+	 * @return Checkpoint or null if the migration was not interrupted
+	 */
+	String getCheckpoint();
+
+	/**
+	 * Set the checkpoint which will be persisted with the next {@link #commit()}.
+	 * 
+	 * @param checkpoint
+	 */
+	void setCheckpoint(String checkpoint);
+
 }
@@ -5,6 +5,7 @@ import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.COMPLET
 import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.FAILED;
 
 import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.management.MBeanServer;
 import javax.management.MalformedObjectNameException;
@@ -37,7 +38,9 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	private Job job;
 
-	private long completionCount = 0;
+	private AtomicLong completionCount;
+
+	private volatile String checkpoint;
 
 	private MigrationStatus status;
 
@@ -45,6 +48,9 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		this.vertx = vertx;
 		this.job = job;
 		status = job.getStatus();
+		// Restore the progress of a previously interrupted run
+		completionCount = new AtomicLong(job.getCompletionCount());
+		checkpoint = job.getCheckpoint();
 	}
 
 	@Override
@@ -52,7 +58,8 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		if (versionEdge != null) {
 			versionEdge.setMigrationStatus(status);
 		}
-		job.setCompletionCount(completionCount);
+		job.setCompletionCount(completionCount.get());
+		job.setCheckpoint(checkpoint);
 		job.setStatus(status);
 
 		Tx.getActive().getGraph().commit();
@@ -93,6 +100,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		JsonObject result = new JsonObject().put("type", "completed");
 		vertx.eventBus().publish(MESH_MIGRATION, result);
 		job.setStopTimestamp();
+		checkpoint = null;
 		commit();
 		return this;
 	}
@@ -126,7 +134,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	@Override
 	public void setCompletionCount(long completionCount) {
-		this.completionCount = completionCount;
+		this.completionCount.set(completionCount);
 	}
 
 	@Override
@@ -134,9 +142,19 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		this.status = status;
 	}
 
+	@Override
+	public String getCheckpoint() {
+		return checkpoint;
+	}
+
+	@Override
+	public void setCheckpoint(String checkpoint) {
+		this.checkpoint = checkpoint;
+	}
+
 	@Override
 	public void incCompleted() {
-		completionCount++;
+		completionCount.incrementAndGet();
 	}
 
 }
@@ -10,12 +10,14 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Release;
 import com.gentics.mesh.core.data.node.Micronode;
 import com.gentics.mesh.core.data.node.Node;
@@ -25,6 +27,7 @@ import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.rest.micronode.MicronodeResponse;
+import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.verticle.migration.AbstractMigrationHandler;
 import com.gentics.mesh.core.verticle.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.verticle.node.BinaryFieldHandler;
@@ -74,41 +77,29 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 
 		// Collect the migration scripts
 		List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts = new ArrayList<>();
+		List<Consumer<FieldMap>> nativeChanges;
 		Set<String> touchedFields = new HashSet<>();
 		try (Tx tx = db.tx()) {
-			prepareMigration(fromVersion, migrationScripts, touchedFields);
+			nativeChanges = prepareMigration(fromVersion, migrationScripts, touchedFields);
 		} catch (IOException e) {
 			return Completable.error(e);
 		}
 
-		NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
-		ac.setProject(release.getProject());
-		ac.setRelease(release);
-
 		if (status != null) {
 			status.setStatus(RUNNING);
 			status.commit();
 		}
 
-		// Iterate over all containers and invoke a migration for each one
-		long count = 0;
-		List<Exception> errorsDetected = new ArrayList<>();
-		while (fieldContainersIt.hasNext()) {
-			NodeGraphFieldContainer container = fieldContainersIt.next();
-			migrateMicronodeContainer(ac, release, fromVersion, toVersion, container, touchedFields, migrationScripts, errorsDetected);
-
-			if (status != null) {
-				status.incCompleted();
-			}
-			if (count % 50 == 0) {
-				log.info("Migrated micronode containers: " + count);
-				if (status != null) {
-					status.commit();
-				}
-			}
-			count++;
-		}
-		log.info("Migration of " + count + " containers done..");
+		// Iterate over all containers and invoke a migration for each one. Every worker uses a dedicated action context.
+		Project project = release.getProject();
+		List<Exception> errorsDetected = migrateLoop(fieldContainersIt, status, () -> {
+			NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
+			ac.setProject(project);
+			ac.setRelease(release);
+			return ac;
+		}, (ac, sqb, container) -> {
+			migrateMicronodeContainer(ac, sqb, release, fromVersion, toVersion, container, touchedFields, migrationScripts, nativeChanges);
+		});
 		log.info("Encountered {" + errorsDetected.size() + "} errors during micronode migration.");
 		Completable result = Completable.complete();
 		if (!errorsDetected.isEmpty()) {
@@ -122,49 +113,45 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 		return result;
 	}
 
-	private void migrateMicronodeContainer(NodeMigrationActionContextImpl ac, Release release, MicroschemaContainerVersion fromVersion,
-			MicroschemaContainerVersion toVersion, NodeGraphFieldContainer container, Set<String> touchedFields,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, List<Exception> errorsDetected) {
+	/**
+	 * Migrate the given container. The method will be invoked within the transaction of the migration worker.
+	 * 
+	 * @param ac
+	 * @param sqb
+	 *            Batch to be updated to handle index changes
+	 * @param release
+	 * @param fromVersion
+	 * @param toVersion
+	 * @param container
+	 *            Container to be migrated
+	 * @param touchedFields
+	 * @param migrationScripts
+	 * @param nativeChanges
+	 * @throws Exception
+	 */
+	private void migrateMicronodeContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Release release,
+			MicroschemaContainerVersion fromVersion, MicroschemaContainerVersion toVersion, NodeGraphFieldContainer container,
+			Set<String> touchedFields, List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, List<Consumer<FieldMap>> nativeChanges)
+			throws Exception {
 
-		if (log.isDebugEnabled()) {
-			log.debug("Migrating container {" + container.getUuid() + "}");
-		}
 		String releaseUuid = release.getUuid();
-
-		// Run the actual migration in a dedicated transaction
-		try {
-			SearchQueueBatch batch = db.tx((tx) -> {
-				SearchQueueBatch sqb = searchQueue.create();
-
-				Node node = container.getParentNode();
-				String languageTag = container.getLanguage().getLanguageTag();
-				ac.getNodeParameters().setLanguages(languageTag);
-				ac.getVersioningParameters().setVersion("draft");
-				NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, releaseUuid, PUBLISHED);
-
-				VersionNumber nextDraftVersion = null;
-				// 1. Check whether there is any other published container which we need to handle separately
-				if (oldPublished != null && !oldPublished.equals(container)) {
-					nextDraftVersion = migratePublishedContainer(ac, sqb, release, node, container, fromVersion, toVersion, touchedFields,
-							migrationScripts);
-					nextDraftVersion = nextDraftVersion.nextDraft();
-				}
-
-				// 2. Migrate the draft container. This will also update the draft edge.
-				migrateDraftContainer(ac, sqb, release, node, container, fromVersion, toVersion, touchedFields, migrationScripts, nextDraftVersion);
-
-				return sqb;
-			});
-			// Process the search queue batch in order to update the search index
-			if (batch != null) {
-				batch.processSync();
-			}
-
-		} catch (Exception e1) {
-			log.error("Error while handling container {" + container.getUuid() + "} during schema migration.", e1);
-			errorsDetected.add(e1);
+		Node node = container.getParentNode();
+		String languageTag = container.getLanguage().getLanguageTag();
+		ac.getNodeParameters().setLanguages(languageTag);
+		ac.getVersioningParameters().setVersion("draft");
+		NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, releaseUuid, PUBLISHED);
+
+		VersionNumber nextDraftVersion = null;
+		// 1. Check whether there is any other published container which we need to handle separately
+		if (oldPublished != null && !oldPublished.equals(container)) {
+			nextDraftVersion = migratePublishedContainer(ac, sqb, release, node, container, fromVersion, toVersion, touchedFields,
+					migrationScripts, nativeChanges);
+			nextDraftVersion = nextDraftVersion.nextDraft();
 		}
 
+		// 2. Migrate the draft container. This will also update the draft edge.
+		migrateDraftContainer(ac, sqb, release, node, container, fromVersion, toVersion, touchedFields, migrationScripts, nativeChanges,
+				nextDraftVersion);
 	}
 
 	/**
@@ -179,12 +166,14 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	 * @param toVersion
 	 * @param touchedFields
 	 * @param migrationScripts
+	 * @param nativeChanges
 	 * @param nextDraftVersion
 	 * @throws Exception
 	 */
 	private void migrateDraftContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Release release, Node node,
 			NodeGraphFieldContainer container, MicroschemaContainerVersion fromVersion, MicroschemaContainerVersion toVersion,
-			Set<String> touchedFields, List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, VersionNumber nextDraftVersion)
+			Set<String> touchedFields, List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, List<Consumer<FieldMap>> nativeChanges,
+					VersionNumber nextDraftVersion)
 			throws Exception {
 
 		String releaseUuid = release.getUuid();
@@ -205,7 +194,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 			migrated.setVersion(nextDraftVersion);
 		}
 
-		migrateMicronodeFields(ac, migrated, fromVersion, toVersion, touchedFields, migrationScripts);
+		migrateMicronodeFields(ac, migrated, fromVersion, toVersion, touchedFields, migrationScripts, nativeChanges);
 
 		// Ensure the search index is updated accordingly
 		sqb.store(node, releaseUuid, DRAFT, false);
@@ -229,12 +218,14 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	 * @param toVersion
 	 * @param touchedFields
 	 * @param migrationScripts
+	 * @param nativeChanges
 	 * @return Version of the new published container
 	 * @throws Exception
 	 */
 	private VersionNumber migratePublishedContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Release release, Node node,
 			NodeGraphFieldContainer container, MicroschemaContainerVersion fromVersion, MicroschemaContainerVersion toVersion,
-			Set<String> touchedFields, List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts) throws Exception {
+			Set<String> touchedFields, List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts,
+					List<Consumer<FieldMap>> nativeChanges) throws Exception {
 
 		String releaseUuid = release.getUuid();
 		ac.getVersioningParameters().setVersion("published");
@@ -243,7 +234,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 		migrated.setVersion(container.getVersion().nextPublished());
 		node.setPublished(migrated, releaseUuid);
 
-		migrateMicronodeFields(ac, migrated, fromVersion, toVersion, touchedFields, migrationScripts);
+		migrateMicronodeFields(ac, migrated, fromVersion, toVersion, touchedFields, migrationScripts, nativeChanges);
 		sqb.store(migrated, releaseUuid, PUBLISHED, false);
 		return migrated.getVersion();
 
@@ -264,11 +255,12 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	 *            touched fields
 	 * @param migrationScripts
 	 *            migration scripts
+	 * @param nativeChanges
 	 * @throws Exception
 	 */
 	protected void migrateMicronodeFields(NodeMigrationActionContextImpl ac, NodeGraphFieldContainer container,
 			MicroschemaContainerVersion fromVersion, MicroschemaContainerVersion toVersion, Set<String> touchedFields,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts) throws Exception {
+			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, List<Consumer<FieldMap>> nativeChanges) throws Exception {
 		// iterate over all fields with micronodes to migrate
 		for (MicronodeGraphField field : container.getMicronodeFields(fromVersion)) {
 			// clone the field (this will clone the micronode)
@@ -276,7 +268,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 			Micronode micronode = field.getMicronode();
 			// transform to rest and migrate
 			MicronodeResponse restModel = micronode.transformToRestSync(ac, 0);
-			migrate(ac, micronode, restModel, toVersion, touchedFields, migrationScripts, MicronodeResponse.class);
+			migrate(ac, micronode, restModel, toVersion, touchedFields, migrationScripts, nativeChanges, MicronodeResponse.class);
 		}
 
 		// iterate over all micronode list fields to migrate
@@ -297,7 +289,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 				if (newMicronode.getSchemaContainerVersion().equals(fromVersion)) {
 					// transform to rest and migrate
 					MicronodeResponse restModel = newMicronode.transformToRestSync(ac, 0);
-					migrate(ac, newMicronode, restModel, toVersion, touchedFields, migrationScripts, MicronodeResponse.class);
+					migrate(ac, newMicronode, restModel, toVersion, touchedFields, migrationScripts, nativeChanges, MicronodeResponse.class);
 				}
 			}
 		}
@@ -10,6 +10,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -22,6 +23,7 @@ import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
+import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
@@ -75,17 +77,14 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 
 		// Prepare the migration - Collect the migration scripts
 		List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts = new ArrayList<>();
+		List<Consumer<FieldMap>> nativeChanges;
 		Set<String> touchedFields = new HashSet<>();
 		try (Tx tx = db.tx()) {
-			prepareMigration(fromVersion, migrationScripts, touchedFields);
+			nativeChanges = prepareMigration(fromVersion, migrationScripts, touchedFields);
 		} catch (IOException e) {
 			return Completable.error(e);
 		}
 
-		NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
-		ac.setProject(project);
-		ac.setRelease(release);
-
 		SchemaModel newSchema = toVersion.getSchema();
 
 		if (status != null) {
@@ -93,25 +92,15 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 			status.commit();
 		}
 
-		// Iterate over all containers and invoke a migration for each one
-		long count = 0;
-		List<Exception> errorsDetected = new ArrayList<>();
-		while (fieldContainers.hasNext()) {
-			NodeGraphFieldContainer container = fieldContainers.next();
-			migrateContainer(ac, container, toVersion, migrationScripts, release, newSchema, errorsDetected, touchedFields);
-
-			if (status != null) {
-				status.incCompleted();
-			}
-			if (count % 50 == 0) {
-				log.info("Migrated containers: " + count);
-				if (status != null) {
-					status.commit();
-				}
-			}
-			count++;
-		}
-		log.info("Migration of " + count + " containers done..");
+		// Iterate over all containers and invoke a migration for each one. Every worker uses a dedicated action context.
+		List<Exception> errorsDetected = migrateLoop(fieldContainers, status, () -> {
+			NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
+			ac.setProject(project);
+			ac.setRelease(release);
+			return ac;
+		}, (ac, sqb, container) -> {
+			migrateContainer(ac, sqb, container, toVersion, migrationScripts, nativeChanges, release, newSchema, touchedFields);
+		});
 		log.info("Encountered {" + errorsDetected.size() + "} errors during node migration.");
 		// TODO prepare errors. They should be easy to understand and to grasp
 		Completable result = Completable.complete();
@@ -128,65 +117,48 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	}
 
 	/**
-	 * Migrates the given container.
+	 * Migrates the given container. The method will be invoked within the transaction of the migration worker.
 	 * 
 	 * @param ac
+	 * @param sqb
+	 *            Batch to be updated to handle index changes
 	 * @param container
 	 *            Container to be migrated
 	 * @param toVersion
 	 * @param migrationScripts
+	 * @param nativeChanges
 	 * @param release
 	 * @param newSchema
-	 * @param errorsDetected
 	 * @param touchedFields
-	 * @return
+	 * @throws Exception
 	 */
-	private void migrateContainer(NodeMigrationActionContextImpl ac, NodeGraphFieldContainer container, SchemaContainerVersion toVersion,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, Release release, SchemaModel newSchema, List<Exception> errorsDetected,
-			Set<String> touchedFields) {
+	private void migrateContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, NodeGraphFieldContainer container,
+			SchemaContainerVersion toVersion, List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts,
+			List<Consumer<FieldMap>> nativeChanges, Release release, SchemaModel newSchema, Set<String> touchedFields) throws Exception {
 
-		if (log.isDebugEnabled()) {
-			log.debug("Migrating container {" + container.getUuid() + "}");
-		}
-		try {
-			// Run the actual migration in a dedicated transaction
-			SearchQueueBatch batch = db.tx((tx) -> {
-				SearchQueueBatch sqb = searchQueue.create();
-
-				Node node = container.getParentNode();
-				String languageTag = container.getLanguage().getLanguageTag();
-				ac.getNodeParameters().setLanguages(languageTag);
-				ac.getVersioningParameters().setVersion("draft");
-				NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, release.getUuid(), PUBLISHED);
-
-				VersionNumber nextDraftVersion = null;
-				// 1. Check whether there is any other published container which we need to handle separately
-				if (oldPublished != null && !oldPublished.equals(container)) {
-					// We only need to migrate the container if the container's schema version is also "old"
-					boolean hasSameOldSchemaVersion = container != null
-							&& container.getSchemaContainerVersion().getId().equals(container.getSchemaContainerVersion().getId());
-					if (hasSameOldSchemaVersion) {
-						nextDraftVersion = migratePublishedContainer(ac, sqb, release, node, container, toVersion, touchedFields, migrationScripts,
-								newSchema);
-						nextDraftVersion = nextDraftVersion.nextDraft();
-					}
-
-				}
-
-				// 2. Migrate the draft container. This will also update the draft edge.
-				migrateDraftContainer(ac, sqb, release, node, container, toVersion, touchedFields, migrationScripts, newSchema, nextDraftVersion);
-
-				return sqb;
-			});
-			// Process the search queue batch in order to update the search index
-			if (batch != null) {
-				batch.processSync();
+		Node node = container.getParentNode();
+		String languageTag = container.getLanguage().getLanguageTag();
+		ac.getNodeParameters().setLanguages(languageTag);
+		ac.getVersioningParameters().setVersion("draft");
+		NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, release.getUuid(), PUBLISHED);
+
+		VersionNumber nextDraftVersion = null;
+		// 1. Check whether there is any other published container which we need to handle separately
+		if (oldPublished != null && !oldPublished.equals(container)) {
+			// We only need to migrate the container if the container's schema version is also "old"
+			boolean hasSameOldSchemaVersion = container != null
+					&& container.getSchemaContainerVersion().getId().equals(container.getSchemaContainerVersion().getId());
+			if (hasSameOldSchemaVersion) {
+				nextDraftVersion = migratePublishedContainer(ac, sqb, release, node, container, toVersion, touchedFields, migrationScripts,
+						nativeChanges, newSchema);
+				nextDraftVersion = nextDraftVersion.nextDraft();
 			}
-		} catch (Exception e1) {
-			log.error("Error while handling container {" + container.getUuid() + "} during schema migration.", e1);
-			errorsDetected.add(e1);
+
 		}
 
+		// 2. Migrate the draft container. This will also update the draft edge.
+		migrateDraftContainer(ac, sqb, release, node, container, toVersion, touchedFields, migrationScripts, nativeChanges, newSchema,
+				nextDraftVersion);
 	}
 
 	/**
@@ -204,6 +176,7 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	 * @param toVersion
 	 * @param touchedFields
 	 * @param migrationScripts
+	 * @param nativeChanges
 	 * @param newSchema
 	 *            new schema used to serialize the rest model
 	 * @param nextDraftVersion
@@ -212,7 +185,8 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	 */
 	private void migrateDraftContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Release release, Node node,
 			NodeGraphFieldContainer container, SchemaContainerVersion toVersion, Set<String> touchedFields,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, SchemaModel newSchema, VersionNumber nextDraftVersion)
+			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, List<Consumer<FieldMap>> nativeChanges, SchemaModel newSchema,
+					VersionNumber nextDraftVersion)
 			throws Exception {
 
 		String releaseUuid = release.getUuid();
@@ -243,7 +217,7 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 		}
 
 		// Pass the new version through the migration scripts and update the version
-		migrate(ac, migrated, restModel, toVersion, touchedFields, migrationScripts, NodeUpdateRequest.class);
+		migrate(ac, migrated, restModel, toVersion, touchedFields, migrationScripts, nativeChanges, NodeUpdateRequest.class);
 
 		// Ensure the search index is updated accordingly
 		sqb.move(container, migrated, releaseUuid, DRAFT);
@@ -266,13 +240,15 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	 * @param toVersion
 	 * @param touchedFields
 	 * @param migrationScripts
+	 * @param nativeChanges
 	 * @param newSchema
 	 * @return Version of the new published container
 	 * @throws Exception
 	 */
 	private VersionNumber migratePublishedContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Release release, Node node,
 			NodeGraphFieldContainer container, SchemaContainerVersion toVersion, Set<String> touchedFields,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, SchemaModel newSchema) throws Exception {
+			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, List<Consumer<FieldMap>> nativeChanges,
+					SchemaModel newSchema) throws Exception {
 
 		String languageTag = container.getLanguage().getLanguageTag();
 		String releaseUuid = release.getUuid();
@@ -284,7 +260,7 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 		NodeGraphFieldContainer migrated = node.createGraphFieldContainer(container.getLanguage(), release, container.getEditor(), container, false);
 		migrated.setVersion(container.getVersion().nextPublished());
 		node.setPublished(migrated, releaseUuid);
-		migrate(ac, migrated, restModel, toVersion, touchedFields, migrationScripts, NodeUpdateRequest.class);
+		migrate(ac, migrated, restModel, toVersion, touchedFields, migrationScripts, nativeChanges, NodeUpdateRequest.class);
 		sqb.store(migrated, releaseUuid, PUBLISHED, false);
 		return migrated.getVersion();
 	}
@@ -1,26 +1,30 @@
 package com.gentics.mesh.core.verticle.migration.release;
 
-import static com.gentics.mesh.core.data.ContainerType.DRAFT;
-import static com.gentics.mesh.core.data.ContainerType.INITIAL;
-import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
-import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FIELD_CONTAINER;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_NODE;
 import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.RUNNING;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Release;
-import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.impl.NodeImpl;
+import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.verticle.migration.AbstractMigrationHandler;
 import com.gentics.mesh.core.verticle.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.verticle.node.BinaryFieldHandler;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.syncleus.ferma.FramedGraph;
+import com.syncleus.ferma.tx.Tx;
+import com.tinkerpop.blueprints.Edge;
 
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -30,6 +34,11 @@ public class ReleaseMigrationHandler extends AbstractMigrationHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(ReleaseMigrationHandler.class);
 
+	/**
+	 * Amount of node uuids which will be loaded from the index at once.
+	 */
+	private static final int PAGE_SIZE = 1000;
+
 	@Inject
 	public ReleaseMigrationHandler(Database db, SearchQueue searchQueue, BinaryFieldHandler nodeFieldAPIHandler) {
 		super(db, searchQueue, nodeFieldAPIHandler);
@@ -62,26 +71,13 @@ public class ReleaseMigrationHandler extends AbstractMigrationHandler {
 			status.commit();
 		}
 
-		long count = 0;
 		// Iterate over all nodes of the project and migrate them to the new release
 		Project project = oldRelease.getProject();
-		Iterable<? extends Node> it = project.getNodeRoot().findAllIt();
-		for (Node node : it) {
-			SearchQueueBatch sqb = db.tx(() -> {
-				return migrateNode(node, oldRelease, newRelease);
-			});
-			sqb.processSync();
-			if (status != null) {
-				status.incCompleted();
-			}
-			if (count % 50 == 0) {
-				log.info("Migrated nodes: " + count);
-				if (status != null) {
-					status.commit();
-				}
-			}
-			count++;
+		String checkpoint = status != null ? status.getCheckpoint() : null;
+		if (checkpoint != null) {
+			log.info("Resuming release migration after node {" + checkpoint + "}");
 		}
+		long count = migrateNodes(project, newRelease, status, checkpoint);
 
 		// TODO track migration errors
 
@@ -92,49 +88,102 @@ public class ReleaseMigrationHandler extends AbstractMigrationHandler {
 
 	}
 
+	/**
+	 * Migrate all nodes of the project to the new release. The nodes are iterated in pages in the order of their uuids using the ordered uuid index, since
+	 * the graph does not guarantee a stable iteration order. Nodes with an uuid up to and including the checkpoint will thus be skipped since they have
+	 * already been migrated by a previous run.
+	 * 
+	 * @param project
+	 * @param newRelease
+	 * @param status
+	 * @param checkpoint
+	 *            Uuid of the last node which was migrated or null to migrate all nodes
+	 * @return Amount of migrated nodes
+	 */
+	private long migrateNodes(Project project, Release newRelease, MigrationStatusHandler status, String checkpoint) {
+		NodeRoot nodeRoot = project.getNodeRoot();
+		Object nodeRootId = db.tx(() -> nodeRoot.getId());
+		long count = 0;
+		String lastUuid = checkpoint;
+		while (true) {
+			// The index contains the nodes of all projects. The uuid of the last scanned node is tracked separately so that the next page starts after
+			// nodes of other projects as well.
+			List<String> scanned = new ArrayList<>();
+			String from = lastUuid;
+			List<String> uuids = db.tx(() -> findNodeUuids(nodeRootId, from, scanned));
+			if (scanned.isEmpty()) {
+				break;
+			}
+			lastUuid = scanned.get(scanned.size() - 1);
+
+			for (String uuid : uuids) {
+				SearchQueueBatch sqb = db.tx(() -> {
+					Node node = nodeRoot.findByUuid(uuid);
+					// The node may have been deleted in the meantime
+					if (node == null) {
+						return null;
+					}
+					return migrateNode(node, newRelease);
+				});
+				if (sqb != null) {
+					sqb.processSync();
+				}
+				if (status != null) {
+					status.incCompleted();
+					status.setCheckpoint(uuid);
+				}
+				if (count % 50 == 0) {
+					log.info("Migrated nodes: " + count);
+					if (status != null) {
+						status.commit();
+					}
+				}
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Load the next page of node uuids from the ordered uuid index. Only the uuids of nodes which belong to the node root will be returned.
+	 * 
+	 * @param nodeRootId
+	 *            Id of the node root of the project
+	 * @param from
+	 *            Uuid after which the page starts or null to start with the first node
+	 * @param scanned
+	 *            List to which the uuids of all scanned nodes will be added
+	 * @return Uuids of the nodes of the project in ascending order
+	 */
+	private List<String> findNodeUuids(Object nodeRootId, String from, List<String> scanned) {
+		FramedGraph graph = Tx.getActive().getGraph();
+		scanned.clear();
+		List<String> uuids = new ArrayList<>();
+		for (Object id : db.orderedVertexLookup(NodeImpl.UUID_ORDERED_INDEX_NAME, NodeImpl.class, from, PAGE_SIZE)) {
+			String uuid = graph.getFramedVertexExplicit(NodeImpl.class, id).getUuid();
+			scanned.add(uuid);
+			// Use the edge index to determine whether the node belongs to the project
+			Iterable<Edge> edges = graph.getEdges("e." + HAS_NODE.toLowerCase() + "_inout", db.createComposedIndexKey(id, nodeRootId));
+			if (edges.iterator().hasNext()) {
+				uuids.add(uuid);
+			}
+		}
+		return uuids;
+	}
+
 	/**
 	 * Migrate the node from the old release to the new release. This will effectively create the edges between the new release and the node. Additionally also
 	 * the tags will be update to correspond with the new release structure.
 	 * 
 	 * @param node
-	 * @param oldRelease
 	 * @param newRelease
-	 * @return
+	 * @return Batch for the search index update or null if the node has already been migrated
 	 */
-	private SearchQueueBatch migrateNode(Node node, Release oldRelease, Release newRelease) {
-		if (!node.getGraphFieldContainers(newRelease, INITIAL).isEmpty()) {
-			return null;
-		}
-		node.getGraphFieldContainers(oldRelease, DRAFT).stream().forEach(container -> {
-			GraphFieldContainerEdgeImpl initialEdge = node.addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
-			initialEdge.setLanguageTag(container.getLanguage().getLanguageTag());
-			initialEdge.setType(INITIAL);
-			initialEdge.setReleaseUuid(newRelease.getUuid());
-
-			GraphFieldContainerEdgeImpl draftEdge = node.addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
-			draftEdge.setLanguageTag(container.getLanguage().getLanguageTag());
-			draftEdge.setType(DRAFT);
-			draftEdge.setReleaseUuid(newRelease.getUuid());
-		});
+	private SearchQueueBatch migrateNode(Node node, Release newRelease) {
 		SearchQueueBatch batch = searchQueue.create();
-		batch.store(node, newRelease.getUuid(), DRAFT, false);
-
-		node.getGraphFieldContainers(oldRelease, PUBLISHED).stream().forEach(container -> {
-			GraphFieldContainerEdgeImpl edge = node.addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
-			edge.setLanguageTag(container.getLanguage().getLanguageTag());
-			edge.setType(PUBLISHED);
-			edge.setReleaseUuid(newRelease.getUuid());
-		});
-		batch.store(node, newRelease.getUuid(), PUBLISHED, false);
-
-		Node parent = node.getParentNode(oldRelease.getUuid());
-		if (parent != null) {
-			node.setParentNode(newRelease.getUuid(), parent);
+		if (!node.migrateToRelease(newRelease, batch)) {
+			return null;
 		}
-
-		// migrate tags
-		node.getTags(oldRelease).forEach(tag -> node.addTag(tag, newRelease));
 		return batch;
-
 	}
 }
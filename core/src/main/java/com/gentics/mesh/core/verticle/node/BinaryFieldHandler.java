@@ -11,6 +11,12 @@ import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -47,7 +53,6 @@ import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.verticle.handler.AbstractHandler;
 import com.gentics.mesh.etc.config.MeshUploadOptions;
 import com.gentics.mesh.graphdb.spi.Database;
-import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
@@ -55,6 +60,7 @@ import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
 import com.gentics.mesh.storage.BinaryStorage;
 import com.gentics.mesh.util.FileUtils;
 import com.gentics.mesh.util.RxUtil;
+import com.gentics.mesh.util.Tuple;
 
 import dagger.Lazy;
 import io.reactivex.Flowable;
@@ -186,34 +192,24 @@ public class BinaryFieldHandler extends AbstractHandler {
 		// (if the transaction failed and has to be repeated).
 		ac.put("sourceFile", ul.uploadedFileName());
 
+		// Validate the request before the upload is read. Hashing and inspecting the upload is expensive and should not be done for invalid or unauthorized
+		// requests.
 		db.tx(() -> {
-			Project project = ac.getProject();
-			Release release = ac.getRelease();
-			Node node = project.getNodeRoot().loadObjectByUuid(ac, nodeUuid, UPDATE_PERM);
-
-			Language language = boot.get().languageRoot().findByLanguageTag(languageTag);
-			if (language == null) {
-				throw error(NOT_FOUND, "error_language_not_found", languageTag);
-			}
+			validateUpdateRequest(ac, nodeUuid, fieldName, languageTag, nodeVersion);
+		});
 
-			// Load the current latest draft
-			NodeGraphFieldContainer latestDraftVersion = node.getGraphFieldContainer(language, release, ContainerType.DRAFT);
+		// Inspect the upload only once in order to compute the hash and the image information. The result will be reused if the transaction is repeated.
+		TransformationResult uploadInfo = inspectUpload(ul);
 
-			if (latestDraftVersion == null) {
-				// latestDraftVersion = node.createGraphFieldContainer(language, release, ac.getUser());
-				// TODO Maybe it would be better to just create a new field container for the language?
-				// In that case we would also need to:
-				// * check for segment field conflicts
-				// * update display name
-				// * fail if mandatory fields are missing
-				throw error(NOT_FOUND, "error_language_not_found", languageTag);
-			}
-
-			// Load the base version field container in order to create the diff
-			NodeGraphFieldContainer baseVersionContainer = node.findVersion(languageTag, release.getUuid(), nodeVersion);
-			if (baseVersionContainer == null) {
-				throw error(BAD_REQUEST, "node_error_draft_not_found", nodeVersion, languageTag);
-			}
+		db.tx(() -> {
+			Release release = ac.getRelease();
+			// Repeat the checks since the node may have been changed in the meantime
+			Tuple<Node, Tuple<NodeGraphFieldContainer, NodeGraphFieldContainer>> target = validateUpdateRequest(ac, nodeUuid, fieldName, languageTag,
+				nodeVersion);
+			Node node = target.v1();
+			NodeGraphFieldContainer latestDraftVersion = target.v2().v1();
+			NodeGraphFieldContainer baseVersionContainer = target.v2().v2();
+			Language language = latestDraftVersion.getLanguage();
 
 			List<FieldContainerChange> baseVersionDiff = baseVersionContainer.compareTo(latestDraftVersion);
 			List<FieldContainerChange> requestVersionDiff = Arrays.asList(new FieldContainerChange(fieldName, FieldChangeTypes.UPDATED));
@@ -236,22 +232,13 @@ public class BinaryFieldHandler extends AbstractHandler {
 				}
 			}
 
-			FieldSchema fieldSchema = latestDraftVersion.getSchemaContainerVersion().getSchema().getField(fieldName);
-			if (fieldSchema == null) {
-				throw error(BAD_REQUEST, "error_schema_definition_not_found", fieldName);
-			}
-			if (!(fieldSchema instanceof BinaryFieldSchema)) {
-				// TODO Add support for other field types
-				throw error(BAD_REQUEST, "error_found_field_is_not_binary", fieldName);
-			}
-
 			SearchQueueBatch batch = searchQueue.create();
 			// Create a new node version field container to store the upload
 			NodeGraphFieldContainer newDraftVersion = node.createGraphFieldContainer(language, release, ac.getUser(), latestDraftVersion, true);
 
 			// Check whether the binary with the given hashsum was already stored
 			BinaryRoot binaryRoot = boot.get().meshRoot().getBinaryRoot();
-			String hash = FileUtils.hash(ul.uploadedFileName());
+			String hash = uploadInfo.getHash();
 			Binary binary = binaryRoot.findByHash(hash);
 
 			// Create a new binary if the data was not already stored
@@ -277,14 +264,14 @@ public class BinaryFieldHandler extends AbstractHandler {
 			}
 
 			// Process the upload which will update the binary field
-			processUpload(ac, ul, field, storeBinary);
+			processUpload(ul, uploadInfo, field, storeBinary);
 
 			// Now get rid of the old field
 			if (oldField != null) {
 				oldField.removeField(newDraftVersion);
 			}
 			// If the binary field is the segment field, we need to update the webroot info in the node
-			if (field.getFieldKey().equals(newDraftVersion.getSchemaContainerVersion().getSchema().getSegmentField())) {
+			if (field.getFieldKey().equals(newDraftVersion.getSchemaContainerVersion().getSchemaReadOnly().getSegmentField())) {
 				newDraftVersion.updateWebrootPathInfo(release.getUuid(), "node_conflicting_segmentfield_upload");
 			}
 
@@ -293,65 +280,120 @@ public class BinaryFieldHandler extends AbstractHandler {
 	}
 
 	/**
-	 * Processes the upload and set the binary information (e.g.: image dimensions) within the provided field. The binary data will be stored in the
-	 * {@link BinaryStorage} if desired.
+	 * Check the permissions on the node and whether the language, the base version and the binary field exist. The check is done before the upload is
+	 * inspected and again within the transaction which updates the field.
 	 * 
 	 * @param ac
+	 * @param nodeUuid
+	 * @param fieldName
+	 * @param languageTag
+	 * @param nodeVersion
+	 * @return Node, latest draft version and base version of the update
+	 */
+	private Tuple<Node, Tuple<NodeGraphFieldContainer, NodeGraphFieldContainer>> validateUpdateRequest(InternalActionContext ac, String nodeUuid,
+		String fieldName, String languageTag, String nodeVersion) {
+		Release release = ac.getRelease();
+		Node node = ac.getProject().getNodeRoot().loadObjectByUuid(ac, nodeUuid, UPDATE_PERM);
+
+		Language language = boot.get().languageRoot().findByLanguageTag(languageTag);
+		if (language == null) {
+			throw error(NOT_FOUND, "error_language_not_found", languageTag);
+		}
+
+		// Load the current latest draft
+		NodeGraphFieldContainer latestDraftVersion = node.getGraphFieldContainer(language, release, ContainerType.DRAFT);
+		if (latestDraftVersion == null) {
+			// TODO Maybe it would be better to just create a new field container for the language?
+			// In that case we would also need to:
+			// * check for segment field conflicts
+			// * update display name
+			// * fail if mandatory fields are missing
+			throw error(NOT_FOUND, "error_language_not_found", languageTag);
+		}
+
+		// Load the base version field container in order to create the diff
+		NodeGraphFieldContainer baseVersionContainer = node.findVersion(languageTag, release.getUuid(), nodeVersion);
+		if (baseVersionContainer == null) {
+			throw error(BAD_REQUEST, "node_error_draft_not_found", nodeVersion, languageTag);
+		}
+
+		FieldSchema fieldSchema = latestDraftVersion.getSchemaContainerVersion().getFieldSchema(fieldName);
+		if (fieldSchema == null) {
+			throw error(BAD_REQUEST, "error_schema_definition_not_found", fieldName);
+		}
+		if (!(fieldSchema instanceof BinaryFieldSchema)) {
+			// TODO Add support for other field types
+			throw error(BAD_REQUEST, "error_found_field_is_not_binary", fieldName);
+		}
+		return Tuple.tuple(node, Tuple.tuple(latestDraftVersion, baseVersionContainer));
+	}
+
+	/**
+	 * Read the uploaded file once in order to compute the SHA 512 checksum and the image information. The checksum is computed while the data is passed
+	 * through to the image reader (for images). Any data which was not consumed by the image reader will be drained in order to complete the checksum. New
+	 * binary data will be read a second time when it is stored in the binary storage.
+	 * 
+	 * @param ul
+	 *            Upload to inspect
+	 * @return Result which contains the hash, size and the optional image information
+	 */
+	private TransformationResult inspectUpload(FileUpload ul) {
+		String uploadFile = ul.uploadedFileName();
+		boolean isImage = ul.contentType().startsWith("image/");
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-512");
+			ImageInfo imageInfo = null;
+			try (InputStream is = new BufferedInputStream(Files.newInputStream(Paths.get(uploadFile)));
+				DigestInputStream dis = new DigestInputStream(is, md)) {
+				// Only gather image info for actual images
+				if (isImage) {
+					imageInfo = imageManipulator.readImageInfo(dis).map(Optional::of).onErrorReturn(e -> {
+						// suppress error
+						return Optional.empty();
+					}).blockingGet().orElse(null);
+				}
+				byte[] buffer = new byte[4096];
+				while (dis.read(buffer) >= 0) {
+				}
+			}
+			String hash = FileUtils.bytesToHex(md.digest());
+			return new TransformationResult(hash, ul.size(), imageInfo, uploadFile);
+		} catch (Exception e) {
+			log.error("Error while processing upload file {" + uploadFile + "}", e);
+			throw error(INTERNAL_SERVER_ERROR, "node_error_upload_failed", e);
+		}
+	}
+
+	/**
+	 * Processes the upload and set the binary information (e.g.: image dimensions) within the provided field. The binary data will be stored in the
+	 * {@link BinaryStorage} if desired. The upload data will only be read again if it needs to be stored.
+	 * 
 	 * @param ul
 	 *            Upload to process
+	 * @param uploadInfo
+	 *            Previously extracted upload information (hash, image info)
 	 * @param field
 	 *            Field which will be updated with the extracted information
 	 * @param storeBinary
 	 *            Whether to store the data in the binary store
 	 */
-	private void processUpload(ActionContext ac, FileUpload ul, BinaryGraphField field, boolean storeBinary) {
-		String uploadFile = ul.uploadedFileName();
-
+	private void processUpload(FileUpload ul, TransformationResult uploadInfo, BinaryGraphField field, boolean storeBinary) {
 		Binary binary = field.getBinary();
-		String hash = binary.getSHA512Sum();
-		String binaryUuid = binary.getUuid();
 		String contentType = ul.contentType();
-		boolean isImage = contentType.startsWith("image/");
 
-		// Calculate how many streams will connect to the data stream
-		int neededDataStreams = 0;
-		if (isImage) {
-			neededDataStreams++;
-		}
+		// Store the data
 		if (storeBinary) {
-			neededDataStreams++;
+			AsyncFile asyncFile = Mesh.vertx().fileSystem().openBlocking(uploadInfo.getFilePath(), new OpenOptions());
+			Flowable<Buffer> stream = RxUtil.toBufferFlow(asyncFile);
+			binaryStorage.store(stream, binary.getUuid()).blockingAwait();
 		}
 
-		if (neededDataStreams > 0) {
-			// Only gather image info for actual images. Otherwise return an empty image info object.
-			Single<Optional<ImageInfo>> imageInfo = Single.just(Optional.empty());
-			if (isImage) {
-				imageInfo = processImageInfo(ac, uploadFile);
-			}
-
-			// Store the data
-			Single<Long> store = Single.just(ul.size());
-			if (storeBinary) {
-				AsyncFile asyncFile = Mesh.vertx().fileSystem().openBlocking(uploadFile, new OpenOptions());
-				Flowable<Buffer> stream = RxUtil.toBufferFlow(asyncFile);
-				store = binaryStorage.store(stream, binaryUuid).andThen(Single.just(ul.size()));
-			}
-
-			// Handle the data in parallel
-			TransformationResult info = Single.zip(imageInfo, store, (imageinfoOpt, size) -> {
-				ImageInfo iinfo = null;
-				if (imageinfoOpt.isPresent()) {
-					iinfo = imageinfoOpt.get();
-				}
-				return new TransformationResult(hash, 0, iinfo, null);
-			}).blockingGet();
-			// Only add image information if image properties were found
-			if (info.getImageInfo() != null) {
-				binary.setImageHeight(info.getImageInfo().getHeight());
-				binary.setImageWidth(info.getImageInfo().getWidth());
-				field.setImageDominantColor(info.getImageInfo().getDominantColor());
-			}
-
+		// Only add image information if image properties were found
+		ImageInfo imageInfo = uploadInfo.getImageInfo();
+		if (imageInfo != null) {
+			binary.setImageHeight(imageInfo.getHeight());
+			binary.setImageWidth(imageInfo.getWidth());
+			field.setImageDominantColor(imageInfo.getDominantColor());
 		}
 
 		field.setFileName(ul.fileName());
@@ -359,30 +401,6 @@ public class BinaryFieldHandler extends AbstractHandler {
 		field.setMimeType(contentType);
 	}
 
-	/**
-	 * Processes the given file and extracts the image info. The image info is cached within the action context in case the method is called again (e.g.: due to
-	 * tx retry). In that case the previously loaded image info is returned.
-	 * 
-	 * @param ac
-	 * @param file
-	 * @return
-	 */
-	private Single<Optional<ImageInfo>> processImageInfo(ActionContext ac, String file) {
-		// Caches the image info in the action context so that it does not need to be
-		// calculated again if the transaction failed
-		ImageInfo imageInfo = ac.get("imageInfo");
-		if (imageInfo != null) {
-			return Single.just(Optional.of(imageInfo));
-		} else {
-			return imageManipulator.readImageInfo(file).doOnSuccess(ii -> {
-				ac.put("imageInfo", ii);
-			}).map(Optional::of).onErrorReturn(e -> {
-				// suppress error
-				return Optional.empty();
-			});
-		}
-	}
-
 	/**
 	 * Handle image transformation. This operation will utilize the binary data of the existing field and apply the transformation options. The new binary data
 	 * will be stored and the field will be updated accordingly.
@@ -417,7 +435,7 @@ public class BinaryFieldHandler extends AbstractHandler {
 				throw error(NOT_FOUND, "error_language_not_found", language.getLanguageTag());
 			}
 
-			FieldSchema fieldSchema = latestDraftVersion.getSchemaContainerVersion().getSchema().getField(fieldName);
+			FieldSchema fieldSchema = latestDraftVersion.getSchemaContainerVersion().getFieldSchema(fieldName);
 			if (fieldSchema == null) {
 				throw error(BAD_REQUEST, "error_schema_definition_not_found", fieldName);
 			}
@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.verticle.node;
 
+import static com.gentics.mesh.Events.JOB_WORKER_ADDRESS;
 import static com.gentics.mesh.core.data.ContainerType.DRAFT;
 import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.DELETE_PERM;
@@ -8,25 +9,41 @@ import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
+import static com.gentics.mesh.rest.Messages.message;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static io.netty.handler.codec.http.HttpResponseStatus.METHOD_NOT_ALLOWED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import javax.inject.Inject;
 
 import org.apache.commons.lang3.math.NumberUtils;
 
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.Language;
+import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Release;
 import com.gentics.mesh.core.data.Tag;
+import com.gentics.mesh.core.data.i18n.I18NUtil;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -35,26 +52,44 @@ import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.core.rest.error.AbstractRestException;
 import com.gentics.mesh.core.rest.error.NotModifiedException;
+import com.gentics.mesh.core.rest.node.NodeBulkAction;
+import com.gentics.mesh.core.rest.node.NodeBulkOperation;
+import com.gentics.mesh.core.rest.node.NodeBulkRequest;
+import com.gentics.mesh.core.rest.node.NodeBulkResponse;
+import com.gentics.mesh.core.rest.node.NodeBulkResult;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.verticle.handler.AbstractCrudHandler;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
 import com.gentics.mesh.dagger.MeshInternal;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.parameter.ExportParameters;
 import com.gentics.mesh.parameter.NodeParameters;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.VersioningParameters;
 import com.gentics.mesh.util.Tuple;
+import com.gentics.mesh.util.UUIDUtil;
+import com.syncleus.ferma.tx.Tx;
 import com.syncleus.ferma.tx.TxAction1;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.reactivex.Single;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Main CRUD handler for the Node Endpoint.
  */
 public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 
+	private static final Logger log = LoggerFactory.getLogger(NodeCrudHandler.class);
+
 	private SearchQueue searchQueue;
 
 	private BootstrapInitializer boot;
@@ -186,23 +221,15 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleReadChildren(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		utils.asyncTx(ac, () -> {
+		utils.<Node>readPage(ac, () -> {
 			NodeParameters nodeParams = ac.getNodeParameters();
 			PagingParameters pagingParams = ac.getPagingParameters();
 			VersioningParameters versionParams = ac.getVersioningParameters();
 			GraphPermission requiredPermission = "published".equals(ac.getVersioningParameters().getVersion()) ? READ_PUBLISHED_PERM : READ_PERM;
 			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, requiredPermission);
-			TransformablePage<? extends Node> page = node.getChildren(ac, nodeParams.getLanguageList(),
-				ac.getRelease(node.getProject()).getUuid(), ContainerType.forVersion(versionParams.getVersion()), pagingParams);
-			// Handle etag
-			String etag = page.getETag(ac);
-			ac.setEtag(etag, true);
-			if (ac.matches(etag, true)) {
-				throw new NotModifiedException();
-			} else {
-				return page.transformToRest(ac, 0).blockingGet();
-			}
-		}, model -> ac.send(model, OK));
+			return node.getChildren(ac, nodeParams.getLanguageList(), ac.getRelease(node.getProject()).getUuid(),
+				ContainerType.forVersion(versionParams.getVersion()), pagingParams);
+		}, Mesh.mesh().getOptions().getStorageOptions().getListTransformParallelism());
 
 	}
 
@@ -362,6 +389,30 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 		}).subscribe(model -> ac.send(NO_CONTENT), ac::fail);
 	}
 
+	/**
+	 * Handle publishing or taking offline the node and all its descendants. The subtree will be handled by a job in the background.
+	 * 
+	 * @param ac
+	 *            Action context
+	 * @param uuid
+	 *            Uuid of the root node of the subtree
+	 * @param publish
+	 *            true to publish the subtree, false to take it offline
+	 */
+	public void handlePublishSubtree(InternalActionContext ac, String uuid, boolean publish) {
+		validateParameter(uuid, "uuid");
+
+		utils.asyncTx(ac, () -> {
+			db.tx(() -> {
+				Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
+				Release release = ac.getRelease(node.getProject());
+				boot.jobRoot().enqueueSubtreePublish(ac.getUser(), release, node, publish);
+			});
+			vertx.eventBus().send(JOB_WORKER_ADDRESS, null);
+			return message(ac, publish ? "node_subtree_publish_invoked" : "node_subtree_take_offline_invoked");
+		}, model -> ac.send(model, OK));
+	}
+
 	/**
 	 * Handle getting the publish status for the requested language of the node.
 	 * 
@@ -478,4 +529,304 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 
 	}
+
+	/**
+	 * Handle a node export request. All node contents of the project and release which match the given filters will be streamed as newline delimited
+	 * JSON. The nodes will be loaded using a single traversal within a single transaction. The traversal will be paused whenever the write queue of the
+	 * response is full.
+	 * 
+	 * @param ac
+	 *            Action context of the request
+	 * @param response
+	 *            Response to which the nodes will be written
+	 */
+	public void handleExport(InternalActionContext ac, HttpServerResponse response) {
+		ExportParameters exportParameters = ac.getExportParameters();
+		List<String> schemaNames = exportParameters.getSchemaNames();
+		List<String> languageTags = exportParameters.getLanguageTags();
+		ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
+		GraphPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
+
+		AtomicBoolean closed = new AtomicBoolean(false);
+		response.closeHandler(v -> closed.set(true));
+
+		Mesh.vertx().executeBlocking(bc -> {
+			try (Tx tx = db.tx()) {
+				Release release = ac.getRelease();
+				MeshAuthUser user = ac.getUser();
+				response.setChunked(true);
+				response.putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_NDJSON);
+				for (Node node : ac.getProject().getNodeRoot().findAllIt()) {
+					if (!user.hasPermission(node, perm)) {
+						continue;
+					}
+					for (NodeGraphFieldContainer container : node.getGraphFieldContainers(release, type)) {
+						if (!schemaNames.isEmpty() && !schemaNames.contains(container.getSchemaContainerVersion().getName())) {
+							continue;
+						}
+						String languageTag = container.getLanguage().getLanguageTag();
+						if (!languageTags.isEmpty() && !languageTags.contains(languageTag)) {
+							continue;
+						}
+						NodeResponse model = node.transformToRestSync(ac, 0, languageTag);
+						writeExportLine(response, JsonUtil.toJsonBuffer(model, false).appendString("\n"), closed);
+					}
+				}
+				bc.complete();
+			} catch (Exception e) {
+				bc.fail(e);
+			}
+		}, false, rh -> {
+			if (rh.succeeded()) {
+				response.end();
+			} else if (!response.headWritten()) {
+				ac.fail(rh.cause());
+			} else {
+				// The status has already been sent. Closing the connection is the only way to signal the client that the export is incomplete.
+				log.error("Error while exporting nodes", rh.cause());
+				if (!closed.get()) {
+					response.close();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Write the line to the response. The method will block until the write queue of the response has been drained if it is full.
+	 * 
+	 * @param response
+	 * @param line
+	 * @param closed
+	 *            Flag which indicates that the connection has been closed
+	 * @throws InterruptedException
+	 */
+	private void writeExportLine(HttpServerResponse response, Buffer line, AtomicBoolean closed) throws InterruptedException {
+		if (response.writeQueueFull()) {
+			CountDownLatch latch = new CountDownLatch(1);
+			response.drainHandler(v -> latch.countDown());
+			// The queue may have been drained before the handler was registered
+			while (response.writeQueueFull() && !latch.await(1, TimeUnit.SECONDS)) {
+				if (closed.get()) {
+					break;
+				}
+			}
+		}
+		if (closed.get()) {
+			throw new IllegalStateException("The connection was closed by the client");
+		}
+		response.write(line);
+	}
+
+	/**
+	 * Handle a node bulk request. The operations will be executed in chunks and each chunk will be executed within a single transaction. The search
+	 * index changes of all committed chunks are collected and processed in a single stage once the last chunk has been committed. A failure of the search
+	 * index update will not fail the request since the operations have already been committed. It will be noted in the results of the successful
+	 * operations instead. The response contains the result of each operation.
+	 * 
+	 * @param ac
+	 *            Action context of the bulk request
+	 * @param itemContextFactory
+	 *            Factory which creates the action context for a single operation using the JSON body of the operation
+	 */
+	public void handleBulk(InternalActionContext ac, Function<String, InternalActionContext> itemContextFactory) {
+		int chunkSize = ac.getBulkParameters().getChunkSize();
+
+		Mesh.vertx().<NodeBulkResponse>executeBlocking(bc -> {
+			try {
+				List<NodeBulkOperation> operations = parseBulkOperations(ac);
+				NodeBulkResponse response = new NodeBulkResponse();
+				SearchQueueBatch indexBatch = searchQueue.create();
+				for (int offset = 0; offset < operations.size(); offset += chunkSize) {
+					List<NodeBulkOperation> chunk = operations.subList(offset, Math.min(offset + chunkSize, operations.size()));
+					response.getResults().addAll(executeBulkChunk(ac, itemContextFactory, chunk, offset, indexBatch));
+				}
+				processBulkIndexBatch(ac, indexBatch, response);
+				bc.complete(response);
+			} catch (Exception e) {
+				bc.fail(e);
+			}
+		}, false, rh -> {
+			if (rh.succeeded()) {
+				ac.send(rh.result(), OK);
+			} else {
+				ac.fail(rh.cause());
+			}
+		});
+	}
+
+	/**
+	 * Parse the operations of the bulk request. The request body may either contain a JSON bulk request or one JSON operation per line.
+	 * 
+	 * @param ac
+	 * @return
+	 */
+	private List<NodeBulkOperation> parseBulkOperations(InternalActionContext ac) {
+		MultiMap headers = ac.requestHeaders();
+		String contentType = headers == null ? null : headers.get(HttpHeaders.CONTENT_TYPE);
+		String body = ac.getBodyAsString();
+		if (contentType == null || !contentType.startsWith(APPLICATION_NDJSON)) {
+			return JsonUtil.readValue(body, NodeBulkRequest.class).getOperations();
+		}
+
+		List<NodeBulkOperation> operations = new ArrayList<>();
+		for (String line : body.split("\n")) {
+			if (line.trim().isEmpty()) {
+				continue;
+			}
+			try {
+				operations.add(JsonUtil.readValue(line, NodeBulkOperation.class));
+			} catch (AbstractRestException e) {
+				String reason = I18NUtil.get(ac, e.getI18nKey(), e.getI18nParameters());
+				throw error(BAD_REQUEST, "node_bulk_operation_invalid", String.valueOf(operations.size()), reason);
+			}
+		}
+		return operations;
+	}
+
+	/**
+	 * Process the collected search index changes of the bulk request. A failure will be logged and noted in the results of the successful operations.
+	 * 
+	 * @param ac
+	 * @param indexBatch
+	 * @param response
+	 */
+	private void processBulkIndexBatch(InternalActionContext ac, SearchQueueBatch indexBatch, NodeBulkResponse response) {
+		try {
+			indexBatch.processSync();
+		} catch (Exception e) {
+			log.error("Error while updating the search index for the committed bulk operations", e);
+			String message = I18NUtil.get(ac, "node_bulk_search_index_failed");
+			for (NodeBulkResult result : response.getResults()) {
+				if (result.getStatus() < 400) {
+					result.setMessage(message);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Execute the chunk of operations within a single transaction. The operations will be executed individually if the transaction fails so that a
+	 * single failing operation does not affect the other operations of the chunk. The search index changes of the chunk will be added to the index batch
+	 * once the transaction has been committed.
+	 * 
+	 * @param ac
+	 * @param itemContextFactory
+	 * @param chunk
+	 *            Operations to execute
+	 * @param offset
+	 *            Index of the first operation of the chunk within the bulk request
+	 * @param indexBatch
+	 *            Batch which collects the search index changes of all committed chunks
+	 * @return Results of the operations
+	 */
+	private List<NodeBulkResult> executeBulkChunk(InternalActionContext ac, Function<String, InternalActionContext> itemContextFactory,
+		List<NodeBulkOperation> chunk, int offset, SearchQueueBatch indexBatch) {
+		Tuple<List<NodeBulkResult>, Tuple<SearchQueueBatch, List<Runnable>>> tuple;
+		try {
+			tuple = db.tx(() -> {
+				SearchQueueBatch batch = searchQueue.create();
+				List<Runnable> events = new ArrayList<>();
+				List<NodeBulkResult> results = new ArrayList<>();
+				for (int i = 0; i < chunk.size(); i++) {
+					results.add(executeBulkOperation(ac, itemContextFactory, chunk.get(i), offset + i, batch, events));
+				}
+				return Tuple.tuple(results, Tuple.tuple(batch, events));
+			});
+		} catch (Exception e) {
+			if (chunk.size() == 1) {
+				return Arrays.asList(toBulkFailureResult(ac, chunk.get(0), e));
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Bulk chunk at offset {" + offset + "} failed. Executing the operations individually.", e);
+			}
+			List<NodeBulkResult> results = new ArrayList<>();
+			for (int i = 0; i < chunk.size(); i++) {
+				results.addAll(executeBulkChunk(ac, itemContextFactory, chunk.subList(i, i + 1), offset + i, indexBatch));
+			}
+			return results;
+		}
+
+		// The chunk has been committed. Now send the events and collect the search index changes.
+		tuple.v2().v2().forEach(Runnable::run);
+		tuple.v2().v1().getEntries().forEach(indexBatch::addEntry);
+		return tuple.v1();
+	}
+
+	/**
+	 * Execute a single bulk operation.
+	 * 
+	 * @param ac
+	 * @param itemContextFactory
+	 * @param operation
+	 * @param index
+	 *            Index of the operation within the bulk request
+	 * @param batch
+	 * @param events
+	 *            List of events which will be sent once the transaction has been committed
+	 * @return
+	 */
+	private NodeBulkResult executeBulkOperation(InternalActionContext ac, Function<String, InternalActionContext> itemContextFactory,
+		NodeBulkOperation operation, int index, SearchQueueBatch batch, List<Runnable> events) {
+		NodeBulkAction action = operation.getAction();
+		if (action == null) {
+			throw error(BAD_REQUEST, "node_bulk_action_missing", String.valueOf(index));
+		}
+		String uuid = operation.getUuid();
+		if (action != NodeBulkAction.CREATE && isEmpty(uuid)) {
+			throw error(BAD_REQUEST, "node_bulk_uuid_missing", String.valueOf(index));
+		}
+		if (uuid != null && !UUIDUtil.isUUID(uuid)) {
+			throw error(BAD_REQUEST, "error_illegal_uuid", uuid);
+		}
+		NodeBulkResult result = new NodeBulkResult().setAction(action);
+
+		switch (action) {
+		case CREATE:
+			if (operation.getCreate() == null) {
+				throw error(BAD_REQUEST, "node_bulk_request_missing", String.valueOf(index), action.name());
+			}
+			InternalActionContext createAc = itemContextFactory.apply(JsonUtil.toJson(operation.getCreate()));
+			Node createdNode = getRootVertex(createAc).create(createAc, batch, uuid);
+			events.add(createdNode::onCreated);
+			return result.setUuid(createdNode.getUuid()).setStatus(CREATED.code());
+		case UPDATE:
+			if (operation.getUpdate() == null) {
+				throw error(BAD_REQUEST, "node_bulk_request_missing", String.valueOf(index), action.name());
+			}
+			InternalActionContext updateAc = itemContextFactory.apply(JsonUtil.toJson(operation.getUpdate()));
+			Node updatedNode = getRootVertex(updateAc).loadObjectByUuid(updateAc, uuid, UPDATE_PERM);
+			if (updatedNode.update(updateAc, batch)) {
+				events.add(updatedNode::onUpdated);
+			}
+			return result.setUuid(uuid).setStatus(OK.code());
+		case PUBLISH:
+			Node publishedNode = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
+			publishedNode.publish(ac, batch);
+			return result.setUuid(uuid).setStatus(OK.code());
+		default:
+			throw error(BAD_REQUEST, "node_bulk_action_missing", String.valueOf(index));
+		}
+	}
+
+	/**
+	 * Create the result for a failed bulk operation.
+	 * 
+	 * @param ac
+	 * @param operation
+	 * @param error
+	 * @return
+	 */
+	private NodeBulkResult toBulkFailureResult(InternalActionContext ac, NodeBulkOperation operation, Throwable error) {
+		NodeBulkResult result = new NodeBulkResult().setAction(operation.getAction()).setUuid(operation.getUuid());
+		if (error instanceof AbstractRestException) {
+			AbstractRestException restError = (AbstractRestException) error;
+			result.setStatus(restError.getStatus().code());
+			result.setMessage(I18NUtil.get(ac, restError.getI18nKey(), restError.getI18nParameters()));
+		} else {
+			log.error("Error while executing bulk operation", error);
+			result.setStatus(INTERNAL_SERVER_ERROR.code());
+			result.setMessage(error.getMessage());
+		}
+		return result;
+	}
 }
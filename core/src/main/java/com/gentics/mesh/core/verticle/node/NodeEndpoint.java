@@ -1,6 +1,7 @@
 package com.gentics.mesh.core.verticle.node;
 
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
 import static io.netty.handler.codec.http.HttpResponseStatus.CONFLICT;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
@@ -16,9 +17,12 @@ import org.raml.model.Resource;
 
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.context.impl.BulkItemActionContextImpl;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.rest.navigation.NavigationResponse;
+import com.gentics.mesh.parameter.impl.BulkParametersImpl;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
+import com.gentics.mesh.parameter.impl.ExportParametersImpl;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
 import com.gentics.mesh.parameter.impl.NavigationParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
@@ -67,7 +71,9 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 		}
 
 		addCreateHandler();
+		addExportHandler();
 		addReadHandler();
+		addBulkHandler();
 		addUpdateHandler();
 		addDeleteHandler();
 
@@ -290,6 +296,23 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 		});
 	}
 
+	private void addExportHandler() {
+		EndpointRoute endpoint = createEndpoint();
+		endpoint.path("/export");
+		endpoint.method(GET);
+		endpoint.description("Export all nodes of the project as newline delimited JSON (" + APPLICATION_NDJSON
+				+ "). Each line contains a single language variant of a node. The nodes will be streamed and thus no paging is needed.");
+		endpoint.produces(APPLICATION_NDJSON);
+		endpoint.exampleResponse(OK, "Stream of nodes. Each line contains one node.");
+		endpoint.addQueryParameters(ExportParametersImpl.class);
+		endpoint.addQueryParameters(VersioningParametersImpl.class);
+		endpoint.addQueryParameters(NodeParametersImpl.class);
+		endpoint.handler(rc -> {
+			InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
+			crudHandler.handleExport(ac, rc.response());
+		});
+	}
+
 	private void addReadHandler() {
 		EndpointRoute readOne = createEndpoint();
 		readOne.path("/:nodeUuid");
@@ -344,6 +367,26 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 		});
 	}
 
+	private void addBulkHandler() {
+		EndpointRoute endpoint = createEndpoint();
+		endpoint.path("/bulk");
+		endpoint.method(POST);
+		endpoint.description("Create, update or publish multiple nodes. The operations will be executed in chunks and each chunk will be executed "
+				+ "within a single transaction. The operations can either be posted as a JSON bulk request or as newline delimited JSON ("
+				+ APPLICATION_NDJSON + ") which contains one operation per line. The response contains the result of each operation.");
+		endpoint.consumes(APPLICATION_JSON);
+		endpoint.consumes(APPLICATION_NDJSON);
+		endpoint.produces(APPLICATION_JSON);
+		endpoint.addQueryParameters(BulkParametersImpl.class);
+		endpoint.exampleRequest(nodeExamples.getNodeBulkRequest());
+		endpoint.exampleResponse(OK, nodeExamples.getNodeBulkResponse(), "Results of the bulk operations.");
+		endpoint.handler(rc -> {
+			InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
+			ac.getVersioningParameters().setVersion("draft");
+			crudHandler.handleBulk(ac, body -> new BulkItemActionContextImpl(rc, body));
+		});
+	}
+
 	// TODO filter by project name
 	// TODO handle depth
 	// TODO update other fields as well?
@@ -414,6 +457,34 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 			crudHandler.handleTakeOffline(ac, uuid);
 		});
 
+		EndpointRoute publishSubtreeEndpoint = createEndpoint();
+		publishSubtreeEndpoint.description("Invoke a job which publishes all language specific contents of the node and all its descendants.");
+		publishSubtreeEndpoint.path("/:nodeUuid/subtree/published");
+		publishSubtreeEndpoint.addUriParameter("nodeUuid", "Uuid of the root node of the subtree", UUIDUtil.randomUUID());
+		publishSubtreeEndpoint.method(POST);
+		publishSubtreeEndpoint.produces(APPLICATION_JSON);
+		publishSubtreeEndpoint.exampleResponse(OK, miscExamples.createMessageResponse(), "Publish job was invoked.");
+		publishSubtreeEndpoint.addQueryParameters(VersioningParametersImpl.class);
+		publishSubtreeEndpoint.handler(rc -> {
+			InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
+			String uuid = rc.request().getParam("nodeUuid");
+			crudHandler.handlePublishSubtree(ac, uuid, true);
+		});
+
+		EndpointRoute takeOfflineSubtreeEndpoint = createEndpoint();
+		takeOfflineSubtreeEndpoint.description("Invoke a job which takes the node and all its descendants offline.");
+		takeOfflineSubtreeEndpoint.path("/:nodeUuid/subtree/published");
+		takeOfflineSubtreeEndpoint.addUriParameter("nodeUuid", "Uuid of the root node of the subtree", UUIDUtil.randomUUID());
+		takeOfflineSubtreeEndpoint.method(DELETE);
+		takeOfflineSubtreeEndpoint.produces(APPLICATION_JSON);
+		takeOfflineSubtreeEndpoint.exampleResponse(OK, miscExamples.createMessageResponse(), "Take offline job was invoked.");
+		takeOfflineSubtreeEndpoint.addQueryParameters(VersioningParametersImpl.class);
+		takeOfflineSubtreeEndpoint.handler(rc -> {
+			InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
+			String uuid = rc.request().getParam("nodeUuid");
+			crudHandler.handlePublishSubtree(ac, uuid, false);
+		});
+
 		// Language specific
 
 		EndpointRoute getLanguageRoute = createEndpoint();
@@ -7,6 +7,7 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.rest.Messages.message;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
+import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
 import java.util.Iterator;
@@ -268,6 +269,28 @@ public class ReleaseCrudHandler extends AbstractCrudHandler<Release, ReleaseResp
 		});
 	}
 
+	/**
+	 * Handle the request to prune the versions of the release.
+	 * 
+	 * @param ac
+	 * @param releaseUuid
+	 *            Uuid of the release
+	 */
+	public void handlePruneVersions(InternalActionContext ac, String releaseUuid) {
+		validateParameter(releaseUuid, "releaseUuid");
+		utils.asyncTx(ac, () -> {
+			if (!ac.getUser().hasAdminRole()) {
+				throw error(FORBIDDEN, "error_admin_permission_required");
+			}
+			db.tx(() -> {
+				Release release = getRootVertex(ac).loadObjectByUuid(ac, releaseUuid, UPDATE_PERM);
+				boot.jobRoot().enqueueVersionPrune(ac.getUser(), release);
+			});
+			vertx.eventBus().send(JOB_WORKER_ADDRESS, null);
+			return message(ac, "version_prune_invoked");
+		}, model -> ac.send(model, OK));
+	}
+
 	public void handleMigrateRemainingMicronodes(InternalActionContext ac, String releaseUuid) {
 		utils.asyncTx(ac, () -> {
 			Project project = ac.getProject();
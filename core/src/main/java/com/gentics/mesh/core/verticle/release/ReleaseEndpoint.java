@@ -51,6 +51,7 @@ public class ReleaseEndpoint extends AbstractProjectEndpoint {
 		addUpdateHandler();
 		addNodeMigrationHandler();
 		addMicronodeMigrationHandler();
+		addVersionPruneHandler();
 	}
 
 	private void addMicroschemaInfoHandler() {
@@ -117,6 +118,22 @@ public class ReleaseEndpoint extends AbstractProjectEndpoint {
 		});
 	}
 
+	private void addVersionPruneHandler() {
+		EndpointRoute endpoint = createEndpoint();
+		endpoint.path("/:releaseUuid/pruneVersions");
+		endpoint.method(POST);
+		endpoint.addUriParameter("releaseUuid", "Uuid of the release", UUIDUtil.randomUUID());
+		endpoint.description("Invoke a job which removes old versions of the node contents of the release according to the version retention options. "
+				+ "This operation requires admin permissions.");
+		endpoint.exampleResponse(OK, miscExamples.createMessageResponse(), "version_prune_invoked");
+		endpoint.produces(APPLICATION_JSON);
+		endpoint.handler(rc -> {
+			InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
+			String releaseUuid = rc.request().getParam("releaseUuid");
+			crudHandler.handlePruneVersions(ac, releaseUuid);
+		});
+	}
+
 	private void addCreateHandler() {
 		EndpointRoute endpoint = createEndpoint();
 		endpoint.path("/");
@@ -24,7 +24,6 @@ import com.gentics.mesh.core.data.service.WebRootServiceImpl;
 import com.gentics.mesh.core.rest.error.NotModifiedException;
 import com.gentics.mesh.core.verticle.node.BinaryFieldResponseHandler;
 import com.gentics.mesh.graphdb.spi.Database;
-import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.path.Path;
 import com.gentics.mesh.path.PathSegment;
 import com.gentics.mesh.util.ETag;
@@ -114,7 +113,7 @@ public class WebRootHandler {
 
 		}).subscribe(result -> {
 			if (result.isPresent()) {
-				ac.send(JsonUtil.toJson(result.get()),
+				ac.send(result.get(),
 						HttpResponseStatus.valueOf(NumberUtils.toInt(rc.data().getOrDefault("statuscode", "").toString(), OK.code())));
 			}
 		}, ac::fail);
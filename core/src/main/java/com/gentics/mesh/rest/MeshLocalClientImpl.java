@@ -29,6 +29,8 @@ import com.gentics.mesh.core.rest.microschema.impl.MicroschemaCreateRequest;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaResponse;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaUpdateRequest;
 import com.gentics.mesh.core.rest.navigation.NavigationResponse;
+import com.gentics.mesh.core.rest.node.NodeBulkRequest;
+import com.gentics.mesh.core.rest.node.NodeBulkResponse;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeDownloadResponse;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
@@ -100,6 +102,7 @@ import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.ParameterProvider;
 import com.gentics.mesh.rest.client.MeshRequest;
 import com.gentics.mesh.rest.client.MeshRestClient;
+import com.gentics.mesh.rest.client.ResponseCache;
 import com.gentics.mesh.rest.client.impl.MeshLocalRequestImpl;
 import com.gentics.mesh.util.UUIDUtil;
 
@@ -1119,6 +1122,38 @@ public class MeshLocalClientImpl implements MeshRestClient {
 		return null;
 	}
 
+	@Override
+	public MeshRequest<String> exportNodes(String projectName, ParameterProvider... parameters) {
+		// Streaming responses are not supported by the local client
+		return null;
+	}
+
+	@Override
+	public MeshRequest<NodeBulkResponse> bulkNodes(String projectName, NodeBulkRequest request, ParameterProvider... parameters) {
+		LocalActionContextImpl<NodeBulkResponse> ac = createContext(NodeBulkResponse.class, parameters);
+		ac.setProject(projectName);
+		ac.setPayloadObject(request);
+		ac.getVersioningParameters().setVersion("draft");
+		nodeCrudHandler.handleBulk(ac, body -> {
+			LocalActionContextImpl<NodeResponse> itemAc = new LocalActionContextImpl<NodeResponse>(user, NodeResponse.class, parameters) {
+				@Override
+				public String getBodyAsString() {
+					return body;
+				}
+			};
+			itemAc.setProject(projectName);
+			itemAc.getVersioningParameters().setVersion("draft");
+			return itemAc;
+		});
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
+	@Override
+	public MeshRequest<NodeBulkResponse> bulkNodes(String projectName, String operations, ParameterProvider... parameters) {
+		// Newline delimited request bodies are not supported by the local client
+		return null;
+	}
+
 	@Override
 	public MeshRequest<PublishStatusResponse> publishNode(String projectName, String nodeUuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<PublishStatusResponse> ac = createContext(PublishStatusResponse.class, parameters);
@@ -1144,6 +1179,22 @@ public class MeshLocalClientImpl implements MeshRestClient {
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
+	@Override
+	public MeshRequest<GenericMessageResponse> publishNodeSubtree(String projectName, String nodeUuid, ParameterProvider... parameters) {
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class, parameters);
+		ac.setProject(projectName);
+		nodeCrudHandler.handlePublishSubtree(ac, nodeUuid, true);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
+	@Override
+	public MeshRequest<GenericMessageResponse> takeNodeSubtreeOffline(String projectName, String nodeUuid, ParameterProvider... parameters) {
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class, parameters);
+		ac.setProject(projectName);
+		nodeCrudHandler.handlePublishSubtree(ac, nodeUuid, false);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
 	@Override
 	public MeshRequest<Void> takeNodeLanguage(String projectName, String nodeUuid, String languageTag, ParameterProvider... parameters) {
 		LocalActionContextImpl<Void> ac = createContext(Void.class, parameters);
@@ -1221,6 +1272,12 @@ public class MeshLocalClientImpl implements MeshRestClient {
 		return null;
 	}
 
+	@Override
+	public MeshRequest<GenericMessageResponse> pruneReleaseVersions(String projectName, String releaseUuid) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
 	@Override
 	public MeshRequest<ReleaseInfoMicroschemaList> assignReleaseMicroschemaVersions(String projectName, String releaseUuid,
 			ReleaseInfoMicroschemaList microschemaVersionReferences) {
@@ -1331,6 +1388,23 @@ public class MeshLocalClientImpl implements MeshRestClient {
 		return this;
 	}
 
+	@Override
+	public MeshRestClient enableResponseCache(int maxEntries) {
+		// Not supported
+		return this;
+	}
+
+	@Override
+	public MeshRestClient disableResponseCache() {
+		// Not supported
+		return this;
+	}
+
+	@Override
+	public ResponseCache getResponseCache() {
+		return null;
+	}
+
 	@Override
 	public MeshRestClient disableAnonymousAccess() {
 		// TODO Auto-generated method stub
@@ -1344,7 +1418,7 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	}
 
 	@Override
-	public MeshRequest<ConsistencyCheckResponse> checkConsistency() {
+	public MeshRequest<ConsistencyCheckResponse> checkConsistency(ParameterProvider... parameters) {
 		// TODO Auto-generated method stub
 		return null;
 	}
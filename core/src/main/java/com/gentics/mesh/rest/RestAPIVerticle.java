@@ -10,6 +10,7 @@ import javax.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.verticle.admin.AdminEndpoint;
 import com.gentics.mesh.core.verticle.admin.RestInfoEndpoint;
 import com.gentics.mesh.core.verticle.auth.AuthenticationEndpoint;
@@ -29,6 +30,7 @@ import com.gentics.mesh.core.verticle.tagfamily.TagFamilyEndpoint;
 import com.gentics.mesh.core.verticle.user.UserEndpoint;
 import com.gentics.mesh.core.verticle.utility.UtilityEndpoint;
 import com.gentics.mesh.core.verticle.webroot.WebRootEndpoint;
+import com.gentics.mesh.etc.config.HttpServerConfig;
 import com.gentics.mesh.graphql.GraphQLEndpoint;
 import com.gentics.mesh.router.RouterStorage;
 import com.gentics.mesh.router.route.AbstractEndpoint;
@@ -39,6 +41,7 @@ import com.gentics.mesh.search.SearchEndpointImpl;
 
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
+import io.vertx.core.http.Http2Settings;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.ext.web.Router;
@@ -143,14 +146,20 @@ public class RestAPIVerticle extends AbstractVerticle {
 		if (log.isInfoEnabled()) {
 			log.info("Starting http server on {" + host + ":" + port + "}..");
 		}
+		HttpServerConfig httpServerOptions = Mesh.mesh().getOptions().getHttpServerOptions();
 		HttpServerOptions options = new HttpServerOptions();
 		options.setPort(port);
 		options.setHost(host);
 		options.setCompressionSupported(true);
+		options.setCompressionLevel(httpServerOptions.getCompressionLevel());
 		options.setHandle100ContinueAutomatically(true);
+		options.setIdleTimeout(httpServerOptions.getIdleTimeout());
+		options.setTcpKeepAlive(httpServerOptions.isTcpKeepAlive());
+		options.setAcceptBacklog(httpServerOptions.getAcceptBacklog());
+		// Cleartext HTTP/2 connections can either be upgraded from HTTP/1.1 or directly be opened using prior knowledge
+		options.setHttp2ClearTextEnabled(httpServerOptions.isHttp2());
+		options.setInitialSettings(new Http2Settings().setMaxConcurrentStreams(httpServerOptions.getHttp2MaxConcurrentStreams()));
 		// options.setLogActivity(true);
-		// MeshOptions meshOptions = Mesh.mesh().getOptions();
-		// HttpServerConfig httpServerOptions = meshOptions.getHttpServerOptions();
 		// if (httpServerOptions.isSsl()) {
 		// if (log.isErrorEnabled()) {
 		// log.debug("Setting ssl server options");
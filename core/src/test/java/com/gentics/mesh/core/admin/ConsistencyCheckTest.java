@@ -1,7 +1,9 @@
 package com.gentics.mesh.core.admin;
 
 import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.PROJECT;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 
@@ -10,6 +12,7 @@ import org.junit.Test;
 import com.gentics.mesh.core.data.impl.UserImpl;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyRating;
+import com.gentics.mesh.parameter.client.ConsistencyCheckParametersImpl;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 
@@ -39,4 +42,45 @@ public class ConsistencyCheckTest extends AbstractMeshTest {
 		});
 	}
 
+	@Test
+	public void testFilteredConsistencyCheck() {
+		client().setLogin("admin", "admin");
+		client().login().blockingGet();
+
+		tx(() -> {
+			user().getVertex().removeProperty(UserImpl.USERNAME_PROPERTY_KEY);
+		});
+		ConsistencyCheckResponse response = call(() -> client().checkConsistency(new ConsistencyCheckParametersImpl().setTypes("nodes", "tags")));
+		assertThat(response.getInconsistencies()).isEmpty();
+
+		response = call(() -> client().checkConsistency(new ConsistencyCheckParametersImpl().setTypes("users")));
+		assertThat(response.getInconsistencies()).hasSize(1);
+
+		// Users are not assigned to projects
+		response = call(() -> client().checkConsistency(new ConsistencyCheckParametersImpl().setProjectName(PROJECT_NAME)));
+		assertThat(response.getInconsistencies()).isEmpty();
+
+		call(() -> client().checkConsistency(new ConsistencyCheckParametersImpl().setTypes("bogus")), BAD_REQUEST,
+				"admin_consistency_check_type_unknown", "bogus", "groups, microschemas, nodes, projects, releases, roles, schemas, tags, tagfamilies, users");
+		call(() -> client().checkConsistency(new ConsistencyCheckParametersImpl().setProjectName("bogus")), BAD_REQUEST, "project_not_found",
+				"bogus");
+
+		// The complete check stores the timestamp for following incremental checks
+		response = call(() -> client().checkConsistency());
+		assertThat(response.getInconsistencies()).hasSize(1);
+		response = call(() -> client().checkConsistency(new ConsistencyCheckParametersImpl().setIncremental(true)));
+		assertThat(response.getInconsistencies()).as("The user was not modified since the last check").isEmpty();
+
+		tx(() -> {
+			user().setLastEditedTimestamp();
+		});
+		response = call(() -> client().checkConsistency(new ConsistencyCheckParametersImpl().setIncremental(true)));
+		assertThat(response.getInconsistencies()).hasSize(1);
+		assertEquals(userUuid(), response.getInconsistencies().get(0).getElementUuid());
+
+		tx(() -> {
+			user().getVertex().setProperty(UserImpl.USERNAME_PROPERTY_KEY, "blub");
+		});
+	}
+
 }
@@ -9,6 +9,7 @@ import static com.gentics.mesh.test.util.MeshAssert.latchFor;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.CONFLICT;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -21,6 +22,7 @@ import static org.junit.Assert.fail;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -381,6 +383,35 @@ public class BinaryFieldUploadEndpointTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testUploadHashAndEarlyValidation() throws Exception {
+		String contentType = "application/octet-stream";
+		String fileName = "somefile.dat";
+		Node node = folder("news");
+		String uuid = tx(() -> node.getUuid());
+		try (Tx tx = tx()) {
+			prepareSchema(node, "", "binary");
+			tx.success();
+		}
+		String version = tx(() -> node.getGraphFieldContainer("en").getVersion().toString());
+		Buffer buffer = TestUtils.randomBuffer(10000);
+
+		// Invalid requests are rejected before the upload is inspected
+		call(() -> client().updateNodeBinaryField(PROJECT_NAME, uuid, "en", "99.99", "binary", buffer, fileName, contentType), BAD_REQUEST,
+			"node_error_draft_not_found", "99.99", "en");
+		call(() -> client().updateNodeBinaryField(PROJECT_NAME, uuid, "xx", version, "binary", buffer, fileName, contentType), NOT_FOUND,
+			"error_language_not_found", "xx");
+		call(() -> client().updateNodeBinaryField(PROJECT_NAME, uuid, "en", version, "bogus", buffer, fileName, contentType), BAD_REQUEST,
+			"error_schema_definition_not_found", "bogus");
+		assertEquals("No new version should have been created", version, tx(() -> node.getGraphFieldContainer("en").getVersion().toString()));
+
+		// The checksum is computed from the uploaded data
+		NodeResponse response = call(() -> client().updateNodeBinaryField(PROJECT_NAME, uuid, "en", version, "binary", buffer, fileName,
+			contentType));
+		String expectedHash = com.gentics.mesh.util.FileUtils.bytesToHex(MessageDigest.getInstance("SHA-512").digest(buffer.getBytes()));
+		assertEquals("The hashsum did not match the uploaded data.", expectedHash, response.getFields().getBinaryField("binary").getSha512sum());
+	}
+
 	/**
 	 * Assert that deleting a binary node will also remove the stored binary file.
 	 * 
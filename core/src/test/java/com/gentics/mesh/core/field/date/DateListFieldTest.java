@@ -10,6 +10,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
+
 import org.junit.Test;
 
 import com.syncleus.ferma.tx.Tx;
@@ -19,6 +21,7 @@ import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.DateGraphField;
 import com.gentics.mesh.core.data.node.field.GraphField;
+import com.gentics.mesh.core.data.node.field.list.AbstractBasicGraphFieldList;
 import com.gentics.mesh.core.data.node.field.list.DateGraphFieldList;
 import com.gentics.mesh.core.field.AbstractFieldTest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
@@ -81,6 +84,22 @@ public class DateListFieldTest extends AbstractFieldTest<ListFieldSchema> {
 		}
 	}
 
+	@Test
+	public void testNativeListStorage() {
+		try (Tx tx = tx()) {
+			NodeGraphFieldContainer container = tx.getGraph().addFramedVertex(NodeGraphFieldContainerImpl.class);
+			DateGraphFieldList list = container.createDateList("dummyList");
+			list.createDate(47L);
+			list.createDate(11L);
+
+			// Dates are stored as native numbers
+			List<Object> items = list.getProperty(AbstractBasicGraphFieldList.ITEMS_PROPERTY_KEY);
+			assertThat(items).containsExactly(47L, 11L);
+			assertEquals(Long.valueOf(11L), list.getDate(2).getDate());
+			assertThat(list.getValues()).containsExactly(47L, 11L);
+		}
+	}
+
 	@Test
 	@Override
 	public void testClone() {
@@ -12,6 +12,7 @@ import org.junit.Test;
 
 import com.syncleus.ferma.tx.Tx;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.StringGraphField;
 import com.gentics.mesh.core.field.AbstractFieldEndpointTest;
@@ -101,6 +102,24 @@ public class StringFieldEndpointTest extends AbstractFieldEndpointTest {
 		assertThat(secondResponse.getVersion()).as("New version number").isEqualTo(oldNumber);
 	}
 
+	@Test
+	public void testUpdateSameValueUsesDigest() {
+		NodeResponse firstResponse = updateNode(FIELD_NAME, new StringFieldImpl().setString("bla"));
+		try (Tx tx = tx()) {
+			NodeGraphFieldContainer container = folder("2015").getLatestDraftFieldContainer(english());
+			String digest = container.getProperty(FIELD_NAME + NodeGraphFieldContainerImpl.FIELD_DIGEST_PROPERTY_SUFFIX);
+			assertNotNull("The digest of the updated field should have been stored.", digest);
+		}
+
+		NodeResponse secondResponse = updateNode(FIELD_NAME, new StringFieldImpl().setString("bla"));
+		assertThat(secondResponse.getVersion()).as("New version number").isEqualTo(firstResponse.getVersion());
+
+		// A different value must not match the stored digest
+		NodeResponse thirdResponse = updateNode(FIELD_NAME, new StringFieldImpl().setString("blub"));
+		assertThat(thirdResponse.getVersion()).as("New version number").isNotEqualTo(firstResponse.getVersion());
+		assertThat(thirdResponse.getFields().getStringField(FIELD_NAME).getString()).as("Updated value").isEqualTo("blub");
+	}
+
 	@Test
 	@Override
 	public void testUpdateSetNull() {
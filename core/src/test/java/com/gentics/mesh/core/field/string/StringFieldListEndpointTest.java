@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.field.string;
 
+import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -16,11 +17,14 @@ import java.util.stream.Collectors;
 import org.junit.Test;
 
 import com.syncleus.ferma.tx.Tx;
+import com.gentics.mesh.FieldUtil;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.field.list.StringGraphFieldList;
 import com.gentics.mesh.core.data.node.field.list.impl.StringGraphFieldListImpl;
 import com.gentics.mesh.core.field.AbstractListFieldEndpointTest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.node.field.Field;
 import com.gentics.mesh.core.rest.node.field.list.impl.StringFieldListImpl;
 import com.gentics.mesh.test.TestSize;
@@ -97,6 +101,31 @@ public class StringFieldListEndpointTest extends AbstractListFieldEndpointTest {
 		}
 	}
 
+	@Test
+	public void testUnchangedListIsSharedWithNewVersion() {
+		StringFieldListImpl listField = new StringFieldListImpl();
+		listField.add("A");
+		listField.add("B");
+		NodeResponse firstResponse = updateNode(FIELD_NAME, listField);
+
+		// Update another field and send the unchanged list along
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion(firstResponse.getVersion());
+		request.getFields().put(FIELD_NAME, listField);
+		request.getFields().put("name", FieldUtil.createStringField("changed name"));
+		NodeResponse secondResponse = call(() -> client().updateNode(PROJECT_NAME, firstResponse.getUuid(), request));
+		assertThat(secondResponse.getVersion()).as("New version number").isNotEqualTo(firstResponse.getVersion());
+		assertThat(secondResponse.getFields().getStringFieldList(FIELD_NAME).getItems()).containsExactly("A", "B");
+
+		try (Tx tx = tx()) {
+			NodeGraphFieldContainer latest = folder("2015").getLatestDraftFieldContainer(english());
+			StringGraphFieldList list = latest.getStringList(FIELD_NAME);
+			StringGraphFieldList previousList = latest.getPreviousVersion().getStringList(FIELD_NAME);
+			assertEquals("The unchanged list should be shared with the previous version.", previousList.getId(), list.getId());
+		}
+	}
+
 	@Test
 	@Override
 	public void testReadNodeWithExistingField() {
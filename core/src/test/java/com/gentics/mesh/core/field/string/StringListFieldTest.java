@@ -7,8 +7,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 
 import com.syncleus.ferma.tx.Tx;
@@ -17,6 +21,7 @@ import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.GraphField;
+import com.gentics.mesh.core.data.node.field.list.AbstractBasicGraphFieldList;
 import com.gentics.mesh.core.data.node.field.list.StringGraphFieldList;
 import com.gentics.mesh.core.field.AbstractFieldTest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
@@ -89,6 +94,58 @@ public class StringListFieldTest extends AbstractFieldTest<ListFieldSchema> {
 		}
 	}
 
+	@Test
+	public void testNativeListStorage() {
+		try (Tx tx = tx()) {
+			NodeGraphFieldContainer container = tx.getGraph().addFramedVertex(NodeGraphFieldContainerImpl.class);
+			StringGraphFieldList list = container.createStringList("dummyList");
+			list.createString("one");
+			list.createString("two");
+			list.createString("three");
+			list.getString(2).setString("changed");
+
+			List<Object> items = list.getProperty(AbstractBasicGraphFieldList.ITEMS_PROPERTY_KEY);
+			assertThat(items).containsExactly("one", "changed", "three");
+			assertThat(list.getPropertyKeys()).doesNotContain("item-1-string", "item-2-string", "item-3-string");
+			assertThat(list.getValues()).containsExactly("one", "changed", "three");
+			assertEquals("three", list.getString(3).getString());
+		}
+	}
+
+	@Test
+	public void testSetItems() {
+		try (Tx tx = tx()) {
+			NodeGraphFieldContainer container = tx.getGraph().addFramedVertex(NodeGraphFieldContainerImpl.class);
+			StringGraphFieldList list = container.createStringList("dummyList");
+			list.createString("old");
+			list.setItems(Arrays.asList("one", "two", "three"));
+			assertThat(list.getValues()).containsExactly("one", "two", "three");
+			assertEquals(3, list.getSize());
+			assertEquals("two", list.getString(2).getString());
+		}
+	}
+
+	@Test
+	public void testRemoveItemKeepsPositions() {
+		try (Tx tx = tx()) {
+			NodeGraphFieldContainer container = tx.getGraph().addFramedVertex(NodeGraphFieldContainerImpl.class);
+			StringGraphFieldList list = container.createStringList("dummyList");
+			list.setItems(Arrays.asList("one", "two", "three"));
+
+			// Removing a value in the middle must not shift the following items
+			list.getString(2).setString(null);
+			assertEquals(3, list.getSize());
+			assertNull(list.getString(2).getString());
+			assertEquals("three", list.getString(3).getString());
+			assertThat(list.getValues()).containsExactly("one", null, "three");
+
+			// Trailing empty positions are dropped
+			list.getString(3).setString(null);
+			assertEquals(1, list.getSize());
+			assertThat(list.getValues()).containsExactly("one");
+		}
+	}
+
 	@Test
 	@Override
 	public void testClone() {
@@ -1,31 +1,54 @@
 package com.gentics.mesh.core.job;
 
+import static com.gentics.mesh.Events.JOB_WORKER_ADDRESS;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import io.reactivex.exceptions.CompositeException;
 import org.apache.cxf.jaxrs.utils.ExceptionUtils;
 import org.junit.Test;
 
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.job.JobRoot;
 import com.gentics.mesh.core.data.job.impl.MicronodeMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.NodeMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.ReleaseMigrationJobImpl;
+import com.gentics.mesh.core.rest.admin.migration.MigrationStatus;
 import com.gentics.mesh.core.rest.admin.migration.MigrationType;
 import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.verticle.job.JobWorkerVerticle;
+import com.gentics.mesh.core.verticle.migration.MigrationStatusHandler;
+import com.gentics.mesh.core.verticle.migration.impl.MigrationStatusHandlerImpl;
+import com.gentics.mesh.etc.config.MigrationOptions;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.test.util.TestUtils;
+import com.gentics.mesh.util.UUIDUtil;
 import com.syncleus.ferma.tx.Tx;
 
+import io.vertx.core.DeploymentOptions;
+
 @MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = false)
 public class JobTest extends AbstractMeshTest {
 
@@ -103,6 +126,55 @@ public class JobTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testResumeFromCheckpoint() {
+		String jobUuid;
+		try (Tx tx = tx()) {
+			JobRoot root = boot().jobRoot();
+			Job job = root.enqueueReleaseMigration(user(), initialRelease());
+			jobUuid = job.getUuid();
+			MigrationStatusHandler status = new MigrationStatusHandlerImpl(job, vertx(), MigrationType.release);
+			status.setStatus(MigrationStatus.RUNNING);
+			status.incCompleted();
+			status.incCompleted();
+			status.setCheckpoint("someNodeUuid");
+			status.commit();
+		}
+
+		try (Tx tx = tx()) {
+			Job job = boot().jobRoot().findByUuid(jobUuid);
+			assertEquals("someNodeUuid", job.getCheckpoint());
+			assertEquals(2, job.getCompletionCount());
+
+			// A new status handler must continue with the persisted progress
+			MigrationStatusHandler status = new MigrationStatusHandlerImpl(job, vertx(), MigrationType.release);
+			assertEquals("someNodeUuid", status.getCheckpoint());
+			status.incCompleted();
+			status.done();
+			assertEquals(3, job.getCompletionCount());
+			assertNull("The checkpoint should be removed once the job is done.", job.getCheckpoint());
+		}
+	}
+
+	@Test
+	public void testPendingJobOrder() {
+		try (Tx tx = tx()) {
+			JobRoot root = boot().jobRoot();
+			Job schemaJob = root.enqueueSchemaMigration(user(), initialRelease(), schemaContainer("folder").getLatestVersion(), schemaContainer(
+					"folder").getLatestVersion());
+			Job releaseJob = root.enqueueReleaseMigration(user(), initialRelease());
+			Job failedJob = root.enqueueReleaseMigration(user(), initialRelease());
+			failedJob.markAsFailed(new Exception("some error"));
+
+			// Release migrations have a higher priority and failed jobs are omitted
+			List<String> pending = root.findPendingJobs().stream().map(Job::getUuid).collect(Collectors.toList());
+			assertThat(pending).containsExactly(releaseJob.getUuid(), schemaJob.getUuid());
+
+			// Jobs which affect the same schema within the release must share a lock
+			assertThat(releaseJob.getLockNames()).containsAll(schemaJob.getLockNames());
+		}
+	}
+
 	@Test
 	public void testJobRootTypeHandling() {
 		try (Tx tx = tx()) {
@@ -116,4 +188,98 @@ public class JobTest extends AbstractMeshTest {
 					ReleaseMigrationJobImpl.class.getName());
 		}
 	}
+
+	@Test
+	public void testJobsWithDisjointLocksRunConcurrently() throws Exception {
+		String prefix = UUIDUtil.randomUUID();
+		List<Job> jobs = Arrays.asList(mockJob("jobA", prefix + "-lockA"), mockJob("jobB", prefix + "-lockB"));
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch finish = new CountDownLatch(1);
+		List<String> processed = Collections.synchronizedList(new ArrayList<>());
+
+		String deploymentId = deployJobWorker(2, jobs, started, finish, processed);
+		try {
+			vertx().eventBus().publish(JOB_WORKER_ADDRESS, null);
+			assertTrue("Both jobs should have been started while they are running", started.await(10, TimeUnit.SECONDS));
+		} finally {
+			finish.countDown();
+			undeploy(deploymentId);
+		}
+	}
+
+	@Test
+	public void testJobWithConflictingLockIsBlocked() throws Exception {
+		String prefix = UUIDUtil.randomUUID();
+		List<Job> jobs = Arrays.asList(mockJob("jobA", prefix + "-lockA", prefix + "-shared"), mockJob("jobB", prefix + "-lockB", prefix + "-shared"));
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch finish = new CountDownLatch(1);
+		List<String> processed = Collections.synchronizedList(new ArrayList<>());
+
+		String deploymentId = deployJobWorker(2, jobs, started, finish, processed);
+		try {
+			vertx().eventBus().publish(JOB_WORKER_ADDRESS, null);
+			assertFalse("The second job must not start while the first job holds the shared lock", started.await(2, TimeUnit.SECONDS));
+			assertEquals("Only one job should have been started", 1, started.getCount());
+
+			// Finishing the first job releases the lock and dispatches the blocked job
+			finish.countDown();
+			assertTrue("The blocked job should have been started once the lock was released", started.await(10, TimeUnit.SECONDS));
+		} finally {
+			finish.countDown();
+			undeploy(deploymentId);
+		}
+	}
+
+	private Job mockJob(String uuid, String... lockNames) {
+		Job job = mock(Job.class);
+		when(job.getUuid()).thenReturn(uuid);
+		when(job.getLockNames()).thenReturn(new HashSet<>(Arrays.asList(lockNames)));
+		return job;
+	}
+
+	/**
+	 * Deploy a job worker verticle which processes the given jobs. Processing a job counts down the started latch and blocks until the finish latch has
+	 * been released.
+	 */
+	private String deployJobWorker(int workerCount, List<Job> jobs, CountDownLatch started, CountDownLatch finish, List<String> processed)
+		throws Exception {
+		JobRoot jobRoot = mock(JobRoot.class);
+		when(jobRoot.findPendingJobs()).thenAnswer(inv -> jobs.stream().filter(job -> !processed.contains(job.getUuid())).collect(Collectors
+			.toList()));
+		for (Job job : jobs) {
+			when(jobRoot.findByUuid(job.getUuid())).thenReturn(job);
+		}
+		doAnswer(inv -> {
+			Job job = (Job) inv.getArguments()[0];
+			started.countDown();
+			finish.await(10, TimeUnit.SECONDS);
+			processed.add(job.getUuid());
+			return null;
+		}).when(jobRoot).process(any(Job.class));
+		BootstrapInitializer boot = mock(BootstrapInitializer.class);
+		when(boot.jobRoot()).thenReturn(jobRoot);
+
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		int oldWorkerCount = options.getJobWorkerCount();
+		options.setJobWorkerCount(workerCount);
+		try {
+			CompletableFuture<String> fut = new CompletableFuture<>();
+			vertx().deployVerticle(new JobWorkerVerticle(db(), () -> boot), new DeploymentOptions().setWorker(true), rh -> {
+				if (rh.succeeded()) {
+					fut.complete(rh.result());
+				} else {
+					fut.completeExceptionally(rh.cause());
+				}
+			});
+			return fut.get(10, TimeUnit.SECONDS);
+		} finally {
+			options.setJobWorkerCount(oldWorkerCount);
+		}
+	}
+
+	private void undeploy(String deploymentId) throws Exception {
+		CompletableFuture<Void> fut = new CompletableFuture<>();
+		vertx().undeploy(deploymentId, rh -> fut.complete(null));
+		fut.get(10, TimeUnit.SECONDS);
+	}
 }
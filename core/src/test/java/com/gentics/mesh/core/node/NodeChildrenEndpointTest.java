@@ -29,6 +29,7 @@ import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.node.field.impl.StringFieldImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.user.NodeReference;
+import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
@@ -124,6 +125,39 @@ public class NodeChildrenEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testReadNodeByUUIDAndCheckChildrenInfoAfterChanges() throws Exception {
+		String newsUuid = tx(() -> folder("news").getUuid());
+		String dealsUuid = tx(() -> folder("deals").getUuid());
+		String news2014Uuid = tx(() -> folder("2014").getUuid());
+		String news2015Uuid = tx(() -> folder("2015").getUuid());
+
+		NodeResponse restNode = call(() -> client().findNodeByUuid(PROJECT_NAME, newsUuid, new VersioningParametersImpl().draft()));
+		assertEquals(2, restNode.getChildrenInfo().get("folder").getCount());
+		assertEquals(1, restNode.getChildrenInfo().get("content").getCount());
+
+		// Move a folder
+		call(() -> client().moveNode(PROJECT_NAME, news2014Uuid, dealsUuid));
+		restNode = call(() -> client().findNodeByUuid(PROJECT_NAME, newsUuid, new VersioningParametersImpl().draft()));
+		assertEquals(1, restNode.getChildrenInfo().get("folder").getCount());
+		restNode = call(() -> client().findNodeByUuid(PROJECT_NAME, dealsUuid, new VersioningParametersImpl().draft()));
+		assertEquals(1, restNode.getChildrenInfo().get("folder").getCount());
+		assertEquals(2, restNode.getChildrenInfo().get("content").getCount());
+
+		// The admin role does not grant permissions. Children without read permission must not be counted.
+		tx(() -> group().addRole(roles().get("admin")));
+		tx(() -> role().revokePermissions(folder("2015"), READ_PERM));
+		restNode = call(() -> client().findNodeByUuid(PROJECT_NAME, newsUuid, new VersioningParametersImpl().draft()));
+		assertNull(restNode.getChildrenInfo().get("folder"));
+		tx(() -> role().grantPermissions(folder("2015"), READ_PERM));
+
+		// Delete the remaining folder
+		call(() -> client().deleteNode(PROJECT_NAME, news2015Uuid, new DeleteParametersImpl().setRecursive(true)));
+		restNode = call(() -> client().findNodeByUuid(PROJECT_NAME, newsUuid, new VersioningParametersImpl().draft()));
+		assertNull(restNode.getChildrenInfo().get("folder"));
+		assertEquals(1, restNode.getChildrenInfo().get("content").getCount());
+	}
+
 	@Test
 	public void testReadNodeByUUIDAndCheckChildren2() throws Exception {
 		try (Tx tx = tx()) {
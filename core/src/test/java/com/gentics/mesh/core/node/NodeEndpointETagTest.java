@@ -4,6 +4,8 @@ import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.ClientHelper.callETag;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.util.MeshAssert.assertSuccess;
+import static com.gentics.mesh.test.util.MeshAssert.latchFor;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
@@ -13,19 +15,75 @@ import com.gentics.mesh.FieldUtil;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.user.NodeReference;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.rest.client.AbstractMeshRestHttpClient;
+import com.gentics.mesh.rest.client.MeshResponse;
 import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.ClientHandler;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.syncleus.ferma.tx.Tx;
 
 @MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = true)
 public class NodeEndpointETagTest extends AbstractMeshTest {
 
+	@Test
+	public void testResponseCache() {
+		String uuid = tx(() -> content().getUuid());
+		client().enableResponseCache(10);
+		try {
+			NodeResponse firstResponse = callStatus(() -> client().findNodeByUuid(PROJECT_NAME, uuid), 200);
+			assertEquals(1, client().getResponseCache().size());
+
+			// The cached response should be returned since the node has not been changed
+			NodeResponse cachedResponse = callStatus(() -> client().findNodeByUuid(PROJECT_NAME, uuid), 304);
+			assertEquals(firstResponse.getUuid(), cachedResponse.getUuid());
+			assertEquals(firstResponse.getVersion(), cachedResponse.getVersion());
+
+			// Update the node. The cached response must no longer be used.
+			NodeUpdateRequest request = new NodeUpdateRequest();
+			request.setLanguage("en");
+			request.setVersion(firstResponse.getVersion());
+			request.getFields().put("teaser", FieldUtil.createStringField("cached teaser"));
+			call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+
+			NodeResponse updatedResponse = callStatus(() -> client().findNodeByUuid(PROJECT_NAME, uuid), 200);
+			assertEquals("cached teaser", updatedResponse.getFields().getStringField("teaser").getString());
+
+			// Changing the authentication must clear the cache since the cached responses may not be visible to the new user
+			assertEquals(1, client().getResponseCache().size());
+			client().setAuthenticationProvider(((AbstractMeshRestHttpClient) client()).getAuthentication());
+			assertEquals(0, client().getResponseCache().size());
+		} finally {
+			client().disableResponseCache();
+		}
+	}
+
+	/**
+	 * Invoke the request and assert the status code of the response.
+	 * 
+	 * @param handler
+	 * @param statusCode
+	 * @return
+	 */
+	private <T> T callStatus(ClientHandler<T> handler, int statusCode) {
+		MeshResponse<T> response;
+		try {
+			response = handler.handle().invoke();
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+		latchFor(response);
+		assertSuccess(response);
+		assertEquals("The response code did not match.", statusCode, response.getRawResponse().statusCode());
+		return response.result();
+	}
+
 	@Test
 	public void testReadMultiple() {
 		try (Tx tx = tx()) {
@@ -119,4 +177,28 @@ public class NodeEndpointETagTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testReadOneWithProjection() {
+		String uuid = tx(() -> folder("2015").getUuid());
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		NodeParametersImpl parameters = new NodeParametersImpl();
+		parameters.setProjection("fields");
+		String projectedETag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid, parameters));
+		assertNotEquals("The projection changes the response and thus the etag", etag, projectedETag);
+		assertThat(callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid, parameters), projectedETag, true, 304)).contains(
+				projectedETag);
+
+		// Adding a child only affects the children section which was not requested
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNode(new NodeReference().setUuid(uuid));
+		request.setSchema(new SchemaReferenceImpl().setName("content"));
+		request.getFields().put("teaser", FieldUtil.createStringField("someTeaser"));
+		request.getFields().put("slug", FieldUtil.createStringField("someSlug"));
+		call(() -> client().createNode(PROJECT_NAME, request));
+		assertThat(callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid, parameters), projectedETag, true, 304)).contains(
+				projectedETag);
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
+	}
+
 }
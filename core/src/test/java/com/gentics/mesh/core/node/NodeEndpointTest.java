@@ -18,10 +18,12 @@ import static com.gentics.mesh.test.util.MeshAssert.failingLatch;
 import static com.gentics.mesh.test.util.MeshAssert.latchFor;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.CONFLICT;
+import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static io.netty.handler.codec.http.HttpResponseStatus.METHOD_NOT_ALLOWED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -45,6 +47,7 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.Language;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
@@ -55,6 +58,9 @@ import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.rest.common.Permission;
 import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.core.rest.node.NodeBulkOperation;
+import com.gentics.mesh.core.rest.node.NodeBulkRequest;
+import com.gentics.mesh.core.rest.node.NodeBulkResponse;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
@@ -65,15 +71,20 @@ import com.gentics.mesh.core.rest.schema.SchemaReference;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.dagger.MeshInternal;
 import com.gentics.mesh.demo.UserInfo;
+import com.gentics.mesh.etc.config.GraphStorageOptions;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.LinkType;
 import com.gentics.mesh.parameter.VersioningParameters;
+import com.gentics.mesh.parameter.impl.BulkParametersImpl;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
+import com.gentics.mesh.parameter.impl.ExportParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.PublishParametersImpl;
 import com.gentics.mesh.parameter.impl.RolePermissionParametersImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
 import com.gentics.mesh.rest.client.MeshResponse;
+import com.gentics.mesh.rest.client.MeshRestClientMessageException;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.test.definition.BasicRestTestcases;
@@ -242,6 +253,102 @@ public class NodeEndpointTest extends AbstractMeshTest implements BasicRestTestc
 
 	}
 
+	@Test
+	public void testExport() throws Exception {
+		String newsUuid = tx(() -> folder("news").getUuid());
+		String export = call(() -> client().exportNodes(PROJECT_NAME, new ExportParametersImpl().setSchemaNames("folder").setLanguageTags("en"),
+				new VersioningParametersImpl().draft()));
+
+		Set<String> uuids = new HashSet<>();
+		for (String line : export.split("\n")) {
+			NodeResponse node = JsonUtil.readValue(line, NodeResponse.class);
+			assertEquals("folder", node.getSchema().getName());
+			assertEquals("en", node.getLanguage());
+			assertTrue("The node {" + node.getUuid() + "} was exported twice", uuids.add(node.getUuid()));
+		}
+		assertTrue("The news folder should have been exported", uuids.contains(newsUuid));
+	}
+
+	@Test
+	public void testBulk() throws Exception {
+		String parentNodeUuid = tx(() -> folder("news").getUuid());
+		String nodeUuid = UUIDUtil.randomUUID();
+		String missingUuid = UUIDUtil.randomUUID();
+
+		NodeCreateRequest createRequest = new NodeCreateRequest();
+		createRequest.setSchema(new SchemaReferenceImpl().setName("content"));
+		createRequest.setLanguage("en");
+		createRequest.getFields().put("title", FieldUtil.createStringField("some title"));
+		createRequest.getFields().put("teaser", FieldUtil.createStringField("some teaser"));
+		createRequest.getFields().put("slug", FieldUtil.createStringField("bulk-page.html"));
+		createRequest.getFields().put("content", FieldUtil.createStringField("Blessed mealtime again!"));
+		createRequest.setParentNodeUuid(parentNodeUuid);
+
+		NodeUpdateRequest updateRequest = new NodeUpdateRequest();
+		updateRequest.setLanguage("en");
+		updateRequest.getFields().put("teaser", FieldUtil.createStringField("UPDATED"));
+
+		NodeBulkRequest request = new NodeBulkRequest();
+		request.add(NodeBulkOperation.create(createRequest).setUuid(nodeUuid));
+		request.add(NodeBulkOperation.update(missingUuid, updateRequest));
+		request.add(NodeBulkOperation.update(nodeUuid, updateRequest));
+		request.add(NodeBulkOperation.publish(nodeUuid));
+
+		NodeBulkResponse response = call(() -> client().bulkNodes(PROJECT_NAME, request, new BulkParametersImpl().setChunkSize(2)));
+		assertThat(response.getResults()).hasSize(4);
+		assertEquals(CREATED.code(), response.getResults().get(0).getStatus());
+		assertEquals(nodeUuid, response.getResults().get(0).getUuid());
+		assertEquals(NOT_FOUND.code(), response.getResults().get(1).getStatus());
+		assertNotNull(response.getResults().get(1).getMessage());
+		assertEquals(OK.code(), response.getResults().get(2).getStatus());
+		assertEquals(OK.code(), response.getResults().get(3).getStatus());
+
+		NodeResponse node = call(() -> client().findNodeByUuid(PROJECT_NAME, nodeUuid, new VersioningParametersImpl().published()));
+		assertEquals("UPDATED", node.getFields().getStringField("teaser").getString());
+	}
+
+	@Test
+	public void testBulkNdjson() throws Exception {
+		String parentNodeUuid = tx(() -> folder("news").getUuid());
+		String nodeUuid = UUIDUtil.randomUUID();
+
+		NodeCreateRequest createRequest = new NodeCreateRequest();
+		createRequest.setSchema(new SchemaReferenceImpl().setName("content"));
+		createRequest.setLanguage("en");
+		createRequest.getFields().put("title", FieldUtil.createStringField("some title"));
+		createRequest.getFields().put("teaser", FieldUtil.createStringField("some teaser"));
+		createRequest.getFields().put("slug", FieldUtil.createStringField("bulk-ndjson-page.html"));
+		createRequest.getFields().put("content", FieldUtil.createStringField("Blessed mealtime again!"));
+		createRequest.setParentNodeUuid(parentNodeUuid);
+
+		NodeUpdateRequest updateRequest = new NodeUpdateRequest();
+		updateRequest.setLanguage("en");
+		updateRequest.getFields().put("teaser", FieldUtil.createStringField("UPDATED"));
+
+		StringBuilder operations = new StringBuilder();
+		operations.append(JsonUtil.toJson(NodeBulkOperation.create(createRequest).setUuid(nodeUuid), false)).append("\n");
+		operations.append(JsonUtil.toJson(NodeBulkOperation.update(nodeUuid, updateRequest), false)).append("\n");
+		operations.append("\n");
+		operations.append(JsonUtil.toJson(NodeBulkOperation.publish(nodeUuid), false)).append("\n");
+
+		NodeBulkResponse response = call(() -> client().bulkNodes(PROJECT_NAME, operations.toString(), new BulkParametersImpl().setChunkSize(2)));
+		assertThat(response.getResults()).hasSize(3);
+		assertEquals(CREATED.code(), response.getResults().get(0).getStatus());
+		assertEquals(OK.code(), response.getResults().get(1).getStatus());
+		assertEquals(OK.code(), response.getResults().get(2).getStatus());
+
+		NodeResponse node = call(() -> client().findNodeByUuid(PROJECT_NAME, nodeUuid, new VersioningParametersImpl().published()));
+		assertEquals("UPDATED", node.getFields().getStringField("teaser").getString());
+
+		// Lines which do not contain a valid operation are rejected
+		MeshResponse<NodeBulkResponse> invalid = client().bulkNodes(PROJECT_NAME, operations + "{invalid\n").invoke();
+		latchFor(invalid);
+		assertTrue(invalid.failed());
+		MeshRestClientMessageException error = (MeshRestClientMessageException) invalid.cause();
+		assertEquals(BAD_REQUEST.code(), error.getStatusCode());
+		assertThat(error.getMessage()).startsWith("Bulk operation 3 could not be parsed");
+	}
+
 	@Test
 	@Override
 	public void testCreateWithUuid() throws Exception {
@@ -588,6 +695,38 @@ public class NodeEndpointTest extends AbstractMeshTest implements BasicRestTestc
 
 	}
 
+	@Test
+	public void testReadMultipleWithParallelTransformation() {
+		try (Tx tx = tx()) {
+			Node parentNode = folder("2015");
+			for (int i = 0; i < 20; i++) {
+				Node node = parentNode.create(user(), schemaContainer("content").getLatestVersion(), project());
+				node.createGraphFieldContainer(english(), initialRelease(), user());
+				role().grantPermissions(node, READ_PERM);
+			}
+			tx.success();
+		}
+
+		GraphStorageOptions storageOptions = Mesh.mesh().getOptions().getStorageOptions();
+		int parallelism = storageOptions.getListTransformParallelism();
+		try {
+			storageOptions.setListTransformParallelism(1);
+			NodeListResponse sequential = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 100), new VersioningParametersImpl()
+					.draft()));
+
+			storageOptions.setListTransformParallelism(8);
+			NodeListResponse parallel = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 100), new VersioningParametersImpl()
+					.draft()));
+
+			List<String> sequentialUuids = sequential.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList());
+			List<String> parallelUuids = parallel.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList());
+			assertEquals("The parallel transformation must retain the order of the page.", sequentialUuids, parallelUuids);
+			assertEquals(sequential.getMetainfo().getTotalCount(), parallel.getMetainfo().getTotalCount());
+		} finally {
+			storageOptions.setListTransformParallelism(parallelism);
+		}
+	}
+
 	@Test
 	@Override
 	public void testReadMultiple() throws Exception {
@@ -1131,6 +1270,36 @@ public class NodeEndpointTest extends AbstractMeshTest implements BasicRestTestc
 		}
 	}
 
+	@Test
+	public void testReadByUUIDWithProjection() throws Exception {
+		String folderUuid = tx(() -> folder("news").getUuid());
+		NodeParametersImpl parameters = new NodeParametersImpl();
+		parameters.setProjection("fields", "path");
+		parameters.setResolveLinks(LinkType.SHORT);
+		NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, folderUuid, parameters, new VersioningParametersImpl().draft()));
+		assertEquals(folderUuid, response.getUuid());
+		assertEquals("en", response.getLanguage());
+		assertNotNull(response.getSchema());
+		assertFalse(response.getFields().isEmpty());
+		assertNotNull(response.getPath());
+		assertThat(response.getLanguagePaths()).isNotEmpty();
+		assertNull(response.getParentNode());
+		assertThat(response.getChildrenInfo()).isEmpty();
+		assertThat(response.getTags()).isEmpty();
+		assertThat(response.getBreadcrumb()).isEmpty();
+		assertNull(response.getProject());
+		assertNull(response.getAvailableLanguages());
+
+		parameters.setProjection("children");
+		response = call(() -> client().findNodeByUuid(PROJECT_NAME, folderUuid, parameters, new VersioningParametersImpl().draft()));
+		assertTrue(response.getFields().isEmpty());
+		assertNull(response.getPath());
+		assertThat(response.getChildrenInfo()).isNotEmpty();
+
+		call(() -> client().findNodeByUuid(PROJECT_NAME, folderUuid, new NodeParametersImpl().setProjection("bogus")), BAD_REQUEST,
+				"error_node_projection_unknown", "bogus", "fields, parent, children, tags, breadcrumb, path, languages, rolePerms, project");
+	}
+
 	@Test
 	public void testReadByUUIDWithNoUser() throws Exception {
 		String folderUuid = tx(() -> folder("2015").getUuid());
@@ -1,19 +1,34 @@
 package com.gentics.mesh.core.node;
 
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.http.HttpConstants.ETAG;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.ClientHelper.callETag;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
-import static com.gentics.mesh.test.ClientHelper.callETag;
 import static com.gentics.mesh.test.util.MeshAssert.latchFor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
 
 import org.junit.Test;
 
-import com.syncleus.ferma.tx.Tx;
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.cache.NavigationCache;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.navigation.NavigationElement;
 import com.gentics.mesh.core.rest.navigation.NavigationResponse;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.core.rest.user.NodeReference;
+import com.gentics.mesh.parameter.impl.NavigationParametersImpl;
 import com.gentics.mesh.rest.client.MeshResponse;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.util.ETag;
+import com.syncleus.ferma.tx.Tx;
 
 @MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = true)
 public class NodeNavigationEndpointETagTest extends AbstractMeshTest {
@@ -28,4 +43,62 @@ public class NodeNavigationEndpointETagTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testETagInvalidation() {
+		String baseNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		String etag = callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid, new NavigationParametersImpl().setMaxDepth(2)));
+		callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid, new NavigationParametersImpl().setMaxDepth(2)), etag, true, 304);
+
+		// Add a new folder to the navigation
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNode(new NodeReference().setUuid(baseNodeUuid));
+		request.setSchema(new SchemaReferenceImpl().setName("folder"));
+		request.getFields().put("slug", FieldUtil.createStringField("navigationFolder"));
+		request.getFields().put("name", FieldUtil.createStringField("Navigation Folder"));
+		NodeResponse folder = call(() -> client().createNode(PROJECT_NAME, request));
+		String newETag = callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid, new NavigationParametersImpl().setMaxDepth(2)), etag,
+				true, 200);
+		assertNotEquals(etag, newETag);
+
+		// Revoke the permission on the new folder
+		try (Tx tx = tx()) {
+			Node node = project().getNodeRoot().findByUuid(folder.getUuid());
+			role().revokePermissions(node, READ_PERM);
+			tx.success();
+		}
+		NavigationResponse response = call(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid, new NavigationParametersImpl().setMaxDepth(
+				2)));
+		assertThat(response.getChildren()).extracting(NavigationElement::getUuid).doesNotContain(folder.getUuid());
+		assertNotEquals(newETag, callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid, new NavigationParametersImpl().setMaxDepth(2)),
+				newETag, true, 200));
+	}
+
+	@Test
+	public void testInvalidationAfterCommit() {
+		String projectUuid = tx(() -> project().getUuid());
+		String stamp = NavigationCache.getVersionStamp(projectUuid);
+		db().tx(() -> {
+			NavigationCache.invalidate(projectUuid);
+			NavigationCache.invalidate(projectUuid);
+			assertEquals("The stamp must not change before the commit", stamp, NavigationCache.getVersionStamp(projectUuid));
+		});
+		// Both invalidations are coalesced into a single one
+		String[] parts = stamp.split("-");
+		String committedStamp = NavigationCache.getVersionStamp(projectUuid);
+		assertEquals(parts[0] + "-" + (Long.parseLong(parts[1]) + 1), committedStamp);
+
+		// Invalidations of failed transactions are discarded
+		try {
+			db().tx(() -> {
+				NavigationCache.invalidate(projectUuid);
+				throw new RuntimeException("Rollback");
+			});
+			fail("The transaction should have failed");
+		} catch (RuntimeException e) {
+			assertEquals("Rollback", e.getMessage());
+		}
+		assertEquals(committedStamp, NavigationCache.getVersionStamp(projectUuid));
+	}
+
 }
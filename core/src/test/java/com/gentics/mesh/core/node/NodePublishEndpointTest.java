@@ -4,6 +4,7 @@ import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
 import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.PUBLISH_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.COMPLETED;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
@@ -38,6 +39,8 @@ import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.syncleus.ferma.tx.Tx;
 
+import io.vertx.core.DeploymentOptions;
+
 @MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = true)
 public class NodePublishEndpointTest extends AbstractMeshTest {
 
@@ -475,6 +478,38 @@ public class NodePublishEndpointTest extends AbstractMeshTest {
 		assertPublishStatus("Node should be online again.", contentUuid, true);
 	}
 
+	@Test
+	public void testPublishSubtreeJob() {
+		DeploymentOptions options = new DeploymentOptions();
+		options.setWorker(true);
+		vertx().deployVerticle(meshDagger().jobWorkerVerticle(), options);
+		tx(() -> group().addRole(roles().get("admin")));
+
+		String nodeUuid = db().tx(() -> project().getBaseNode().getUuid());
+		String folderUuid = db().tx(() -> folder("2015").getUuid());
+		String contentUuid = db().tx(() -> content("news_2015").getUuid());
+
+		// 1. Check initial status
+		assertPublishStatus("Node should be published.", nodeUuid, true);
+		assertPublishStatus("Node should be published.", contentUuid, true);
+
+		// 2. Take all nodes offline
+		waitForJobs(() -> {
+			call(() -> client().takeNodeSubtreeOffline(PROJECT_NAME, nodeUuid));
+		}, COMPLETED, 1);
+		assertPublishStatus("Node should be offline.", nodeUuid, false);
+		assertPublishStatus("Node should be offline.", folderUuid, false);
+		assertPublishStatus("Node should be offline.", contentUuid, false);
+
+		// 3. Publish all nodes again
+		waitForJobs(() -> {
+			call(() -> client().publishNodeSubtree(PROJECT_NAME, nodeUuid));
+		}, COMPLETED, 1);
+		assertPublishStatus("Node should be online again.", nodeUuid, true);
+		assertPublishStatus("Node should be online again.", folderUuid, true);
+		assertPublishStatus("Node should be online again.", contentUuid, true);
+	}
+
 	@Test
 	public void testPublishNoRecursion() {
 		String nodeUuid = db().tx(() -> project().getBaseNode().getUuid());
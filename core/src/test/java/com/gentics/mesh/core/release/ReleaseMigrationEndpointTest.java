@@ -7,6 +7,7 @@ import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -23,15 +24,26 @@ import com.codahale.metrics.ConsoleReporter;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.ContainerType;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Release;
+import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.rest.admin.migration.MigrationStatus;
 import com.gentics.mesh.core.rest.job.JobListResponse;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeListResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.etc.config.VersionRetentionOptions;
 import com.gentics.mesh.parameter.impl.PublishParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.storage.LocalBinaryStorage;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.syncleus.ferma.tx.Tx;
@@ -120,6 +132,178 @@ public class ReleaseMigrationEndpointTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testLazyReleaseMigration() throws Throwable {
+		Mesh.mesh().getOptions().getMigrationOptions().setLazyReleaseMigration(true);
+		try {
+			Release newRelease;
+			Node node = folder("news");
+			try (Tx tx = tx()) {
+				newRelease = project().getReleaseRoot().create("newrelease", user());
+				tx.success();
+			}
+
+			try (Tx tx = tx()) {
+				// The node has not been migrated yet but the containers of the previous release are shared with the new release
+				assertThat(node.getGraphFieldContainers(newRelease, ContainerType.INITIAL)).as("Initial containers before modification").isEmpty();
+				assertThat(node.getGraphFieldContainers(newRelease, ContainerType.DRAFT)).as("Shared draft containers").isNotEmpty();
+				assertThat(node.findVersion(Arrays.asList("en"), newRelease.getUuid(), "draft")).as("Shared draft container").isNotNull();
+				assertThat(node.getParentNode(newRelease.getUuid())).as("Shared parent node").isNotNull();
+				assertThat(node.getParentNode(newRelease.getUuid()).getChildren(newRelease.getUuid())).as("Children of the shared parent node")
+						.extracting(Node::getUuid).contains(node.getUuid());
+			}
+
+			// The unmigrated node is also listed by the children endpoint of its parent
+			String parentUuid = tx(() -> node.getParentNode(newRelease.getUuid()).getUuid());
+			NodeListResponse children = call(() -> client().findNodeChildren(PROJECT_NAME, parentUuid, new VersioningParametersImpl().setRelease(tx(
+					() -> newRelease.getUuid()))));
+			assertThat(children.getData()).as("Children in the new release").extracting(NodeResponse::getUuid).contains(tx(() -> node.getUuid()));
+
+			// Modifying the node will materialize the node in the new release
+			call(() -> client().publishNode(PROJECT_NAME, tx(() -> node.getUuid()), new VersioningParametersImpl().setRelease(tx(() -> newRelease
+					.getUuid()))));
+			try (Tx tx = tx()) {
+				assertThat(node.getGraphFieldContainers(newRelease, ContainerType.INITIAL)).as("Initial containers after modification").isNotEmpty();
+				assertThat(node.getGraphFieldContainers(newRelease, ContainerType.PUBLISHED)).as("Published containers after modification")
+						.isNotEmpty();
+			}
+
+			// The release migration finalizes the release and skips the already migrated node
+			triggerAndWaitForJob(requestReleaseMigration(newRelease), COMPLETED);
+			try (Tx tx = tx()) {
+				assertThat(newRelease.isMigrated()).as("Release migration status").isEqualTo(true);
+				assertThat(node.getGraphFieldContainers(newRelease, ContainerType.INITIAL)).as("Initial containers after migration").hasSize(1);
+			}
+		} finally {
+			Mesh.mesh().getOptions().getMigrationOptions().setLazyReleaseMigration(false);
+		}
+	}
+
+	@Test
+	public void testResumeFromCheckpoint() throws Throwable {
+		Release newRelease;
+		String jobUuid;
+		String checkpoint;
+		List<String> uuids;
+		try (Tx tx = tx()) {
+			newRelease = project().getReleaseRoot().create("newrelease", user());
+			uuids = project().getNodeRoot().findAll().stream().map(Node::getUuid).sorted().collect(Collectors.toList());
+			checkpoint = uuids.get(uuids.size() / 2);
+
+			// Simulate a job which was interrupted after the first half of the nodes had been migrated
+			Job job = boot().jobRoot().enqueueReleaseMigration(user(), newRelease);
+			job.setStatus(MigrationStatus.RUNNING);
+			job.setCheckpoint(checkpoint);
+			jobUuid = job.getUuid();
+			tx.success();
+		}
+
+		triggerAndWaitForJob(jobUuid);
+
+		try (Tx tx = tx()) {
+			assertThat(newRelease.isMigrated()).as("Release migration status").isEqualTo(true);
+			for (String uuid : uuids) {
+				Node node = project().getNodeRoot().findByUuid(uuid);
+				if (node.getGraphFieldContainers(initialRelease(), ContainerType.DRAFT).isEmpty()) {
+					continue;
+				}
+				if (uuid.compareTo(checkpoint) <= 0) {
+					assertThat(node.getGraphFieldContainers(newRelease, ContainerType.DRAFT)).as("Draft containers of skipped node {" + uuid + "}")
+							.isEmpty();
+				} else {
+					assertThat(node.getGraphFieldContainers(newRelease, ContainerType.DRAFT)).as("Draft containers of migrated node {" + uuid + "}")
+							.isNotEmpty();
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testPruneVersions() throws Throwable {
+		Mesh.mesh().getOptions().getVersionRetentionOptions().setKeepVersions(2);
+		try {
+			String nodeUuid = tx(() -> folder("2015").getUuid());
+			String releaseUuid = tx(() -> initialRelease().getUuid());
+			String version = call(() -> client().findNodeByUuid(PROJECT_NAME, nodeUuid)).getVersion();
+			assertThat(version).as("Published version of the test node").isEqualTo("1.0");
+
+			// Create the versions 1.1 to 1.4
+			for (int i = 1; i <= 4; i++) {
+				NodeUpdateRequest request = new NodeUpdateRequest();
+				request.setLanguage("en");
+				request.setVersion(version);
+				request.getFields().put("name", FieldUtil.createStringField("name " + i));
+				version = call(() -> client().updateNode(PROJECT_NAME, nodeUuid, request)).getVersion();
+			}
+
+			waitForJobs(() -> {
+				call(() -> client().pruneReleaseVersions(PROJECT_NAME, releaseUuid));
+			}, COMPLETED, 1);
+
+			try (Tx tx = tx()) {
+				List<String> versions = new ArrayList<>();
+				NodeGraphFieldContainer container = folder("2015").getLatestDraftFieldContainer(english());
+				while (container != null) {
+					versions.add(container.getVersion().toString());
+					container = container.getPreviousVersion();
+				}
+				// The two most recent versions, the published version and the initial version must be kept
+				assertThat(versions).as("Remaining versions").containsExactly("1.4", "1.3", "1.0", "0.1");
+			}
+			assertThat(call(() -> client().findNodeByUuid(PROJECT_NAME, nodeUuid, new VersioningParametersImpl().setVersion("1.3"))).getFields()
+					.getStringField("name").getString()).as("Name of a kept version").isEqualTo("name 3");
+		} finally {
+			Mesh.mesh().getOptions().getVersionRetentionOptions().setKeepVersions(VersionRetentionOptions.DEFAULT_KEEP_VERSIONS);
+		}
+	}
+
+	@Test
+	public void testPruneVersionsDeletesBinaries() throws Throwable {
+		Mesh.mesh().getOptions().getVersionRetentionOptions().setKeepVersions(2);
+		try {
+			Node node = tx(() -> folder("2015"));
+			String nodeUuid = tx(() -> node.getUuid());
+			String releaseUuid = tx(() -> initialRelease().getUuid());
+			try (Tx tx = tx()) {
+				prepareSchema(node, "", "binary");
+				tx.success();
+			}
+
+			// Version 1.1 references the first binary. The second binary is used by the versions 1.2 to 1.4.
+			String firstBinaryUuid = call(() -> uploadRandomData(node, "en", "binary", 1000, "application/octet-stream", "first.bin")).getFields()
+					.getBinaryField("binary").getBinaryUuid();
+			String secondBinaryUuid = call(() -> uploadRandomData(node, "en", "binary", 1000, "application/octet-stream", "second.bin")).getFields()
+					.getBinaryField("binary").getBinaryUuid();
+			for (int i = 3; i <= 4; i++) {
+				String version = tx(() -> node.getGraphFieldContainer("en").getVersion().toString());
+				NodeUpdateRequest request = new NodeUpdateRequest();
+				request.setLanguage("en");
+				request.setVersion(version);
+				request.getFields().put("name", FieldUtil.createStringField("name " + i));
+				call(() -> client().updateNode(PROJECT_NAME, nodeUuid, request));
+			}
+			File firstBinaryFile = new File(LocalBinaryStorage.getFilePath(firstBinaryUuid));
+			File secondBinaryFile = new File(LocalBinaryStorage.getFilePath(secondBinaryUuid));
+			assertThat(firstBinaryFile).exists();
+
+			waitForJobs(() -> {
+				call(() -> client().pruneReleaseVersions(PROJECT_NAME, releaseUuid));
+			}, COMPLETED, 1);
+
+			assertThat(firstBinaryFile).as("Data of the binary which was only used by pruned versions").doesNotExist();
+			assertThat(secondBinaryFile).as("Data of the binary which is still used by kept versions").exists();
+			try (Tx tx = tx()) {
+				List<String> binaryUuids = new ArrayList<>();
+				for (Binary binary : boot().binaryRoot().findAll()) {
+					binaryUuids.add(binary.getUuid());
+				}
+				assertThat(binaryUuids).contains(secondBinaryUuid).doesNotContain(firstBinaryUuid);
+			}
+		} finally {
+			Mesh.mesh().getOptions().getVersionRetentionOptions().setKeepVersions(VersionRetentionOptions.DEFAULT_KEEP_VERSIONS);
+		}
+	}
+
 	@Test
 	public void testStartForInitial() throws Throwable {
 		try (Tx tx = tx()) {
@@ -4,8 +4,11 @@ import static com.gentics.mesh.test.TestSize.FULL;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.IOException;
 
@@ -102,6 +105,40 @@ public class SchemaContainerTest extends AbstractMeshTest implements BasicObject
 		}
 	}
 
+	@Test
+	public void testCompiledSchemaVersion() {
+		try (Tx tx = tx()) {
+			SchemaContainerVersion version = schemaContainer("folder").getLatestVersion();
+			SchemaModel schema = version.getSchemaReadOnly();
+			assertSame("The compiled schema should be reused", schema, version.getSchemaReadOnly());
+			assertNotSame("A modifiable copy should be returned", schema, version.getSchema());
+			String fieldName = schema.getFields().get(0).getName();
+			assertSame(schema.getField(fieldName), version.getFieldSchema(fieldName));
+			assertNull(version.getFieldSchema("bogus"));
+			try {
+				schema.getFields().add(FieldUtil.createStringFieldSchema("extraField"));
+				fail("The fields of the compiled schema must not be modifiable");
+			} catch (UnsupportedOperationException e) {
+				// Expected
+			}
+
+			// Updating the schema must replace the compiled version
+			SchemaModel updated = version.getSchema();
+			updated.addField(FieldUtil.createStringFieldSchema("extraField"));
+			version.setSchema(updated);
+			assertNotNull(version.getFieldSchema("extraField"));
+			assertNotNull(version.getSchemaReadOnly().getField("extraField"));
+		}
+
+		// The update was rolled back and must not be visible anymore
+		try (Tx tx = tx()) {
+			SchemaContainerVersion version = schemaContainer("folder").getLatestVersion();
+			assertNull(version.getFieldSchema("extraField"));
+			assertNull(version.getSchemaReadOnly().getField("extraField"));
+			assertNull(version.getSchema().getField("extraField"));
+		}
+	}
+
 	@Test
 	@Override
 	public void testFindAllVisible() throws InvalidArgumentException {
@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.schema.field;
 
+import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
 import static com.gentics.mesh.core.field.FieldSchemaCreator.CREATEBINARY;
 import static com.gentics.mesh.core.field.FieldSchemaCreator.CREATEBOOLEAN;
 import static com.gentics.mesh.core.field.FieldSchemaCreator.CREATEBOOLEANLIST;
@@ -15,16 +16,32 @@ import static com.gentics.mesh.core.field.FieldSchemaCreator.CREATENUMBER;
 import static com.gentics.mesh.core.field.FieldSchemaCreator.CREATENUMBERLIST;
 import static com.gentics.mesh.core.field.FieldSchemaCreator.CREATESTRING;
 import static com.gentics.mesh.core.field.FieldSchemaCreator.CREATESTRINGLIST;
+import static com.gentics.mesh.core.verticle.migration.MigrationHandlerTestHelper.getCompiledScriptCount;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static com.gentics.mesh.util.DateUtils.fromISO8601;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.script.ScriptException;
 
 import org.junit.Test;
 
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.schema.FieldTypeChange;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
+import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
+import com.gentics.mesh.core.data.schema.impl.FieldTypeChangeImpl;
+import com.gentics.mesh.core.data.schema.impl.SchemaContainerImpl;
+import com.gentics.mesh.core.data.schema.impl.UpdateFieldChangeImpl;
 import com.gentics.mesh.core.field.string.StringFieldTestHelper;
+import com.gentics.mesh.etc.config.MigrationOptions;
 import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.util.UUIDUtil;
+import com.syncleus.ferma.tx.Tx;
 
 @MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = false)
 public class StringFieldMigrationTest extends AbstractFieldMigrationTest implements StringFieldTestHelper {
@@ -280,4 +297,197 @@ public class StringFieldMigrationTest extends AbstractFieldMigrationTest impleme
 	public void testSystemExit() throws Throwable {
 		invalidMigrationScript(CREATESTRING, FILLTEXT, KILLERSCRIPT);
 	}
+
+	@Test
+	public void testCustomMigrationScriptIsCompiledOnce() throws Exception {
+		String fieldName = "migratedField";
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		int workerCount = options.getWorkerCount();
+		try (Tx tx = tx()) {
+			// Each worker compiles the script once since the compiled scripts are bound to the script engine of the worker
+			options.setWorkerCount(1);
+			SchemaContainer container = createSchemaContainer();
+			SchemaContainerVersion versionA = createSchemaVersion(container, "migratedSchema", "1.0", CREATESTRING.create(fieldName));
+			container.setLatestVersion(versionA);
+			SchemaContainerVersion versionB = createSchemaVersion(container, "migratedSchema", "2.0", CREATESTRING.create(fieldName));
+
+			UpdateFieldChangeImpl updateFieldChange = Tx.getActive().getGraph().addFramedVertex(UpdateFieldChangeImpl.class);
+			updateFieldChange.setFieldName(fieldName);
+			updateFieldChange.setCustomMigrationScript(
+					"function migrate(node, fieldname) {node.fields[fieldname] = 'modified ' + node.fields[fieldname]; return node;}");
+			updateFieldChange.setPreviousContainerVersion(versionA);
+			updateFieldChange.setNextSchemaContainerVersion(versionB);
+			versionA.setNextVersion(versionB);
+
+			project().getLatestRelease().assignSchemaVersion(user(), versionA);
+			List<Node> nodes = createNodes(versionA, fieldName, "first", "second", "third", "fourth", "fifth");
+			project().getLatestRelease().assignSchemaVersion(user(), versionB);
+			Tx.getActive().getGraph().commit();
+
+			long compiledScripts = getCompiledScriptCount(nodeMigrationHandler);
+			nodeMigrationHandler.migrateNodes(project(), project().getLatestRelease(), versionA, versionB, null).blockingAwait();
+			assertThat(getCompiledScriptCount(nodeMigrationHandler) - compiledScripts).as("Compiled scripts").isEqualTo(1);
+
+			for (Node node : nodes) {
+				NodeGraphFieldContainer migratedContainer = node.getGraphFieldContainer("en");
+				assertThat(migratedContainer).isOf(versionB);
+				assertThat(migratedContainer.getString(fieldName).getString()).as(NEWFIELDVALUE).startsWith("modified ");
+			}
+		} finally {
+			options.setWorkerCount(workerCount);
+		}
+	}
+
+	@Test
+	public void testChangeToHtmlIsAppliedNatively() throws Exception {
+		String fieldName = "changedfield";
+		try (Tx tx = tx()) {
+			SchemaContainer container = createSchemaContainer();
+			SchemaContainerVersion versionA = createSchemaVersion(container, "migratedSchema", "1.0", CREATESTRING.create(fieldName));
+			container.setLatestVersion(versionA);
+			SchemaContainerVersion versionB = createSchemaVersion(container, "migratedSchema", "2.0", CREATEHTML.create(fieldName));
+
+			FieldTypeChange change = Tx.getActive().getGraph().addFramedVertex(FieldTypeChangeImpl.class);
+			change.setFieldName(fieldName);
+			change.setType("html");
+			change.setPreviousContainerVersion(versionA);
+			change.setNextSchemaContainerVersion(versionB);
+			versionA.setNextVersion(versionB);
+
+			project().getLatestRelease().assignSchemaVersion(user(), versionA);
+			List<Node> nodes = createNodes(versionA, fieldName, "first", "second", "third");
+			project().getLatestRelease().assignSchemaVersion(user(), versionB);
+			Tx.getActive().getGraph().commit();
+
+			long compiledScripts = getCompiledScriptCount(nodeMigrationHandler);
+			nodeMigrationHandler.migrateNodes(project(), project().getLatestRelease(), versionA, versionB, null).blockingAwait();
+			assertThat(getCompiledScriptCount(nodeMigrationHandler)).as("The script engine should not be used").isEqualTo(compiledScripts);
+
+			assertThat(nodes.get(0).getGraphFieldContainer("en").getHtml(fieldName).getHTML()).as(NEWFIELDVALUE).isEqualTo("first");
+			assertThat(nodes.get(1).getGraphFieldContainer("en").getHtml(fieldName).getHTML()).as(NEWFIELDVALUE).isEqualTo("second");
+			assertThat(nodes.get(2).getGraphFieldContainer("en").getHtml(fieldName).getHTML()).as(NEWFIELDVALUE).isEqualTo("third");
+			for (Node node : nodes) {
+				assertThat(node.getGraphFieldContainer("en")).isOf(versionB);
+				assertThat(node.getGraphFieldContainer("en").getString(fieldName)).as(OLDFIELD).isNull();
+			}
+		}
+	}
+
+	@Test
+	public void testParallelMigration() throws Exception {
+		String fieldName = "migratedField";
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		int workerCount = options.getWorkerCount();
+		int txBatchSize = options.getTxBatchSize();
+		try (Tx tx = tx()) {
+			options.setWorkerCount(4).setTxBatchSize(2);
+			SchemaContainerVersion versionA = createCustomScriptMigration(fieldName,
+					"function migrate(node, fieldname) {node.fields[fieldname] = 'modified ' + node.fields[fieldname]; return node;}");
+			SchemaContainerVersion versionB = versionA.getNextVersion();
+
+			project().getLatestRelease().assignSchemaVersion(user(), versionA);
+			String[] values = new String[21];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = "value " + i;
+			}
+			List<Node> nodes = createNodes(versionA, fieldName, values);
+			project().getLatestRelease().assignSchemaVersion(user(), versionB);
+			Tx.getActive().getGraph().commit();
+
+			nodeMigrationHandler.migrateNodes(project(), project().getLatestRelease(), versionA, versionB, null).blockingAwait();
+
+			for (int i = 0; i < nodes.size(); i++) {
+				NodeGraphFieldContainer migratedContainer = nodes.get(i).getGraphFieldContainer("en");
+				assertThat(migratedContainer).isOf(versionB).hasVersion("0.2");
+				assertThat(migratedContainer.getString(fieldName).getString()).as(NEWFIELDVALUE).isEqualTo("modified value " + i);
+			}
+		} finally {
+			options.setWorkerCount(workerCount).setTxBatchSize(txBatchSize);
+		}
+	}
+
+	@Test
+	public void testFailedChunkIsRetried() throws Exception {
+		String fieldName = "migratedField";
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		int txBatchSize = options.getTxBatchSize();
+		try (Tx tx = tx()) {
+			options.setTxBatchSize(10);
+			SchemaContainerVersion versionA = createCustomScriptMigration(fieldName,
+					"function migrate(node, fieldname) {if (node.fields[fieldname] == 'fail') {throw 'Migration failed';} "
+							+ "node.fields[fieldname] = 'modified ' + node.fields[fieldname]; return node;}");
+			SchemaContainerVersion versionB = versionA.getNextVersion();
+
+			project().getLatestRelease().assignSchemaVersion(user(), versionA);
+			List<Node> nodes = createNodes(versionA, fieldName, "first", "second", "fail", "fourth", "fifth");
+			project().getLatestRelease().assignSchemaVersion(user(), versionB);
+			Tx.getActive().getGraph().commit();
+
+			// All containers are part of the same chunk. The chunk fails and the containers are migrated one by one.
+			Throwable error = nodeMigrationHandler.migrateNodes(project(), project().getLatestRelease(), versionA, versionB, null).blockingGet();
+			assertThat(error).as("Migration error").isNotNull();
+
+			for (Node node : nodes) {
+				NodeGraphFieldContainer container = node.getGraphFieldContainer("en");
+				if (container.getString(fieldName).getString().equals("fail")) {
+					assertThat(container).as("Failed container").isOf(versionA).hasVersion("0.1");
+				} else {
+					assertThat(container).as("Migrated container").isOf(versionB).hasVersion("0.2");
+					assertThat(container.getString(fieldName).getString()).as(NEWFIELDVALUE).startsWith("modified ");
+				}
+			}
+		} finally {
+			options.setTxBatchSize(txBatchSize);
+		}
+	}
+
+	/**
+	 * Create a schema with two versions which are linked by an update field change with the given migration script.
+	 * 
+	 * @param fieldName
+	 * @param migrationScript
+	 * @return First version of the schema
+	 */
+	private SchemaContainerVersion createCustomScriptMigration(String fieldName, String migrationScript) {
+		SchemaContainer container = createSchemaContainer();
+		SchemaContainerVersion versionA = createSchemaVersion(container, "migratedSchema", "1.0", CREATESTRING.create(fieldName));
+		container.setLatestVersion(versionA);
+		SchemaContainerVersion versionB = createSchemaVersion(container, "migratedSchema", "2.0", CREATESTRING.create(fieldName));
+
+		UpdateFieldChangeImpl updateFieldChange = Tx.getActive().getGraph().addFramedVertex(UpdateFieldChangeImpl.class);
+		updateFieldChange.setFieldName(fieldName);
+		updateFieldChange.setCustomMigrationScript(migrationScript);
+		updateFieldChange.setPreviousContainerVersion(versionA);
+		updateFieldChange.setNextSchemaContainerVersion(versionB);
+		versionA.setNextVersion(versionB);
+		return versionA;
+	}
+
+	private SchemaContainer createSchemaContainer() {
+		SchemaContainer container = Tx.getActive().getGraph().addFramedVertex(SchemaContainerImpl.class);
+		container.setName(UUIDUtil.randomUUID());
+		container.setCreated(user());
+		boot().schemaContainerRoot().addItem(container);
+		return container;
+	}
+
+	/**
+	 * Create a node for each of the given values. The value will be stored in the string field with the given name.
+	 * 
+	 * @param version
+	 * @param fieldName
+	 * @param values
+	 * @return
+	 */
+	private List<Node> createNodes(SchemaContainerVersion version, String fieldName, String... values) {
+		List<Node> nodes = new ArrayList<>();
+		Node parentNode = folder("2015");
+		for (String value : values) {
+			Node node = parentNode.create(user(), version, project());
+			NodeGraphFieldContainer container = node.createGraphFieldContainer(english(), project().getLatestRelease(), user());
+			container.createString(fieldName).setString(value);
+			nodes.add(node);
+		}
+		return nodes;
+	}
 }
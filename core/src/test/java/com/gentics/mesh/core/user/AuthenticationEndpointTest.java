@@ -4,25 +4,39 @@ import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.ClientHelper.expectException;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static com.gentics.mesh.test.util.MeshAssert.latchFor;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 import static io.netty.handler.codec.http.HttpResponseStatus.UNAUTHORIZED;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
 import com.syncleus.ferma.tx.Tx;
 import com.gentics.mesh.Mesh;
+import com.gentics.mesh.auth.MeshAuthProvider;
+import com.gentics.mesh.auth.PasswordVerifier;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.core.rest.user.UserResponse;
+import com.gentics.mesh.core.rest.user.UserUpdateRequest;
+import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.etc.config.AuthenticationOptions;
 import com.gentics.mesh.rest.client.MeshResponse;
 import com.gentics.mesh.rest.client.MeshRestClient;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 
 import io.reactivex.Single;
+import io.vertx.core.AsyncResult;
 
 @MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = true)
 public class AuthenticationEndpointTest extends AbstractMeshTest {
@@ -91,6 +105,140 @@ public class AuthenticationEndpointTest extends AbstractMeshTest {
 		call(() -> client.me(), UNAUTHORIZED, "error_not_authorized");
 	}
 
+	@Test
+	public void testDisableCachedUser() {
+		String username = db().tx(() -> user().getUsername());
+
+		MeshRestClient client = MeshRestClient.create("localhost", port(), false, Mesh.vertx());
+		client.setLogin(username, data().getUserInfo().getPassword());
+		client.login().blockingGet();
+
+		// The first requests will cache the authenticated user
+		UserResponse me = call(() -> client.me());
+		assertEquals(username, me.getUsername());
+		me = call(() -> client.me());
+		assertEquals(username, me.getUsername());
+
+		try (Tx tx = tx()) {
+			user().disable();
+			tx.success();
+		}
+
+		call(() -> client.me(), UNAUTHORIZED, "error_not_authorized");
+	}
+
+	@Test
+	public void testDisableCachedUserWithinTransaction() {
+		String username = db().tx(() -> user().getUsername());
+
+		MeshRestClient client = MeshRestClient.create("localhost", port(), false, Mesh.vertx());
+		client.setLogin(username, data().getUserInfo().getPassword());
+		client.login().blockingGet();
+		call(() -> client.me());
+
+		db().tx(() -> {
+			user().disable();
+			// The change has not yet been committed. Authenticating now will cache the enabled user again.
+			UserResponse me = call(() -> client.me());
+			assertEquals(username, me.getUsername());
+		});
+
+		// The cache must have been invalidated after the commit
+		call(() -> client.me(), UNAUTHORIZED, "error_not_authorized");
+	}
+
+	@Test
+	public void testLoginAfterPasswordChange() throws Exception {
+		String username = db().tx(() -> user().getUsername());
+		String uuid = db().tx(() -> user().getUuid());
+		String oldPassword = data().getUserInfo().getPassword();
+
+		AuthenticationOptions options = Mesh.mesh().getOptions().getAuthenticationOptions();
+		int cacheTime = options.getPasswordCacheTime();
+		options.setPasswordCacheTime(60);
+		try {
+			// The verifier reads the options when it gets created
+			MeshAuthProvider authProvider = new MeshAuthProvider(new PasswordVerifier(MeshInternal.get().passwordEncoder()), db(), boot());
+
+			// The successful verification will be cached
+			assertNotNull(generateToken(authProvider, username, oldPassword));
+			assertNotNull(generateToken(authProvider, username, oldPassword));
+
+			UserUpdateRequest request = new UserUpdateRequest();
+			request.setPassword("newPassword");
+			call(() -> client().updateUser(uuid, request));
+
+			try {
+				generateToken(authProvider, username, oldPassword);
+				fail("The login with the old password should fail although the verification was cached");
+			} catch (ExecutionException e) {
+				// Expected
+			}
+			assertNotNull(generateToken(authProvider, username, "newPassword"));
+		} finally {
+			options.setPasswordCacheTime(cacheTime);
+		}
+
+		MeshRestClient client = MeshRestClient.create("localhost", port(), false, Mesh.vertx());
+		client.setLogin(username, oldPassword);
+		try {
+			client.login().blockingGet();
+			fail("The login with the old password should fail");
+		} catch (Exception e) {
+			// Expected
+		}
+
+		client.setLogin(username, "newPassword");
+		client.login().blockingGet();
+	}
+
+	@Test
+	public void testLoginRejected() throws Exception {
+		String username = db().tx(() -> user().getUsername());
+		String password = data().getUserInfo().getPassword();
+
+		AuthenticationOptions options = Mesh.mesh().getOptions().getAuthenticationOptions();
+		int workerCount = options.getPasswordWorkerCount();
+		int queueSize = options.getPasswordQueueSize();
+		options.setPasswordWorkerCount(1).setPasswordQueueSize(0);
+		try {
+			MeshAuthProvider authProvider = new MeshAuthProvider(new PasswordVerifier(MeshInternal.get().passwordEncoder()), db(), boot());
+
+			// The first verification occupies the only worker and there is no queue for the second one
+			CompletableFuture<String> first = new CompletableFuture<>();
+			CompletableFuture<String> second = new CompletableFuture<>();
+			authProvider.generateToken(username, password, rh -> complete(first, rh));
+			authProvider.generateToken(username, password, rh -> complete(second, rh));
+
+			try {
+				second.get(10, TimeUnit.SECONDS);
+				fail("The second login should have been rejected");
+			} catch (ExecutionException e) {
+				assertTrue(e.getCause() instanceof GenericRestException);
+				GenericRestException error = (GenericRestException) e.getCause();
+				assertEquals(SERVICE_UNAVAILABLE, error.getStatus());
+				assertEquals("auth_login_rejected", error.getI18nKey());
+			}
+			assertNotNull("The first login should not be affected", first.get(10, TimeUnit.SECONDS));
+		} finally {
+			options.setPasswordWorkerCount(workerCount).setPasswordQueueSize(queueSize);
+		}
+	}
+
+	private String generateToken(MeshAuthProvider authProvider, String username, String password) throws Exception {
+		CompletableFuture<String> token = new CompletableFuture<>();
+		authProvider.generateToken(username, password, rh -> complete(token, rh));
+		return token.get(10, TimeUnit.SECONDS);
+	}
+
+	private <T> void complete(CompletableFuture<T> future, AsyncResult<T> result) {
+		if (result.succeeded()) {
+			future.complete(result.result());
+		} else {
+			future.completeExceptionally(result.cause());
+		}
+	}
+
 	@Test
 	public void testAutomaticTokenRefresh() throws InterruptedException {
 		try (Tx tx = tx()) {
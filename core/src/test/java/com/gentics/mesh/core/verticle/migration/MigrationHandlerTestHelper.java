@@ -0,0 +1,20 @@
+package com.gentics.mesh.core.verticle.migration;
+
+/**
+ * Collection of helper methods which provide access to the internal state of the migration handlers.
+ */
+public final class MigrationHandlerTestHelper {
+
+	private MigrationHandlerTestHelper() {
+	}
+
+	/**
+	 * Return the amount of migration scripts which have been compiled by the handler.
+	 *
+	 * @param handler
+	 * @return
+	 */
+	public static long getCompiledScriptCount(AbstractMigrationHandler handler) {
+		return handler.getCompiledScriptCount();
+	}
+}
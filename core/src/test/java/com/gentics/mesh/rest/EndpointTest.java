@@ -1,5 +1,6 @@
 package com.gentics.mesh.rest;
 
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
@@ -7,6 +8,8 @@ import static org.mockito.Mockito.when;
 
 import org.junit.Test;
 
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.parameter.GenericParameters;
 import com.gentics.mesh.rest.impl.EndpointImpl;
 
 import io.vertx.ext.web.Route;
@@ -69,4 +72,19 @@ public class EndpointTest {
 		assertEquals("/", e.getRamlPath());
 		assertThat(e.getNamedSegments()).isEmpty();
 	}
+
+	@Test
+	public void testPrettyParameterForJsonResponses() {
+		Router router = mock(Router.class);
+		Route route = mock(Route.class);
+		when(router.route()).thenReturn(route);
+
+		EndpointRoute textEndpoint = new EndpointImpl(router);
+		textEndpoint.exampleResponse(OK, "Some text", "Plain text response");
+		assertThat(textEndpoint.getQueryParameters()).doesNotContainKey(GenericParameters.PRETTY_PARAMETER_KEY);
+
+		EndpointRoute jsonEndpoint = new EndpointImpl(router);
+		jsonEndpoint.exampleResponse(OK, new GenericMessageResponse("Message"), "JSON response");
+		assertThat(jsonEndpoint.getQueryParameters()).containsKey(GenericParameters.PRETTY_PARAMETER_KEY);
+	}
 }
@@ -14,6 +14,7 @@ import org.testcontainers.containers.wait.Wait;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializerImpl;
+import com.gentics.mesh.core.cache.AuthUserCache;
 import com.gentics.mesh.core.cache.PermissionStore;
 import com.gentics.mesh.core.data.impl.DatabaseHelper;
 import com.gentics.mesh.core.data.search.IndexHandler;
@@ -219,6 +220,7 @@ public class MeshTestContext extends TestWatcher {
 			FileUtils.deleteDirectory(dbDir);
 			MeshInternal.get().database().setupConnectionPool();
 		}
+		MeshInternal.get().serverSchemaStorage().clearCompiledVersions();
 		long duration = System.currentTimeMillis() - start;
 		log.info("Clearing DB took {" + duration + "} ms.");
 		if (trackingSearchProvider != null) {
@@ -231,6 +233,7 @@ public class MeshTestContext extends TestWatcher {
 			FileUtils.deleteDirectory(folder);
 		}
 		PermissionStore.invalidate(false);
+		AuthUserCache.invalidate(false);
 	}
 
 	public TestDataProvider getData() {
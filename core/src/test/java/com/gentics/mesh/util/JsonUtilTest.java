@@ -39,6 +39,23 @@ public class JsonUtilTest {
 		JsonUtil.toJson(new Loop());
 	}
 
+	@Test
+	public void testCompactAndPrettyJson() {
+		UserResponse user = new UserResponse();
+		user.setUsername("joe1");
+		user.setFirstname("Joe");
+
+		String compact = JsonUtil.toJson(user);
+		assertFalse("The JSON should be compact by default", compact.contains("\n"));
+		String pretty = JsonUtil.toJson(user, true);
+		assertTrue("The JSON should be pretty printed", pretty.contains("\n"));
+		assertEquals(new JsonObject(compact), new JsonObject(pretty));
+
+		// The buffer must contain the same content as the string
+		assertEquals(compact, JsonUtil.toJsonBuffer(user, false).toString());
+		assertEquals(pretty, JsonUtil.toJsonBuffer(user, true).toString());
+	}
+
 	@Test
 	public void testCompareJson() {
 		JsonObject a = new JsonObject();
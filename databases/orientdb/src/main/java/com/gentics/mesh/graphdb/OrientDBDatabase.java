@@ -41,6 +41,7 @@ import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.graphdb.spi.AbstractDatabase;
 import com.gentics.mesh.graphdb.spi.FieldType;
+import com.gentics.mesh.graphdb.spi.TxCommitActions;
 import com.gentics.mesh.util.DateUtils;
 import com.gentics.mesh.util.ETag;
 import com.hazelcast.core.HazelcastInstance;
@@ -80,6 +81,7 @@ import com.tinkerpop.blueprints.TransactionalGraph;
 import com.tinkerpop.blueprints.Vertex;
 import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientEdgeType;
+import com.tinkerpop.blueprints.impls.orient.OrientElement;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphFactory;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
 import com.tinkerpop.blueprints.impls.orient.OrientVertex;
@@ -136,6 +138,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 //				e.printStackTrace();
 //			}
 //		}
+		stopTxExecutor();
 		if (factory != null) {
 			factory.close();
 			Orient.instance().shutdown();
@@ -223,6 +226,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 	public void setupConnectionPool() throws Exception {
 		Orient.instance().startup();
 		initGraphDB();
+		startTxExecutor();
 	}
 
 	/**
@@ -611,6 +615,29 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return ids;
 	}
 
+	@Override
+	public List<Object> orderedVertexLookup(String indexName, Class<?> clazzOfVertices, Object fromKey, int limit) {
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		List<Object> ids = new ArrayList<>();
+
+		OrientVertexType vertexType = orientBaseGraph.getVertexType(clazzOfVertices.getSimpleName());
+		if (vertexType != null) {
+			OIndex<?> index = vertexType.getClassIndex(indexName);
+			if (index != null) {
+				// Iterate over the sb-tree index entries in ascending order of the keys
+				OIndexCursor cursor = fromKey == null ? index.cursor() : index.iterateEntriesMajor(fromKey, false, true);
+				while (ids.size() < limit) {
+					Entry<Object, OIdentifiable> entry = cursor.nextEntry();
+					if (entry == null) {
+						break;
+					}
+					ids.add(entry.getValue().getIdentity());
+				}
+			}
+		}
+		return ids;
+	}
+
 	@Override
 	public Iterator<Vertex> getVertices(Class<?> classOfVertex, String[] fieldNames, Object[] fieldValues) {
 		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
@@ -786,6 +813,25 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	@Override
 	public void addVertexIndex(String indexName, Class<?> clazzOfVertices, boolean unique, String fieldKey, FieldType fieldType) {
+		addVertexIndex(indexName, clazzOfVertices, unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX, fieldKey,
+			fieldType);
+	}
+
+	@Override
+	public void addOrderedVertexIndex(String indexName, Class<?> clazzOfVertices, String fieldKey, FieldType fieldType) {
+		addVertexIndex(indexName, clazzOfVertices, OClass.INDEX_TYPE.UNIQUE, fieldKey, fieldType);
+	}
+
+	/**
+	 * Add a named vertex index of the given index type.
+	 * 
+	 * @param indexName
+	 * @param clazzOfVertices
+	 * @param indexType
+	 * @param fieldKey
+	 * @param fieldType
+	 */
+	private void addVertexIndex(String indexName, Class<?> clazzOfVertices, OClass.INDEX_TYPE indexType, String fieldKey, FieldType fieldType) {
 		if (log.isDebugEnabled()) {
 			log.debug("Adding vertex index  for class {" + clazzOfVertices.getName() + "}");
 		}
@@ -808,8 +854,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 			}
 
 			if (v.getClassIndex(indexName) == null) {
-				v.createIndex(indexName, unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.toString() : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.toString(),
-					null, new ODocument().fields("ignoreNullValues", true), new String[] { fieldKey });
+				v.createIndex(indexName, indexType.toString(), null, new ODocument().fields("ignoreNullValues", true), new String[] { fieldKey });
 			}
 		} finally {
 			noTx.shutdown();
@@ -889,44 +934,52 @@ public class OrientDBDatabase extends AbstractDatabase {
 		boolean handlerFinished = false;
 		for (int retry = 0; retry < maxRetry; retry++) {
 
-			try (Tx tx = tx()) {
-				handlerResult = txHandler.handle(tx);
-				handlerFinished = true;
-				tx.success();
-			} catch (OSchemaException e) {
-				log.error("OrientDB schema exception detected.");
-				// TODO maybe we should invoke a metadata getschema reload?
-				// factory.getTx().getRawGraph().getMetadata().getSchema().reload();
-				// Database.getThreadLocalGraph().getMetadata().getSchema().reload();
-			} catch (ONeedRetryException e) {
-				if (log.isTraceEnabled()) {
-					log.trace("Error while handling transaction. Retrying " + retry, e);
-				}
-				try {
-					// Increase the delay for each retry by 25ms to give the other transaction a chance to finish
-					Thread.sleep(50 + (retry * 25));
-				} catch (InterruptedException e1) {
-					e1.printStackTrace();
-				}
-				// Reset previous result
-				handlerFinished = false;
-				handlerResult = null;
-			} catch (ORecordDuplicatedException e) {
-				log.error(e);
-				throw error(INTERNAL_SERVER_ERROR, "error_internal");
-			} catch (GenericRestException e) {
-				// Don't log. Just throw it along so that others can handle it
-				throw e;
-			} catch (RuntimeException e) {
-				if (log.isDebugEnabled()) {
-					log.debug("Error handling transaction", e);
-				}
-				throw e;
-			} catch (Exception e) {
-				if (log.isDebugEnabled()) {
-					log.debug("Error handling transaction", e);
+			boolean committed = false;
+			TxCommitActions.begin();
+			try {
+				try (Tx tx = tx()) {
+					handlerResult = txHandler.handle(tx);
+					handlerFinished = true;
+					tx.success();
+				} catch (OSchemaException e) {
+					log.error("OrientDB schema exception detected.");
+					// TODO maybe we should invoke a metadata getschema reload?
+					// factory.getTx().getRawGraph().getMetadata().getSchema().reload();
+					// Database.getThreadLocalGraph().getMetadata().getSchema().reload();
+				} catch (ONeedRetryException e) {
+					if (log.isTraceEnabled()) {
+						log.trace("Error while handling transaction. Retrying " + retry, e);
+					}
+					try {
+						// Increase the delay for each retry by 25ms to give the other transaction a chance to finish
+						Thread.sleep(50 + (retry * 25));
+					} catch (InterruptedException e1) {
+						e1.printStackTrace();
+					}
+					// Reset previous result
+					handlerFinished = false;
+					handlerResult = null;
+				} catch (ORecordDuplicatedException e) {
+					log.error(e);
+					throw error(INTERNAL_SERVER_ERROR, "error_internal");
+				} catch (GenericRestException e) {
+					// Don't log. Just throw it along so that others can handle it
+					throw e;
+				} catch (RuntimeException e) {
+					if (log.isDebugEnabled()) {
+						log.debug("Error handling transaction", e);
+					}
+					throw e;
+				} catch (Exception e) {
+					if (log.isDebugEnabled()) {
+						log.debug("Error handling transaction", e);
+					}
+					throw new RuntimeException("Transaction error", e);
 				}
-				throw new RuntimeException("Transaction error", e);
+				// Actions must only be executed once the transaction has been committed
+				committed = handlerFinished;
+			} finally {
+				TxCommitActions.end(committed);
 			}
 			if (!handlerFinished && log.isDebugEnabled()) {
 				log.debug("Retrying .. {" + retry + "}");
@@ -1030,6 +1083,14 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return new OCompositeKey(keys);
 	}
 
+	@Override
+	public boolean isPersisted(Element element) {
+		if (element instanceof WrappedVertex) {
+			element = ((WrappedVertex) element).getBaseElement();
+		}
+		return ((OrientElement) element).getIdentity().isPersistent();
+	}
+
 	@Override
 	public void setVertexType(Element element, Class<?> classOfVertex) {
 		if (element instanceof WrappedVertex) {
@@ -20,6 +20,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import com.gentics.elasticsearch.client.HttpErrorException;
 import com.gentics.elasticsearch.client.okhttp.RequestBuilder;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.Role;
@@ -43,6 +44,7 @@ import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.TrackingSearchProvider;
 import com.gentics.mesh.search.impl.SearchClient;
 import com.gentics.mesh.util.Tuple;
+import com.google.common.collect.Lists;
 import com.syncleus.ferma.tx.Tx;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -217,6 +219,7 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		queryOption.put("search_type", "dfs_query_then_fetch");
 		log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
+		int parallelism = getTransformParallelism();
 		RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, request);
 		requestBuilder.async().flatMapObservable(response -> {
 			JsonArray responses = response.getJsonArray("responses");
@@ -258,25 +261,43 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 			// Set meta information to the rest response
 			listResponse.setMetainfo(extractMetaInfo(hitsInfo, pagingInfo));
 
-			return Observable.fromIterable(list);
+			// Split the hits into chunks which will be transformed in parallel
+			int chunkSize = Math.max(1, (list.size() + parallelism - 1) / parallelism);
+			return Observable.fromIterable(Lists.partition(list, chunkSize));
 		}).onErrorResumeNext(error -> {
 			return Observable.error(mapToMeshError(error));
-		}).flatMapSingle(element -> {
+		}).concatMapEager(chunk -> {
 			// TODO add resume next to omit the item if it can't be transformed for some reason.
 			// This would be better than to just fail the whole request
 			// TODO maybe add extra permission filtering? This would not be very costly for smaller pages and ensure perm consistency?
-			// TODO it would be good to batch the transformation of the elements to save the overhead of creating transactions and use the L1 cache.
-			return db.tx(() -> Single.just(element.v1().transformToRestSync(ac, 0, element.v2())));
-		}).collect(() -> listResponse.getData(), (x, y) -> {
-			x.add(y);
+			return db.asyncTx(db.getListTransformExecutor(), () -> {
+				List<RM> models = new ArrayList<>(chunk.size());
+				for (Tuple<T, String> element : chunk) {
+					models.add(element.v1().transformToRestSync(ac, 0, element.v2()));
+				}
+				return Single.just(models);
+			}).toObservable();
+		}, parallelism, 1).collect(() -> listResponse.getData(), (x, y) -> {
+			x.addAll(y);
 		}).subscribe(list -> {
-			ac.send(listResponse.toJson(), OK);
+			ac.send(listResponse, OK);
 		}, error -> {
 			log.error("Error while processing search response items", error);
 			ac.fail(error);
 		});
 	}
 
+	/**
+	 * Return the maximum amount of chunks of the found elements which are transformed in parallel by the list transform workers. Search handlers may
+	 * override this method in order to use a different value than the configured
+	 * {@link com.gentics.mesh.etc.config.GraphStorageOptions#getListTransformParallelism()}.
+	 * 
+	 * @return
+	 */
+	protected int getTransformParallelism() {
+		return Mesh.mesh().getOptions().getStorageOptions().getListTransformParallelism();
+	}
+
 	/**
 	 * Add the paging parameters to the request.
 	 * 
@@ -278,7 +278,7 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 								MicroschemaContainerVersion microschameContainerVersion = micronode.getSchemaContainerVersion();
 								addMicroschema(itemMap, microschameContainerVersion);
 								addFields(itemMap, "fields-" + microschameContainerVersion.getName(), micronode,
-									microschameContainerVersion.getSchema().getFields());
+									microschameContainerVersion.getSchemaReadOnly().getFields());
 								return itemMap;
 							}).toList().blockingGet());
 						}
@@ -334,7 +334,7 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 						addMicroschema(micronodeMap, micronode.getSchemaContainerVersion());
 						// Micronode field can't be stored. The datastructure is dynamic
 						addFields(micronodeMap, "fields-" + micronode.getSchemaContainerVersion().getName(), micronode,
-							micronode.getSchemaContainerVersion().getSchema().getFields());
+							micronode.getSchemaContainerVersion().getSchemaReadOnly().getFields());
 						fieldsMap.put(fieldSchema.getName(), micronodeMap);
 					}
 				}
@@ -442,7 +442,7 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 		document.put("language", language);
 		addSchema(document, container.getSchemaContainerVersion());
 
-		addFields(document, "fields", container, container.getSchemaContainerVersion().getSchema().getFields());
+		addFields(document, "fields", container, container.getSchemaContainerVersion().getSchemaReadOnly().getFields());
 		if (log.isTraceEnabled()) {
 			String json = document.toString();
 			log.trace("Search index json:");
@@ -451,7 +451,7 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 
 		// Add display field value
 		JsonObject displayField = new JsonObject();
-		displayField.put("key", container.getSchemaContainerVersion().getSchema().getDisplayField());
+		displayField.put("key", container.getSchemaContainerVersion().getSchemaReadOnly().getDisplayField());
 		displayField.put("value", container.getDisplayFieldValue());
 		document.put("displayField", displayField);
 		return document;
@@ -123,7 +123,7 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 						}
 						release.findAllMicroschemaVersions();
 						// Load the index mapping information for the index
-						SchemaModel schema = containerVersion.getSchema();
+						SchemaModel schema = containerVersion.getSchemaReadOnly();
 						JsonObject mapping = getMappingProvider().getMapping(schema);
 						JsonObject settings = schema.getElasticsearch();
 						indexInfo.put(draftIndexName, new IndexInfo(draftIndexName, settings, mapping));
@@ -25,7 +25,7 @@ public class SchemaTransformer extends AbstractTransformer<SchemaContainer> {
 	public JsonObject toDocument(SchemaContainer container) {
 		JsonObject document = new JsonObject();
 		document.put(NAME_KEY, container.getName());
-		document.put(DESCRIPTION_KEY, container.getLatestVersion().getSchema().getDescription());
+		document.put(DESCRIPTION_KEY, container.getLatestVersion().getSchemaReadOnly().getDescription());
 		addBasicReferences(document, container);
 		addPermissionInfo(document, container);
 		return document;
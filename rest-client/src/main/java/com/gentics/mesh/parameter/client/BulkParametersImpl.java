@@ -0,0 +1,7 @@
+package com.gentics.mesh.parameter.client;
+
+import com.gentics.mesh.parameter.BulkParameters;
+
+public class BulkParametersImpl extends AbstractParameters implements BulkParameters {
+
+}
@@ -0,0 +1,7 @@
+package com.gentics.mesh.parameter.client;
+
+import com.gentics.mesh.parameter.ConsistencyCheckParameters;
+
+public class ConsistencyCheckParametersImpl extends AbstractParameters implements ConsistencyCheckParameters {
+
+}
@@ -0,0 +1,7 @@
+package com.gentics.mesh.parameter.client;
+
+import com.gentics.mesh.parameter.GenericParameters;
+
+public class GenericParametersImpl extends AbstractParameters implements GenericParameters {
+
+}
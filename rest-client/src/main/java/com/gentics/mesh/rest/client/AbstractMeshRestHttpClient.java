@@ -1,7 +1,7 @@
 package com.gentics.mesh.rest.client;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
 import com.gentics.mesh.core.rest.common.RestModel;
@@ -30,7 +30,7 @@ public abstract class AbstractMeshRestHttpClient implements MeshRestClient {
 
 	private HttpClientOptions clientOptions;
 
-	private Set<HttpClient> clientSet = new HashSet<>();
+	private Set<HttpClient> clientSet = ConcurrentHashMap.newKeySet();
 
 	private ThreadLocal<HttpClient> localClient = ThreadLocal.withInitial(() -> {
 		HttpClient client = vertx.createHttpClient(clientOptions);
@@ -44,24 +44,22 @@ public abstract class AbstractMeshRestHttpClient implements MeshRestClient {
 
 	private String baseUri = DEFAULT_BASEURI;
 
+	private volatile ResponseCache responseCache;
+
 	public AbstractMeshRestHttpClient(HttpClientOptions options, Vertx vertx) {
 		this.clientOptions = options;
 		this.vertx = vertx;
 	}
 
 	public AbstractMeshRestHttpClient(String host, int port, boolean ssl, Vertx vertx) {
-		HttpClientOptions options = new HttpClientOptions();
-		options.setDefaultHost(host);
-		options.setTryUseCompression(true);
-		options.setDefaultPort(port);
-		options.setSsl(ssl);
-		this.clientOptions = options;
+		this.clientOptions = MeshRestClient.createDefaultOptions(host, port, ssl);
 		this.vertx = vertx;
 	}
 
 	@Override
 	public MeshRestClient setLogin(String username, String password) {
 		authentication.setLogin(username, password);
+		clearResponseCache();
 		return this;
 	}
 
@@ -69,9 +67,37 @@ public abstract class AbstractMeshRestHttpClient implements MeshRestClient {
 	public MeshRestClient setAPIKey(String apiKey) {
 		// Internally the API is just a regular JWT which does not expire.
 		authentication.setToken(apiKey);
+		clearResponseCache();
+		return this;
+	}
+
+	@Override
+	public MeshRestClient enableResponseCache(int maxEntries) {
+		this.responseCache = new ResponseCache(maxEntries);
+		return this;
+	}
+
+	@Override
+	public MeshRestClient disableResponseCache() {
+		this.responseCache = null;
 		return this;
 	}
 
+	@Override
+	public ResponseCache getResponseCache() {
+		return responseCache;
+	}
+
+	/**
+	 * Clear the response cache since the cached responses may not be visible to the new user.
+	 */
+	private void clearResponseCache() {
+		ResponseCache cache = responseCache;
+		if (cache != null) {
+			cache.clear();
+		}
+	}
+
 	@Override
 	public HttpClient getClient() {
 		return localClient.get();
@@ -90,12 +116,14 @@ public abstract class AbstractMeshRestHttpClient implements MeshRestClient {
 
 	@Override
 	public Single<GenericMessageResponse> logout() {
+		clearResponseCache();
 		return authentication.logout(this);
 	}
 
 	@Override
 	public MeshRestClient setAuthenticationProvider(JWTAuthentication authentication) {
 		this.authentication = authentication;
+		clearResponseCache();
 		return this;
 	}
 
@@ -28,6 +28,8 @@ import com.gentics.mesh.rest.client.method.WebRootClientMethods;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
 
 public interface MeshRestClient extends NodeClientMethods, TagClientMethods, ProjectClientMethods, TagFamilyClientMethods, WebRootClientMethods,
 		SchemaClientMethods, GroupClientMethods, UserClientMethods, RoleClientMethods, AuthClientMethods, SearchClientMethods, AdminClientMethods,
@@ -39,6 +41,26 @@ public interface MeshRestClient extends NodeClientMethods, TagClientMethods, Pro
 	 */
 	String DEFAULT_BASEURI = "/api/v1";
 
+	/**
+	 * The default maximum amount of pooled connections per client.
+	 */
+	int DEFAULT_MAX_POOL_SIZE = 20;
+
+	/**
+	 * The default maximum amount of requests which will be pipelined on a single connection.
+	 */
+	int DEFAULT_PIPELINING_LIMIT = 10;
+
+	/**
+	 * The default maximum amount of concurrent requests on a single HTTP/2 connection.
+	 */
+	int DEFAULT_HTTP2_MULTIPLEXING_LIMIT = 100;
+
+	/**
+	 * The default time in seconds after which idle pooled connections will be closed.
+	 */
+	int DEFAULT_IDLE_TIMEOUT = 60;
+
 	/**
 	 * Create a new mesh rest client.
 	 * 
@@ -69,6 +91,85 @@ public interface MeshRestClient extends NodeClientMethods, TagClientMethods, Pro
 		return new MeshRestHttpClientImpl(host, vertx);
 	}
 
+	/**
+	 * Create a new mesh rest client which uses the given http client options. The options can be created using
+	 * {@link #createDefaultOptions(String, int, boolean)}, {@link #createPipelinedOptions(String, int, boolean)} or
+	 * {@link #createHttp2Options(String, int, boolean)}.
+	 * 
+	 * @param options
+	 *            Http client options
+	 * @param vertx
+	 *            Vert.x instance to be used in combination with the vertx http client
+	 * @return
+	 */
+	static MeshRestClient create(HttpClientOptions options, Vertx vertx) {
+		return new MeshRestHttpClientImpl(options, vertx);
+	}
+
+	/**
+	 * Create the default http client options. Connections will be kept alive and pooled.
+	 * 
+	 * @param host
+	 *            Server host
+	 * @param port
+	 *            Server port
+	 * @param ssl
+	 *            Flag which is used to toggle ssl mode
+	 * @return
+	 */
+	static HttpClientOptions createDefaultOptions(String host, int port, boolean ssl) {
+		HttpClientOptions options = new HttpClientOptions();
+		options.setDefaultHost(host);
+		options.setDefaultPort(port);
+		options.setSsl(ssl);
+		options.setTryUseCompression(true);
+		options.setKeepAlive(true);
+		options.setMaxPoolSize(DEFAULT_MAX_POOL_SIZE);
+		options.setIdleTimeout(DEFAULT_IDLE_TIMEOUT);
+		return options;
+	}
+
+	/**
+	 * Create http client options which additionally enable HTTP/1.1 pipelining. Pipelining is useful for many small requests but long running requests
+	 * will delay the requests which were queued on the same connection.
+	 * 
+	 * @param host
+	 *            Server host
+	 * @param port
+	 *            Server port
+	 * @param ssl
+	 *            Flag which is used to toggle ssl mode
+	 * @return
+	 */
+	static HttpClientOptions createPipelinedOptions(String host, int port, boolean ssl) {
+		HttpClientOptions options = createDefaultOptions(host, port, ssl);
+		options.setPipelining(true);
+		options.setPipeliningLimit(DEFAULT_PIPELINING_LIMIT);
+		return options;
+	}
+
+	/**
+	 * Create http client options which use HTTP/2. Requests will be multiplexed over a single connection. Cleartext connections will directly use
+	 * HTTP/2 without a prior upgrade request.
+	 * 
+	 * @param host
+	 *            Server host
+	 * @param port
+	 *            Server port
+	 * @param ssl
+	 *            Flag which is used to toggle ssl mode
+	 * @return
+	 */
+	static HttpClientOptions createHttp2Options(String host, int port, boolean ssl) {
+		HttpClientOptions options = createDefaultOptions(host, port, ssl);
+		options.setProtocolVersion(HttpVersion.HTTP_2);
+		options.setUseAlpn(ssl);
+		options.setHttp2ClearTextUpgrade(false);
+		options.setHttp2MaxPoolSize(1);
+		options.setHttp2MultiplexingLimit(DEFAULT_HTTP2_MULTIPLEXING_LIMIT);
+		return options;
+	}
+
 	/**
 	 * Return the underlying vertx http client.
 	 * 
@@ -112,6 +213,30 @@ public interface MeshRestClient extends NodeClientMethods, TagClientMethods, Pro
 	 */
 	MeshRestClient enableAnonymousAccess();
 
+	/**
+	 * Enable the client side response cache. GET responses which contain an ETag will be cached and revalidated using conditional requests. The cached
+	 * response will be returned if the server responds with 304 (Not Modified). The cache will be cleared whenever the login changes.
+	 * 
+	 * @param maxEntries
+	 *            Maximum amount of cached responses
+	 * @return Fluent API
+	 */
+	MeshRestClient enableResponseCache(int maxEntries);
+
+	/**
+	 * Disable the client side response cache.
+	 * 
+	 * @return Fluent API
+	 */
+	MeshRestClient disableResponseCache();
+
+	/**
+	 * Return the client side response cache.
+	 * 
+	 * @return Cache or null if the cache is disabled
+	 */
+	ResponseCache getResponseCache();
+
 	/**
 	 * Set the authentication provider.
 	 *
@@ -5,12 +5,12 @@ import org.apache.commons.lang.StringUtils;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.http.MeshHeaders;
 import com.gentics.mesh.rest.MeshRestClientAuthenticationProvider;
-import com.gentics.mesh.rest.client.handler.ResponseHandler;
 import com.gentics.mesh.rest.client.handler.impl.ModelResponseHandler;
 import com.gentics.mesh.rest.client.impl.MeshHttpRequestImpl;
 
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -47,10 +47,21 @@ public final class MeshRestRequestUtil {
 	public static <T> MeshRequest<T> prepareRequest(HttpMethod method, String path, Class<? extends T> classOfT, Buffer bodyData, String contentType,
 			MeshRestClient meshRestClient, MeshRestClientAuthenticationProvider authentication, boolean disableAnonymousAccess, String accepts) {
 		String uri = meshRestClient.getBaseUri() + path;
-		ResponseHandler<T> handler = new ModelResponseHandler<T>(classOfT, method, uri);
+		ModelResponseHandler<T> handler = new ModelResponseHandler<T>(classOfT, method, uri);
 
 		HttpClientRequest request = meshRestClient.getClient().request(method, uri, handler);
 
+		// Revalidate the cached response by sending a conditional request
+		ResponseCache cache = meshRestClient.getResponseCache();
+		if (cache != null && method == HttpMethod.GET) {
+			handler.setResponseCache(cache);
+			ResponseCache.Entry entry = cache.get(uri);
+			if (entry != null) {
+				handler.setCachedEntry(entry);
+				request.putHeader(HttpHeaders.IF_NONE_MATCH, entry.getETag());
+			}
+		}
+
 		// Instruct the mesh auth handler to disable anonymous access handling even if it is enabled on the server
 		if (disableAnonymousAccess) {
 			request.putHeader(MeshHeaders.ANONYMOUS_AUTHENTICATION, "disable");
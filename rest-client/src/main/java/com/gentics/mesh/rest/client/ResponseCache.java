@@ -0,0 +1,116 @@
+package com.gentics.mesh.rest.client;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size bounded cache which stores the ETag and the body of GET responses by request URI. Cached entries will be revalidated by sending conditional
+ * requests and will be reused when the server returns a 304 response. The least recently used entry will be evicted when the cache is full.
+ */
+public class ResponseCache {
+
+	private final Map<String, Entry> entries;
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param maxEntries
+	 *            Maximum amount of cached responses
+	 */
+	public ResponseCache(int maxEntries) {
+		if (maxEntries < 1) {
+			throw new IllegalArgumentException("The response cache size must be at least 1.");
+		}
+		this.entries = Collections.synchronizedMap(new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxEntries;
+			}
+		});
+	}
+
+	/**
+	 * Return the cached entry for the given request URI.
+	 *
+	 * @param uri
+	 * @return Cached entry or null if no response has been cached for the URI
+	 */
+	public Entry get(String uri) {
+		return entries.get(uri);
+	}
+
+	/**
+	 * Store the response for the given request URI.
+	 *
+	 * @param uri
+	 * @param etag
+	 *            ETag header value of the response
+	 * @param body
+	 *            Body of the response
+	 */
+	public void put(String uri, String etag, String body) {
+		entries.put(uri, new Entry(etag, body));
+	}
+
+	/**
+	 * Remove the cached response for the given request URI.
+	 *
+	 * @param uri
+	 */
+	public void remove(String uri) {
+		entries.remove(uri);
+	}
+
+	/**
+	 * Remove all cached responses.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Return the amount of cached responses.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * A cached response.
+	 */
+	public static class Entry {
+
+		private final String etag;
+
+		private final String body;
+
+		public Entry(String etag, String body) {
+			this.etag = etag;
+			this.body = body;
+		}
+
+		/**
+		 * Return the ETag header value of the cached response.
+		 *
+		 * @return
+		 */
+		public String getETag() {
+			return etag;
+		}
+
+		/**
+		 * Return the body of the cached response.
+		 *
+		 * @return
+		 */
+		public String getBody() {
+			return body;
+		}
+	}
+
+}
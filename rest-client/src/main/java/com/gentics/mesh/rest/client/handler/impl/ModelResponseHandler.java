@@ -4,6 +4,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
 
 import com.gentics.mesh.http.HttpConstants;
 import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.rest.client.ResponseCache;
 import com.gentics.mesh.rest.client.handler.AbstractResponseHandler;
 import com.gentics.mesh.rest.client.handler.GenericMessageErrorHandler;
 
@@ -23,6 +24,10 @@ public class ModelResponseHandler<T> extends AbstractResponseHandler<T> implemen
 
 	private Class<? extends T> classOfT;
 
+	private ResponseCache responseCache;
+
+	private ResponseCache.Entry cachedEntry;
+
 	/**
 	 * Create a new response handler.
 	 * 
@@ -38,6 +43,24 @@ public class ModelResponseHandler<T> extends AbstractResponseHandler<T> implemen
 		this.classOfT = classOfT;
 	}
 
+	/**
+	 * Set the cache in which the response should be stored.
+	 * 
+	 * @param responseCache
+	 */
+	public void setResponseCache(ResponseCache responseCache) {
+		this.responseCache = responseCache;
+	}
+
+	/**
+	 * Set the cached entry which was used to send a conditional request. The entry will be returned if the server responds with 304.
+	 * 
+	 * @param cachedEntry
+	 */
+	public void setCachedEntry(ResponseCache.Entry cachedEntry) {
+		this.cachedEntry = cachedEntry;
+	}
+
 	/**
 	 * Handle the mesh response. This method will deserialise the JSON response.
 	 */
@@ -57,6 +80,10 @@ public class ModelResponseHandler<T> extends AbstractResponseHandler<T> implemen
 				}
 				try {
 					T restObj = JsonUtil.readValue(json, classOfT);
+					String etag = response.getHeader(HttpConstants.ETAG);
+					if (responseCache != null && etag != null) {
+						responseCache.put(uri, etag, json);
+					}
 					future.complete(restObj);
 				} catch (Exception e) {
 					log.error("Failed to deserialize json to class {" + classOfT + "}", e);
@@ -77,4 +104,23 @@ public class ModelResponseHandler<T> extends AbstractResponseHandler<T> implemen
 		}
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Return a copy of the cached response if the server confirmed that the cached entry is still valid.
+	 */
+	@Override
+	public void handleNotModified(HttpClientResponse response) {
+		String etag = response.getHeader(HttpConstants.ETAG);
+		if (cachedEntry == null || !cachedEntry.getETag().equals(etag)) {
+			future.complete(null);
+			return;
+		}
+		try {
+			future.complete(JsonUtil.readValue(cachedEntry.getBody(), classOfT));
+		} catch (Exception e) {
+			log.error("Failed to deserialize cached json to class {" + classOfT + "}", e);
+			responseCache.remove(uri);
+			future.fail(e);
+		}
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.gentics.mesh.rest.client.impl;
 
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_YAML_UTF8;
 import static com.gentics.mesh.util.URIUtils.encodeFragment;
 import static io.vertx.core.http.HttpMethod.DELETE;
@@ -29,6 +30,8 @@ import com.gentics.mesh.core.rest.microschema.impl.MicroschemaCreateRequest;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaResponse;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaUpdateRequest;
 import com.gentics.mesh.core.rest.navigation.NavigationResponse;
+import com.gentics.mesh.core.rest.node.NodeBulkRequest;
+import com.gentics.mesh.core.rest.node.NodeBulkResponse;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeDownloadResponse;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
@@ -576,6 +579,28 @@ public class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient {
 				PublishStatusResponse.class);
 	}
 
+	@Override
+	public MeshRequest<String> exportNodes(String projectName, ParameterProvider... parameters) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		return MeshRestRequestUtil.prepareRequest(GET, "/" + encodeFragment(projectName) + "/nodes/export" + getQuery(parameters), String.class,
+				null, null, this, authentication, disableAnonymousAccess, APPLICATION_NDJSON);
+	}
+
+	@Override
+	public MeshRequest<NodeBulkResponse> bulkNodes(String projectName, NodeBulkRequest request, ParameterProvider... parameters) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		Objects.requireNonNull(request, "request must not be null");
+		return prepareRequest(POST, "/" + encodeFragment(projectName) + "/nodes/bulk" + getQuery(parameters), NodeBulkResponse.class, request);
+	}
+
+	@Override
+	public MeshRequest<NodeBulkResponse> bulkNodes(String projectName, String operations, ParameterProvider... parameters) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		Objects.requireNonNull(operations, "operations must not be null");
+		return prepareRequest(POST, "/" + encodeFragment(projectName) + "/nodes/bulk" + getQuery(parameters), NodeBulkResponse.class,
+				Buffer.buffer(operations), APPLICATION_NDJSON);
+	}
+
 	@Override
 	public MeshRequest<PublishStatusResponse> publishNode(String projectName, String nodeUuid, ParameterProvider... parameters) {
 		Objects.requireNonNull(projectName, "projectName must not be null");
@@ -591,6 +616,22 @@ public class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient {
 		return prepareRequest(DELETE, "/" + encodeFragment(projectName) + "/nodes/" + nodeUuid + "/published" + getQuery(parameters), Void.class);
 	}
 
+	@Override
+	public MeshRequest<GenericMessageResponse> publishNodeSubtree(String projectName, String nodeUuid, ParameterProvider... parameters) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		Objects.requireNonNull(nodeUuid, "nodeUuid must not be null");
+		return prepareRequest(POST, "/" + encodeFragment(projectName) + "/nodes/" + nodeUuid + "/subtree/published" + getQuery(parameters),
+				GenericMessageResponse.class);
+	}
+
+	@Override
+	public MeshRequest<GenericMessageResponse> takeNodeSubtreeOffline(String projectName, String nodeUuid, ParameterProvider... parameters) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		Objects.requireNonNull(nodeUuid, "nodeUuid must not be null");
+		return prepareRequest(DELETE, "/" + encodeFragment(projectName) + "/nodes/" + nodeUuid + "/subtree/published" + getQuery(parameters),
+				GenericMessageResponse.class);
+	}
+
 	@Override
 	public MeshRequest<PublishStatusModel> getNodeLanguagePublishStatus(String projectName, String nodeUuid, String languageTag,
 			ParameterProvider... parameters) {
@@ -939,8 +980,8 @@ public class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient {
 	}
 
 	@Override
-	public MeshRequest<ConsistencyCheckResponse> checkConsistency() {
-		return prepareRequest(GET, "/admin/consistency/check", ConsistencyCheckResponse.class);
+	public MeshRequest<ConsistencyCheckResponse> checkConsistency(ParameterProvider... parameters) {
+		return prepareRequest(GET, "/admin/consistency/check" + getQuery(parameters), ConsistencyCheckResponse.class);
 	}
 
 	@Override
@@ -1185,6 +1226,15 @@ public class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient {
 				ReleaseInfoMicroschemaList.class);
 	}
 
+	@Override
+	public MeshRequest<GenericMessageResponse> pruneReleaseVersions(String projectName, String releaseUuid) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		Objects.requireNonNull(releaseUuid, "releaseUuid must not be null");
+
+		return prepareRequest(POST, "/" + encodeFragment(projectName) + "/releases/" + releaseUuid + "/pruneVersions",
+				GenericMessageResponse.class);
+	}
+
 	@Override
 	public MeshRequest<ReleaseInfoMicroschemaList> assignReleaseMicroschemaVersions(String projectName, String releaseUuid,
 			ReleaseInfoMicroschemaList microschemaVersionReferences) {
@@ -4,6 +4,7 @@ import com.gentics.mesh.core.rest.admin.cluster.ClusterStatusResponse;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.parameter.ParameterProvider;
 import com.gentics.mesh.rest.client.MeshRequest;
 
 /**
@@ -60,8 +61,10 @@ public interface AdminClientMethods {
 	/**
 	 * Invoke a consistency check of the graph database.
 	 * 
+	 * @param parameters
+	 *            Consistency check parameters which may limit the check
 	 * @return
 	 */
-	MeshRequest<ConsistencyCheckResponse> checkConsistency();
+	MeshRequest<ConsistencyCheckResponse> checkConsistency(ParameterProvider... parameters);
 
 }
@@ -1,5 +1,8 @@
 package com.gentics.mesh.rest.client.method;
 
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.rest.node.NodeBulkRequest;
+import com.gentics.mesh.core.rest.node.NodeBulkResponse;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
@@ -218,6 +221,41 @@ public interface NodeClientMethods {
 	MeshRequest<PublishStatusModel> getNodeLanguagePublishStatus(String projectName, String nodeUuid, String languageTag,
 			ParameterProvider... parameters);
 
+	/**
+	 * Export all nodes of the project. The response contains one JSON node per line.
+	 *
+	 * @param projectName
+	 *            Name of the project
+	 * @param parameters
+	 *            Export, versioning and node parameters
+	 * @return
+	 */
+	MeshRequest<String> exportNodes(String projectName, ParameterProvider... parameters);
+
+	/**
+	 * Execute the given create, update and publish operations in bulk. The response contains a result for each operation.
+	 *
+	 * @param projectName
+	 *            Name of the project
+	 * @param request
+	 *            Bulk request which contains the operations
+	 * @param parameters
+	 * @return
+	 */
+	MeshRequest<NodeBulkResponse> bulkNodes(String projectName, NodeBulkRequest request, ParameterProvider... parameters);
+
+	/**
+	 * Execute the given newline delimited JSON bulk operations. Each line of the body must contain a single bulk operation.
+	 *
+	 * @param projectName
+	 *            Name of the project
+	 * @param operations
+	 *            Newline delimited JSON operations
+	 * @param parameters
+	 * @return
+	 */
+	MeshRequest<NodeBulkResponse> bulkNodes(String projectName, String operations, ParameterProvider... parameters);
+
 	/**
 	 * Publish a node.
 	 *
@@ -255,6 +293,30 @@ public interface NodeClientMethods {
 	 */
 	MeshRequest<Void> takeNodeOffline(String projectName, String nodeUuid, ParameterProvider... parameters);
 
+	/**
+	 * Invoke a job which publishes the node and all its descendants.
+	 *
+	 * @param projectName
+	 *            Name of the project
+	 * @param nodeUuid
+	 *            Uuid of the root node of the subtree
+	 * @param parameters
+	 * @return Mesh request which can be invoked
+	 */
+	MeshRequest<GenericMessageResponse> publishNodeSubtree(String projectName, String nodeUuid, ParameterProvider... parameters);
+
+	/**
+	 * Invoke a job which takes the node and all its descendants offline.
+	 *
+	 * @param projectName
+	 *            Name of the project
+	 * @param nodeUuid
+	 *            Uuid of the root node of the subtree
+	 * @param parameters
+	 * @return Mesh request which can be invoked
+	 */
+	MeshRequest<GenericMessageResponse> takeNodeSubtreeOffline(String projectName, String nodeUuid, ParameterProvider... parameters);
+
 	/**
 	 * Take a node language offline.
 	 *
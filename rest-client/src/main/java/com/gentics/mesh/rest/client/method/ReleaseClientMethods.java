@@ -1,5 +1,6 @@
 package com.gentics.mesh.rest.client.method;
 
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
 import com.gentics.mesh.core.rest.release.ReleaseCreateRequest;
 import com.gentics.mesh.core.rest.release.ReleaseListResponse;
 import com.gentics.mesh.core.rest.release.ReleaseResponse;
@@ -126,4 +127,13 @@ public interface ReleaseClientMethods {
 	 */
 	MeshRequest<ReleaseInfoMicroschemaList> assignReleaseMicroschemaVersions(String projectName, String releaseUuid,
 			MicroschemaReference... microschemaVersionReferences);
+
+	/**
+	 * Invoke a job which removes old versions of the node contents of the release according to the version retention options of the server.
+	 * 
+	 * @param projectName
+	 * @param releaseUuid
+	 * @return
+	 */
+	MeshRequest<GenericMessageResponse> pruneReleaseVersions(String projectName, String releaseUuid);
 }
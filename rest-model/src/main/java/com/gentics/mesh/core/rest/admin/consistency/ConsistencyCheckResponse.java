@@ -20,6 +20,11 @@ public class ConsistencyCheckResponse implements RestModel {
 	@JsonPropertyDescription("List of found inconsistencies.")
 	private List<InconsistencyInfo> inconsistencies = new ArrayList<>();
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether the list of inconsistencies was truncated because too many inconsistencies were found. "
+			+ "The omitted inconsistencies will be logged.")
+	private boolean outputTruncated = false;
+
 	public ConsistencyRating getResult() {
 		return getInconsistencies().isEmpty() ? ConsistencyRating.CONSISTENT : ConsistencyRating.INCONSISTENT;
 	}
@@ -32,6 +37,15 @@ public class ConsistencyCheckResponse implements RestModel {
 		this.inconsistencies = inconsistencies;
 	}
 
+	public boolean isOutputTruncated() {
+		return outputTruncated;
+	}
+
+	public ConsistencyCheckResponse setOutputTruncated(boolean outputTruncated) {
+		this.outputTruncated = outputTruncated;
+		return this;
+	}
+
 	public void addInconsistency(String description, String uuid, InconsistencySeverity severity) {
 		getInconsistencies().add(new InconsistencyInfo().setDescription(description).setElementUuid(uuid).setSeverity(severity));
 	}
@@ -5,5 +5,11 @@ public enum MigrationType {
 
 	microschema,
 
-	release
+	release,
+
+	versionprune,
+
+	publish,
+
+	unpublish
 }
@@ -0,0 +1,23 @@
+package com.gentics.mesh.core.rest.node;
+
+/**
+ * Actions which can be executed by a node bulk operation.
+ */
+public enum NodeBulkAction {
+
+	/**
+	 * Create a new node.
+	 */
+	CREATE,
+
+	/**
+	 * Update an existing node.
+	 */
+	UPDATE,
+
+	/**
+	 * Publish all languages of an existing node.
+	 */
+	PUBLISH;
+
+}
@@ -0,0 +1,137 @@
+package com.gentics.mesh.core.rest.node;
+
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO for a single operation of a node bulk request.
+ */
+public class NodeBulkOperation implements RestModel {
+
+	@JsonPropertyDescription("Action which should be executed. Possible values: CREATE, UPDATE, PUBLISH")
+	private NodeBulkAction action;
+
+	@JsonPropertyDescription("Uuid of the node. The uuid is optional for create operations and mandatory for update and publish operations.")
+	private String uuid;
+
+	@JsonPropertyDescription("Request which will be used to create the node.")
+	private NodeCreateRequest create;
+
+	@JsonPropertyDescription("Request which will be used to update the node.")
+	private NodeUpdateRequest update;
+
+	public NodeBulkOperation() {
+	}
+
+	/**
+	 * Return the action of the operation.
+	 * 
+	 * @return
+	 */
+	public NodeBulkAction getAction() {
+		return action;
+	}
+
+	/**
+	 * Set the action of the operation.
+	 * 
+	 * @param action
+	 * @return Fluent API
+	 */
+	public NodeBulkOperation setAction(NodeBulkAction action) {
+		this.action = action;
+		return this;
+	}
+
+	/**
+	 * Return the uuid of the node.
+	 * 
+	 * @return
+	 */
+	public String getUuid() {
+		return uuid;
+	}
+
+	/**
+	 * Set the uuid of the node.
+	 * 
+	 * @param uuid
+	 * @return Fluent API
+	 */
+	public NodeBulkOperation setUuid(String uuid) {
+		this.uuid = uuid;
+		return this;
+	}
+
+	/**
+	 * Return the create request.
+	 * 
+	 * @return
+	 */
+	public NodeCreateRequest getCreate() {
+		return create;
+	}
+
+	/**
+	 * Set the create request.
+	 * 
+	 * @param create
+	 * @return Fluent API
+	 */
+	public NodeBulkOperation setCreate(NodeCreateRequest create) {
+		this.create = create;
+		return this;
+	}
+
+	/**
+	 * Return the update request.
+	 * 
+	 * @return
+	 */
+	public NodeUpdateRequest getUpdate() {
+		return update;
+	}
+
+	/**
+	 * Set the update request.
+	 * 
+	 * @param update
+	 * @return Fluent API
+	 */
+	public NodeBulkOperation setUpdate(NodeUpdateRequest update) {
+		this.update = update;
+		return this;
+	}
+
+	/**
+	 * Create a new create operation.
+	 * 
+	 * @param request
+	 * @return
+	 */
+	public static NodeBulkOperation create(NodeCreateRequest request) {
+		return new NodeBulkOperation().setAction(NodeBulkAction.CREATE).setCreate(request);
+	}
+
+	/**
+	 * Create a new update operation.
+	 * 
+	 * @param uuid
+	 * @param request
+	 * @return
+	 */
+	public static NodeBulkOperation update(String uuid, NodeUpdateRequest request) {
+		return new NodeBulkOperation().setAction(NodeBulkAction.UPDATE).setUuid(uuid).setUpdate(request);
+	}
+
+	/**
+	 * Create a new publish operation.
+	 * 
+	 * @param uuid
+	 * @return
+	 */
+	public static NodeBulkOperation publish(String uuid) {
+		return new NodeBulkOperation().setAction(NodeBulkAction.PUBLISH).setUuid(uuid);
+	}
+
+}
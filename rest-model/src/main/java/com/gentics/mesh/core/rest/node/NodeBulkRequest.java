@@ -0,0 +1,51 @@
+package com.gentics.mesh.core.rest.node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO for a node bulk request.
+ */
+public class NodeBulkRequest implements RestModel {
+
+	@JsonPropertyDescription("List of operations which will be executed in the given order.")
+	private List<NodeBulkOperation> operations = new ArrayList<>();
+
+	public NodeBulkRequest() {
+	}
+
+	/**
+	 * Return the list of operations.
+	 * 
+	 * @return
+	 */
+	public List<NodeBulkOperation> getOperations() {
+		return operations;
+	}
+
+	/**
+	 * Set the list of operations.
+	 * 
+	 * @param operations
+	 * @return Fluent API
+	 */
+	public NodeBulkRequest setOperations(List<NodeBulkOperation> operations) {
+		this.operations = operations;
+		return this;
+	}
+
+	/**
+	 * Add the given operation.
+	 * 
+	 * @param operation
+	 * @return Fluent API
+	 */
+	public NodeBulkRequest add(NodeBulkOperation operation) {
+		operations.add(operation);
+		return this;
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.gentics.mesh.core.rest.node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO for the response of a node bulk request.
+ */
+public class NodeBulkResponse implements RestModel {
+
+	@JsonPropertyDescription("Results of the operations in the order of the request.")
+	private List<NodeBulkResult> results = new ArrayList<>();
+
+	public NodeBulkResponse() {
+	}
+
+	/**
+	 * Return the results of the operations.
+	 * 
+	 * @return
+	 */
+	public List<NodeBulkResult> getResults() {
+		return results;
+	}
+
+	/**
+	 * Set the results of the operations.
+	 * 
+	 * @param results
+	 * @return Fluent API
+	 */
+	public NodeBulkResponse setResults(List<NodeBulkResult> results) {
+		this.results = results;
+		return this;
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.gentics.mesh.core.rest.node;
+
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO for the result of a single node bulk operation.
+ */
+public class NodeBulkResult implements RestModel {
+
+	@JsonPropertyDescription("Action of the operation.")
+	private NodeBulkAction action;
+
+	@JsonPropertyDescription("Uuid of the affected node.")
+	private String uuid;
+
+	@JsonPropertyDescription("HTTP status code which would have been returned for the operation.")
+	private int status;
+
+	@JsonPropertyDescription("Error message in case the operation failed.")
+	private String message;
+
+	public NodeBulkResult() {
+	}
+
+	/**
+	 * Return the action of the operation.
+	 * 
+	 * @return
+	 */
+	public NodeBulkAction getAction() {
+		return action;
+	}
+
+	/**
+	 * Set the action of the operation.
+	 * 
+	 * @param action
+	 * @return Fluent API
+	 */
+	public NodeBulkResult setAction(NodeBulkAction action) {
+		this.action = action;
+		return this;
+	}
+
+	/**
+	 * Return the uuid of the affected node.
+	 * 
+	 * @return
+	 */
+	public String getUuid() {
+		return uuid;
+	}
+
+	/**
+	 * Set the uuid of the affected node.
+	 * 
+	 * @param uuid
+	 * @return Fluent API
+	 */
+	public NodeBulkResult setUuid(String uuid) {
+		this.uuid = uuid;
+		return this;
+	}
+
+	/**
+	 * Return the status code of the operation.
+	 * 
+	 * @return
+	 */
+	public int getStatus() {
+		return status;
+	}
+
+	/**
+	 * Set the status code of the operation.
+	 * 
+	 * @param status
+	 * @return Fluent API
+	 */
+	public NodeBulkResult setStatus(int status) {
+		this.status = status;
+		return this;
+	}
+
+	/**
+	 * Return the error message.
+	 * 
+	 * @return
+	 */
+	public String getMessage() {
+		return message;
+	}
+
+	/**
+	 * Set the error message.
+	 * 
+	 * @param message
+	 * @return Fluent API
+	 */
+	public NodeBulkResult setMessage(String message) {
+		this.message = message;
+		return this;
+	}
+
+}
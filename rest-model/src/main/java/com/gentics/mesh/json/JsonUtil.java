@@ -4,6 +4,9 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.codehaus.jettison.json.JSONObject;
 
@@ -16,6 +19,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleAbstractTypeResolver;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -51,6 +55,7 @@ import com.gentics.mesh.json.serializer.FieldListSerializer;
 import com.gentics.mesh.json.serializer.JsonArraySerializer;
 import com.gentics.mesh.json.serializer.JsonObjectSerializer;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -64,6 +69,18 @@ public final class JsonUtil {
 	protected static ObjectMapper defaultMapper;
 	protected static JsonSchemaGenerator schemaGen;
 
+	/**
+	 * Initial size of buffers which are used to serialize JSON.
+	 */
+	private static final int INITIAL_BUFFER_SIZE = 4096;
+
+	/**
+	 * Writers for compact and pretty printed JSON. The writers are bound to the type of the serialized object so that the root serializer only needs to be
+	 * resolved once per type.
+	 */
+	private static final Map<Class<?>, ObjectWriter> compactWriters = new ConcurrentHashMap<>();
+	private static final Map<Class<?>, ObjectWriter> prettyWriters = new ConcurrentHashMap<>();
+
 	private static final Logger log = LoggerFactory.getLogger(JsonUtil.class);
 
 	static {
@@ -128,18 +145,31 @@ public final class JsonUtil {
 	}
 
 	/**
-	 * Transform the given object into a JSON string.
+	 * Transform the given object into a compact JSON string.
 	 * 
 	 * @param obj
 	 * @return
 	 * @throws GenericRestException
 	 */
 	public static <T> String toJson(T obj) throws GenericRestException {
+		return toJson(obj, false);
+	}
+
+	/**
+	 * Transform the given object into a JSON string.
+	 * 
+	 * @param obj
+	 * @param pretty
+	 *            Whether the JSON should be pretty printed
+	 * @return
+	 * @throws GenericRestException
+	 */
+	public static <T> String toJson(T obj, boolean pretty) throws GenericRestException {
 		if (obj instanceof JSONObject) {
 			return ((JSONObject) obj).toString();
 		}
 		try {
-			return defaultMapper.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+			return getWriter(obj, pretty).writeValueAsString(obj);
 		} catch (IOException e) {
 			// TODO i18n
 			String message = "Could not generate json from object";
@@ -148,6 +178,48 @@ public final class JsonUtil {
 		}
 	}
 
+	/**
+	 * Serialize the given object directly into a buffer. This avoids the creation of an intermediate JSON string.
+	 * 
+	 * @param obj
+	 * @param pretty
+	 *            Whether the JSON should be pretty printed
+	 * @return Buffer which contains the UTF-8 encoded JSON
+	 * @throws GenericRestException
+	 */
+	public static <T> Buffer toJsonBuffer(T obj, boolean pretty) throws GenericRestException {
+		if (obj instanceof JSONObject) {
+			return Buffer.buffer(((JSONObject) obj).toString());
+		}
+		Buffer buffer = Buffer.buffer(INITIAL_BUFFER_SIZE);
+		try {
+			getWriter(obj, pretty).writeValue(new BufferOutputStream(buffer), obj);
+		} catch (IOException e) {
+			// TODO i18n
+			String message = "Could not generate json from object";
+			throw new GenericRestException(INTERNAL_SERVER_ERROR, message, e);
+		}
+		return buffer;
+	}
+
+	/**
+	 * Return the cached writer for the type of the given object.
+	 * 
+	 * @param obj
+	 * @param pretty
+	 * @return
+	 */
+	private static ObjectWriter getWriter(Object obj, boolean pretty) {
+		if (obj == null) {
+			return pretty ? defaultMapper.writerWithDefaultPrettyPrinter() : defaultMapper.writer();
+		}
+		if (pretty) {
+			return prettyWriters.computeIfAbsent(obj.getClass(), clazz -> defaultMapper.writerFor(clazz).withDefaultPrettyPrinter());
+		} else {
+			return compactWriters.computeIfAbsent(obj.getClass(), clazz -> defaultMapper.writerFor(clazz));
+		}
+	}
+
 	/**
 	 * Transform the given JSON content back into a POJO.
 	 * 
@@ -214,4 +286,26 @@ public final class JsonUtil {
 		return defaultMapper;
 	}
 
+	/**
+	 * Output stream which appends the written bytes to a buffer.
+	 */
+	private static class BufferOutputStream extends OutputStream {
+
+		private final Buffer buffer;
+
+		BufferOutputStream(Buffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public void write(int b) {
+			buffer.appendByte((byte) b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			buffer.appendBytes(b, off, len);
+		}
+	}
+
 }
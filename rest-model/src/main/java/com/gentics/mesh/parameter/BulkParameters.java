@@ -0,0 +1,30 @@
+package com.gentics.mesh.parameter;
+
+import com.gentics.mesh.util.NumberUtils;
+
+public interface BulkParameters extends ParameterProvider {
+
+	public static final String CHUNK_SIZE_PARAMETER_KEY = "chunkSize";
+
+	public static final int DEFAULT_CHUNK_SIZE = 100;
+
+	/**
+	 * Set the amount of operations which will be executed within a single transaction.
+	 * 
+	 * @param chunkSize
+	 * @return Fluent API
+	 */
+	default BulkParameters setChunkSize(int chunkSize) {
+		setParameter(CHUNK_SIZE_PARAMETER_KEY, String.valueOf(chunkSize));
+		return this;
+	}
+
+	/**
+	 * Return the amount of operations which will be executed within a single transaction.
+	 * 
+	 * @return
+	 */
+	default int getChunkSize() {
+		return NumberUtils.toInt(getParameter(CHUNK_SIZE_PARAMETER_KEY), DEFAULT_CHUNK_SIZE);
+	}
+}
@@ -0,0 +1,78 @@
+package com.gentics.mesh.parameter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public interface ConsistencyCheckParameters extends ParameterProvider {
+
+	public static final String TYPE_QUERY_PARAM_KEY = "type";
+
+	public static final String PROJECT_QUERY_PARAM_KEY = "project";
+
+	public static final String INCREMENTAL_QUERY_PARAM_KEY = "incremental";
+
+	/**
+	 * Set the names of the element types which should be checked.
+	 * 
+	 * @param types
+	 * @return Fluent API
+	 */
+	default ConsistencyCheckParameters setTypes(String... types) {
+		setParameter(TYPE_QUERY_PARAM_KEY, convertToStr(types));
+		return this;
+	}
+
+	/**
+	 * Return the names of the element types which should be checked. An empty list will be returned if all types should be checked.
+	 * 
+	 * @return
+	 */
+	default List<String> getTypes() {
+		String value = getParameter(TYPE_QUERY_PARAM_KEY);
+		if (value == null || value.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return Arrays.asList(value.split(","));
+	}
+
+	/**
+	 * Set the name of the project to which the check should be limited.
+	 * 
+	 * @param projectName
+	 * @return Fluent API
+	 */
+	default ConsistencyCheckParameters setProjectName(String projectName) {
+		setParameter(PROJECT_QUERY_PARAM_KEY, projectName);
+		return this;
+	}
+
+	/**
+	 * Return the name of the project to which the check should be limited.
+	 * 
+	 * @return Project name or null if the check should not be limited to a project
+	 */
+	default String getProjectName() {
+		return getParameter(PROJECT_QUERY_PARAM_KEY);
+	}
+
+	/**
+	 * Set the flag which limits the check to elements which have been changed since the last complete check.
+	 * 
+	 * @param incremental
+	 * @return Fluent API
+	 */
+	default ConsistencyCheckParameters setIncremental(boolean incremental) {
+		setParameter(INCREMENTAL_QUERY_PARAM_KEY, String.valueOf(incremental));
+		return this;
+	}
+
+	/**
+	 * Check whether only elements which have been changed since the last complete check should be checked.
+	 * 
+	 * @return
+	 */
+	default boolean isIncremental() {
+		return Boolean.valueOf(getParameter(INCREMENTAL_QUERY_PARAM_KEY));
+	}
+}
@@ -0,0 +1,65 @@
+package com.gentics.mesh.parameter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public interface ExportParameters extends ParameterProvider {
+
+	public static final String SCHEMA_QUERY_PARAM_KEY = "schema";
+
+	public static final String LANGUAGE_QUERY_PARAM_KEY = "language";
+
+	/**
+	 * Set the names of the schemas which should be exported.
+	 * 
+	 * @param schemaNames
+	 * @return Fluent API
+	 */
+	default ExportParameters setSchemaNames(String... schemaNames) {
+		setParameter(SCHEMA_QUERY_PARAM_KEY, convertToStr(schemaNames));
+		return this;
+	}
+
+	/**
+	 * Return the names of the schemas which should be exported. An empty list will be returned if the export should not be filtered by schema.
+	 * 
+	 * @return
+	 */
+	default List<String> getSchemaNames() {
+		return splitList(getParameter(SCHEMA_QUERY_PARAM_KEY));
+	}
+
+	/**
+	 * Set the tags of the languages which should be exported.
+	 * 
+	 * @param languageTags
+	 * @return Fluent API
+	 */
+	default ExportParameters setLanguageTags(String... languageTags) {
+		setParameter(LANGUAGE_QUERY_PARAM_KEY, convertToStr(languageTags));
+		return this;
+	}
+
+	/**
+	 * Return the tags of the languages which should be exported. An empty list will be returned if the export should not be filtered by language.
+	 * 
+	 * @return
+	 */
+	default List<String> getLanguageTags() {
+		return splitList(getParameter(LANGUAGE_QUERY_PARAM_KEY));
+	}
+
+	/**
+	 * Split the comma separated parameter value.
+	 * 
+	 * @param value
+	 * @return
+	 */
+	static List<String> splitList(String value) {
+		if (value == null || value.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return Arrays.asList(value.split(","));
+	}
+}
@@ -0,0 +1,28 @@
+package com.gentics.mesh.parameter;
+
+import org.apache.commons.lang.BooleanUtils;
+
+public interface GenericParameters extends ParameterProvider {
+
+	public static final String PRETTY_PARAMETER_KEY = "pretty";
+
+	/**
+	 * Set the pretty flag. When enabled the JSON response will be pretty printed.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default GenericParameters setPretty(boolean flag) {
+		setParameter(PRETTY_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
+	/**
+	 * Check whether the JSON response should be pretty printed.
+	 * 
+	 * @return
+	 */
+	default boolean isPretty() {
+		return BooleanUtils.toBooleanDefaultIfNull(Boolean.valueOf(getParameter(PRETTY_PARAMETER_KEY)), false);
+	}
+}
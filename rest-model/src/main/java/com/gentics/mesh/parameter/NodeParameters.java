@@ -1,6 +1,7 @@
 package com.gentics.mesh.parameter;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import com.gentics.mesh.Mesh;
@@ -27,6 +28,62 @@ public interface NodeParameters extends ParameterProvider {
 	 */
 	public static final String RESOLVE_LINKS_QUERY_PARAM_KEY = "resolveLinks";
 
+	/**
+	 * Query parameter key: {@value #PROJECTION_QUERY_PARAM_KEY}
+	 */
+	public static final String PROJECTION_QUERY_PARAM_KEY = "fields";
+
+	/**
+	 * Projection section which contains the field values.
+	 */
+	public static final String PROJECTION_FIELDS = "fields";
+
+	/**
+	 * Projection section which contains the parent node reference.
+	 */
+	public static final String PROJECTION_PARENT = "parent";
+
+	/**
+	 * Projection section which contains the children information.
+	 */
+	public static final String PROJECTION_CHILDREN = "children";
+
+	/**
+	 * Projection section which contains the tag references.
+	 */
+	public static final String PROJECTION_TAGS = "tags";
+
+	/**
+	 * Projection section which contains the breadcrumb.
+	 */
+	public static final String PROJECTION_BREADCRUMB = "breadcrumb";
+
+	/**
+	 * Projection section which contains the webroot path and the language paths.
+	 */
+	public static final String PROJECTION_PATH = "path";
+
+	/**
+	 * Projection section which contains the available languages.
+	 */
+	public static final String PROJECTION_LANGUAGES = "languages";
+
+	/**
+	 * Projection section which contains the role permissions.
+	 */
+	public static final String PROJECTION_ROLE_PERMS = "rolePerms";
+
+	/**
+	 * Projection section which contains the project reference.
+	 */
+	public static final String PROJECTION_PROJECT = "project";
+
+	/**
+	 * All sections which can be selected via the <code>{@value #PROJECTION_QUERY_PARAM_KEY}</code> parameter.
+	 */
+	public static final List<String> PROJECTION_SECTIONS = Arrays.asList(PROJECTION_FIELDS, PROJECTION_PARENT, PROJECTION_CHILDREN, PROJECTION_TAGS,
+			PROJECTION_BREADCRUMB, PROJECTION_PATH, PROJECTION_LANGUAGES, PROJECTION_ROLE_PERMS, PROJECTION_PROJECT);
+
 	/**
 	 * Set the <code>{@value #LANGUAGES_QUERY_PARAM_KEY}</code> request parameter values.
 	 * 
@@ -151,4 +208,41 @@ public interface NodeParameters extends ParameterProvider {
 	default List<String> getExpandedFieldnameList() {
 		return Arrays.asList(getExpandedFieldNames());
 	}
+
+	/**
+	 * Set the <code>{@value #PROJECTION_QUERY_PARAM_KEY}</code> request parameter values. Only the given sections of the node response will be computed.
+	 * The basic properties (e.g. uuid, schema, language, version, editor and creator) will always be included.
+	 * 
+	 * @param sections
+	 *            Sections to be included (see {@link #PROJECTION_SECTIONS})
+	 * @return Fluent API
+	 */
+	default NodeParameters setProjection(String... sections) {
+		setParameter(PROJECTION_QUERY_PARAM_KEY, convertToStr(sections));
+		return this;
+	}
+
+	/**
+	 * Return the <code>{@value #PROJECTION_QUERY_PARAM_KEY}</code> request parameter values.
+	 * 
+	 * @return Requested sections or an empty list if all sections should be included
+	 */
+	default List<String> getProjection() {
+		String value = getParameter(PROJECTION_QUERY_PARAM_KEY);
+		if (value == null || value.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return Arrays.asList(value.split(","));
+	}
+
+	/**
+	 * Check whether the given section of the node response has been requested.
+	 * 
+	 * @param section
+	 * @return
+	 */
+	default boolean isProjected(String section) {
+		List<String> projection = getProjection();
+		return projection.isEmpty() || projection.contains(section);
+	}
 }
@@ -106,6 +106,17 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 		});
 	}
 
+	@Test
+	public void testExtractImageInfoFromStream() throws IOException, JSONException {
+		checkImages((imageName, width, height, color, refImage, stream) -> {
+			byte[] data = RxUtil.readEntireData(stream).blockingGet().getBytes();
+			ImageInfo info = manipulator.readImageInfo(new ByteArrayInputStream(data)).blockingGet();
+			assertEquals("The width or image {" + imageName + "} did not match.", width, info.getWidth());
+			assertEquals("The height or image {" + imageName + "} did not match.", height, info.getHeight());
+			assertEquals("The dominant color of the image did not match {" + imageName + "}", color, info.getDominantColor());
+		});
+	}
+
 	private void checkImages(ImageAction<String, Integer, Integer, String, BufferedImage, Flowable<Buffer>> action) throws JSONException,
 		IOException {
 		JSONObject json = new JSONObject(IOUtils.toString(getClass().getResourceAsStream("/pictures/images.json"), Charset.defaultCharset()));
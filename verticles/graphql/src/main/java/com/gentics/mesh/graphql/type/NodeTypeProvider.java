@@ -304,7 +304,7 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 					return null;
 				}
 				Node node = content.getNode();
-				return node.getSchemaContainer().getLatestVersion().getSchema().isContainer();
+				return node.getSchemaContainer().getLatestVersion().getSchemaReadOnly().isContainer();
 			}));
 
 		// Content specific fields
@@ -71,7 +71,7 @@ public class MicronodeFieldTypeProvider extends AbstractTypeProvider {
 		Map<String, GraphQLObjectType> schemaTypes = new HashMap<>();
 		for (MicroschemaContainer container : project.getMicroschemaContainerRoot().findAllIt()) {
 			MicroschemaContainerVersion version = container.getLatestVersion();
-			Microschema microschema = version.getSchema();
+			Microschema microschema = version.getSchemaReadOnly();
 			Builder microschemaType = newObject();
 			microschemaType.name(microschema.getName());
 			microschemaType.description(microschema.getDescription());
@@ -75,7 +75,7 @@ public class NodeFieldTypeProvider extends AbstractTypeProvider {
 		Map<String, GraphQLObjectType> schemaTypes = new HashMap<>();
 		for (SchemaContainer container : project.getSchemaContainerRoot().findAllIt()) {
 			SchemaContainerVersion version = container.getLatestVersion();
-			Schema schema = version.getSchema();
+			Schema schema = version.getSchemaReadOnly();
 			Builder root = newObject();
 			// TODO remove this workaround
 			root.name(schema.getName().replaceAll("-", "_"));